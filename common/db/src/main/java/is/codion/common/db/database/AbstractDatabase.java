@@ -243,6 +243,11 @@ public abstract class AbstractDatabase implements Database {
 		return Integer.MAX_VALUE;
 	}
 
+	@Override
+	public String changeLogDDL(String tableName) {
+		return createChangeLogDDL(tableName, "BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY", "BIGINT", "VARCHAR");
+	}
+
 	@Override
 	public String sequenceQuery(String sequenceName) {
 		throw new UnsupportedOperationException("Sequence support is not implemented for database type: " + getClass().getSimpleName() +
@@ -407,6 +412,28 @@ public abstract class AbstractDatabase implements Database {
 		return builder.toString();
 	}
 
+	/**
+	 * Creates the DDL for a change log table, see {@link Database#changeLogDDL(String)}.
+	 * @param tableName the table name
+	 * @param idColumn the type and constraints of the auto-generated id column
+	 * @param bigint the 64 bit integer type
+	 * @param varchar the variable length string type
+	 * @return the change log DDL
+	 */
+	protected static String createChangeLogDDL(String tableName, String idColumn, String bigint, String varchar) {
+		requireNonNull(tableName, "tableName");
+
+		return "CREATE TABLE " + tableName + " (" +
+						"id " + idColumn + ", " +
+						"node " + varchar + "(36) NOT NULL, " +
+						"domain_type " + varchar + "(255) NOT NULL, " +
+						"entity_type " + varchar + "(255) NOT NULL, " +
+						"operation CHAR(1) NOT NULL, " +
+						"entity_key " + varchar + "(4000) NOT NULL, " +
+						"original_key " + varchar + "(4000), " +
+						"logged " + bigint + " NOT NULL)";
+	}
+
 	/**
 	 * Removes the given prefixes along with any options and parameters from the given jdbc url.
 	 * @param url the url
@@ -226,6 +226,23 @@ public interface Database extends ConnectionFactory {
 	 */
 	String selectForUpdateClause();
 
+	/**
+	 * Returns the DDL creating a change log table, to which changes are logged so that they can be picked
+	 * up by the other applications using the database, the columns being:
+	 * <ul>
+	 * <li>{@code id}, auto-generated, increasing
+	 * <li>{@code node}, identifies the writer
+	 * <li>{@code domain_type}, {@code entity_type}, the domain and entity type names
+	 * <li>{@code operation}, {@code I}, {@code U} or {@code D}
+	 * <li>{@code entity_key}, {@code original_key}, the primary key values, the original ones only for updates
+	 * <li>{@code logged}, the time logged, in milliseconds since epoch
+	 * </ul>
+	 * @param tableName the table name
+	 * @return the DDL creating a change log table with the given name
+	 * @throws NullPointerException in case {@code tableName} is null
+	 */
+	String changeLogDDL(String tableName);
+
 	/**
 	 * Returns a limit/offset clause variation for this database, based on the given limit and offset values.
 	 * If both are null an empty string is returned.
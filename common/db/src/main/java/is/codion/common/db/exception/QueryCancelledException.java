@@ -0,0 +1,48 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.db.exception;
+
+import org.jspecify.annotations.Nullable;
+
+import java.sql.SQLException;
+
+/**
+ * Exception thrown when a statement has been cancelled on request, before it completed,
+ * as opposed to having timed out, see {@link QueryTimeoutException}.
+ */
+public final class QueryCancelledException extends DatabaseException {
+
+	/**
+	 * Instantiates a new {@link QueryCancelledException}
+	 * @param cause the underlying cause
+	 * @param message the error message
+	 */
+	public QueryCancelledException(SQLException cause, @Nullable String message) {
+		super(cause, message);
+	}
+
+	/**
+	 * Instantiates a new {@link QueryCancelledException}, for a client reconstructing
+	 * this exception from a message, having no {@link SQLException} to hand.
+	 * @param message the error message
+	 */
+	public QueryCancelledException(@Nullable String message) {
+		super(message);
+	}
+}
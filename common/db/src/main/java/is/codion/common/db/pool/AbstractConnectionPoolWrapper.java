@@ -88,8 +88,10 @@ public abstract class AbstractConnectionPoolWrapper<T> implements ConnectionPool
 		long startTime = collectCheckOutTime ? System.nanoTime() : 0;
 		try {
 			counter.incrementRequestCounter();
+			Connection connection = fetchConnection();
+			counter.checkedOut();
 
-			return fetchConnection();
+			return connection;
 		}
 		catch (SQLException e) {
 			counter.incrementFailedRequestCounter();
@@ -127,6 +129,11 @@ public abstract class AbstractConnectionPoolWrapper<T> implements ConnectionPool
 		counter.setCollectCheckOutTimes(collectCheckOutTimes);
 	}
 
+	@Override
+	public final ConnectionPoolState state() {
+		return new DefaultConnectionPoolState().set(System.currentTimeMillis(), available(), inUse(), waiting());
+	}
+
 	@Override
 	public final ConnectionPoolStatistics statistics(long since) {
 		return counter.collectStatistics(since);
@@ -161,15 +168,6 @@ public abstract class AbstractConnectionPoolWrapper<T> implements ConnectionPool
 	 */
 	protected abstract int waiting();
 
-	/**
-	 * Updates the given state instance with the current pool state.
-	 * @param state the state to update
-	 * @return the updated state
-	 */
-	final DefaultConnectionPoolState updateState(DefaultConnectionPoolState state) {
-		return state.set(System.currentTimeMillis(), available(), inUse(), waiting());
-	}
-
 	/**
 	 * Marks this pool as closed (causing subsequent {@link #connection(User)} calls to throw
 	 * {@link IllegalStateException}) and cleans up statistics collection resources to prevent resource leaks.
@@ -46,6 +46,11 @@ public interface ConnectionPoolStatistics {
 	 */
 	int inUse();
 
+	/**
+	 * @return the number of connection requests waiting for a connection
+	 */
+	int waiting();
+
 	/**
 	 * @return the statistics timestamp
 	 */
@@ -92,12 +97,12 @@ public interface ConnectionPoolStatistics {
 	long averageTime();
 
 	/**
-	 * @return the minimum check-out time in microseconds
+	 * @return the minimum check-out time in microseconds, accurate to within 12.5%
 	 */
 	long minimumTime();
 
 	/**
-	 * @return the maximum check-out time in microseconds
+	 * @return the maximum check-out time in microseconds, accurate to within 12.5%
 	 */
 	long maximumTime();
 }
\ No newline at end of file
@@ -18,65 +18,66 @@
  */
 package is.codion.common.db.pool;
 
-import is.codion.common.utilities.scheduler.TaskScheduler;
-
-import java.util.LinkedList;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.IntStream;
-
-import static java.util.stream.Collectors.toList;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A connection pool statistics collector.
+ * <p>
+ * The counters are {@link LongAdder}s and the check-out times are recorded in a {@link CheckOutTimeHistogram},
+ * so collecting them costs a few uncontended increments per check-out, with no locking and no allocation.
+ * <p>
+ * The snapshot statistics are not sampled on a schedule, the pool state is recorded as it changes instead,
+ * when a connection is checked out, at most once every {@link #SNAPSHOT_INTERVAL_MS} milliseconds, and when
+ * the statistics are collected, into a ring of primitive arrays, allocated only while snapshot statistics are
+ * being collected. An idle pool therefore records nothing.
  */
 final class DefaultConnectionPoolCounter {
 
 	private static final double THOUSAND = 1000d;
-	private static final int SNAPSHOT_STATS_SIZE = 1000;
-	private static final int SNAPSHOT_COLLECTION_INTERVAL_MS = 10;
-	private static final int CHECK_OUT_TIMES_MAX_SIZE = 10000;
+	private static final int SNAPSHOT_SIZE = 1000;
+	private static final int SNAPSHOT_INTERVAL_MS = 10;
 
 	private final AbstractConnectionPoolWrapper<?> connectionPool;
-	private final LinkedList<Integer> checkOutTimes = new LinkedList<>();
-	private final LinkedList<DefaultConnectionPoolState> snapshotStatistics = new LinkedList<>();
-	private volatile boolean collectSnapshotStatistics = false;
-	private volatile boolean collectCheckOutTimes = false;
-	private final TaskScheduler snapshotStatisticsCollector = TaskScheduler.builder()
-					.task(new StatisticsCollector())
-					.interval(SNAPSHOT_COLLECTION_INTERVAL_MS, TimeUnit.MILLISECONDS)
-					.name("Connection pool counter")
-					.build();
+	private final CheckOutTimeHistogram checkOutTimes = new CheckOutTimeHistogram();
+	private final AtomicLong lastSnapshotTime = new AtomicLong();
+	private volatile boolean collectCheckOutTimes = true;
+	private volatile Snapshot snapshot;
 
 	private final AtomicLong resetDate = new AtomicLong(System.currentTimeMillis());
 	private final AtomicLong requestsPerSecondTime = new AtomicLong(resetDate.get());
-	private final AtomicInteger connectionsCreated = new AtomicInteger();
-	private final AtomicInteger connectionsDestroyed = new AtomicInteger();
-	private final AtomicInteger connectionRequests = new AtomicInteger();
-	private final AtomicInteger requestsPerSecondCounter = new AtomicInteger();
-	private final AtomicInteger connectionRequestsFailed = new AtomicInteger();
-	private final AtomicInteger requestsFailedPerSecondCounter = new AtomicInteger();
+	private final LongAdder connectionsCreated = new LongAdder();
+	private final LongAdder connectionsDestroyed = new LongAdder();
+	private final LongAdder connectionRequests = new LongAdder();
+	private final LongAdder requestsPerSecondCounter = new LongAdder();
+	private final LongAdder connectionRequestsFailed = new LongAdder();
+	private final LongAdder requestsFailedPerSecondCounter = new LongAdder();
+
+	/**
+	 * The check-out time histogram as of the previous statistics collection, guarded by this counter
+	 */
+	private final long[] collectedBuckets = new long[CheckOutTimeHistogram.BUCKETS];
+	private final long[] buckets = new long[CheckOutTimeHistogram.BUCKETS];
+	private long collectedCount = 0;
+	private long collectedTotal = 0;
 
 	DefaultConnectionPoolCounter(AbstractConnectionPoolWrapper<?> connectionPool) {
 		this.connectionPool = connectionPool;
 	}
 
 	boolean isCollectSnapshotStatistics() {
-		return collectSnapshotStatistics;
+		return snapshot != null;
 	}
 
-	void setCollectSnapshotStatistics(boolean collectSnapshotStatistics) {
-		synchronized (snapshotStatistics) {
-			if (collectSnapshotStatistics) {
-				IntStream.range(0, SNAPSHOT_STATS_SIZE).forEach(i -> snapshotStatistics.add(new DefaultConnectionPoolState()));
-				snapshotStatisticsCollector.start();
-			}
-			else {
-				snapshotStatisticsCollector.stop();
-				snapshotStatistics.clear();
-			}
-			this.collectSnapshotStatistics = collectSnapshotStatistics;
+	synchronized void setCollectSnapshotStatistics(boolean collectSnapshotStatistics) {
+		if (collectSnapshotStatistics && snapshot == null) {
+			snapshot = new Snapshot();
+		}
+		else if (!collectSnapshotStatistics) {
+			snapshot = null;
 		}
 	}
 
@@ -85,110 +86,119 @@ final class DefaultConnectionPoolCounter {
 	}
 
 	void setCollectCheckOutTimes(boolean collectCheckOutTimes) {
-		synchronized (checkOutTimes) {
-			if (!collectCheckOutTimes) {
-				checkOutTimes.clear();
-			}
-			this.collectCheckOutTimes = collectCheckOutTimes;
-		}
+		this.collectCheckOutTimes = collectCheckOutTimes;
 	}
 
 	void addCheckOutTime(int time) {
 		if (collectCheckOutTimes) {
-			synchronized (checkOutTimes) {
-				checkOutTimes.add(time);
-				if (checkOutTimes.size() > CHECK_OUT_TIMES_MAX_SIZE) {
-					checkOutTimes.removeFirst();
-				}
+			checkOutTimes.record(time);
+		}
+	}
+
+	/**
+	 * Records the current pool state in the snapshot statistics, if enabled and
+	 * none has been recorded within the last {@link #SNAPSHOT_INTERVAL_MS} milliseconds.
+	 */
+	void checkedOut() {
+		Snapshot currentSnapshot = snapshot;
+		if (currentSnapshot != null) {
+			long time = System.currentTimeMillis();
+			long lastTime = lastSnapshotTime.get();
+			if (time - lastTime >= SNAPSHOT_INTERVAL_MS && lastSnapshotTime.compareAndSet(lastTime, time)) {
+				currentSnapshot.record(time);
 			}
 		}
 	}
 
 	void incrementConnectionsDestroyedCounter() {
-		connectionsDestroyed.incrementAndGet();
+		connectionsDestroyed.increment();
 	}
 
 	void incrementConnectionsCreatedCounter() {
-		connectionsCreated.incrementAndGet();
+		connectionsCreated.increment();
 	}
 
 	void incrementFailedRequestCounter() {
-		connectionRequestsFailed.incrementAndGet();
-		requestsFailedPerSecondCounter.incrementAndGet();
+		connectionRequestsFailed.increment();
+		requestsFailedPerSecondCounter.increment();
 	}
 
 	void incrementRequestCounter() {
-		connectionRequests.incrementAndGet();
-		requestsPerSecondCounter.incrementAndGet();
+		connectionRequests.increment();
+		requestsPerSecondCounter.increment();
 	}
 
-	void resetStatistics() {
-		connectionsCreated.set(0);
-		connectionsDestroyed.set(0);
-		connectionRequests.set(0);
-		connectionRequestsFailed.set(0);
-		requestsPerSecondCounter.set(0);
-		requestsFailedPerSecondCounter.set(0);
+	synchronized void resetStatistics() {
+		connectionsCreated.reset();
+		connectionsDestroyed.reset();
+		connectionRequests.reset();
+		connectionRequestsFailed.reset();
+		requestsPerSecondCounter.reset();
+		requestsFailedPerSecondCounter.reset();
 		requestsPerSecondTime.set(System.currentTimeMillis());
-		synchronized (checkOutTimes) {
-			checkOutTimes.clear();
-		}
+		checkOutTimes.reset();
+		collectedCount = 0;
+		collectedTotal = 0;
+		Arrays.fill(collectedBuckets, 0);
 		resetDate.set(System.currentTimeMillis());
 	}
 
-	ConnectionPoolStatistics collectStatistics(long since) {
+	synchronized ConnectionPoolStatistics collectStatistics(long since) {
 		DefaultConnectionPoolStatistics statistics = new DefaultConnectionPoolStatistics();
 		long current = System.currentTimeMillis();
 		statistics.timestamp(current);
 		statistics.resetTime(resetDate.get());
 		statistics.available(connectionPool.available());
 		statistics.inUse(connectionPool.inUse());
-		statistics.created(connectionsCreated.get());
-		statistics.destroyed(connectionsDestroyed.get());
-		statistics.requests(connectionRequests.get());
-		statistics.failedRequests(connectionRequestsFailed.get());
+		statistics.waiting(connectionPool.waiting());
+		statistics.created((int) connectionsCreated.sum());
+		statistics.destroyed((int) connectionsDestroyed.sum());
+		statistics.requests((int) connectionRequests.sum());
+		statistics.failedRequests((int) connectionRequestsFailed.sum());
 		double seconds = (current - requestsPerSecondTime.getAndSet(current)) / THOUSAND;
 		if (seconds > 0) {
-			statistics.requestsPerSecond((int) (requestsPerSecondCounter.getAndSet(0) / seconds));
-			statistics.failedRequestsPerSecond((int) (requestsFailedPerSecondCounter.getAndSet(0) / seconds));
+			statistics.requestsPerSecond((int) (requestsPerSecondCounter.sumThenReset() / seconds));
+			statistics.failedRequestsPerSecond((int) (requestsFailedPerSecondCounter.sumThenReset() / seconds));
 		}
 		populateCheckOutTime(statistics);
-		if (collectSnapshotStatistics && since >= 0) {
-			synchronized (snapshotStatistics) {
-				statistics.snapshot(snapshotStatistics.stream()
-								.filter(state -> state.timestamp() > 0 && state.timestamp() >= since)
-								.map(DefaultConnectionPoolState::new)
-								.collect(toList()));
-			}
+		Snapshot currentSnapshot = snapshot;
+		if (currentSnapshot != null && since >= 0) {
+			currentSnapshot.record(current);
+			statistics.snapshot(currentSnapshot.states(since));
 		}
 
 		return statistics;
 	}
 
+	/**
+	 * The check-out times recorded since the previous collection, the difference between the histogram now
+	 * and as it was then, the minimum and maximum being the bounds of the lowest and highest bucket recorded to.
+	 */
 	private void populateCheckOutTime(DefaultConnectionPoolStatistics statistics) {
-		int total = 0;
-		int min = -1;
-		int max = -1;
-		synchronized (checkOutTimes) {
-			if (checkOutTimes.isEmpty()) {
-				return;
-			}
-			for (Integer time : checkOutTimes) {
-				total += time;
-				if (min == -1) {
-					min = time;
-					max = time;
-				}
-				else {
-					min = Math.min(min, time);
-					max = Math.max(max, time);
+		long count = checkOutTimes.count();
+		long total = checkOutTimes.total();
+		checkOutTimes.bucketCounts(buckets);
+		long intervalCount = count - collectedCount;
+		if (intervalCount > 0) {
+			int minimum = -1;
+			int maximum = -1;
+			for (int i = 0; i < buckets.length; i++) {
+				if (buckets[i] > collectedBuckets[i]) {
+					if (minimum == -1) {
+						minimum = i;
+					}
+					maximum = i;
 				}
 			}
-			statistics.averageTime(total / checkOutTimes.size());
-			statistics.minimumTime(min);
-			statistics.maximumTime(max);
-			checkOutTimes.clear();
+			statistics.averageTime((int) ((total - collectedTotal) / intervalCount));
+			if (minimum != -1) {
+				statistics.minimumTime((int) CheckOutTimeHistogram.lowerBound(minimum));
+				statistics.maximumTime((int) CheckOutTimeHistogram.upperBound(maximum));
+			}
 		}
+		System.arraycopy(buckets, 0, collectedBuckets, 0, buckets.length);
+		collectedCount = count;
+		collectedTotal = total;
 	}
 
 	/**
@@ -196,25 +206,49 @@ final class DefaultConnectionPoolCounter {
 	 * Should be called when the connection pool is closed to prevent resource leaks.
 	 */
 	void close() {
-		snapshotStatisticsCollector.stop();
-		synchronized (snapshotStatistics) {
-			snapshotStatistics.clear();
-		}
-		synchronized (checkOutTimes) {
-			checkOutTimes.clear();
-		}
+		snapshot = null;
 	}
 
-	private final class StatisticsCollector implements Runnable {
+	/**
+	 * A ring of the most recent pool states, held in primitive arrays.
+	 */
+	private final class Snapshot {
+
+		private final long[] timestamps = new long[SNAPSHOT_SIZE];
+		private final int[] sizes = new int[SNAPSHOT_SIZE];
+		private final int[] inUse = new int[SNAPSHOT_SIZE];
+		private final int[] waiting = new int[SNAPSHOT_SIZE];
+
+		private int next = 0;
+
+		private void record(long timestamp) {
+			int available = connectionPool.available();
+			int used = connectionPool.inUse();
+			int waitingRequests = connectionPool.waiting();
+			synchronized (this) {
+				timestamps[next] = timestamp;
+				sizes[next] = available;
+				inUse[next] = used;
+				waiting[next] = waitingRequests;
+				next = (next + 1) % SNAPSHOT_SIZE;
+			}
+		}
 
 		/**
-		 * Adds the current state of the pool to the snapshot connection pool log
+		 * @param since the time from which to include states
+		 * @return the recorded states, oldest first
 		 */
-		@Override
-		public void run() {
-			synchronized (snapshotStatistics) {
-				snapshotStatistics.addLast(connectionPool.updateState(snapshotStatistics.removeFirst()));
+		private synchronized List<ConnectionPoolState> states(long since) {
+			List<ConnectionPoolState> states = new ArrayList<>();
+			for (int i = 0; i < SNAPSHOT_SIZE; i++) {
+				int index = (next + i) % SNAPSHOT_SIZE;
+				if (timestamps[index] > 0 && timestamps[index] >= since) {
+					states.add(new DefaultConnectionPoolState()
+									.set(timestamps[index], sizes[index], inUse[index], waiting[index]));
+				}
 			}
+
+			return states;
 		}
 	}
 }
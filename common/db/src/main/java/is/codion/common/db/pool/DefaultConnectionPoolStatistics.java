@@ -35,6 +35,7 @@ final class DefaultConnectionPoolStatistics implements ConnectionPoolStatistics,
 	private long timestamp;
 	private int inUse;
 	private int available;
+	private int waiting;
 	private int created;
 	private int destroyed;
 
@@ -65,6 +66,11 @@ final class DefaultConnectionPoolStatistics implements ConnectionPoolStatistics,
 		return inUse;
 	}
 
+	@Override
+	public int waiting() {
+		return waiting;
+	}
+
 	@Override
 	public long timestamp() {
 		return timestamp;
@@ -137,6 +143,10 @@ final class DefaultConnectionPoolStatistics implements ConnectionPoolStatistics,
 		this.inUse = inUse;
 	}
 
+	void waiting(int waiting) {
+		this.waiting = waiting;
+	}
+
 	void timestamp(long timestamp) {
 		this.timestamp = timestamp;
 	}
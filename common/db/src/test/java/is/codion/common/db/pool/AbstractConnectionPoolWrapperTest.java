@@ -233,6 +233,27 @@ public final class AbstractConnectionPoolWrapperTest {
 			}
 		}
 
+		@Test
+		@DisplayName("Check-out times are collected by default, per statistics interval")
+		void poolWrapper_checkOutTimes_shouldBeCollected() throws SQLException {
+			assertTrue(poolWrapper.collectCheckOutTimes());
+			poolWrapper.statistics(-1);
+			for (int i = 0; i < 5; i++) {
+				poolWrapper.connection(testUser).close();
+			}
+			ConnectionPoolStatistics statistics = poolWrapper.statistics(-1);
+			assertTrue(statistics.minimumTime() <= statistics.averageTime());
+			assertTrue(statistics.averageTime() <= statistics.maximumTime());
+			//a new interval, no check-outs
+			statistics = poolWrapper.statistics(-1);
+			assertEquals(0, statistics.averageTime());
+			assertEquals(0, statistics.maximumTime());
+
+			poolWrapper.collectCheckOutTimes(false);
+			poolWrapper.connection(testUser).close();
+			assertEquals(0, poolWrapper.statistics(-1).maximumTime());
+		}
+
 		@Test
 		@DisplayName("Statistics reset works correctly")
 		void poolWrapper_resetStatistics_shouldWork() throws SQLException {
@@ -0,0 +1,97 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.db.pool;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static is.codion.common.db.pool.CheckOutTimeHistogram.*;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class CheckOutTimeHistogramTest {
+
+	@Test
+	void buckets() {
+		for (int time = 0; time < SUB_BUCKETS; time++) {
+			assertEquals(time, bucket(time));
+			assertEquals(time, lowerBound(time));
+			assertEquals(time, upperBound(time));
+		}
+		assertEquals(BUCKETS - 1, bucket(Integer.MAX_VALUE));
+		assertEquals(Integer.MAX_VALUE, upperBound(BUCKETS - 1));
+		int[] times = {8, 9, 15, 16, 17, 100, 999, 1_000, 1_024, 65_535, 1_000_000, Integer.MAX_VALUE - 1};
+		for (int time : times) {
+			int bucket = bucket(time);
+			assertTrue(lowerBound(bucket) <= time);
+			assertTrue(upperBound(bucket) >= time);
+			//within 12.5%
+			assertTrue(upperBound(bucket) - lowerBound(bucket) <= lowerBound(bucket) / SUB_BUCKETS);
+		}
+		for (int bucket = 0; bucket < BUCKETS - 1; bucket++) {
+			assertEquals(upperBound(bucket) + 1, lowerBound(bucket + 1));
+		}
+	}
+
+	@Test
+	void record() throws Exception {
+		CheckOutTimeHistogram histogram = new CheckOutTimeHistogram();
+		histogram.record(-5);
+		histogram.record(10);
+		histogram.record(1_000);
+		assertEquals(3, histogram.count());
+		assertEquals(1_010, histogram.total());
+		long[] counts = new long[BUCKETS];
+		histogram.bucketCounts(counts);
+		assertEquals(1, counts[0]);
+		assertEquals(1, counts[bucket(10)]);
+		assertEquals(1, counts[bucket(1_000)]);
+
+		histogram.reset();
+		assertEquals(0, histogram.count());
+		assertEquals(0, histogram.total());
+
+		ExecutorService executor = newFixedThreadPool(4);
+		try {
+			Future<?>[] futures = new Future<?>[4];
+			for (int i = 0; i < futures.length; i++) {
+				futures[i] = executor.submit(() -> {
+					for (int time = 0; time < 10_000; time++) {
+						histogram.record(time);
+					}
+				});
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertEquals(40_000, histogram.count());
+		histogram.bucketCounts(counts);
+		long sum = 0;
+		for (long count : counts) {
+			sum += count;
+		}
+		assertEquals(40_000, sum);
+	}
+}
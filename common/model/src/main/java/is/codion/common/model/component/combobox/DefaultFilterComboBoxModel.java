@@ -304,6 +304,7 @@ final class DefaultFilterComboBoxModel<T> implements FilterComboBoxModel<T> {
 		private final Refresher<T> refresher;
 		private final DefaultIncludedItems included;
 		private final DefaultFilteredItems filtered = new DefaultFilteredItems();
+		private final Value<RefreshStrategy> refreshStrategy = Value.nonNull(RefreshStrategy.CLEAR);
 
 		private final boolean filterSelected;
 		private final boolean includeNull;
@@ -339,6 +340,11 @@ final class DefaultFilterComboBoxModel<T> implements FilterComboBoxModel<T> {
 			return refresher;
 		}
 
+		@Override
+		public Value<RefreshStrategy> refreshStrategy() {
+			return refreshStrategy;
+		}
+
 		@Override
 		public Sort<T> sort() {
 			return sort;
@@ -233,6 +233,8 @@ public interface FilterComboBoxModel<T> extends FilterModel<T> {
 	 * Note that the {@link #included()} items do not support indexed mutation - the index based
 	 * {@code add}, {@code set} and {@code remove} methods throw {@link UnsupportedOperationException},
 	 * since a combo box model manages its own item order (including the null item sentinel).
+	 * <p>Note that the {@link #refreshStrategy()} has no effect, since a combo box model replaces
+	 * its items as a whole, notifying of a single content change.
 	 * @param <T> the item type
 	 */
 	interface ComboBoxItems<T> extends Items<T> {
@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -79,6 +80,7 @@ final class DefaultFilterTableModel<R, C> implements FilterTableModel<R, C> {
 						.selection(selectionFactory)
 						.sort(sort)
 						.validator(builder.validator)
+						.equalValues(builder.equalValues)
 						.included(new DefaultInclude<>(builder.columns, filters));
 		if (builder.supplier != null) {
 			itemsBuilder.items(builder.supplier);
@@ -266,6 +268,7 @@ final class DefaultFilterTableModel<R, C> implements FilterTableModel<R, C> {
 
 		private @Nullable Supplier<Collection<R>> supplier;
 		private Predicate<R> validator = (Predicate<R>) DEFAULT_VALID_PREDICATE;
+		private BiPredicate<R, R> equalValues = (item, mergedItem) -> item == mergedItem;
 		private Supplier<Map<C, ConditionModel<?>>> filters;
 		private @Nullable Consumer<Exception> onRefreshException;
 		private @Nullable Predicate<R> included;
@@ -298,6 +301,12 @@ final class DefaultFilterTableModel<R, C> implements FilterTableModel<R, C> {
 			return this;
 		}
 
+		@Override
+		public Builder<R, C> equalValues(BiPredicate<R, R> equalValues) {
+			this.equalValues = requireNonNull(equalValues);
+			return this;
+		}
+
 		@Override
 		public Builder<R, C> onRefreshException(Consumer<Exception> onRefreshException) {
 			this.onRefreshException = requireNonNull(onRefreshException);
@@ -23,21 +23,34 @@ import is.codion.common.model.filter.SortOrder;
 import is.codion.common.reactive.event.Event;
 import is.codion.common.reactive.observer.Observer;
 import is.codion.common.reactive.state.State;
+import is.codion.common.utilities.Text.CollatorComparator;
 
+import org.jspecify.annotations.Nullable;
+
+import java.text.CollationKey;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static is.codion.common.model.filter.SortOrder.*;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
 final class DefaultFilterTableSort<R, C> implements FilterTableSort<R, C> {
 
+	private static final Comparator<Object> COLLATION_KEY_COMPARATOR =
+					(keyOne, keyTwo) -> ((CollationKey) keyOne).compareTo((CollationKey) keyTwo);
+
 	private final TableColumns<R, C> columns;
-	private final Map<C, Comparator<?>> columnComparators = new HashMap<>();
+	//accessed during sorting, possibly in parallel
+	private final Map<C, Comparator<Object>> columnComparators = new ConcurrentHashMap<>();
+	//the collation keys of the values of each collated column, by their string representation, as of the last sort
+	private final Map<C, Map<String, CollationKey>> collationKeys = new HashMap<>();
 	private final Event<Boolean> sortingChanged = Event.event();
 	private final List<ColumnSortOrder<C>> columnSortOrders = new ArrayList<>(0);
 	private final Map<C, State> locked = new HashMap<>();
@@ -52,6 +65,31 @@ final class DefaultFilterTableSort<R, C> implements FilterTableSort<R, C> {
 		return comparator.compare(o1, o2);
 	}
 
+	@Override
+	public void sort(List<R> rows, boolean parallel) {
+		List<ColumnSortOrder<C>> sortOrders = new ArrayList<>(columnSortOrders);
+		if (sortOrders.isEmpty() || rows.size() < 2) {
+			return;
+		}
+		List<SortKeys> sortKeys = new ArrayList<>(sortOrders.size());
+		for (ColumnSortOrder<C> sortOrder : sortOrders) {
+			sortKeys.add(sortKeys(rows, sortOrder));
+		}
+		Integer[] indexes = new Integer[rows.size()];
+		Arrays.setAll(indexes, Integer::valueOf);
+		Comparator<Integer> comparator = (indexOne, indexTwo) -> compareKeys(sortKeys, indexOne, indexTwo);
+		if (parallel) {
+			Arrays.parallelSort(indexes, comparator);
+		}
+		else {
+			Arrays.sort(indexes, comparator);
+		}
+		List<R> unsorted = new ArrayList<>(rows);
+		for (int i = 0; i < indexes.length; i++) {
+			rows.set(i, unsorted.get(indexes[i]));
+		}
+	}
+
 	@Override
 	public void ascending(C... identifiers) {
 		sort(ASCENDING, identifiers);
@@ -96,6 +134,97 @@ final class DefaultFilterTableSort<R, C> implements FilterTableSort<R, C> {
 		}
 	}
 
+	/**
+	 * Extracts the values of the given column, replacing them with their collation keys in case the column is collated,
+	 * reusing the keys from the last sort, so that only the keys of new or changed values are computed.
+	 * The keys are cached by the string representation the comparator collates, since values may be equal
+	 * while their string representations differ, entities with the same primary key for example.
+	 */
+	private SortKeys sortKeys(List<R> rows, ColumnSortOrder<C> sortOrder) {
+		C identifier = sortOrder.identifier();
+		Comparator<Object> comparator = columnComparator(identifier);
+		Object[] keys = new Object[rows.size()];
+		if (comparator instanceof CollatorComparator) {
+			CollatorComparator<Object> collator = (CollatorComparator<Object>) comparator;
+			synchronized (collationKeys) {
+				Map<String, CollationKey> previousKeys = collationKeys.getOrDefault(identifier, emptyMap());
+				Map<String, CollationKey> currentKeys = new HashMap<>();
+				for (int i = 0; i < keys.length; i++) {
+					Object value = columns.value(rows.get(i), identifier);
+					if (value != null) {
+						keys[i] = currentKeys.computeIfAbsent(value.toString(), string -> {
+							CollationKey collationKey = previousKeys.get(string);
+
+							return collationKey == null ? collator.collationKey(value) : collationKey;
+						});
+					}
+				}
+				collationKeys.put(identifier, currentKeys);
+			}
+
+			return new SortKeys(keys, COLLATION_KEY_COMPARATOR, sortOrder.sortOrder());
+		}
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = columns.value(rows.get(i), identifier);
+		}
+
+		return new SortKeys(keys, comparator, sortOrder.sortOrder());
+	}
+
+	private Comparator<Object> columnComparator(C identifier) {
+		return columnComparators.computeIfAbsent(identifier, this::createComparator);
+	}
+
+	//only ever used to compare the values of the given column
+	@SuppressWarnings("unchecked")
+	private Comparator<Object> createComparator(C identifier) {
+		return (Comparator<Object>) columns.comparator(identifier);
+	}
+
+	private static int compareKeys(List<SortKeys> sortKeys, int indexOne, int indexTwo) {
+		for (SortKeys keys : sortKeys) {
+			int comparison = compare(keys.keys[indexOne], keys.keys[indexTwo], keys.comparator, keys.sortOrder);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+
+		return 0;
+	}
+
+	private static int compare(@Nullable Object valueOne, @Nullable Object valueTwo,
+														 Comparator<Object> comparator, SortOrder sortOrder) {
+		int comparison;
+		// Define null less than everything, except null.
+		if (valueOne == null && valueTwo == null) {
+			comparison = 0;
+		}
+		else if (valueOne == null) {
+			comparison = -1;
+		}
+		else if (valueTwo == null) {
+			comparison = 1;
+		}
+		else {
+			comparison = comparator.compare(valueOne, valueTwo);
+		}
+
+		return sortOrder == DESCENDING ? -comparison : comparison;
+	}
+
+	private static final class SortKeys {
+
+		private final Object[] keys;
+		private final Comparator<Object> comparator;
+		private final SortOrder sortOrder;
+
+		private SortKeys(Object[] keys, Comparator<Object> comparator, SortOrder sortOrder) {
+			this.keys = keys;
+			this.comparator = comparator;
+			this.sortOrder = sortOrder;
+		}
+	}
+
 	private final class RowComparator implements Comparator<R> {
 
 		@Override
@@ -111,28 +240,8 @@ final class DefaultFilterTableSort<R, C> implements FilterTableSort<R, C> {
 		}
 
 		private int compareRows(R rowOne, R rowTwo, C identifier, SortOrder sortOrder) {
-			Object valueOne = columns.value(rowOne, identifier);
-			Object valueTwo = columns.value(rowTwo, identifier);
-			int comparison;
-			// Define null less than everything, except null.
-			if (valueOne == null && valueTwo == null) {
-				comparison = 0;
-			}
-			else if (valueOne == null) {
-				comparison = -1;
-			}
-			else if (valueTwo == null) {
-				comparison = 1;
-			}
-			else {
-				comparison = ((Comparator<Object>) columnComparators.computeIfAbsent(identifier,
-								k -> columns.comparator(identifier))).compare(valueOne, valueTwo);
-			}
-			if (comparison != 0) {
-				return sortOrder == DESCENDING ? -comparison : comparison;
-			}
-
-			return 0;
+			return DefaultFilterTableSort.compare(columns.value(rowOne, identifier), columns.value(rowTwo, identifier),
+							columnComparator(identifier), sortOrder);
 		}
 	}
 
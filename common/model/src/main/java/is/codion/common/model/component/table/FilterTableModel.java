@@ -31,6 +31,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -173,6 +174,15 @@ public interface FilterTableModel<R, C> extends FilterModel<R> {
 		 */
 		Builder<R, C> validator(Predicate<R> validator);
 
+		/**
+		 * Specifies whether an item has changed, when merging refreshed items with the current ones.
+		 * @param equalValues returns true in case the values of the given items are equal
+		 * @return this builder instance
+		 * @see Items.Builder#equalValues(BiPredicate)
+		 * @see Items.RefreshStrategy#MERGE
+		 */
+		Builder<R, C> equalValues(BiPredicate<R, R> equalValues);
+
 		/**
 		 * By default, exceptions during refresh are rethrown,
 		 * use this method to handle async exceptions differently
@@ -26,6 +26,9 @@ import java.util.List;
 
 /**
  * Handles the column sorting states for a {@link FilterTableModel}.
+ * <p>Sorting items via {@link #sort(List, boolean)} extracts the value of each sorted column once per row, rather
+ * than on each comparison, using the {@link java.text.CollationKey} of values for columns collated by a
+ * {@link is.codion.common.utilities.Text.CollatorComparator}, the keys cached until the values change.
  * @param <R> the type representing a row in the table model
  * @param <C> the type representing the column identifiers in the table model
  */
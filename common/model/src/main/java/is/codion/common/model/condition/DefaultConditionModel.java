@@ -33,23 +33,21 @@ import java.time.temporal.Temporal;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import static java.time.temporal.ChronoField.*;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toSet;
 
 final class DefaultConditionModel<T> implements ConditionModel<T> {
 
-	private static final String REGEX_WILDCARD = ".*";
-
 	private final Runnable autoEnableListener = new AutoEnableListener();
 	private final Event<?> conditionChanged = Event.event();
 	private final State locked = State.builder()
@@ -72,8 +70,12 @@ final class DefaultConditionModel<T> implements ConditionModel<T> {
 	private final @Nullable Format format;
 	private final @Nullable String dateTimePattern;
 	private final List<Operator> operators;
+	private final AtomicInteger generation = new AtomicInteger();
+
+	private volatile @Nullable CompiledCondition<T> compiledCondition;
 
 	private DefaultConditionModel(DefaultBuilder<T> builder) {
+		this.conditionChanged.addListener(generation::incrementAndGet);
 		this.operators = unmodifiableList(builder.operators);
 		this.operator = Value.builder()
 						.nonNull(builder.operator)
@@ -169,7 +171,14 @@ final class DefaultConditionModel<T> implements ConditionModel<T> {
 
 	@Override
 	public boolean accepts(@Nullable Comparable<T> value) {
-		return valueAccepted(value);
+		int currentGeneration = generation.get();
+		CompiledCondition<T> condition = compiledCondition;
+		if (condition == null || condition.generation != currentGeneration) {
+			condition = new CompiledCondition<>(currentGeneration, compile());
+			compiledCondition = condition;
+		}
+
+		return condition.predicate.test(value);
 	}
 
 	@Override
@@ -177,83 +186,88 @@ final class DefaultConditionModel<T> implements ConditionModel<T> {
 		return conditionChanged.observer();
 	}
 
-	private boolean valueAccepted(@Nullable Comparable<T> comparable) {
-		if (!caseSensitive.is()) {
-			comparable = stringOrCharacterToLowerCase(comparable);
-		}
-		if (comparable instanceof Temporal) {
-			comparable = (Comparable<T>) adjustTemporal((Temporal) comparable);
-		}
+	/**
+	 * Compiles the predicate based on the current operator and operands, resolving
+	 * the operands, wildcard patterns and letter case once, instead of once per value tested.
+	 * @return a predicate based on the current condition state
+	 */
+	private Predicate<@Nullable Comparable<T>> compile() {
+		boolean caseInsensitive = !caseSensitive.is();
+		Predicate<@Nullable Comparable<T>> predicate = operatorPredicate(caseInsensitive);
+
+		return comparable -> {
+			if (caseInsensitive) {
+				comparable = stringOrCharacterToLowerCase(comparable);
+			}
+			if (comparable instanceof Temporal) {
+				comparable = (Comparable<T>) adjustTemporal((Temporal) comparable);
+			}
+
+			return predicate.test(comparable);
+		};
+	}
+
+	private Predicate<@Nullable Comparable<T>> operatorPredicate(boolean caseInsensitive) {
+		T lower = operands.lower.get();
+		T upper = operands.upper.get();
 		switch (operator.getOrThrow()) {
 			case EQUAL:
-				return isEqual(comparable);
+				return equalPredicate(caseInsensitive);
 			case NOT_EQUAL:
-				return isNotEqual(comparable);
+				return equalPredicate(caseInsensitive).negate();
 			case LESS_THAN:
-				return isLessThan(comparable);
+				return comparable -> upper == null || comparable != null && comparable.compareTo(upper) < 0;
 			case LESS_THAN_OR_EQUAL:
-				return isLessThanOrEqual(comparable);
+				return comparable -> upper == null || comparable != null && comparable.compareTo(upper) <= 0;
 			case GREATER_THAN:
-				return isGreaterThan(comparable);
+				return comparable -> lower == null || comparable != null && comparable.compareTo(lower) > 0;
 			case GREATER_THAN_OR_EQUAL:
-				return isGreaterThanOrEqual(comparable);
+				return comparable -> lower == null || comparable != null && comparable.compareTo(lower) >= 0;
 			case BETWEEN_EXCLUSIVE:
-				return isBetweenExclusive(comparable);
+				return comparable -> isBetweenExclusive(comparable, lower, upper);
 			case BETWEEN:
-				return isBetween(comparable);
+				return comparable -> isBetween(comparable, lower, upper);
 			case NOT_BETWEEN_EXCLUSIVE:
-				return isNotBetweenExclusive(comparable);
+				return comparable -> isNotBetweenExclusive(comparable, lower, upper);
 			case NOT_BETWEEN:
-				return isNotBetween(comparable);
+				return comparable -> isNotBetween(comparable, lower, upper);
 			case IN:
-				return isIn(comparable);
+				return inPredicate(caseInsensitive);
 			case NOT_IN:
-				return isNotIn(comparable);
+				return inPredicate(caseInsensitive).negate();
 			default:
 				throw new IllegalArgumentException("Unknown operator: " + operator.get());
 		}
 	}
 
-	private boolean isEqual(@Nullable Comparable<T> comparable) {
-		T equalOperand = operands.equal().get();
-		if (comparable == null) {
-			return equalOperand == null;
-		}
+	private Predicate<@Nullable Comparable<T>> equalPredicate(boolean caseInsensitive) {
+		T equalOperand = operands.equal.get();
 		if (equalOperand == null) {
-			return comparable == null;
+			return Objects::isNull;
 		}
 		if (equalOperand instanceof String) {
 			equalOperand = (T) operands.equalWithWildcards();
 		}
-		if (!caseSensitive.is()) {
+		if (caseInsensitive) {
 			equalOperand = stringOrCharacterToLowerCase(equalOperand);
 		}
-		if (comparable instanceof String && ((String) equalOperand).contains(WILDCARD_CHARACTER)) {
-			return isEqualWildcard((String) comparable, (String) equalOperand);
+		T operand = equalOperand;
+		if (operand instanceof String && ((String) operand).contains(WILDCARD_CHARACTER)) {
+			WildcardMatcher matcher = new WildcardMatcher((String) operand);
+
+			return comparable -> comparable != null && (comparable instanceof String ?
+							matcher.matches((String) comparable) : comparable.compareTo(operand) == 0);
 		}
 
-		return comparable.compareTo(equalOperand) == 0;
+		return comparable -> comparable != null && comparable.compareTo(operand) == 0;
 	}
 
-	private boolean isNotEqual(@Nullable Comparable<T> comparable) {
-		T equalOperand = operands.equal().get();
-		if (comparable == null) {
-			return equalOperand != null;
-		}
-		if (equalOperand == null) {
-			return comparable != null;
-		}
-		if (equalOperand instanceof String) {
-			equalOperand = (T) operands.equalWithWildcards();
-		}
-		if (!caseSensitive.is()) {
-			equalOperand = stringOrCharacterToLowerCase(equalOperand);
-		}
-		if (comparable instanceof String && ((String) equalOperand).contains(WILDCARD_CHARACTER)) {
-			return !isEqualWildcard((String) comparable, (String) equalOperand);
-		}
+	private Predicate<@Nullable Comparable<T>> inPredicate(boolean caseInsensitive) {
+		Set<T> inOperands = operands.in.get().stream()
+						.map(operand -> caseInsensitive ? stringOrCharacterToLowerCase(operand) : operand)
+						.collect(toSet());
 
-		return comparable.compareTo(equalOperand) != 0;
+		return inOperands::contains;
 	}
 
 	static String addWildcard(String operand, Wildcard wildcard) {
@@ -312,43 +326,7 @@ final class DefaultConditionModel<T> implements ConditionModel<T> {
 		return value;
 	}
 
-	private static boolean isEqualWildcard(String value, String equalOperand) {
-		if (equalOperand.equals(WILDCARD_CHARACTER)) {
-			return true;
-		}
-
-		return Pattern.matches(Stream.of(equalOperand.split(WILDCARD_CHARACTER))
-						.map(Pattern::quote)
-						.collect(joining(REGEX_WILDCARD, "", equalOperand.endsWith(WILDCARD_CHARACTER) ? REGEX_WILDCARD : "")), value);
-	}
-
-	private boolean isLessThan(@Nullable Comparable<T> comparable) {
-		T upper = operands.upper.get();
-
-		return upper == null || comparable != null && comparable.compareTo(upper) < 0;
-	}
-
-	private boolean isLessThanOrEqual(@Nullable Comparable<T> comparable) {
-		T upper = operands.upper.get();
-
-		return upper == null || comparable != null && comparable.compareTo(upper) <= 0;
-	}
-
-	private boolean isGreaterThan(@Nullable Comparable<T> comparable) {
-		T lower = operands.lower.get();
-
-		return lower == null || comparable != null && comparable.compareTo(lower) > 0;
-	}
-
-	private boolean isGreaterThanOrEqual(@Nullable Comparable<T> comparable) {
-		T lower = operands.lower.get();
-
-		return lower == null || comparable != null && comparable.compareTo(lower) >= 0;
-	}
-
-	private boolean isBetweenExclusive(@Nullable Comparable<T> comparable) {
-		T lower = operands.lower.get();
-		T upper = operands.upper.get();
+	private static <T> boolean isBetweenExclusive(@Nullable Comparable<T> comparable, @Nullable T lower, @Nullable T upper) {
 		if (lower == null && upper == null) {
 			return true;
 		}
@@ -371,9 +349,7 @@ final class DefaultConditionModel<T> implements ConditionModel<T> {
 		return lowerCompareResult > 0 && upperCompareResult < 0;
 	}
 
-	private boolean isBetween(@Nullable Comparable<T> comparable) {
-		T lower = operands.lower.get();
-		T upper = operands.upper.get();
+	private static <T> boolean isBetween(@Nullable Comparable<T> comparable, @Nullable T lower, @Nullable T upper) {
 		if (lower == null && upper == null) {
 			return true;
 		}
@@ -396,9 +372,7 @@ final class DefaultConditionModel<T> implements ConditionModel<T> {
 		return lowerCompareResult >= 0 && upperCompareResult <= 0;
 	}
 
-	private boolean isNotBetweenExclusive(@Nullable Comparable<T> comparable) {
-		T lower = operands.lower.get();
-		T upper = operands.upper.get();
+	private static <T> boolean isNotBetweenExclusive(@Nullable Comparable<T> comparable, @Nullable T lower, @Nullable T upper) {
 		if (lower == null && upper == null) {
 			return true;
 		}
@@ -421,9 +395,7 @@ final class DefaultConditionModel<T> implements ConditionModel<T> {
 		return lowerCompareResult <= 0 || upperCompareResult >= 0;
 	}
 
-	private boolean isNotBetween(@Nullable Comparable<T> comparable) {
-		T lower = operands.lower.get();
-		T upper = operands.upper.get();
+	private static <T> boolean isNotBetween(@Nullable Comparable<T> comparable, @Nullable T lower, @Nullable T upper) {
 		if (lower == null && upper == null) {
 			return true;
 		}
@@ -446,17 +418,6 @@ final class DefaultConditionModel<T> implements ConditionModel<T> {
 		return lowerCompareResult < 0 || upperCompareResult > 0;
 	}
 
-	private boolean isIn(@Nullable Comparable<T> comparable) {
-		return operands.in.get().stream()
-						.map(operand -> caseSensitive.is() ? operand : stringOrCharacterToLowerCase(operand))
-						.collect(toSet())
-						.contains(comparable);
-	}
-
-	private boolean isNotIn(@Nullable Comparable<T> comparable) {
-		return !isIn(comparable);
-	}
-
 	private void locked(boolean locked) {
 		enabled.value().locked().set(locked);
 		operator.locked().set(locked);
@@ -490,6 +451,68 @@ final class DefaultConditionModel<T> implements ConditionModel<T> {
 		return value;
 	}
 
+	private static final class CompiledCondition<T> {
+
+		private final int generation;
+		private final Predicate<@Nullable Comparable<T>> predicate;
+
+		private CompiledCondition(int generation, Predicate<@Nullable Comparable<T>> predicate) {
+			this.generation = generation;
+			this.predicate = predicate;
+		}
+	}
+
+	/**
+	 * Matches a String against a pattern containing {@link ConditionModel#WILDCARD_CHARACTER},
+	 * matching any number of characters, without resorting to regular expressions.
+	 */
+	static final class WildcardMatcher {
+
+		private final String[] segments;
+		private final boolean anchoredStart;
+		private final boolean anchoredEnd;
+
+		WildcardMatcher(String pattern) {
+			this.segments = pattern.split(WILDCARD_CHARACTER, -1);
+			this.anchoredStart = !pattern.startsWith(WILDCARD_CHARACTER);
+			this.anchoredEnd = !pattern.endsWith(WILDCARD_CHARACTER);
+		}
+
+		boolean matches(String value) {
+			int first = 0;
+			int last = segments.length - 1;
+			int fromIndex = 0;
+			int toIndex = value.length();
+			if (anchoredStart) {
+				if (!value.startsWith(segments[first])) {
+					return false;
+				}
+				fromIndex = segments[first++].length();
+			}
+			if (anchoredEnd) {
+				if (!value.endsWith(segments[last])) {
+					return false;
+				}
+				toIndex -= segments[last--].length();
+				if (toIndex < fromIndex) {
+					return false;
+				}
+			}
+			for (int i = first; i <= last; i++) {
+				String segment = segments[i];
+				if (!segment.isEmpty()) {
+					int index = value.indexOf(segment, fromIndex);
+					if (index < 0 || index + segment.length() > toIndex) {
+						return false;
+					}
+					fromIndex = index + segment.length();
+				}
+			}
+
+			return true;
+		}
+	}
+
 	private final class AutoEnableListener implements Runnable {
 
 		@Override
@@ -23,12 +23,15 @@ import is.codion.common.model.filter.FilterModel.IncludePredicate;
 import is.codion.common.model.filter.FilterModel.IncludedItems;
 import is.codion.common.model.filter.FilterModel.IncludedItems.ItemsListener;
 import is.codion.common.model.filter.FilterModel.Items;
+import is.codion.common.model.filter.FilterModel.Items.RefreshStrategy;
 import is.codion.common.model.filter.FilterModel.Refresher;
 import is.codion.common.model.filter.FilterModel.Sort;
 import is.codion.common.model.selection.MultiSelection;
 import is.codion.common.reactive.event.Event;
 import is.codion.common.reactive.observer.Observer;
 import is.codion.common.reactive.value.AbstractValue;
+import is.codion.common.reactive.value.Value;
+import is.codion.common.utilities.dispatch.Dispatcher;
 
 import org.jspecify.annotations.Nullable;
 
@@ -36,21 +39,29 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
+import static is.codion.common.model.filter.FilterModel.PARALLEL_ASYNC;
+import static is.codion.common.model.filter.FilterModel.PARALLEL_THRESHOLD;
 import static is.codion.common.reactive.value.Value.Notify.SET;
 import static java.lang.Boolean.TRUE;
 import static java.util.Collections.*;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
 
 final class DefaultFilterModelItems<R> implements Items<R> {
@@ -58,6 +69,8 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 	private final Lock lock = new Lock() {};
 
 	private final Predicate<R> validator;
+	private final BiPredicate<R, R> equalValues;
+	private final Value<RefreshStrategy> refreshStrategy = Value.nonNull(RefreshStrategy.CLEAR);
 	private final DefaultIncludedItems included;
 	private final DefaultFilteredItems filtered;
 	private final Collection<ItemsListener> listeners;
@@ -72,9 +85,19 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 	//would inherit this flag, restore it in its own finally and skip the flush, losing its notifications
 	private boolean grouping = false;
 
+	private final int parallelThreshold = PARALLEL_THRESHOLD.getOrThrow();
+	private final boolean parallelAsync = PARALLEL_ASYNC.getOrThrow();
+	//incremented on each change to the items, identifying a stale parallel filter or sort result
+	private int modifications = 0;
+	//incremented on each filter and sort, identifying a superseded parallel filter or sort result
+	private int generation = 0;
+	//true while a parallel filter is pending, so that a subsequent sort superseding it filters as well
+	private boolean pendingFilter = false;
+
 	private DefaultFilterModelItems(DefaultBuilder<R> builder) {
 		this.sort = builder.sort;
 		this.validator = builder.validator;
+		this.equalValues = builder.equalValues;
 		this.included = new DefaultIncludedItems(builder.included);
 		this.filtered = new DefaultFilteredItems();
 		this.selection = builder.selection.apply(included);
@@ -82,7 +105,7 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		//the refresher feeds these items, hence built here rather than handed in
 		this.refresher = Refresher.<R>builder()
 						.items(builder.supplier)
-						.onResult(this::set)
+						.onResult(this::refreshed)
 						.onException(builder.onRefreshException)
 						.build();
 		this.included.predicate.addListener(DefaultFilterModelItems.this::filter);
@@ -109,6 +132,11 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		refresher.refresh(requireNonNull(onResult));
 	}
 
+	@Override
+	public Value<RefreshStrategy> refreshStrategy() {
+		return refreshStrategy;
+	}
+
 	@Override
 	public Collection<R> get() {
 		synchronized (lock) {
@@ -138,11 +166,137 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		});
 	}
 
+	private void refreshed(Collection<R> items) {
+		if (refreshStrategy.is(RefreshStrategy.MERGE)) {
+			merge(items);
+		}
+		else {
+			set(items);
+		}
+	}
+
+	private void merge(Collection<R> items) {
+		rejectNulls(items);
+		items.forEach(this::validate);
+		preserveSelection(() -> {
+			synchronized (lock) {
+				Map<R, R> merged = new LinkedHashMap<>();
+				items.forEach(item -> merged.putIfAbsent(item, item));
+				List<R> toFilter = new ArrayList<>();
+				List<R> toInclude = new ArrayList<>();
+				boolean includedChanged = mergeIncluded(merged, toFilter, toInclude);
+				boolean filteredChanged = mergeFiltered(merged) || !toFilter.isEmpty();
+				filtered.items.addAll(toFilter);
+				for (R item : merged.values()) {
+					if (included.predicate.test(item)) {
+						toInclude.add(item);
+					}
+					else {
+						filtered.items.add(item);
+						filteredChanged = true;
+					}
+				}
+				if (!toInclude.isEmpty()) {
+					included.insert(toInclude);
+					includedChanged = true;
+				}
+				if (includedChanged) {
+					included.notifyChanges();
+				}
+				if (filteredChanged) {
+					filtered.notifyChanges();
+				}
+			}
+
+			return null;
+		});
+	}
+
+	/**
+	 * Removes the included items not found in the merged items, replaces the changed ones and removes the ones
+	 * no longer passing the include predicate, collecting them to be filtered, removing the merged items found.
+	 * Changed items no longer in sort order are removed as well, collected to be included at their sorted position.
+	 * Deletes from the last index down, in contiguous ranges, so that each notification is valid at fire time.
+	 * @return true if the included items changed
+	 */
+	private boolean mergeIncluded(Map<R, R> merged, List<R> toFilter, List<R> toInclude) {
+		boolean changed = false;
+		int deletedTo = -1;
+		for (int index = included.items.size() - 1; index >= 0; index--) {
+			R item = included.items.get(index);
+			R mergedItem = merged.remove(item);
+			boolean delete = mergedItem == null || !included.predicate.test(mergedItem);
+			if (delete && mergedItem != null) {
+				toFilter.add(mergedItem);
+			}
+			boolean replace = !delete && !equalValues.test(item, mergedItem);
+			//the items following this one are final, up to the pending deletions
+			if (replace && !included.ordered(index, mergedItem, deletedTo == -1 ? index + 1 : deletedTo + 1)) {
+				toInclude.add(mergedItem);
+				delete = true;
+				replace = false;
+			}
+			if (delete && deletedTo == -1) {
+				deletedTo = index;
+			}
+			else if (!delete && deletedTo != -1) {
+				included.delete(index + 1, deletedTo);
+				deletedTo = -1;
+			}
+			if (replace) {
+				included.replace(index, mergedItem);
+				notifyUpdated(index, index);
+			}
+			changed = changed || delete || replace;
+		}
+		if (deletedTo != -1) {
+			included.delete(0, deletedTo);
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Removes the filtered items not found in the merged items, replaces the changed ones, and removes the
+	 * merged items found, except the ones now passing the include predicate, which are left to be included.
+	 * @return true if the filtered items changed
+	 */
+	private boolean mergeFiltered(Map<R, R> merged) {
+		boolean changed = false;
+		Iterator<R> iterator = filtered.items.iterator();
+		List<R> replaced = new ArrayList<>();
+		while (iterator.hasNext()) {
+			R item = iterator.next();
+			R mergedItem = merged.get(item);
+			if (mergedItem == null) {
+				iterator.remove();
+				changed = true;
+			}
+			else if (!included.predicate.test(mergedItem)) {
+				merged.remove(item);
+				if (!equalValues.test(item, mergedItem)) {
+					iterator.remove();
+					replaced.add(mergedItem);
+					changed = true;
+				}
+			}
+			else {
+				iterator.remove();
+				changed = true;
+			}
+		}
+		filtered.items.addAll(replaced);
+
+		return changed;
+	}
+
 	@Override
 	public void add(Collection<R> items) {
-		synchronized (lock) {
-			addInternal(included.items.size(), rejectNulls(items));
-		}
+		preserveSelection(() -> {
+			synchronized (lock) {
+				return addInternal(included.items.size(), rejectNulls(items));
+			}
+		});
 	}
 
 	@Override
@@ -154,9 +308,10 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 					filtered.notifyChanges();
 				}
 				else {
-					int index = included.items.indexOf(item);
+					int index = included.position(item);
 					if (index >= 0) {
 						included.items.remove(index);
+						included.invalidate(index);
 						notifyDeleted(index, index);
 						included.notifyChanges();
 					}
@@ -180,18 +335,18 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 						filteredRemoved = true;
 					}
 				}
-				boolean includedRemoved = false;
-				ListIterator<R> iterator = included.items.listIterator(included.items.size());
-				while (!toRemove.isEmpty() && iterator.hasPrevious()) {
-					int index = iterator.previousIndex();
-					R item = iterator.previous();
-					if (toRemove.remove(item)) {
-						iterator.remove();
-						notifyDeleted(index, index);
-						includedRemoved = true;
-					}
+				//removed from the last index down, so that each deleted(index, index) is valid at fire time
+				int[] indexes = toRemove.stream()
+								.mapToInt(included::position)
+								.filter(index -> index >= 0)
+								.sorted()
+								.toArray();
+				for (int i = indexes.length - 1; i >= 0; i--) {
+					included.items.remove(indexes[i]);
+					included.invalidate(indexes[i]);
+					notifyDeleted(indexes[i], indexes[i]);
 				}
-				if (includedRemoved) {
+				if (indexes.length > 0) {
 					included.notifyChanges();
 				}
 				if (filteredRemoved) {
@@ -224,52 +379,66 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		// Both implementations handle item replacement with filtering but have different collection types
 		// and threading requirements, making extraction to a common utility non-trivial.
 		requireNonNull(items).values().forEach(this::validate);
-		synchronized (lock) {
-			Map<R, R> toReplace = new HashMap<>(items);
-			for (R itemToReplace : items.keySet()) {
-				if (filtered.items.remove(itemToReplace)) {
-					R replacement = toReplace.remove(itemToReplace);
-					if (included.predicate.test(replacement)) {
-						included.items.add(replacement);
-						int index = included.items.size() - 1;
-						notifyInserted(index, index);
+		//the selection follows the replaced items
+		preserveSelection(item -> items.getOrDefault(item, item), () -> {
+			synchronized (lock) {
+				Map<R, R> toReplace = new HashMap<>(items);
+				List<R> toInclude = new ArrayList<>();
+				for (R itemToReplace : items.keySet()) {
+					if (filtered.items.remove(itemToReplace)) {
+						R replacement = toReplace.remove(itemToReplace);
+						if (included.predicate.test(replacement)) {
+							toInclude.add(replacement);
+						}
+						else {
+							filtered.items.add(replacement);
+						}
 					}
-					else {
+				}
+				//replaced from the last index down, so that each deleted(index, index) is valid at fire time
+				int[] indexes = toReplace.keySet().stream()
+								.mapToInt(included::position)
+								.filter(index -> index >= 0)
+								.sorted()
+								.toArray();
+				for (int i = indexes.length - 1; i >= 0; i--) {
+					int index = indexes[i];
+					R replacement = toReplace.get(included.items.get(index));
+					if (!included.predicate.test(replacement)) {
+						//the replacement no longer passes the include predicate, move it to filtered
+						included.items.remove(index);
+						included.invalidate(index);
 						filtered.items.add(replacement);
+						notifyDeleted(index, index);
 					}
-				}
-			}
-			ListIterator<R> iterator = included.items.listIterator();
-			while (!toReplace.isEmpty() && iterator.hasNext()) {
-				R item = iterator.next();
-				R replacement = toReplace.remove(item);
-				if (replacement != null) {
-					int index = iterator.previousIndex();
-					if (included.predicate.test(replacement)) {
-						iterator.set(replacement);
+					else if (included.ordered(index, replacement, index + 1)) {
+						included.replace(index, replacement);
 						notifyUpdated(index, index);
 					}
 					else {
-						//the replacement no longer passes the include predicate, move it to filtered.
-						//notify per-item as we go: previousIndex() tracks the live shrinking list, so
-						//each deleted(index, index) is valid at fire time (as in remove(Collection))
-						iterator.remove();
-						filtered.items.add(replacement);
+						//out of sort order, removed to be inserted at its sorted position
+						included.items.remove(index);
+						included.invalidate(index);
+						toInclude.add(replacement);
 						notifyDeleted(index, index);
 					}
 				}
+				included.insert(toInclude);
+				filtered.notifyChanges();
+				included.notifyChanges();
 			}
-			filtered.notifyChanges();
-			included.notifyChanges();
-			included.sort();
-		}
+
+			return null;
+		});
 	}
 
 	@Override
 	public void add(R item) {
-		synchronized (lock) {
-			addInternal(included.items.size(), singleton(requireNonNull(item)));
-		}
+		preserveSelection(() -> {
+			synchronized (lock) {
+				return addInternal(included.items.size(), singleton(requireNonNull(item)));
+			}
+		});
 	}
 
 	@Override
@@ -294,17 +463,34 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 
 	@Override
 	public void filter() {
+		if (parallelAsync()) {
+			reorderAsync(true);
+		}
+		else {
+			filterSync();
+		}
+	}
+
+	private void filterSync() {
 		preserveSelection(() -> {
 			synchronized (lock) {
-				filterIncremental();
-				if (sort.sorted()) {
-					included.items.sort(sort);
+				generation++;
+				pendingFilter = false;
+				if (parallel()) {
+					reordered(reorder(true, included.items, filtered.items));
+				}
+				else {
+					filterIncremental();
+					if (sort.sorted()) {
+						sort.sort(included.items, false);
+					}
+					included.invalidate(0);
+					//the ItemsListener notification is not grouped, unlike the two below: it is how a view learns
+					//the rows changed - and how a JTable comes to clear the selection preserveSelection() restores
+					notifyChanged();
+					included.notifyChanges();
+					filtered.notifyChanges();
 				}
-				//the ItemsListener notification is not grouped, unlike the two below: it is how a view learns
-				//the rows changed - and how a JTable comes to clear the selection preserveSelection() restores
-				notifyChanged();
-				included.notifyChanges();
-				filtered.notifyChanges();
 			}
 
 			return null;
@@ -316,6 +502,7 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		synchronized (lock) {
 			int includedSize = included.items.size();
 			included.items.clear();
+			included.invalidate(0);
 			if (includedSize > 0) {
 				notifyDeleted(0, includedSize - 1);
 				included.notifyChanges();
@@ -341,7 +528,20 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 	 * @return the mutation result
 	 */
 	private <T> @Nullable T preserveSelection(Supplier<@Nullable T> mutation) {
-		List<R> selectedItems = selection.items().get();
+		return preserveSelection(UnaryOperator.identity(), mutation);
+	}
+
+	/**
+	 * Runs the given mutation, preserving the selection by item, with the selected items mapped to the items to select afterwards.
+	 * @param selected maps a selected item to the item to select after the mutation
+	 * @param mutation the mutation to perform
+	 * @return the mutation result
+	 * @see #preserveSelection(Supplier)
+	 */
+	private <T> @Nullable T preserveSelection(UnaryOperator<R> selected, Supplier<@Nullable T> mutation) {
+		List<R> selectedItems = selection.items().get().stream()
+						.map(selected)
+						.collect(toList());
 		//save and restore, a caller already grouping must not have its group terminated here
 		boolean wasAdjusting = selection.adjusting();
 		boolean wasGrouping = grouping;
@@ -392,6 +592,121 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		});
 	}
 
+	private boolean parallel() {
+		return parallelThreshold >= 0 && size() > parallelThreshold;
+	}
+
+	private boolean parallelAsync() {
+		return parallelAsync && parallel() && Dispatcher.instance().bound();
+	}
+
+	/**
+	 * Filters and/or sorts snapshots of the items in parallel, off the calling thread, replacing the items
+	 * on the dispatch context once done, unless superseded by a subsequent filter or sort, in which case the
+	 * result is discarded. Should the items change in the meantime, the result is stale, and the filter or
+	 * sort is performed synchronously instead, on the items as they are.
+	 * @param filter true if the items should be filtered, false for sorting only
+	 */
+	private void reorderAsync(boolean filter) {
+		Executor dispatch = Dispatcher.instance().executor();
+		List<R> includedItems;
+		List<R> filteredItems;
+		int reorderGeneration;
+		int reorderModifications;
+		boolean reorderFilter;
+		synchronized (lock) {
+			//a sort superseding a pending filter must filter as well
+			reorderFilter = filter || pendingFilter;
+			pendingFilter = reorderFilter;
+			reorderGeneration = ++generation;
+			reorderModifications = modifications;
+			includedItems = new ArrayList<>(included.items);
+			filteredItems = reorderFilter ? new ArrayList<>(filtered.items) : emptyList();
+		}
+		CompletableFuture.supplyAsync(() -> reorder(reorderFilter, includedItems, filteredItems))
+						.whenCompleteAsync((result, exception) -> {
+							boolean stale;
+							synchronized (lock) {
+								if (reorderGeneration != generation) {
+									return;
+								}
+								pendingFilter = false;
+								stale = reorderModifications != modifications;
+							}
+							if (exception == null && !stale) {
+								preserveSelection(() -> {
+									synchronized (lock) {
+										reordered(result);
+									}
+
+									return null;
+								});
+							}
+							//stale or failed, the latter rethrown by the synchronous attempt
+							else if (reorderFilter) {
+								filterSync();
+							}
+							else {
+								included.sortSync();
+							}
+						}, dispatch);
+	}
+
+	/**
+	 * Filters the items according to the include predicate, if specified, and sorts the included items, in parallel.
+	 * @param filter true if the items should be filtered, false for sorting only
+	 * @param includedItems the included items
+	 * @param filteredItems the filtered items
+	 * @return the result
+	 */
+	private Reordered<R> reorder(boolean filter, List<R> includedItems, Collection<R> filteredItems) {
+		List<R> included = includedItems;
+		List<R> filtered = null;
+		if (filter) {
+			//preserving the order of incremental filtering, re-included items appended, newly filtered ones as well
+			Map<Boolean, List<R>> fromIncluded = includedItems.parallelStream()
+							.collect(partitioningBy(this.included.predicate::test));
+			Map<Boolean, List<R>> fromFiltered = filteredItems.parallelStream()
+							.collect(partitioningBy(this.included.predicate::test));
+			included = new ArrayList<>(fromIncluded.get(true).size() + fromFiltered.get(true).size());
+			included.addAll(fromIncluded.get(true));
+			included.addAll(fromFiltered.get(true));
+			filtered = new ArrayList<>(fromFiltered.get(false).size() + fromIncluded.get(false).size());
+			filtered.addAll(fromFiltered.get(false));
+			filtered.addAll(fromIncluded.get(false));
+		}
+		if (sort.sorted()) {
+			if (!filter) {
+				included = new ArrayList<>(included);
+			}
+			sort.sort(included, true);
+		}
+
+		return new Reordered<>(included, filtered);
+	}
+
+	/**
+	 * Replaces the items with the given result, with a single change notification.
+	 * Must be called while holding the lock.
+	 * @param reordered the result
+	 */
+	private void reordered(Reordered<R> reordered) {
+		List<R> includedItems = reordered.included;
+		included.items.clear();
+		included.items.addAll(includedItems);
+		included.invalidate(0);
+		if (reordered.filtered != null) {
+			filtered.items.clear();
+			filtered.items.addAll(reordered.filtered);
+			notifyChanged();
+			filtered.notifyChanges();
+		}
+		else if (!includedItems.isEmpty()) {
+			notifyUpdated(0, includedItems.size() - 1);
+		}
+		included.notifyChanges();
+	}
+
 	private boolean addInternal(int index, Collection<R> items) {
 		return addInternal(index, items, true);
 	}
@@ -409,10 +724,15 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 			}
 		}
 		if (!includedItems.isEmpty()) {
-			included.items.addAll(index, includedItems);
-			notifyInserted(index, index + includedItems.size() - 1);
+			if (sort.sorted()) {
+				included.insert(includedItems);
+			}
+			else {
+				included.items.addAll(index, includedItems);
+				included.invalidate(index);
+				notifyInserted(index, index + includedItems.size() - 1);
+			}
 			included.notifyChanges();
-			included.sort();
 			if (notifyAdded) {
 				included.notifyAdded(includedItems);
 			}
@@ -455,6 +775,12 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		return items;
 	}
 
+	/**
+	 * The included items keep an index of their positions, built on the first lookup and maintained from then on,
+	 * so that {@link #contains(Object)}, {@link #indexOf(Object)} and the removal and replacement of items
+	 * do not have to scan the items. Mutations shifting positions invalidate the index from the mutation point,
+	 * which is re-indexed on the next lookup, while replacing an item keeps the index intact.
+	 */
 	private final class DefaultIncludedItems implements IncludedItems<R> {
 
 		private final List<R> items = new ArrayList<>();
@@ -465,6 +791,10 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		private boolean pendingChanges = false;
 		private @Nullable Collection<R> pendingAdded;
 
+		//item positions, valid below the indexed position, null until a lookup requires it
+		private @Nullable Map<R, Integer> positions;
+		private int indexed = 0;
+
 		private DefaultIncludedItems(IncludePredicate<R> predicate) {
 			this.predicate = predicate;
 		}
@@ -499,14 +829,14 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		@Override
 		public boolean contains(R item) {
 			synchronized (lock) {
-				return items.contains(requireNonNull(item));
+				return position(requireNonNull(item)) >= 0;
 			}
 		}
 
 		@Override
 		public int indexOf(R item) {
 			synchronized (lock) {
-				return items.indexOf(requireNonNull(item));
+				return position(requireNonNull(item));
 			}
 		}
 
@@ -540,7 +870,7 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 			validate(requireNonNull(item));
 			synchronized (lock) {
 				if (predicate.test(item)) {
-					items.set(index, item);
+					replace(index, item);
 					notifyUpdated(index, index);
 					included.notifyChanges();
 
@@ -556,6 +886,7 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 			return preserveSelection(() -> {
 				synchronized (lock) {
 					R removed = items.remove(index);
+					invalidate(index);
 					notifyDeleted(index, index);
 					notifyChanges();
 
@@ -571,6 +902,7 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 					List<R> subList = items.subList(fromIndex, toIndex);
 					List<R> removedItems = new ArrayList<>(subList);
 					subList.clear();
+					invalidate(fromIndex);
 					if (toIndex > fromIndex) {
 						//toIndex is exclusive, the ItemsListener range is inclusive
 						notifyDeleted(fromIndex, toIndex - 1);
@@ -592,18 +924,198 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		@Override
 		public void sort() {
 			if (sort.sorted()) {
-				preserveSelection(() -> {
-					synchronized (lock) {
-						items.sort(sort);
-						if (!items.isEmpty()) {
-							notifyUpdated(0, items.size() - 1);
-						}
-						notifyChanges();
+				if (parallelAsync()) {
+					reorderAsync(false);
+				}
+				else {
+					sortSync();
+				}
+			}
+		}
+
+		private void sortSync() {
+			preserveSelection(() -> {
+				synchronized (lock) {
+					generation++;
+					if (pendingFilter) {
+						//superseding a pending filter
+						filterSync();
+					}
+					else {
+						sortItems();
+					}
+				}
+
+				return null;
+			});
+		}
+
+		/**
+		 * Sorts the items, in parallel in case of a large number of items.
+		 * Must be called while holding the lock.
+		 */
+		private void sortItems() {
+			if (sort.sorted()) {
+				if (parallel()) {
+					reordered(reorder(false, items, emptyList()));
+				}
+				else {
+					sort.sort(items, false);
+					invalidate(0);
+					if (!items.isEmpty()) {
+						notifyUpdated(0, items.size() - 1);
+					}
+					notifyChanges();
+				}
+			}
+		}
+
+		/**
+		 * Deletes the items in the given inclusive range, notifying the deletion.
+		 * Must be called while holding the lock.
+		 * @param fromIndex the first index
+		 * @param toIndex the last index
+		 */
+		private void delete(int fromIndex, int toIndex) {
+			items.subList(fromIndex, toIndex + 1).clear();
+			invalidate(fromIndex);
+			notifyDeleted(fromIndex, toIndex);
+		}
+
+		/**
+		 * Inserts the given items at their sorted position in case the items are sorted, in runs of items
+		 * belonging at the same position, notifying each run as an insertion, or appends them in case the items
+		 * are not sorted or the ones to insert outnumber them, in which case appending and sorting costs less.
+		 * Must be called while holding the lock.
+		 * @param toInsert the items to insert
+		 */
+		private void insert(Collection<R> toInsert) {
+			if (toInsert.isEmpty()) {
+				return;
+			}
+			if (!sort.sorted() || toInsert.size() > items.size()) {
+				int index = items.size();
+				items.addAll(toInsert);
+				notifyInserted(index, items.size() - 1);
+				sortItems();
+			}
+			else {
+				List<R> sorted = new ArrayList<>(toInsert);
+				sort.sort(sorted, false);
+				int index = 0;
+				int from = 0;
+				while (from < sorted.size()) {
+					index = insertionIndex(sorted.get(from), index);
+					int to = from + 1;
+					while (to < sorted.size() && (index == items.size() || sort.compare(items.get(index), sorted.get(to)) > 0)) {
+						to++;
 					}
+					items.addAll(index, sorted.subList(from, to));
+					invalidate(index);
+					notifyInserted(index, index + to - from - 1);
+					index += to - from;
+					from = to;
+				}
+			}
+		}
+
+		/**
+		 * Replacing items from the last index down, each replacement checked against its current neighbours, keeps the
+		 * items sorted, since the items following are final while the ones preceding have yet to be replaced.
+		 * @param index the index of the item
+		 * @param item the item
+		 * @param nextIndex the index of the item following the given one
+		 * @return true if the items are not sorted or if the given item is in sort order at the given index
+		 */
+		private boolean ordered(int index, R item, int nextIndex) {
+			return !sort.sorted() ||
+							(index == 0 || sort.compare(items.get(index - 1), item) <= 0) &&
+							(nextIndex >= items.size() || sort.compare(item, items.get(nextIndex)) <= 0);
+		}
+
+		/**
+		 * @param item the item
+		 * @param fromIndex the index to search from
+		 * @return the index following any items equal to the given one in sort order, as a stable sort would place it
+		 */
+		private int insertionIndex(R item, int fromIndex) {
+			int low = fromIndex;
+			int high = items.size();
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (sort.compare(items.get(middle), item) <= 0) {
+					low = middle + 1;
+				}
+				else {
+					high = middle;
+				}
+			}
+
+			return low;
+		}
 
-					return null;
-				});
+		/**
+		 * Must be called while holding the lock.
+		 * @param item the item
+		 * @return the position of the item, -1 if not found
+		 */
+		private int position(R item) {
+			if (positions == null) {
+				positions = new HashMap<>();
 			}
+			for (int index = indexed; index < items.size(); index++) {
+				index(items.get(index), index);
+			}
+			indexed = items.size();
+			Integer position = positions.get(item);
+
+			return position != null && valid(position, item) ? position : -1;
+		}
+
+		/**
+		 * Replaces the item at the given index, keeping the position index intact, since no positions shift.
+		 * Must be called while holding the lock.
+		 * @param index the index
+		 * @param replacement the replacement item
+		 */
+		private void replace(int index, R replacement) {
+			R item = items.set(index, replacement);
+			if (positions != null && index < indexed) {
+				if (!item.equals(replacement) && Integer.valueOf(index).equals(positions.get(item))) {
+					positions.remove(item);
+					//an equal item at a later position may be left unindexed
+					indexed = index + 1;
+				}
+				index(replacement, index);
+			}
+		}
+
+		/**
+		 * Invalidates the position index from the given index, to be called when the positions from that index on shift.
+		 * Must be called while holding the lock.
+		 * @param index the first index affected
+		 */
+		private void invalidate(int index) {
+			//positions of removed items linger until invalidated from the start
+			if (index == 0 || positions != null && positions.size() > 2 * items.size()) {
+				positions = null;
+				indexed = 0;
+			}
+			else {
+				indexed = Math.min(indexed, index);
+			}
+		}
+
+		private void index(R item, int index) {
+			Integer position = positions.get(item);
+			//keep the first position of equal items
+			if (position == null || position >= index || !valid(position, item)) {
+				positions.put(item, index);
+			}
+		}
+
+		private boolean valid(int position, R item) {
+			return position < items.size() && items.get(position).equals(item);
 		}
 
 		private void notifyAdded(Collection<R> addedItems) {
@@ -619,6 +1131,7 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		}
 
 		private void notifyChanges() {
+			modifications++;
 			if (grouping) {
 				pendingChanges = true;
 			}
@@ -674,6 +1187,7 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		}
 
 		private void notifyChanges() {
+			modifications++;
 			if (grouping) {
 				pendingChanges = true;
 			}
@@ -724,6 +1238,7 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 		private @Nullable Consumer<Exception> onRefreshException;
 		private IncludePredicate<T> included = new DefaultIncludePredicate<>();
 		private Predicate<T> validator = new ValidPredicate<>();
+		private BiPredicate<T, T> equalValues = (item, mergedItem) -> item == mergedItem;
 
 		private DefaultBuilder(Function<IncludedItems<T>, MultiSelection<T>> selection, Sort<T> sort) {
 			this.selection = requireNonNull(selection);
@@ -748,6 +1263,12 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 			return this;
 		}
 
+		@Override
+		public Builder<T> equalValues(BiPredicate<T, T> equalValues) {
+			this.equalValues = requireNonNull(equalValues);
+			return this;
+		}
+
 		@Override
 		public Builder<T> included(IncludePredicate<T> included) {
 			this.included = requireNonNull(included);
@@ -795,4 +1316,15 @@ final class DefaultFilterModelItems<R> implements Items<R> {
 	}
 
 	private interface Lock {}
+
+	private static final class Reordered<R> {
+
+		private final List<R> included;
+		private final @Nullable List<R> filtered;
+
+		private Reordered(List<R> included, @Nullable List<R> filtered) {
+			this.included = included;
+			this.filtered = filtered;
+		}
+	}
 }
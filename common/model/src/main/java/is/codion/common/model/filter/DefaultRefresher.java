@@ -137,6 +137,8 @@ final class DefaultRefresher<T> implements Refresher<T> {
 		if (progressWorker != null) {
 			worker = null;
 			currentTask = null;
+			//interrupting the worker cancels the query it may be waiting on, rather than
+			//merely discarding the result, where the connection supports it, see EntityConnection.cancel()
 			progressWorker.cancel(true);
 		}
 	}
@@ -36,12 +36,14 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static is.codion.common.utilities.Configuration.booleanValue;
+import static is.codion.common.utilities.Configuration.integerValue;
 
 /**
  * Specifies a data model that can be filtered to exclude some or all of the items it contains.
@@ -59,6 +61,38 @@ public interface FilterModel<T> {
 	 */
 	PropertyValue<Boolean> ASYNC = booleanValue(FilterModel.class.getName() + ".async", true);
 
+	/**
+	 * Specifies the number of items above which filtering and sorting are performed in parallel, the result
+	 * replacing the items once done, with a single change notification.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: -1
+	 * </ul>
+	 * A negative value disables parallel filtering and sorting.
+	 * <p>Note that the {@link IncludePredicate} and the {@link Sort} comparators are then called concurrently,
+	 * from {@link java.util.concurrent.ForkJoinPool#commonPool()} threads, and must therefore be thread-safe.
+	 * @see #PARALLEL_ASYNC
+	 * @see Items#filter()
+	 * @see IncludedItems#sort()
+	 */
+	PropertyValue<Integer> PARALLEL_THRESHOLD = integerValue(FilterModel.class.getName() + ".parallelThreshold", -1);
+
+	/**
+	 * Specifies whether parallel filtering and sorting, see {@link #PARALLEL_THRESHOLD}, is performed off the UI thread
+	 * when triggered on it, instead of blocking it until done.
+	 * <ul>
+	 * <li>Value type: Boolean
+	 * <li>Default value: false
+	 * </ul>
+	 * <p>Note that {@link Items#filter()} and {@link IncludedItems#sort()} then return before the items reflect the
+	 * result, which replaces them on the UI thread once done, so a caller reading the items right away sees them
+	 * as they were. The {@link IncludePredicate} and the {@link Sort} comparators then run while the UI thread
+	 * continues, so in addition to being thread-safe they must not depend on state changed on the UI thread.
+	 * @see Items#filter()
+	 * @see IncludedItems#sort()
+	 */
+	PropertyValue<Boolean> PARALLEL_ASYNC = booleanValue(FilterModel.class.getName() + ".parallelAsync", false);
+
 	/**
 	 * @return the model items
 	 */
@@ -97,6 +131,7 @@ public interface FilterModel<T> {
 		 * @see Refresher#active()
 		 * @see Refresher#result()
 		 * @see Refresher#async()
+		 * @see #refreshStrategy()
 		 */
 		void refresh();
 
@@ -109,9 +144,17 @@ public interface FilterModel<T> {
 		 * @see Refresher#active()
 		 * @see Refresher#result()
 		 * @see Refresher#async()
+		 * @see #refreshStrategy()
 		 */
 		void refresh(Consumer<Collection<T>> onResult);
 
+		/**
+		 * Controls how the refreshed items replace the current ones, {@link RefreshStrategy#CLEAR} by default.
+		 * @return the {@link Value} controlling the refresh strategy
+		 * @see Builder#equalValues(BiPredicate)
+		 */
+		Value<RefreshStrategy> refreshStrategy();
+
 		/**
 		 * @return all items, included and filtered, in no particular order
 		 */
@@ -213,7 +256,13 @@ public interface FilterModel<T> {
 		 * <p>If no predicate is specified calling this method has no effect.
 		 * <p>In a sorted model the included items retain their sorted order. In an unsorted model, items
 		 * that are re-included by a filter change are appended and therefore may lose their original position.
+		 * <p>With more items than {@link FilterModel#PARALLEL_THRESHOLD} the items are filtered and sorted in parallel.
+		 * With {@link FilterModel#PARALLEL_ASYNC} enabled, this happens off the UI thread in case this method is called where
+		 * a dispatch context is bound, the UI thread on UI platforms, this method then returning right away and the result
+		 * replacing the items on the UI thread once done, unless superseded by a subsequent filter or sort.
 		 * @see IncludedItems#predicate()
+		 * @see FilterModel#PARALLEL_THRESHOLD
+		 * @see FilterModel#PARALLEL_ASYNC
 		 */
 		void filter();
 
@@ -224,6 +273,26 @@ public interface FilterModel<T> {
 			return DefaultFilterModelItems.DefaultBuilder.SELECTION;
 		}
 
+		/**
+		 * Specifies how refreshed items replace the current ones.
+		 */
+		enum RefreshStrategy {
+
+			/**
+			 * The items are cleared and the refreshed ones added, replacing all the items in one go.
+			 */
+			CLEAR,
+
+			/**
+			 * The refreshed items are merged with the current ones, by equality: items no longer present are removed,
+			 * items which have changed are replaced in place and new items are inserted, at their sorted position
+			 * in case the items are sorted, each change notified individually, leaving unchanged items untouched.
+			 * <p>Suited to frequently refreshed models, where most of the items remain unchanged between refreshes.
+			 * @see Builder#equalValues(BiPredicate)
+			 */
+			MERGE
+		}
+
 		/**
 		 * Builds a {@link FilterModel.Items} instance
 		 * @param <T> the item type
@@ -278,6 +347,16 @@ public interface FilterModel<T> {
 			 */
 			Builder<T> validator(Predicate<T> validator);
 
+			/**
+			 * Specifies whether an item has changed, when merging refreshed items with the current ones,
+			 * an item equal to a current one replacing it only in case their values are not equal.
+			 * <p>By default an equal item is considered changed unless it is the same instance.
+			 * @param equalValues returns true in case the values of the given items are equal
+			 * @return this builder
+			 * @see RefreshStrategy#MERGE
+			 */
+			Builder<T> equalValues(BiPredicate<T, T> equalValues);
+
 			/**
 			 * @param included the include predicate
 			 * @return this builder
@@ -416,7 +495,12 @@ public interface FilterModel<T> {
 
 		/**
 		 * Sorts the included items using this {@link Sort} instance, preserving the selection.
+		 * <p>With more items than {@link FilterModel#PARALLEL_THRESHOLD} the items are sorted in parallel, off the UI thread
+		 * in case {@link FilterModel#PARALLEL_ASYNC} is enabled and this method is called where a dispatch context is bound,
+		 * see {@link Items#filter()}.
 		 * @see FilterModel#sort()
+		 * @see FilterModel#PARALLEL_THRESHOLD
+		 * @see FilterModel#PARALLEL_ASYNC
 		 */
 		void sort();
 
@@ -576,6 +660,26 @@ public interface FilterModel<T> {
 		 */
 		boolean sorted();
 
+		/**
+		 * Sorts the given items in place, by pairwise comparison using this {@link Sort} by default.
+		 * <p>Override to sort more efficiently, by precomputing the sort keys of the items for example.
+		 * @param items the items to sort
+		 * @param parallel true if the items should be sorted in parallel
+		 */
+		default void sort(List<T> items, boolean parallel) {
+			if (parallel) {
+				List<T> sorted = items.parallelStream()
+								.sorted(this)
+								.toList();
+				for (int i = 0; i < sorted.size(); i++) {
+					items.set(i, sorted.get(i));
+				}
+			}
+			else {
+				items.sort(this);
+			}
+		}
+
 		/**
 		 * @return an observer notified each time the sorting changes, the event data indicating whether the sort is active
 		 */
@@ -27,6 +27,7 @@ import org.jspecify.annotations.NonNull;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -177,6 +178,20 @@ public interface MultiSelection<T> extends SingleSelection<T> {
 		 * If the selection is empty the highest available index is selected.
 		 */
 		void decrement();
+
+		/**
+		 * @return the selected indexes in ascending order, as primitives
+		 */
+		default IntStream stream() {
+			return get().stream().mapToInt(Integer::intValue);
+		}
+
+		/**
+		 * @return a new array containing the selected indexes in ascending order
+		 */
+		default int[] array() {
+			return stream().toArray();
+		}
 	}
 
 	/**
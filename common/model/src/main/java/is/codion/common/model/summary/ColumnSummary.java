@@ -18,13 +18,10 @@
  */
 package is.codion.common.model.summary;
 
+import is.codion.common.model.summary.SummaryModel.Aggregate;
 import is.codion.common.model.summary.SummaryModel.SummaryValues;
 import is.codion.common.utilities.resource.MessageBundle;
 
-import java.util.Collection;
-import java.util.Objects;
-import java.util.OptionalDouble;
-
 import static is.codion.common.utilities.resource.MessageBundle.messageBundle;
 import static java.util.Objects.requireNonNull;
 import static java.util.ResourceBundle.getBundle;
@@ -58,11 +55,9 @@ public enum ColumnSummary implements SummaryModel.Summary {
 
 		@Override
 		public <T extends Number> String get(SummaryValues<T> summaryValues) {
-			Collection<T> values = requireNonNull(summaryValues).values();
-			if (!values.isEmpty()) {
-				return addSubsetIndicator(summaryValues.format(values.stream()
-								.filter(Objects::nonNull)
-								.mapToDouble(Number::doubleValue).sum()), summaryValues.subset());
+			Aggregate aggregate = aggregate(summaryValues);
+			if (aggregate.count() > 0) {
+				return addSubsetIndicator(summaryValues.format(aggregate.sum()), summaryValues.subset());
 			}
 
 			return "";
@@ -79,18 +74,9 @@ public enum ColumnSummary implements SummaryModel.Summary {
 
 		@Override
 		public <T extends Number> String get(SummaryValues<T> summaryValues) {
-			Collection<T> values = requireNonNull(summaryValues).values();
-			if (!values.isEmpty()) {
-				OptionalDouble average = values.stream()
-								.filter(Objects::nonNull)
-								.mapToDouble(Number::doubleValue)
-								.average();
-				if (average.isPresent()) {
-					return addSubsetIndicator(summaryValues.format(average.getAsDouble()), summaryValues.subset());
-				}
-			}
-
-			return "";
+			return aggregate(summaryValues).average()
+							.map(average -> addSubsetIndicator(summaryValues.format(average), summaryValues.subset()))
+							.orElse("");
 		}
 	},
 	/**
@@ -104,18 +90,9 @@ public enum ColumnSummary implements SummaryModel.Summary {
 
 		@Override
 		public <T extends Number> String get(SummaryValues<T> summaryValues) {
-			Collection<T> values = requireNonNull(summaryValues).values();
-			if (!values.isEmpty()) {
-				OptionalDouble min = values.stream()
-								.filter(Objects::nonNull)
-								.mapToDouble(Number::doubleValue)
-								.min();
-				if (min.isPresent()) {
-					return addSubsetIndicator(summaryValues.format(min.getAsDouble()), summaryValues.subset());
-				}
-			}
-
-			return "";
+			return aggregate(summaryValues).minimum()
+							.map(minimum -> addSubsetIndicator(summaryValues.format(minimum), summaryValues.subset()))
+							.orElse("");
 		}
 	},
 	/**
@@ -129,18 +106,9 @@ public enum ColumnSummary implements SummaryModel.Summary {
 
 		@Override
 		public <T extends Number> String get(SummaryValues<T> summaryValues) {
-			Collection<T> values = requireNonNull(summaryValues).values();
-			if (!values.isEmpty()) {
-				OptionalDouble max = values.stream()
-								.filter(Objects::nonNull)
-								.mapToDouble(Number::doubleValue)
-								.max();
-				if (max.isPresent()) {
-					return addSubsetIndicator(summaryValues.format(max.getAsDouble()), summaryValues.subset());
-				}
-			}
-
-			return "";
+			return aggregate(summaryValues).maximum()
+							.map(maximum -> addSubsetIndicator(summaryValues.format(maximum), summaryValues.subset()))
+							.orElse("");
 		}
 	},
 	/**
@@ -154,19 +122,10 @@ public enum ColumnSummary implements SummaryModel.Summary {
 
 		@Override
 		public <T extends Number> String get(SummaryValues<T> summaryValues) {
-			Collection<T> values = requireNonNull(summaryValues).values();
-			if (!values.isEmpty()) {
-				OptionalDouble min = values.stream()
-								.filter(Objects::nonNull)
-								.mapToDouble(Number::doubleValue)
-								.min();
-				OptionalDouble max = values.stream()
-								.filter(Objects::nonNull)
-								.mapToDouble(Number::doubleValue)
-								.max();
-				if (min.isPresent() && max.isPresent()) {
-					return addSubsetIndicator(summaryValues.format(min.getAsDouble()) + "/" + summaryValues.format(max.getAsDouble()), summaryValues.subset());
-				}
+			Aggregate aggregate = aggregate(summaryValues);
+			if (aggregate.count() > 0) {
+				return addSubsetIndicator(summaryValues.format(aggregate.minimum().orElseThrow()) + "/" +
+								summaryValues.format(aggregate.maximum().orElseThrow()), summaryValues.subset());
 			}
 
 			return "";
@@ -175,6 +134,14 @@ public enum ColumnSummary implements SummaryModel.Summary {
 
 	private static final MessageBundle MESSAGES = messageBundle(ColumnSummary.class, getBundle(ColumnSummary.class.getName()));
 
+	/**
+	 * @return the aggregate maintained by the given summary values, or one aggregating the values
+	 */
+	private static Aggregate aggregate(SummaryValues<?> summaryValues) {
+		return requireNonNull(summaryValues).aggregate()
+						.orElseGet(() -> Aggregate.aggregate(summaryValues.values()));
+	}
+
 	private static String addSubsetIndicator(String text, boolean subset) {
 		return text.isEmpty() ? text : text + (subset ? "*" : "");
 	}
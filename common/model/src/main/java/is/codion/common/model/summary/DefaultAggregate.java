@@ -0,0 +1,124 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.model.summary;
+
+import is.codion.common.model.summary.SummaryModel.Aggregate;
+
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static java.math.BigDecimal.ZERO;
+
+final class DefaultAggregate implements Aggregate {
+
+	//the number of occurrences of each value, for the minimum and maximum
+	private final TreeMap<BigDecimal, Integer> values = new TreeMap<>();
+
+	private BigDecimal sum = ZERO;
+	private int count = 0;
+
+	@Override
+	public int count() {
+		return count;
+	}
+
+	@Override
+	public BigDecimal sum() {
+		return sum;
+	}
+
+	@Override
+	public Optional<BigDecimal> average() {
+		return count == 0 ? Optional.empty() : Optional.of(sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128));
+	}
+
+	@Override
+	public Optional<BigDecimal> minimum() {
+		return values.isEmpty() ? Optional.empty() : Optional.of(values.firstKey());
+	}
+
+	@Override
+	public Optional<BigDecimal> maximum() {
+		return values.isEmpty() ? Optional.empty() : Optional.of(values.lastKey());
+	}
+
+	@Override
+	public void add(@Nullable Number value) {
+		BigDecimal decimal = decimal(value);
+		if (decimal != null) {
+			sum = sum.add(decimal);
+			count++;
+			values.merge(decimal, 1, Integer::sum);
+		}
+	}
+
+	@Override
+	public void remove(@Nullable Number value) {
+		BigDecimal decimal = decimal(value);
+		if (decimal != null) {
+			Integer occurrences = values.get(decimal);
+			if (occurrences == null) {
+				throw new IllegalArgumentException("Value not found: " + value);
+			}
+			if (occurrences == 1) {
+				values.remove(decimal);
+			}
+			else {
+				values.put(decimal, occurrences - 1);
+			}
+			sum = sum.subtract(decimal);
+			count--;
+		}
+	}
+
+	@Override
+	public void clear() {
+		values.clear();
+		sum = ZERO;
+		count = 0;
+	}
+
+	/**
+	 * @param value the value
+	 * @return the exact decimal value, the decimal representation in case of floating point values,
+	 * null in case of a null or non-finite value
+	 */
+	static @Nullable BigDecimal decimal(@Nullable Number value) {
+		if (value == null || value instanceof BigDecimal) {
+			return (BigDecimal) value;
+		}
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			return BigDecimal.valueOf(value.longValue());
+		}
+		if (value instanceof BigInteger) {
+			return new BigDecimal((BigInteger) value);
+		}
+		double doubleValue = value.doubleValue();
+		if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+			return null;
+		}
+		//the shortest decimal representation, as Double.toString() displays it, 0.1 rather than its binary expansion
+		return value instanceof Float ? new BigDecimal(value.toString()) : BigDecimal.valueOf(doubleValue);
+	}
+}
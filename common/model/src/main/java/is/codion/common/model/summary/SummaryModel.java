@@ -23,6 +23,9 @@ import is.codion.common.reactive.observer.Observer;
 import is.codion.common.reactive.state.State;
 import is.codion.common.reactive.value.Value;
 
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
 import java.text.Format;
 import java.util.Collection;
 import java.util.List;
@@ -80,6 +83,73 @@ public interface SummaryModel {
 		return new DefaultSummaryModel<>(summaryValues);
 	}
 
+	/**
+	 * Aggregates numerical values, their count, exact sum, minimum and maximum, maintained
+	 * incrementally as values are added and removed. Null and non-finite values are ignored.
+	 * <p>For instances use the {@link #aggregate()} factory method.
+	 * @see SummaryValues#aggregate()
+	 */
+	interface Aggregate {
+
+		/**
+		 * @return the number of values
+		 */
+		int count();
+
+		/**
+		 * @return the exact sum of the values, zero if none
+		 */
+		BigDecimal sum();
+
+		/**
+		 * @return the average of the values, an empty Optional if none
+		 */
+		Optional<BigDecimal> average();
+
+		/**
+		 * @return the minimum value, an empty Optional if none
+		 */
+		Optional<BigDecimal> minimum();
+
+		/**
+		 * @return the maximum value, an empty Optional if none
+		 */
+		Optional<BigDecimal> maximum();
+
+		/**
+		 * @param value the value to add
+		 */
+		void add(@Nullable Number value);
+
+		/**
+		 * @param value the value to remove, previously added
+		 */
+		void remove(@Nullable Number value);
+
+		/**
+		 * Removes all values
+		 */
+		void clear();
+
+		/**
+		 * @return a new empty {@link Aggregate} instance
+		 */
+		static Aggregate aggregate() {
+			return new DefaultAggregate();
+		}
+
+		/**
+		 * @param values the values to aggregate
+		 * @return a new {@link Aggregate} instance containing the given values
+		 */
+		static Aggregate aggregate(Collection<? extends @Nullable Number> values) {
+			Aggregate aggregate = new DefaultAggregate();
+			values.forEach(aggregate::add);
+
+			return aggregate;
+		}
+	}
+
 	/**
 	 * Provides the values on which to base the summary.
 	 * @param <T> the value type
@@ -107,6 +177,15 @@ public interface SummaryModel {
 		 */
 		Observer<?> valuesChanged();
 
+		/**
+		 * Returns the {@link Aggregate} of the values provided by {@link #values()}, in case it is maintained
+		 * incrementally, as the values change, sparing the summary a pass over the values on each change.
+		 * @return the aggregate of the values, an empty Optional if not maintained, the default
+		 */
+		default Optional<Aggregate> aggregate() {
+			return Optional.empty();
+		}
+
 		/**
 		 * @param <C> the column identifier type
 		 */
@@ -20,16 +20,22 @@ package is.codion.common.model.component.table;
 
 import is.codion.common.model.component.table.FilterTableModel.TableColumns;
 import is.codion.common.model.filter.SortOrder;
+import is.codion.common.utilities.Text;
 
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DefaultFilterTableSortTest {
 
@@ -167,6 +173,123 @@ public class DefaultFilterTableSortTest {
 		collections.sort(sortModel);
 	}
 
+	@Test
+	void sortKeys() {
+		List<String> names = asList("Ævar", "Åse", "Øystein", "Anders", "anders", "Olav", "Zacharias", "Ørjan", "Bjørn", null);
+		Comparator<String> collator = Text.collator(new Locale("no"));
+		DefaultFilterTableSort<String[], Integer> sort = new DefaultFilterTableSort<>(new TableColumns<String[], Integer>() {
+
+			@Override
+			public List<Integer> identifiers() {
+				return asList(0, 1);
+			}
+
+			@Override
+			public Class<?> columnClass(Integer identifier) {
+				return String.class;
+			}
+
+			@Override
+			public Object value(String[] row, Integer identifier) {
+				return row[identifier];
+			}
+
+			@Override
+			public Comparator<?> comparator(Integer identifier) {
+				return identifier == 0 ? collator : Comparator.naturalOrder();
+			}
+		});
+		Random random = new Random(42);
+		List<String[]> rows = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			rows.add(new String[] {names.get(random.nextInt(names.size())), names.get(random.nextInt(names.size() - 1))});
+		}
+		sort.order(0).set(SortOrder.ASCENDING);
+		sort.order(1).add(SortOrder.DESCENDING);
+		for (int i = 0; i < 3; i++) {
+			List<String[]> expected = new ArrayList<>(rows);
+			expected.sort(sort);
+			List<String[]> sorted = new ArrayList<>(rows);
+			sort.sort(sorted, false);
+			assertEquals(expected, sorted);
+			List<String[]> sortedParallel = new ArrayList<>(rows);
+			sort.sort(sortedParallel, true);
+			assertEquals(expected, sortedParallel);
+			//changed values, the cached keys of the rest reused
+			rows.set(i, new String[] {"Åge", "Olav"});
+			rows.get(i + 1)[0] = "Aage";
+		}
+		List<String[]> sorted = new ArrayList<>(rows);
+		sort.sort(sorted, false);
+		//nulls first, Norwegian collation placing Å last
+		assertNull(sorted.get(0)[0]);
+		assertTrue(sorted.get(sorted.size() - 1)[0].startsWith("Å"));
+	}
+
+	@Test
+	void sortKeysRenamed() {
+		Comparator<Named> collator = Text.collator();
+		DefaultFilterTableSort<Named, Integer> sort = new DefaultFilterTableSort<>(new TableColumns<Named, Integer>() {
+
+			@Override
+			public List<Integer> identifiers() {
+				return asList(0);
+			}
+
+			@Override
+			public Class<?> columnClass(Integer identifier) {
+				return Named.class;
+			}
+
+			@Override
+			public Object value(Named row, Integer identifier) {
+				return row;
+			}
+
+			@Override
+			public Comparator<?> comparator(Integer identifier) {
+				return collator;
+			}
+		});
+		Named first = new Named(1, "a");
+		Named second = new Named(2, "b");
+		List<Named> rows = new ArrayList<>(asList(second, first));
+		sort.order(0).set(SortOrder.ASCENDING);
+		sort.sort(rows, false);
+		assertEquals(asList(first, second), rows);
+		//equal to the previous value, with a different string representation
+		first.name = "c";
+		sort.sort(rows, false);
+		assertEquals(asList(second, first), rows);
+	}
+
+	private static final class Named {
+
+		private final int id;
+
+		private String name;
+
+		private Named(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Named && ((Named) object).id == id;
+		}
+
+		@Override
+		public int hashCode() {
+			return id;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
 	private static final class Row {
 		private final Integer firstValue;
 		private final Column secondValue;
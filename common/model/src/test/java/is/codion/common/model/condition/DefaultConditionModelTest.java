@@ -676,6 +676,44 @@ public class DefaultConditionModelTest {
 		assertFalse(condition.accepts("rhElLoo"));
 	}
 
+	@Test
+	void wildcardMatcher() {
+		assertTrue(new DefaultConditionModel.WildcardMatcher("%").matches(""));
+		assertTrue(new DefaultConditionModel.WildcardMatcher("%%").matches("abc"));
+		assertTrue(new DefaultConditionModel.WildcardMatcher("a%").matches("a"));
+		assertFalse(new DefaultConditionModel.WildcardMatcher("a%").matches("ba"));
+		assertTrue(new DefaultConditionModel.WildcardMatcher("%a").matches("ba"));
+		assertFalse(new DefaultConditionModel.WildcardMatcher("%a").matches("ab"));
+		assertTrue(new DefaultConditionModel.WildcardMatcher("a%b%c").matches("abc"));
+		assertTrue(new DefaultConditionModel.WildcardMatcher("a%b%c").matches("axxbxxc"));
+		assertFalse(new DefaultConditionModel.WildcardMatcher("a%b%c").matches("axxcxxb"));
+		assertFalse(new DefaultConditionModel.WildcardMatcher("ab%ba").matches("aba"));
+		assertTrue(new DefaultConditionModel.WildcardMatcher("ab%ba").matches("abba"));
+		assertTrue(new DefaultConditionModel.WildcardMatcher("%.*%").matches("a.*b"));
+		assertFalse(new DefaultConditionModel.WildcardMatcher("%.*%").matches("ab"));
+		assertTrue(new DefaultConditionModel.WildcardMatcher("%b%").matches("a\nb"));
+	}
+
+	@Test
+	void acceptsIn() {
+		ConditionModel<String> condition = ConditionModel.builder()
+						.valueClass(String.class)
+						.operator(Operator.IN)
+						.caseSensitive(true)
+						.build();
+		condition.operands().in().set(asList("a", "b"));
+		assertTrue(condition.accepts("a"));
+		assertFalse(condition.accepts("A"));
+		assertFalse(condition.accepts("c"));
+		condition.caseSensitive().set(false);
+		assertTrue(condition.accepts("A"));
+		condition.operands().in().add("c");
+		assertTrue(condition.accepts("C"));
+		condition.operator().set(Operator.NOT_IN);
+		assertFalse(condition.accepts("C"));
+		assertTrue(condition.accepts("d"));
+	}
+
 	@Test
 	void acceptCharacter() {
 		ConditionModel<Character> condition = ConditionModel.builder()
@@ -40,7 +40,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -381,6 +384,60 @@ public class DefaultFilterModelItemsTest {
 			assertFalse(items.contains("old3"));
 		}
 
+		@Test
+		@DisplayName("Merge refresh strategy replaces only changed items")
+		void refresh_mergeStrategy_replacesChanged() {
+			RangeRecorder recorder = new RangeRecorder();
+			TestSort sort = new TestSort();
+			sort.setComparator(Comparator.naturalOrder());
+			TestInclude include = new TestInclude();
+			include.setPredicate(item -> !item.startsWith("z"));
+			List<String> rows = new ArrayList<>();
+			Items<String> merging = Items.builder()
+							.<String>selection(included -> new TestMultiSelection())
+							.sort(sort)
+							.items(() -> new ArrayList<>(rows))
+							.included(include)
+							.listener(recorder)
+							.build();
+			merging.refresher().async().set(false);
+			merging.refreshStrategy().set(Items.RefreshStrategy.MERGE);
+
+			String a = "a";
+			String c = "c";
+			String e = "e";
+			rows.addAll(asList("g", e, c, a, "z1"));
+			merging.refresh();
+			assertEquals(asList("a", "c", "e", "g"), merging.included().get());
+			assertTrue(merging.filtered().contains("z1"));
+
+			recorder.clear();
+			rows.clear();
+			//g and z1 removed, c changed, b and h new
+			rows.addAll(asList(a, new String(c), e, "h", "b", "z2"));
+			merging.refresh();
+
+			assertEquals(asList("a", "b", "c", "e", "h"), merging.included().get());
+			assertSame(a, merging.included().get(0));
+			assertNotSame(c, merging.included().get(2));
+			assertSame(e, merging.included().get(3));
+			assertEquals(asList("z2"), new ArrayList<>(merging.filtered().get()));
+			assertEquals(1, recorder.deleted.size());
+			assertArrayEquals(new int[] {3, 3}, recorder.deleted.get(0));
+			assertEquals(1, recorder.updated.size());
+			assertArrayEquals(new int[] {1, 1}, recorder.updated.get(0));
+			assertEquals(2, recorder.inserted.size());
+			assertArrayEquals(new int[] {1, 1}, recorder.inserted.get(0));
+			assertArrayEquals(new int[] {4, 4}, recorder.inserted.get(1));
+
+			recorder.clear();
+			//unchanged
+			merging.refresh();
+			assertTrue(recorder.inserted.isEmpty());
+			assertTrue(recorder.updated.isEmpty());
+			assertTrue(recorder.deleted.isEmpty());
+		}
+
 		@Test
 		@DisplayName("Refresh with callback")
 		void refresh_withCallback_shouldNotifyResult() {
@@ -410,14 +467,17 @@ public class DefaultFilterModelItemsTest {
 
 		private Items<String> items;
 		private TestSort sort;
+		private RangeRecorder recorder;
 
 		@BeforeEach
 		void setUp() {
 			sort = new TestSort();
+			recorder = new RangeRecorder();
 
 			items = Items.builder()
 							.<String>selection(included -> new TestMultiSelection())
 							.sort(sort)
+							.listener(recorder)
 							.build();
 		}
 
@@ -449,6 +509,89 @@ public class DefaultFilterModelItemsTest {
 
 			assertEquals(asList("c", "a", "b"), items.included().get());
 		}
+
+		@Test
+		@DisplayName("Added items are inserted at their sorted position")
+		void add_sorted_insertsAtSortedPosition() {
+			sort.setComparator(Comparator.naturalOrder());
+			items.add(asList("a", "c", "e", "g"));
+			recorder.clear();
+
+			items.add("d");
+			assertEquals(asList("a", "c", "d", "e", "g"), items.included().get());
+			items.add(asList("h", "b", "f", "i"));
+			assertEquals(asList("a", "b", "c", "d", "e", "f", "g", "h", "i"), items.included().get());
+
+			assertTrue(recorder.updated.isEmpty());
+			assertEquals(4, recorder.inserted.size());
+			assertArrayEquals(new int[] {2, 2}, recorder.inserted.get(0));
+			assertArrayEquals(new int[] {1, 1}, recorder.inserted.get(1));
+			assertArrayEquals(new int[] {5, 5}, recorder.inserted.get(2));
+			//consecutive items belonging at the same position are inserted as one range
+			assertArrayEquals(new int[] {7, 8}, recorder.inserted.get(3));
+		}
+
+		@Test
+		@DisplayName("Replaced items are moved in case their sort key changed")
+		void replace_sorted_movesOnlyWhenOutOfOrder() {
+			sort.setComparator(Comparator.comparing(item -> item.charAt(0)));
+			items.add(asList("a", "b", "c", "d"));
+			recorder.clear();
+
+			//same sort key, updated in place
+			items.replace("b", "b2");
+			assertEquals(asList("a", "b2", "c", "d"), items.included().get());
+			assertEquals(1, recorder.updated.size());
+			assertArrayEquals(new int[] {1, 1}, recorder.updated.get(0));
+			assertTrue(recorder.deleted.isEmpty());
+			recorder.clear();
+
+			//changed sort key, moved
+			items.replace("b2", "e");
+			assertEquals(asList("a", "c", "d", "e"), items.included().get());
+			assertTrue(recorder.updated.isEmpty());
+			assertEquals(1, recorder.deleted.size());
+			assertArrayEquals(new int[] {1, 1}, recorder.deleted.get(0));
+			assertEquals(1, recorder.inserted.size());
+			assertArrayEquals(new int[] {3, 3}, recorder.inserted.get(0));
+		}
+
+		@Test
+		@DisplayName("Incremental mutations keep the items sorted")
+		void mutations_sorted_remainSorted() {
+			sort.setComparator(Comparator.naturalOrder());
+			Random random = new Random(42);
+			for (int i = 0; i < 1_000; i++) {
+				switch (random.nextInt(4)) {
+					case 0:
+						items.add(asList(value(random), value(random), value(random)));
+						break;
+					case 1:
+						items.remove(value(random));
+						break;
+					case 2:
+						List<String> included = items.included().get();
+						if (!included.isEmpty()) {
+							Map<String, String> replacements = new HashMap<>();
+							for (int j = 0; j < 4; j++) {
+								replacements.put(included.get(random.nextInt(included.size())), value(random));
+							}
+							items.replace(replacements);
+						}
+						break;
+					default:
+						items.add(value(random));
+						break;
+				}
+				List<String> sorted = new ArrayList<>(items.included().get());
+				sorted.sort(Comparator.naturalOrder());
+				assertEquals(sorted, items.included().get());
+			}
+		}
+
+		private static String value(Random random) {
+			return "v" + random.nextInt(100);
+		}
 	}
 
 	@Nested
@@ -575,6 +718,124 @@ public class DefaultFilterModelItemsTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Parallel filtering and sorting")
+	class ParallelTest {
+
+		@Test
+		@DisplayName("Parallel filtering and sorting yields the same items as sequential")
+		void parallel_sameAsSequential() {
+			TestInclude include = new TestInclude();
+			TestSort sort = new TestSort();
+			Items<String> sequential = Items.builder()
+							.<String>selection(included -> new TestMultiSelection())
+							.sort(sort)
+							.included(include)
+							.build();
+			Items<String> parallel;
+			FilterModel.PARALLEL_THRESHOLD.set(0);
+			try {
+				parallel = Items.builder()
+								.<String>selection(included -> new TestMultiSelection())
+								.sort(sort)
+								.included(include)
+								.build();
+			}
+			finally {
+				FilterModel.PARALLEL_THRESHOLD.set(-1);
+			}
+			Random random = new Random(42);
+			List<String> values = new ArrayList<>();
+			for (int i = 0; i < 5_000; i++) {
+				values.add("v" + random.nextInt(1_000));
+			}
+			sort.setSorted(false);
+			sequential.set(values);
+			parallel.set(values);
+			for (int i = 0; i < 50; i++) {
+				if (random.nextBoolean()) {
+					int excluded = random.nextInt(10);
+					include.setPredicate(item -> !item.endsWith(String.valueOf(excluded)));
+				}
+				else {
+					sort.setComparator(random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+					sort.setSorted(random.nextBoolean());
+					sequential.included().sort();
+					parallel.included().sort();
+				}
+				assertEquals(sequential.included().get(), parallel.included().get());
+				assertEquals(new ArrayList<>(sequential.filtered().get()), new ArrayList<>(parallel.filtered().get()));
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("Position index")
+	class PositionIndexTest {
+
+		private static final int VALUES = 40;
+
+		@Test
+		@DisplayName("Positions follow the items through mutations")
+		void positions_followMutations() {
+			TestInclude include = new TestInclude();
+			TestSort sort = new TestSort();
+			Items<String> items = Items.builder()
+							.<String>selection(included -> new TestMultiSelection())
+							.sort(sort)
+							.included(include)
+							.build();
+			Random random = new Random(42);
+			for (int i = 0; i < 2_000; i++) {
+				switch (random.nextInt(9)) {
+					case 0:
+						items.add(value(random));
+						break;
+					case 1:
+						items.included().add(random.nextInt(items.included().size() + 1), value(random));
+						break;
+					case 2:
+						items.remove(value(random));
+						break;
+					case 3:
+						items.remove(asList(value(random), value(random), value(random)));
+						break;
+					case 4:
+						items.replace(value(random), value(random));
+						break;
+					case 5:
+						if (items.included().size() > 0) {
+							items.included().set(random.nextInt(items.included().size()), value(random));
+						}
+						break;
+					case 6:
+						if (items.included().size() > 0) {
+							items.included().remove(random.nextInt(items.included().size()));
+						}
+						break;
+					case 7:
+						int excluded = random.nextInt(10);
+						include.setPredicate(item -> !item.endsWith(String.valueOf(excluded)));
+						break;
+					default:
+						sort.setComparator(random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+						items.included().sort();
+						break;
+				}
+				List<String> included = items.included().get();
+				for (int value = 0; value < VALUES; value++) {
+					String item = "v" + value;
+					assertEquals(included.indexOf(item), items.included().indexOf(item));
+					assertEquals(included.contains(item), items.included().contains(item));
+				}
+			}
+		}
+
+		private static String value(Random random) {
+			return "v" + random.nextInt(VALUES);
+		}
+	}
+
 	@Nested
 	@DisplayName("Concurrent access")
 	class ConcurrentAccessTest {
@@ -18,12 +18,14 @@
  */
 package is.codion.common.model.summary;
 
+import is.codion.common.model.summary.SummaryModel.Aggregate;
 import is.codion.common.model.summary.SummaryModel.SummaryValues;
 import is.codion.common.reactive.event.Event;
 import is.codion.common.reactive.observer.Observer;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.text.Format;
 import java.text.NumberFormat;
 import java.util.Collection;
@@ -144,6 +146,28 @@ public class DefaultSummaryModelTest {
 		assertEquals(numberFormat.format(1.1) + "/" + numberFormat.format(5.5), testDoubleModel.summaryText().get());
 	}
 
+	@Test
+	void aggregate() {
+		Aggregate aggregate = Aggregate.aggregate(asList(0.1, 0.2, null, Double.NaN, 3L));
+		assertEquals(3, aggregate.count());
+		assertEquals(new BigDecimal("3.3"), aggregate.sum());
+		assertEquals(new BigDecimal("1.1"), aggregate.average().orElse(null));
+		assertEquals(new BigDecimal("0.1"), aggregate.minimum().orElse(null));
+		aggregate.add(0.1);
+		aggregate.remove(0.1);
+		assertEquals(new BigDecimal("0.1"), aggregate.minimum().orElse(null));
+		aggregate.remove(0.1);
+		assertEquals(new BigDecimal("0.2"), aggregate.minimum().orElse(null));
+		assertEquals(new BigDecimal("3"), aggregate.maximum().orElse(null));
+		aggregate.remove(3);
+		assertEquals(new BigDecimal("0.2"), aggregate.maximum().orElse(null));
+		assertThrows(IllegalArgumentException.class, () -> aggregate.remove(3));
+		aggregate.clear();
+		assertEquals(0, aggregate.count());
+		assertEquals(BigDecimal.ZERO, aggregate.sum());
+		assertFalse(aggregate.average().isPresent());
+	}
+
 	@Test
 	void locked() {
 		testDoubleModel.locked().set(true);
@@ -22,12 +22,11 @@ import org.jspecify.annotations.Nullable;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
-import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -40,13 +39,17 @@ import static java.util.Objects.requireNonNull;
  * in {@link Observer} resolve directly to the concrete implementations here.
  * <p>
  * All listener management operations are thread-safe.
- * Dead weak references are cleaned up during add/remove operations.
+ * Listeners are kept in an immutable array, replaced on each add/remove, so notification
+ * requires neither locking nor copying. Dead weak references are cleaned up during add/remove
+ * operations, and after a notification encountering any.
  * @param <T> the type of data propagated to listeners
  * @see Observer
  */
 public abstract class AbstractObserver<T> implements Observer<T> {
 
-	private @Nullable ArrayList<Listener<?>> listeners;
+	private static final Listener<?>[] NO_LISTENERS = new Listener<?>[0];
+
+	private volatile Listener<?>[] listeners = NO_LISTENERS;
 
 	/**
 	 * Instantiates a new {@link AbstractObserver}
@@ -121,69 +124,88 @@ public abstract class AbstractObserver<T> implements Observer<T> {
 	 * @param data the data to propagate to consumers
 	 */
 	protected final void notifyListeners(@Nullable T data) {
-		for (Listener<?> listener : listeners()) {
-			notifyListener(listener, data);
+		boolean stale = false;
+		for (Listener<?> listener : listeners) {
+			stale = !notifyListener(listener, data) || stale;
 		}
-	}
-
-	private synchronized List<Listener<?>> listeners() {
-		if (listeners == null) {
-			return emptyList();
+		if (stale) {
+			purge();
 		}
-
-		return new ArrayList<>(listeners);
 	}
 
 	private synchronized boolean add(Listener<?> listener) {
-		if (contains(listener)) {
+		Listener<?>[] current = live(listeners);
+		if (contains(current, listener)) {
+			listeners = current;
+
 			return false;
 		}
-		if (listeners == null) {
-			listeners = new ArrayList<>(1);
-		}
-
-		listeners.add(listener);
-		listeners.trimToSize();
+		Listener<?>[] added = Arrays.copyOf(current, current.length + 1);
+		added[current.length] = listener;
+		listeners = added;
 
 		return true;
 	}
 
-	private synchronized boolean remove(Object listener) {
-		requireNonNull(listener);
-		if (listeners == null) {
-			return false;
-		}
-		if (remove(listener, listeners.listIterator())) {
-			if (listeners.isEmpty()) {
-				listeners = null;
+	private synchronized boolean remove(Object listenerToRemove) {
+		requireNonNull(listenerToRemove);
+		Listener<?>[] current = listeners;
+		List<Listener<?>> remaining = new ArrayList<>(current.length);
+		boolean removed = false;
+		for (Listener<?> listener : current) {
+			Object object = listener.get();
+			if (object == listenerToRemove) {
+				removed = true;
 			}
-			else {
-				listeners.trimToSize();
+			else if (object != null) {
+				remaining.add(listener);
 			}
-
-			return true;
+		}
+		if (remaining.size() != current.length) {
+			listeners = remaining.isEmpty() ? NO_LISTENERS : remaining.toArray(NO_LISTENERS);
 		}
 
-		return false;
+		return removed;
 	}
 
-	private static boolean remove(Object listenerToRemove, ListIterator<Listener<?>> iterator) {
-		boolean removed = false;
-		while (iterator.hasNext()) {
-			Object listener = iterator.next().get();
-			if (listener == listenerToRemove) {
-				iterator.remove();
-				removed = true;
+	private synchronized void purge() {
+		listeners = live(listeners);
+	}
+
+	/**
+	 * @param listeners the listeners
+	 * @return the given array if all listeners are live, otherwise a new array containing only the live ones
+	 */
+	private static Listener<?>[] live(Listener<?>[] listeners) {
+		int live = 0;
+		for (Listener<?> listener : listeners) {
+			if (listener.get() != null) {
+				live++;
 			}
-			else if (listener == null) {
-				iterator.remove();
+		}
+		if (live == listeners.length) {
+			return listeners;
+		}
+		if (live == 0) {
+			return NO_LISTENERS;
+		}
+		Listener<?>[] liveListeners = new Listener<?>[live];
+		int index = 0;
+		for (Listener<?> listener : listeners) {
+			if (listener.get() != null) {
+				liveListeners[index++] = listener;
 			}
 		}
 
-		return removed;
+		return liveListeners;
 	}
 
-	private void notifyListener(Listener<?> listener, @Nullable T data) {
+	/**
+	 * @param listener the listener to notify
+	 * @param data the data
+	 * @return false if the listener is a weak one which has been garbage collected
+	 */
+	private boolean notifyListener(Listener<?> listener, @Nullable T data) {
 		if (listener instanceof RunnableListener) {
 			((RunnableListener) listener).get().run();
 		}
@@ -192,25 +214,27 @@ public abstract class AbstractObserver<T> implements Observer<T> {
 		}
 		else if (listener instanceof WeakRunnableListener) {
 			Runnable runnable = ((WeakRunnableListener) listener).get();
-			if (runnable != null) {
-				runnable.run();
+			if (runnable == null) {
+				return false;
 			}
+			runnable.run();
 		}
 		else if (listener instanceof WeakConsumerListener<?>) {
 			Consumer<@Nullable T> consumer = ((WeakConsumerListener<T>) listener).get();
-			if (consumer != null) {
-				consumer.accept(data);
+			if (consumer == null) {
+				return false;
 			}
+			consumer.accept(data);
 		}
+
+		return true;
 	}
 
-	private boolean contains(Listener<?> reference) {
-		if (listeners != null) {
-			listeners.removeIf(listener -> listener.get() == null);
-			for (Listener<?> listener : listeners) {
-				if (listener.get() == reference.get()) {
-					return true;
-				}
+	private static boolean contains(Listener<?>[] listeners, Listener<?> reference) {
+		Object object = reference.get();
+		for (Listener<?> listener : listeners) {
+			if (listener.get() == object) {
+				return true;
 			}
 		}
 
@@ -293,6 +293,27 @@ public class EventsTest {
 		assertEquals(totalEvents / 2, consumerSum.get()); // Half the events used accept(1)
 	}
 
+	@Test
+	void modificationDuringNotification() {
+		Event<?> event = Event.event();
+		List<String> notified = new ArrayList<>();
+		Runnable second = () -> notified.add("second");
+		Runnable added = () -> notified.add("added");
+		event.addListener(() -> {
+			notified.add("first");
+			event.removeListener(second);
+			event.addListener(added);
+		});
+		event.addListener(second);
+
+		// the listeners as of the start of the notification are notified
+		event.run();
+		assertEquals(Arrays.asList("first", "second"), notified);
+		notified.clear();
+		event.run();
+		assertEquals(Arrays.asList("first", "added"), notified);
+	}
+
 	@Test
 	void recursiveEventTrigger() {
 		Event<Integer> event = Event.event();
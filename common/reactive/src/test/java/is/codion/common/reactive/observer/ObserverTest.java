@@ -25,11 +25,18 @@ import is.codion.common.reactive.value.Value.Notify;
 import org.junit.jupiter.api.Test;
 
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 public final class ObserverTest {
 
@@ -134,4 +141,70 @@ public final class ObserverTest {
 		assertEquals(c, d);
 		assertEquals(c.hashCode(), d.hashCode());
 	}
+
+	@Test
+	void notifyWhileLocked() throws Exception {
+		TestObserver observer = new TestObserver();
+		AtomicInteger counter = new AtomicInteger();
+		observer.addListener(counter::incrementAndGet);
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = newSingleThreadExecutor();
+		try {
+			//holds the monitor guarding add and remove
+			executor.submit(() -> {
+				synchronized (observer) {
+					locked.countDown();
+					release.await();
+				}
+				return null;
+			});
+			locked.await();
+			//notification does not wait for it
+			assertTimeoutPreemptively(ofSeconds(5), () -> observer.fire(0));
+			assertEquals(1, counter.get());
+		}
+		finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void notifyWhileModified() {
+		TestObserver observer = new TestObserver();
+		int[] notified = {0};
+		for (int i = 0; i < 10; i++) {
+			observer.addConsumer(value -> notified[0]++);
+		}
+		AtomicBoolean running = new AtomicBoolean(true);
+		ExecutorService executor = newSingleThreadExecutor();
+		try {
+			//keeps replacing the listeners
+			executor.execute(() -> {
+				Runnable listener = () -> {};
+				while (running.get()) {
+					observer.addListener(listener);
+					observer.removeListener(listener);
+				}
+			});
+			assertTimeout(ofSeconds(10), () -> {
+				for (int i = 0; i < 1_000_000; i++) {
+					observer.fire(i);
+				}
+			});
+			assertEquals(10_000_000, notified[0]);
+		}
+		finally {
+			running.set(false);
+			executor.shutdownNow();
+		}
+	}
+
+	private static final class TestObserver extends AbstractObserver<Integer> {
+
+		private void fire(Integer value) {
+			notifyListeners(value);
+		}
+	}
 }
@@ -175,6 +175,30 @@ public abstract class AbstractServer<T extends Remote, A extends ServerAdmin> im
 		this.connectionLimit = connectionLimit;
 	}
 
+	/**
+	 * Returns the utilization of the most utilized of this server's resources, reported via {@link #load()}.
+	 * By default the number of connections relative to the connection limit, 0 if there is no limit.
+	 * Subclasses may override to take other resources into account.
+	 * @return the utilization in percent, 100 meaning saturated
+	 */
+	protected int utilization() {
+		int limit = connectionLimit;
+		if (limit < 0) {
+			return 0;
+		}
+
+		return limit == 0 ? 100 : connectionCount() * 100 / limit;
+	}
+
+	/**
+	 * Returns a recent operation latency, reported via {@link #load()}. Returns -1 by default, subclasses
+	 * measuring the latency of the operations they serve may override.
+	 * @return a recent operation latency in milliseconds, -1 if unknown
+	 */
+	protected int latency() {
+		return -1;
+	}
+
 	/**
 	 * @return the maintenance check interval in ms
 	 */
@@ -199,6 +223,11 @@ public abstract class AbstractServer<T extends Remote, A extends ServerAdmin> im
 		return !maximumNumberOfConnectionsReached();
 	}
 
+	@Override
+	public final ServerLoad load() {
+		return ServerLoad.serverLoad(connectionCount(), connectionLimit, utilization(), latency());
+	}
+
 	@Override
 	public final T connect(ConnectionRequest connectionRequest) throws RemoteException, ConnectionNotAvailableException, LoginException {
 		if (shuttingDown.get()) {
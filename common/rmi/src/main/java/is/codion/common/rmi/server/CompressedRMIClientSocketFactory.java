@@ -0,0 +1,84 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.rmi.server;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.net.Socket;
+import java.rmi.server.RMIClientSocketFactory;
+import java.util.Objects;
+
+/**
+ * A {@link RMIClientSocketFactory} compressing the data sent across the sockets it creates, along with
+ * a {@link CompressedRMIServerSocketFactory} on the server side.
+ * <p>The data written is compressed in frames, one per flush, which with RMI amounts to one per request or response,
+ * frames smaller than the threshold being sent uncompressed, compressing those not being worth the effort.
+ * The compression dictionary is retained between frames, so that repeated content, such as the entity and
+ * attribute names of consecutive responses, compresses well.
+ * <p>Note that this factory is sent to the client along with the server stub, so when a serialization filter
+ * whitelist is used, this class must be included, along with the underlying socket factory, if any.
+ * @see ServerConfiguration#COMPRESSION
+ */
+public final class CompressedRMIClientSocketFactory implements RMIClientSocketFactory, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1;
+
+	private final @Nullable RMIClientSocketFactory socketFactory;
+	private final int threshold;
+
+	/**
+	 * @param socketFactory the underlying socket factory, for example a SSL one, null for plain sockets
+	 * @param threshold the frame size in bytes below which data is sent uncompressed
+	 * @throws IllegalArgumentException in case threshold is negative
+	 */
+	public CompressedRMIClientSocketFactory(@Nullable RMIClientSocketFactory socketFactory, int threshold) {
+		if (threshold < 0) {
+			throw new IllegalArgumentException("Compression threshold must be a non-negative integer");
+		}
+		this.socketFactory = socketFactory;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public Socket createSocket(String host, int port) throws IOException {
+		return new CompressedSocket(socketFactory == null ? new Socket(host, port) : socketFactory.createSocket(host, port), threshold);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof CompressedRMIClientSocketFactory)) {
+			return false;
+		}
+		CompressedRMIClientSocketFactory factory = (CompressedRMIClientSocketFactory) object;
+
+		return threshold == factory.threshold && Objects.equals(socketFactory, factory.socketFactory);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(socketFactory, threshold);
+	}
+}
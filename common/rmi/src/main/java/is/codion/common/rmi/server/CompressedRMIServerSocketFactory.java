@@ -0,0 +1,74 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.rmi.server;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.rmi.server.RMIServerSocketFactory;
+import java.util.Objects;
+
+/**
+ * A {@link RMIServerSocketFactory} compressing the data sent across the sockets it accepts,
+ * along with a {@link CompressedRMIClientSocketFactory} on the client side.
+ * @see CompressedRMIClientSocketFactory
+ * @see ServerConfiguration#COMPRESSION
+ */
+public final class CompressedRMIServerSocketFactory implements RMIServerSocketFactory {
+
+	private final @Nullable RMIServerSocketFactory socketFactory;
+	private final int threshold;
+
+	/**
+	 * @param socketFactory the underlying socket factory, for example a SSL one, null for plain sockets
+	 * @param threshold the frame size in bytes below which data is sent uncompressed
+	 * @throws IllegalArgumentException in case threshold is negative
+	 */
+	public CompressedRMIServerSocketFactory(@Nullable RMIServerSocketFactory socketFactory, int threshold) {
+		if (threshold < 0) {
+			throw new IllegalArgumentException("Compression threshold must be a non-negative integer");
+		}
+		this.socketFactory = socketFactory;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public ServerSocket createServerSocket(int port) throws IOException {
+		return new CompressedServerSocket(socketFactory == null ? new ServerSocket(port) : socketFactory.createServerSocket(port), threshold);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof CompressedRMIServerSocketFactory)) {
+			return false;
+		}
+		CompressedRMIServerSocketFactory factory = (CompressedRMIServerSocketFactory) object;
+
+		return threshold == factory.threshold && Objects.equals(socketFactory, factory.socketFactory);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(socketFactory, threshold);
+	}
+}
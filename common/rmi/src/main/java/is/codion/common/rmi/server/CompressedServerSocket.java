@@ -0,0 +1,122 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.rmi.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A server socket wrapping another, wrapping the sockets it accepts in a {@link CompressedSocket}.
+ */
+final class CompressedServerSocket extends ServerSocket {
+
+	private final ServerSocket serverSocket;
+	private final int threshold;
+
+	CompressedServerSocket(ServerSocket serverSocket, int threshold) throws IOException {
+		this.serverSocket = requireNonNull(serverSocket);
+		this.threshold = threshold;
+	}
+
+	@Override
+	public Socket accept() throws IOException {
+		return new CompressedSocket(serverSocket.accept(), threshold);
+	}
+
+	@Override
+	public void bind(SocketAddress endpoint) throws IOException {
+		serverSocket.bind(endpoint);
+	}
+
+	@Override
+	public void bind(SocketAddress endpoint, int backlog) throws IOException {
+		serverSocket.bind(endpoint, backlog);
+	}
+
+	@Override
+	public InetAddress getInetAddress() {
+		return serverSocket.getInetAddress();
+	}
+
+	@Override
+	public int getLocalPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	@Override
+	public SocketAddress getLocalSocketAddress() {
+		return serverSocket.getLocalSocketAddress();
+	}
+
+	@Override
+	public void setSoTimeout(int timeout) throws SocketException {
+		serverSocket.setSoTimeout(timeout);
+	}
+
+	@Override
+	public int getSoTimeout() throws IOException {
+		return serverSocket.getSoTimeout();
+	}
+
+	@Override
+	public void setReuseAddress(boolean on) throws SocketException {
+		serverSocket.setReuseAddress(on);
+	}
+
+	@Override
+	public boolean getReuseAddress() throws SocketException {
+		return serverSocket.getReuseAddress();
+	}
+
+	@Override
+	public void setReceiveBufferSize(int size) throws SocketException {
+		serverSocket.setReceiveBufferSize(size);
+	}
+
+	@Override
+	public int getReceiveBufferSize() throws SocketException {
+		return serverSocket.getReceiveBufferSize();
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	@Override
+	public boolean isBound() {
+		return serverSocket.isBound();
+	}
+
+	@Override
+	public boolean isClosed() {
+		return serverSocket.isClosed();
+	}
+
+	@Override
+	public String toString() {
+		return "CompressedServerSocket[" + serverSocket + "]";
+	}
+}
@@ -0,0 +1,436 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.rmi.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketImpl;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A socket wrapping another, compressing the data written to it, in frames, one per flush.
+ * <p>Each frame consists of a single byte indicating whether the content is compressed, followed by
+ * the content length as an int and the content itself. A frame smaller than the threshold is written as is,
+ * larger ones are compressed with a {@link Deflater#SYNC_FLUSH}, which retains the compression
+ * dictionary between frames while still allowing the other side to read each frame in full.
+ * <p>A frame holds at most {@value #MAXIMUM_FRAME_SIZE} bytes of content, larger writes being split into several
+ * frames. Since the frames are read before the peer is authenticated, a frame exceeding this, either as read
+ * or once inflated, is rejected rather than buffered.
+ */
+final class CompressedSocket extends Socket {
+
+	private static final int RAW = 0;
+	private static final int DEFLATED = 1;
+	private static final int MAXIMUM_FRAME_SIZE = 65_536;
+	//deflate may expand incompressible content slightly, the sync flush adding a few bytes as well
+	private static final int MAXIMUM_DEFLATED_FRAME_SIZE = MAXIMUM_FRAME_SIZE + 1_024;
+
+	private final Socket socket;
+	private final int threshold;
+
+	private InputStream inputStream;
+	private OutputStream outputStream;
+
+	CompressedSocket(Socket socket, int threshold) throws SocketException {
+		super((SocketImpl) null);
+		this.socket = requireNonNull(socket);
+		this.threshold = threshold;
+	}
+
+	@Override
+	public synchronized InputStream getInputStream() throws IOException {
+		if (inputStream == null) {
+			inputStream = new CompressedInputStream(socket.getInputStream());
+		}
+
+		return inputStream;
+	}
+
+	@Override
+	public synchronized OutputStream getOutputStream() throws IOException {
+		if (outputStream == null) {
+			outputStream = new CompressedOutputStream(socket.getOutputStream(), threshold);
+		}
+
+		return outputStream;
+	}
+
+	@Override
+	public void connect(SocketAddress endpoint) throws IOException {
+		socket.connect(endpoint);
+	}
+
+	@Override
+	public void connect(SocketAddress endpoint, int timeout) throws IOException {
+		socket.connect(endpoint, timeout);
+	}
+
+	@Override
+	public void bind(SocketAddress bindpoint) throws IOException {
+		socket.bind(bindpoint);
+	}
+
+	@Override
+	public InetAddress getInetAddress() {
+		return socket.getInetAddress();
+	}
+
+	@Override
+	public InetAddress getLocalAddress() {
+		return socket.getLocalAddress();
+	}
+
+	@Override
+	public int getPort() {
+		return socket.getPort();
+	}
+
+	@Override
+	public int getLocalPort() {
+		return socket.getLocalPort();
+	}
+
+	@Override
+	public SocketAddress getRemoteSocketAddress() {
+		return socket.getRemoteSocketAddress();
+	}
+
+	@Override
+	public SocketAddress getLocalSocketAddress() {
+		return socket.getLocalSocketAddress();
+	}
+
+	@Override
+	public void setTcpNoDelay(boolean on) throws SocketException {
+		socket.setTcpNoDelay(on);
+	}
+
+	@Override
+	public boolean getTcpNoDelay() throws SocketException {
+		return socket.getTcpNoDelay();
+	}
+
+	@Override
+	public void setSoLinger(boolean on, int linger) throws SocketException {
+		socket.setSoLinger(on, linger);
+	}
+
+	@Override
+	public int getSoLinger() throws SocketException {
+		return socket.getSoLinger();
+	}
+
+	@Override
+	public void setSoTimeout(int timeout) throws SocketException {
+		socket.setSoTimeout(timeout);
+	}
+
+	@Override
+	public int getSoTimeout() throws SocketException {
+		return socket.getSoTimeout();
+	}
+
+	@Override
+	public void setSendBufferSize(int size) throws SocketException {
+		socket.setSendBufferSize(size);
+	}
+
+	@Override
+	public int getSendBufferSize() throws SocketException {
+		return socket.getSendBufferSize();
+	}
+
+	@Override
+	public void setReceiveBufferSize(int size) throws SocketException {
+		socket.setReceiveBufferSize(size);
+	}
+
+	@Override
+	public int getReceiveBufferSize() throws SocketException {
+		return socket.getReceiveBufferSize();
+	}
+
+	@Override
+	public void setKeepAlive(boolean on) throws SocketException {
+		socket.setKeepAlive(on);
+	}
+
+	@Override
+	public boolean getKeepAlive() throws SocketException {
+		return socket.getKeepAlive();
+	}
+
+	@Override
+	public void setReuseAddress(boolean on) throws SocketException {
+		socket.setReuseAddress(on);
+	}
+
+	@Override
+	public boolean getReuseAddress() throws SocketException {
+		return socket.getReuseAddress();
+	}
+
+	@Override
+	public void close() throws IOException {
+		socket.close();
+	}
+
+	@Override
+	public void shutdownInput() throws IOException {
+		socket.shutdownInput();
+	}
+
+	@Override
+	public void shutdownOutput() throws IOException {
+		socket.shutdownOutput();
+	}
+
+	@Override
+	public boolean isConnected() {
+		return socket.isConnected();
+	}
+
+	@Override
+	public boolean isBound() {
+		return socket.isBound();
+	}
+
+	@Override
+	public boolean isClosed() {
+		return socket.isClosed();
+	}
+
+	@Override
+	public boolean isInputShutdown() {
+		return socket.isInputShutdown();
+	}
+
+	@Override
+	public boolean isOutputShutdown() {
+		return socket.isOutputShutdown();
+	}
+
+	@Override
+	public String toString() {
+		return "CompressedSocket[" + socket + "]";
+	}
+
+	static final class CompressedOutputStream extends OutputStream {
+
+		private final DataOutputStream out;
+		private final int threshold;
+		private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		private final byte[] deflateBuffer = new byte[8192];
+		private final ByteArrayOutputStream frame = new ByteArrayOutputStream(8192);
+		private final ByteArrayOutputStream compressed = new ByteArrayOutputStream(8192);
+
+		CompressedOutputStream(OutputStream out, int threshold) {
+			this.out = new DataOutputStream(out);
+			this.threshold = threshold;
+		}
+
+		@Override
+		public synchronized void write(int b) throws IOException {
+			frame.write(b);
+			if (frame.size() >= MAXIMUM_FRAME_SIZE) {
+				writeFrame();
+			}
+		}
+
+		@Override
+		public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+			while (length > 0) {
+				int write = Math.min(length, MAXIMUM_FRAME_SIZE - frame.size());
+				frame.write(bytes, offset, write);
+				offset += write;
+				length -= write;
+				if (frame.size() >= MAXIMUM_FRAME_SIZE) {
+					writeFrame();
+				}
+			}
+		}
+
+		@Override
+		public synchronized void flush() throws IOException {
+			writeFrame();
+			out.flush();
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			try {
+				flush();
+				out.close();
+			}
+			finally {
+				deflater.end();
+			}
+		}
+
+		private void writeFrame() throws IOException {
+			if (frame.size() == 0) {
+				return;
+			}
+			if (frame.size() < threshold) {
+				out.writeByte(RAW);
+				out.writeInt(frame.size());
+				frame.writeTo(out);
+			}
+			else {
+				deflater.setInput(frame.toByteArray());
+				compressed.reset();
+				int length;
+				do {
+					length = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, Deflater.SYNC_FLUSH);
+					compressed.write(deflateBuffer, 0, length);
+				}
+				while (length == deflateBuffer.length);
+				out.writeByte(DEFLATED);
+				out.writeInt(compressed.size());
+				compressed.writeTo(out);
+			}
+			frame.reset();
+		}
+	}
+
+	static final class CompressedInputStream extends InputStream {
+
+		private final DataInputStream in;
+		private final Inflater inflater = new Inflater(true);
+		private final byte[] inflateBuffer = new byte[8192];
+		private final ByteArrayOutputStream inflated = new ByteArrayOutputStream(8192);
+
+		private byte[] buffer = new byte[0];
+		private int position = 0;
+		private int limit = 0;
+
+		CompressedInputStream(InputStream in) {
+			this.in = new DataInputStream(in);
+		}
+
+		@Override
+		public synchronized int read() throws IOException {
+			if (position == limit && !readFrame()) {
+				return -1;
+			}
+
+			return buffer[position++] & 0xff;
+		}
+
+		@Override
+		public synchronized int read(byte[] bytes, int offset, int length) throws IOException {
+			if (length == 0) {
+				return 0;
+			}
+			if (position == limit && !readFrame()) {
+				return -1;
+			}
+			int read = Math.min(length, limit - position);
+			System.arraycopy(buffer, position, bytes, offset, read);
+			position += read;
+
+			return read;
+		}
+
+		@Override
+		public synchronized int available() {
+			return limit - position;
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			try {
+				in.close();
+			}
+			finally {
+				inflater.end();
+			}
+		}
+
+		/**
+		 * Reads the next non-empty frame
+		 * @return false in case the end of the stream was reached
+		 */
+		private boolean readFrame() throws IOException {
+			do {
+				int type = in.read();
+				if (type == -1) {
+					return false;
+				}
+				int length = in.readInt();
+				if (length < 0 || length > (type == DEFLATED ? MAXIMUM_DEFLATED_FRAME_SIZE : MAXIMUM_FRAME_SIZE)) {
+					throw new IOException("Invalid compression frame length: " + length);
+				}
+				byte[] content = new byte[length];
+				in.readFully(content);
+				if (type == RAW) {
+					buffer = content;
+					limit = length;
+				}
+				else if (type == DEFLATED) {
+					inflate(content);
+				}
+				else {
+					throw new IOException("Unknown compression frame type: " + type);
+				}
+				position = 0;
+			}
+			while (limit == 0);
+
+			return true;
+		}
+
+		private void inflate(byte[] content) throws IOException {
+			inflater.setInput(content);
+			inflated.reset();
+			try {
+				int length;
+				do {
+					length = inflater.inflate(inflateBuffer);
+					if (inflated.size() + length > MAXIMUM_FRAME_SIZE) {
+						throw new IOException("Compression frame exceeds the maximum size of " + MAXIMUM_FRAME_SIZE + " bytes once inflated");
+					}
+					inflated.write(inflateBuffer, 0, length);
+				}
+				while (length > 0);
+			}
+			catch (DataFormatException e) {
+				throw new IOException(e);
+			}
+			if (inflater.getRemaining() > 0) {
+				throw new EOFException("Incomplete compression frame");
+			}
+			buffer = inflated.toByteArray();
+			limit = buffer.length;
+		}
+	}
+}
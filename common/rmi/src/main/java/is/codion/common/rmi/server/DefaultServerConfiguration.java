@@ -59,6 +59,8 @@ final class DefaultServerConfiguration implements ServerConfiguration {
 	private final Collection<String> authenticators;
 	private final int adminPort;
 	private final boolean sslEnabled;
+	private final boolean compression;
+	private final int compressionThreshold;
 	private final Supplier<String> serverNameSupplier;
 	private final @Nullable RMIClientSocketFactory rmiClientSocketFactory;
 	private final @Nullable RMIServerSocketFactory rmiServerSocketFactory;
@@ -76,9 +78,15 @@ final class DefaultServerConfiguration implements ServerConfiguration {
 		this.authenticators = unmodifiableSet(builder.authenticators);
 		this.adminPort = builder.serverAdminPort;
 		this.sslEnabled = builder.sslEnabled;
+		this.compression = builder.compression;
+		this.compressionThreshold = builder.compressionThreshold;
 		this.serverNameSupplier = builder.serverName;
-		this.rmiClientSocketFactory = builder.rmiClientSocketFactory;
-		this.rmiServerSocketFactory = builder.rmiServerSocketFactory;
+		this.rmiClientSocketFactory = compression ?
+						new CompressedRMIClientSocketFactory(builder.rmiClientSocketFactory, compressionThreshold) :
+						builder.rmiClientSocketFactory;
+		this.rmiServerSocketFactory = compression ?
+						new CompressedRMIServerSocketFactory(builder.rmiServerSocketFactory, compressionThreshold) :
+						builder.rmiServerSocketFactory;
 		this.objectInputFilterFactory = builder.objectInputFilterFactory;
 		this.objectInputFilterFactoryRequired = builder.objectInputFilterFactoryRequired;
 		this.connectionMaintenanceInterval = builder.connectionMaintenanceInterval;
@@ -131,6 +139,16 @@ final class DefaultServerConfiguration implements ServerConfiguration {
 		return sslEnabled;
 	}
 
+	@Override
+	public boolean compression() {
+		return compression;
+	}
+
+	@Override
+	public int compressionThreshold() {
+		return compressionThreshold;
+	}
+
 	@Override
 	public Optional<RMIClientSocketFactory> rmiClientSocketFactory() {
 		return Optional.ofNullable(rmiClientSocketFactory);
@@ -179,6 +197,8 @@ final class DefaultServerConfiguration implements ServerConfiguration {
 		private final Set<String> authenticators = new HashSet<>();
 		private int serverAdminPort;
 		private boolean sslEnabled = true;
+		private boolean compression;
+		private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
 		private Supplier<String> serverName = new DefaultServerName();
 		private @Nullable RMIClientSocketFactory rmiClientSocketFactory = new SslRMIClientSocketFactory();
 		private @Nullable RMIServerSocketFactory rmiServerSocketFactory = new SslRMIServerSocketFactory();
@@ -195,6 +215,8 @@ final class DefaultServerConfiguration implements ServerConfiguration {
 			auxiliaryServerFactory(parseCSV(AUXILIARY_SERVER_FACTORIES.get()));
 			adminPort(ADMIN_PORT.getOrThrow());
 			sslEnabled(SSL_ENABLED.getOrThrow());
+			compression(COMPRESSION.getOrThrow());
+			compressionThreshold(COMPRESSION_THRESHOLD.getOrThrow());
 			connectionMaintenanceInterval(CONNECTION_MAINTENANCE_INTERVAL.getOrThrow());
 			objectInputFilterFactory(OBJECT_INPUT_FILTER_FACTORY.get());
 			objectInputFilterFactoryRequired(OBJECT_INPUT_FILTER_FACTORY_REQUIRED.getOrThrow());
@@ -266,6 +288,21 @@ final class DefaultServerConfiguration implements ServerConfiguration {
 			return this;
 		}
 
+		@Override
+		public DefaultBuilder compression(boolean compression) {
+			this.compression = compression;
+			return this;
+		}
+
+		@Override
+		public DefaultBuilder compressionThreshold(int compressionThreshold) {
+			if (compressionThreshold < 0) {
+				throw new IllegalArgumentException("compressionThreshold must be a non-negative integer");
+			}
+			this.compressionThreshold = compressionThreshold;
+			return this;
+		}
+
 		@Override
 		public DefaultBuilder objectInputFilterFactory(@Nullable String objectInputFilterFactory) {
 			this.objectInputFilterFactory = objectInputFilterFactory;
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.rmi.server;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+final class DefaultServerLoad implements ServerLoad, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1;
+
+	private final int connections;
+	private final int connectionLimit;
+	private final int utilization;
+	private final int latency;
+
+	DefaultServerLoad(int connections, int connectionLimit, int utilization, int latency) {
+		this.connections = connections;
+		this.connectionLimit = connectionLimit;
+		this.utilization = utilization;
+		this.latency = latency;
+	}
+
+	@Override
+	public int connections() {
+		return connections;
+	}
+
+	@Override
+	public int connectionLimit() {
+		return connectionLimit;
+	}
+
+	@Override
+	public boolean connectionsAvailable() {
+		return connectionLimit < 0 || connections < connectionLimit;
+	}
+
+	@Override
+	public int utilization() {
+		return utilization;
+	}
+
+	@Override
+	public int latency() {
+		return latency;
+	}
+
+	@Override
+	public String toString() {
+		return "connections: " + connections + (connectionLimit < 0 ? "" : "/" + connectionLimit)
+						+ ", utilization: " + utilization + "%, latency: " + latency + "ms";
+	}
+}
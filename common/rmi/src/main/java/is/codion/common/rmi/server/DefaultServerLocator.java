@@ -28,7 +28,10 @@ import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static java.util.Objects.requireNonNull;
 
@@ -36,28 +39,64 @@ final class DefaultServerLocator implements Server.Locator {
 
 	private static final Logger LOG = LoggerFactory.getLogger(DefaultServerLocator.class);
 
+	private static final Comparator<Candidate<?, ?>> LOAD = new LoadComparator();
+
 	private final String hostname;
 	private final String namePrefix;
 	private final int registryPort;
 	private final int port;
+	private final Selection selection;
 
 	private DefaultServerLocator(DefaultBuilder builder) {
 		this.hostname = requireNonNull(builder.hostname, "hostname must be specified");
 		this.namePrefix = requireNonNull(builder.namePrefix, "namePrefix must be specified");
 		this.registryPort = builder.registryPort;
 		this.port = builder.port;
+		this.selection = builder.selection;
 	}
 
 	private <T extends Remote, A extends ServerAdmin> Server<T, A> locate() throws RemoteException, NotBoundException {
-		List<Server<T, A>> servers = findServersOnHost(hostname, registryPort, namePrefix, port);
-		if (!servers.isEmpty()) {
-			return servers.get(0);
+		List<Candidate<T, A>> candidates = findServersOnHost(hostname, registryPort, namePrefix, port, selection);
+		if (!candidates.isEmpty()) {
+			Candidate<T, A> chosen = choose(candidates);
+			if (chosen.load != null) {
+				LOG.info("Chose server \"{}\" of {}, {}", chosen.name, candidates.size(), chosen.load);
+			}
+
+			return chosen.server;
 		}
 
 		throw new NotBoundException("'" + namePrefix + "' is not available, see LOG for details. Host: "
 						+ hostname + (port != -1 ? ", port: " + port : "") + ", registryPort: " + registryPort);
 	}
 
+	private <T extends Remote, A extends ServerAdmin> Candidate<T, A> choose(List<Candidate<T, A>> candidates) {
+		switch (selection) {
+			case LEAST_LOADED:
+				return candidates.stream()
+								.min(LOAD)
+								.orElseThrow();
+			case TWO_CHOICES:
+				return twoChoices(candidates);
+			default:
+				return candidates.get(0);
+		}
+	}
+
+	private static <T extends Remote, A extends ServerAdmin> Candidate<T, A> twoChoices(List<Candidate<T, A>> candidates) {
+		if (candidates.size() == 1) {
+			return candidates.get(0);
+		}
+		Random random = ThreadLocalRandom.current();
+		int first = random.nextInt(candidates.size());
+		int second = random.nextInt(candidates.size() - 1);
+		if (second >= first) {
+			second++;
+		}
+
+		return LOAD.compare(candidates.get(first), candidates.get(second)) <= 0 ? candidates.get(first) : candidates.get(second);
+	}
+
 	static Registry initializeRegistry(int registryPort) throws RemoteException {
 		LOG.info("Initializing registry on port: {}", registryPort);
 		Registry localRegistry = LocateRegistry.getRegistry(registryPort);
@@ -74,32 +113,34 @@ final class DefaultServerLocator implements Server.Locator {
 		}
 	}
 
-	private static <T extends Remote, A extends ServerAdmin> List<Server<T, A>> findServersOnHost(String hostname,
-																																																int registryPort,
-																																																String serverNamePrefix,
-																																																int requestedServerPort)
+	private static <T extends Remote, A extends ServerAdmin> List<Candidate<T, A>> findServersOnHost(String hostname,
+																																																		 int registryPort,
+																																																		 String serverNamePrefix,
+																																																		 int requestedServerPort,
+																																																		 Selection selection)
 					throws RemoteException {
 		LOG.info("Searching for servers,  host: \"{}\", server name prefix: \"{}\", requested server port: {}, registry port {}",
 						hostname, serverNamePrefix, requestedServerPort, registryPort);
-		List<Server<T, A>> servers = new ArrayList<>();
+		List<Candidate<T, A>> candidates = new ArrayList<>();
 		Registry registry = LocateRegistry.getRegistry(hostname, registryPort);
 		for (String serverName : registry.list()) {
 			if (serverName.startsWith(serverNamePrefix)) {
-				addIfReachable(serverName, requestedServerPort, registry, servers);
+				addIfReachable(serverName, requestedServerPort, selection, registry, candidates);
 			}
 		}
 
-		return servers;
+		return candidates;
 	}
 
 	private static <T extends Remote, A extends ServerAdmin> void addIfReachable(String serverName, int requestedServerPort,
-																																							 Registry registry, List<Server<T, A>> servers) {
+																																							 Selection selection, Registry registry,
+																																							 List<Candidate<T, A>> candidates) {
 		LOG.info("Found server \"{}\"", serverName);
 		try {
-			Server<T, A> server = getIfReachable((Server<T, A>) registry.lookup(serverName), requestedServerPort);
-			if (server != null) {
+			Candidate<T, A> candidate = getIfReachable((Server<T, A>) registry.lookup(serverName), requestedServerPort, selection);
+			if (candidate != null) {
 				LOG.info("Adding server \"{}\"", serverName);
-				servers.add(server);
+				candidates.add(candidate);
 			}
 		}
 		catch (Exception e) {
@@ -107,28 +148,76 @@ final class DefaultServerLocator implements Server.Locator {
 		}
 	}
 
-	private static <T extends Remote, A extends ServerAdmin> @Nullable Server<T, A> getIfReachable(Server<T, A> server,
-																																																 int requestedServerPort) throws RemoteException {
+	private static <T extends Remote, A extends ServerAdmin> @Nullable Candidate<T, A> getIfReachable(Server<T, A> server,
+																																																				int requestedServerPort,
+																																																				Selection selection) throws RemoteException {
 		ServerInformation serverInformation = server.information();
 		if (requestedServerPort != -1 && serverInformation.port() != requestedServerPort) {
 			LOG.warn("Server \"{}\" is serving on port {}, requested port was {}",
 							serverInformation.name(), serverInformation.port(), requestedServerPort);
 			return null;
 		}
-		if (server.connectionsAvailable()) {
-			return server;
+		if (selection == Selection.FIRST) {
+			if (server.connectionsAvailable()) {
+				return new Candidate<>(serverInformation.name(), server, null);
+			}
+		}
+		else {
+			ServerLoad load = server.load();
+			if (load.connectionsAvailable()) {
+				return new Candidate<>(serverInformation.name(), server, load);
+			}
 		}
 		LOG.warn("No connections available in server \"{}\"", serverInformation.name());
 
 		return null;
 	}
 
+	private static final class Candidate<T extends Remote, A extends ServerAdmin> {
+
+		private final String name;
+		private final Server<T, A> server;
+		private final @Nullable ServerLoad load;
+
+		private Candidate(String name, Server<T, A> server, @Nullable ServerLoad load) {
+			this.name = name;
+			this.server = server;
+			this.load = load;
+		}
+	}
+
+	/**
+	 * Compares by utilization, then by latency, unknown latency last, and finally by the number of connections.
+	 */
+	private static final class LoadComparator implements Comparator<Candidate<?, ?>> {
+
+		@Override
+		public int compare(Candidate<?, ?> candidate1, Candidate<?, ?> candidate2) {
+			ServerLoad load1 = requireNonNull(candidate1.load);
+			ServerLoad load2 = requireNonNull(candidate2.load);
+			int result = Integer.compare(load1.utilization(), load2.utilization());
+			if (result == 0) {
+				result = Integer.compare(latency(load1), latency(load2));
+			}
+			if (result == 0) {
+				result = Integer.compare(load1.connections(), load2.connections());
+			}
+
+			return result;
+		}
+
+		private static int latency(ServerLoad load) {
+			return load.latency() < 0 ? Integer.MAX_VALUE : load.latency();
+		}
+	}
+
 	static final class DefaultBuilder implements Server.Locator.Builder {
 
 		private String hostname = ServerConfiguration.RMI_SERVER_HOSTNAME.getOrThrow();
 		private String namePrefix = ServerConfiguration.SERVER_NAME_PREFIX.getOrThrow();
 		private int registryPort = ServerConfiguration.REGISTRY_PORT.getOrThrow();
 		private int port = ServerConfiguration.SERVER_PORT.getOrThrow();
+		private Selection selection = ServerConfiguration.SERVER_SELECTION.getOrThrow();
 
 		@Override
 		public Builder hostname(String hostname) {
@@ -154,6 +243,12 @@ final class DefaultServerLocator implements Server.Locator {
 			return this;
 		}
 
+		@Override
+		public Builder selection(Selection selection) {
+			this.selection = requireNonNull(selection);
+			return this;
+		}
+
 		@Override
 		public <C extends Remote, A extends ServerAdmin> Server<C, A> locate() throws RemoteException, NotBoundException {
 			return new DefaultServerLocator(this).locate();
@@ -84,11 +84,43 @@ public interface Server<C extends Remote, A extends ServerAdmin> extends Remote
 	 */
 	boolean connectionsAvailable() throws RemoteException;
 
+	/**
+	 * @return the current load on this server
+	 * @throws RemoteException in case of an exception
+	 * @see Locator.Selection
+	 */
+	ServerLoad load() throws RemoteException;
+
 	/**
 	 * Locates {@link Server}s by name on a registry.
 	 */
 	interface Locator {
 
+		/**
+		 * Specifies how to choose between the servers found on the registry.
+		 * @see ServerConfiguration#SERVER_SELECTION
+		 */
+		enum Selection {
+
+			/**
+			 * The first server found accepting connections, in the order the registry lists them.
+			 */
+			FIRST,
+
+			/**
+			 * The least loaded server, according to {@link ServerLoad#utilization()}, then {@link ServerLoad#latency()}
+			 * and finally {@link ServerLoad#connections()}.
+			 */
+			LEAST_LOADED,
+
+			/**
+			 * The less loaded of two servers chosen at random, as with {@link #LEAST_LOADED}. Spreads the clients
+			 * connecting at the same time, which would otherwise all choose the same least loaded server, since
+			 * the load each of them sees does not yet include the others.
+			 */
+			TWO_CHOICES
+		}
+
 		/**
 		 * Returns a {@link Locator.Builder} instance.
 		 * @return a {@link Locator.Builder} instance.
@@ -145,12 +177,19 @@ public interface Server<C extends Remote, A extends ServerAdmin> extends Remote
 			 */
 			Builder port(int port);
 
+			/**
+			 * @param selection specifies how to choose between the servers found
+			 * @return this builder instance
+			 * @see ServerConfiguration#SERVER_SELECTION
+			 */
+			Builder selection(Selection selection);
+
 			/**
 			 * Retrieves a Server from the registry, using the configured hostname, registry port and server
-			 * name prefix. Returns the first server satisfying the condition.
+			 * name prefix. Returns the server chosen according to the {@link Selection}, among those accepting connections.
 			 * @param <C> the Remote connection type served by the server
 			 * @param <A> the server admin type supplied by the server
-			 * @return the first server whose name has the configured prefix
+			 * @return a server whose name has the configured prefix
 			 * @throws RemoteException in case of a remote exception
 			 * @throws NotBoundException in case no such server is found
 			 */
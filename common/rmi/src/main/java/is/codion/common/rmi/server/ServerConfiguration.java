@@ -47,6 +47,11 @@ public interface ServerConfiguration {
 	 */
 	int DEFAULT_CONNECTION_MAINTENANCE_INTERVAL = 30_000;
 
+	/**
+	 * The default compression threshold, in bytes
+	 */
+	int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
 	/**
 	 * The system property key for specifying a ssl keystore
 	 */
@@ -92,6 +97,16 @@ public interface ServerConfiguration {
 	 */
 	PropertyValue<Integer> SERVER_PORT = integerValue("codion.server.port", -1);
 
+	/**
+	 * Specifies how a client chooses between the servers found on the registry, see {@link Server.Locator.Selection}.
+	 * <ul>
+	 * <li>Value type: {@link Server.Locator.Selection}
+	 * <li>Default value: {@link Server.Locator.Selection#LEAST_LOADED}
+	 * </ul>
+	 */
+	PropertyValue<Server.Locator.Selection> SERVER_SELECTION =
+					enumValue("codion.server.selection", Server.Locator.Selection.class, Server.Locator.Selection.LEAST_LOADED);
+
 	/**
 	 * The port on which to locate the server registry
 	 * <ul>
@@ -172,6 +187,30 @@ public interface ServerConfiguration {
 	 */
 	PropertyValue<Boolean> SSL_ENABLED = booleanValue("codion.server.connection.sslEnabled", true);
 
+	/**
+	 * Specifies whether the data sent across the RMI connections should be compressed, true (on) or false (off).
+	 * <p>Note that the client socket factory, {@link CompressedRMIClientSocketFactory}, is sent to the client
+	 * along with the server stub, so it must be included in a serialization filter whitelist, if one is used.
+	 * <ul>
+	 * <li>Value type: Boolean
+	 * <li>Default value: false
+	 * </ul>
+	 * @see CompressedRMIClientSocketFactory
+	 * @see CompressedRMIServerSocketFactory
+	 */
+	PropertyValue<Boolean> COMPRESSION = booleanValue("codion.server.connection.compression", false);
+
+	/**
+	 * Specifies the size in bytes below which data sent across a compressed RMI connection is not compressed,
+	 * since compressing small payloads, such as most method invocations, is not worth the effort.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 1024
+	 * </ul>
+	 * @see #COMPRESSION
+	 */
+	PropertyValue<Integer> COMPRESSION_THRESHOLD = integerValue("codion.server.connection.compressionThreshold", DEFAULT_COMPRESSION_THRESHOLD);
+
 	/**
 	 * Specifies the default idle client connection timeout in milliseconds.
 	 * <ul>
@@ -276,11 +315,25 @@ public interface ServerConfiguration {
 	boolean sslEnabled();
 
 	/**
+	 * @return true if the data sent across the RMI connections is compressed
+	 * @see #COMPRESSION
+	 */
+	boolean compression();
+
+	/**
+	 * @return the size in bytes below which data sent across a compressed RMI connection is not compressed
+	 * @see #COMPRESSION_THRESHOLD
+	 */
+	int compressionThreshold();
+
+	/**
+	 * Note that in case compression is enabled, the socket factory is a {@link CompressedRMIClientSocketFactory}.
 	 * @return the rmi client socket factory to use, or an empty Optional if none is specified
 	 */
 	Optional<RMIClientSocketFactory> rmiClientSocketFactory();
 
 	/**
+	 * Note that in case compression is enabled, the socket factory is a {@link CompressedRMIServerSocketFactory}.
 	 * @return the rmi server socket factory to use, or an empty Optional if none is specified
 	 */
 	Optional<RMIServerSocketFactory> rmiServerSocketFactory();
@@ -378,6 +431,21 @@ public interface ServerConfiguration {
 		 */
 		B sslEnabled(boolean sslEnabled);
 
+		/**
+		 * @param compression true if the data sent across the RMI connections should be compressed
+		 * @return this builder instance
+		 * @see ServerConfiguration#COMPRESSION
+		 */
+		B compression(boolean compression);
+
+		/**
+		 * @param compressionThreshold the size in bytes below which data sent across a compressed RMI connection is not compressed
+		 * @return this builder instance
+		 * @throws IllegalArgumentException in case compressionThreshold is negative
+		 * @see ServerConfiguration#COMPRESSION_THRESHOLD
+		 */
+		B compressionThreshold(int compressionThreshold);
+
 		/**
 		 * @param objectInputFilterFactory the object input filter factory class name
 		 * @return this builder instance
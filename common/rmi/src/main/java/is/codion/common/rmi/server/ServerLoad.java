@@ -0,0 +1,65 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.rmi.server;
+
+/**
+ * A snapshot of the load on a server, as reported by {@link Server#load()}, used by {@link Server.Locator}
+ * to choose between servers sharing a registry.
+ * @see Server.Locator.Selection
+ */
+public interface ServerLoad {
+
+	/**
+	 * @return the number of connected clients
+	 */
+	int connections();
+
+	/**
+	 * @return the maximum number of connected clients, a negative number meaning no limit
+	 */
+	int connectionLimit();
+
+	/**
+	 * @return true if the server accepts new connections
+	 */
+	boolean connectionsAvailable();
+
+	/**
+	 * The utilization of the most utilized of the server resources, the connections relative to the connection
+	 * limit and, for a database backed server, the pooled connections in use relative to the pool size, for example.
+	 * @return the utilization in percent, 100 meaning saturated
+	 */
+	int utilization();
+
+	/**
+	 * @return a recent operation latency in milliseconds, -1 if unknown or if no operations have been served recently
+	 */
+	int latency();
+
+	/**
+	 * @param connections the number of connected clients
+	 * @param connectionLimit the maximum number of connected clients, a negative number meaning no limit
+	 * @param utilization the utilization in percent
+	 * @param latency a recent operation latency in milliseconds, -1 if unknown
+	 * @return a new {@link ServerLoad} instance
+	 */
+	static ServerLoad serverLoad(int connections, int connectionLimit, int utilization, int latency) {
+		return new DefaultServerLoad(connections, connectionLimit, utilization, latency);
+	}
+}
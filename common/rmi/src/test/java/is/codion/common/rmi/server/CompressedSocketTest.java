@@ -0,0 +1,176 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.common.rmi.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class CompressedSocketTest {
+
+	@Test
+	void frames() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] small = "small".getBytes(UTF_8);
+		byte[] large = "a large and quite repetitive payload, ".repeat(200).getBytes(UTF_8);
+		byte[] random = new byte[200_000];
+		new Random(42).nextBytes(random);
+		try (OutputStream out = new CompressedSocket.CompressedOutputStream(bytes, 1024)) {
+			out.write(small);
+			out.flush();
+			//nothing written, empty frames are skipped
+			out.flush();
+			out.write(large);
+			out.flush();
+			int afterLarge = bytes.size();
+			//compresses better the second time around, since the dictionary is retained
+			out.write(large);
+			out.flush();
+			assertTrue(bytes.size() - afterLarge < afterLarge - small.length - 5);
+			out.write(random);
+			out.flush();
+		}
+		//small frame sent uncompressed
+		assertEquals(0, bytes.toByteArray()[0]);
+		try (DataInputStream in = new DataInputStream(new CompressedSocket.CompressedInputStream(new ByteArrayInputStream(bytes.toByteArray())))) {
+			byte[] read = new byte[small.length];
+			in.readFully(read);
+			assertArrayEquals(small, read);
+			read = new byte[large.length];
+			in.readFully(read);
+			assertArrayEquals(large, read);
+			in.readFully(read);
+			assertArrayEquals(large, read);
+			read = new byte[random.length];
+			in.readFully(read);
+			assertArrayEquals(random, read);
+			assertEquals(-1, in.read());
+		}
+	}
+
+	@Test
+	void socket() throws Exception {
+		CompressedRMIServerSocketFactory serverSocketFactory = new CompressedRMIServerSocketFactory(null, 16);
+		CompressedRMIClientSocketFactory clientSocketFactory = new CompressedRMIClientSocketFactory(null, 16);
+		try (ServerSocket serverSocket = serverSocketFactory.createServerSocket(0)) {
+			Thread echo = new Thread(() -> {
+				try (Socket socket = serverSocket.accept()) {
+					DataInputStream in = new DataInputStream(socket.getInputStream());
+					DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+					String request;
+					while (!(request = in.readUTF()).isEmpty()) {
+						out.writeUTF(request.toUpperCase());
+						out.flush();
+					}
+				}
+				catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			echo.start();
+			try (Socket socket = clientSocketFactory.createSocket("localhost", serverSocket.getLocalPort())) {
+				assertInstanceOf(CompressedSocket.class, socket);
+				DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+				DataInputStream in = new DataInputStream(socket.getInputStream());
+				for (String request : new String[] {"hi", "hello there, ".repeat(100)}) {
+					out.writeUTF(request);
+					out.flush();
+					assertEquals(request.toUpperCase(), in.readUTF());
+				}
+				out.writeUTF("");
+				out.flush();
+			}
+			echo.join();
+		}
+	}
+
+	@Test
+	void invalidFrame() {
+		InputStream in = new CompressedSocket.CompressedInputStream(new ByteArrayInputStream(new byte[] {5, 0, 0, 0, 1, 1}));
+		assertThrows(IOException.class, in::read);
+	}
+
+	@Test
+	void invalidFrameLength() throws IOException {
+		for (int length : new int[] {-1, Integer.MAX_VALUE, 65_537}) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeByte(0);
+			out.writeInt(length);
+			InputStream in = new CompressedSocket.CompressedInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+			assertThrows(IOException.class, in::read);
+		}
+	}
+
+	@Test
+	void largeWritesSplitIntoFrames() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] random = new byte[200_000];
+		new Random(42).nextBytes(random);
+		try (OutputStream out = new CompressedSocket.CompressedOutputStream(bytes, Integer.MAX_VALUE)) {
+			out.write(random);
+		}
+		DataInputStream frames = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		int total = 0;
+		while (frames.read() != -1) {
+			int length = frames.readInt();
+			assertTrue(length <= 65_536);
+			frames.skipBytes(length);
+			total += length;
+		}
+		assertEquals(random.length, total);
+	}
+
+	@Test
+	void compressionBomb() throws IOException {
+		//a single frame, small on the wire, inflating to far more than a frame may contain
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+		deflater.setInput(new byte[10_000_000]);
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int length;
+		do {
+			length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+			compressed.write(buffer, 0, length);
+		}
+		while (length == buffer.length);
+		deflater.end();
+		assertTrue(compressed.size() < 65_536);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(1);
+		out.writeInt(compressed.size());
+		compressed.writeTo(out);
+		InputStream in = new CompressedSocket.CompressedInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		assertThrows(IOException.class, in::read);
+	}
+}
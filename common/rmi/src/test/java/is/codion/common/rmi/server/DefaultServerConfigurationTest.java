@@ -238,6 +238,49 @@ public class DefaultServerConfigurationTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Compression configuration")
+	class CompressionConfigurationTest {
+
+		@Test
+		@DisplayName("Compression disabled by default")
+		void compression_disabledByDefault() {
+			ServerConfiguration config = ServerConfiguration.builder().port(TEST_PORT).build();
+
+			assertFalse(config.compression());
+			assertEquals(ServerConfiguration.DEFAULT_COMPRESSION_THRESHOLD, config.compressionThreshold());
+			assertInstanceOf(SslRMIClientSocketFactory.class, config.rmiClientSocketFactory().get());
+		}
+
+		@Test
+		@DisplayName("Compression wraps the socket factories")
+		void compression_wrapsSocketFactories() {
+			ServerConfiguration config = ServerConfiguration.builder().port(TEST_PORT)
+							.compression(true)
+							.compressionThreshold(512)
+							.build();
+
+			assertTrue(config.compression());
+			assertEquals(512, config.compressionThreshold());
+			assertEquals(new CompressedRMIClientSocketFactory(new SslRMIClientSocketFactory(), 512), config.rmiClientSocketFactory().get());
+			assertEquals(new CompressedRMIServerSocketFactory(new SslRMIServerSocketFactory(), 512), config.rmiServerSocketFactory().get());
+
+			config = ServerConfiguration.builder().port(TEST_PORT)
+							.sslEnabled(false)
+							.compression(true)
+							.build();
+			assertEquals(new CompressedRMIClientSocketFactory(null, ServerConfiguration.DEFAULT_COMPRESSION_THRESHOLD),
+							config.rmiClientSocketFactory().get());
+		}
+
+		@Test
+		@DisplayName("Negative compression threshold throws exception")
+		void compressionThreshold_negative_throwsException() {
+			assertThrows(IllegalArgumentException.class, () ->
+							ServerConfiguration.builder().port(TEST_PORT).compressionThreshold(-1));
+		}
+	}
+
 	@Nested
 	@DisplayName("Auxiliary server configuration")
 	class AuxiliaryServerConfigurationTest {
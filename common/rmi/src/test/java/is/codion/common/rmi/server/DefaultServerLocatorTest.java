@@ -29,6 +29,7 @@ import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.util.Collection;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -50,7 +51,7 @@ public class DefaultServerLocatorTest {
 	private final AbstractServer<Remote, ServerAdmin> server;
 
 	public DefaultServerLocatorTest() throws RemoteException {
-		this.server = new TestServer(configuration);
+		this.server = new TestServer(configuration, 0);
 	}
 
 	@Test
@@ -104,13 +105,61 @@ public class DefaultServerLocatorTest {
 		}
 	}
 
+	@Test
+	void leastLoaded() throws RemoteException, NotBoundException {
+		String prefix = "DefaultServerLocatorTestLoad";
+		TestServer busy = new TestServer(ServerConfiguration.builder()
+						.port(12346)
+						.serverName(prefix + "Busy")
+						.sslEnabled(false)
+						.objectInputFilterFactoryRequired(false)
+						.build(), 80);
+		TestServer idle = new TestServer(ServerConfiguration.builder()
+						.port(12347)
+						.serverName(prefix + "Idle")
+						.sslEnabled(false)
+						.objectInputFilterFactoryRequired(false)
+						.build(), 10);
+		Registry registry = Server.Locator.registry(Registry.REGISTRY_PORT);
+		try {
+			registry.rebind(prefix + "Busy", busy);
+			registry.rebind(prefix + "Idle", idle);
+			for (Server.Locator.Selection selection : new Server.Locator.Selection[] {
+							Server.Locator.Selection.LEAST_LOADED, Server.Locator.Selection.TWO_CHOICES}) {
+				Server<Remote, ServerAdmin> located = Server.Locator.builder()
+								.hostname("localhost")
+								.namePrefix(prefix)
+								.registryPort(Registry.REGISTRY_PORT)
+								.selection(selection)
+								.locate();
+				assertEquals(prefix + "Idle", located.information().name());
+				assertEquals(10, located.load().utilization());
+			}
+		}
+		finally {
+			registry.unbind(prefix + "Busy");
+			registry.unbind(prefix + "Idle");
+			busy.shutdown();
+			idle.shutdown();
+			server.shutdown();
+		}
+	}
+
 	/**
 	 * Simple test server implementation for testing server location.
 	 */
 	private static class TestServer extends AbstractServer<Remote, ServerAdmin> {
 
-		private TestServer(ServerConfiguration configuration) throws RemoteException {
+		private final int utilization;
+
+		private TestServer(ServerConfiguration configuration, int utilization) throws RemoteException {
 			super(configuration);
+			this.utilization = utilization;
+		}
+
+		@Override
+		protected int utilization() {
+			return utilization;
 		}
 
 		@Override
@@ -24,6 +24,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.text.CollationKey;
 import java.text.Collator;
 import java.util.Arrays;
 import java.util.Collections;
@@ -77,6 +78,7 @@ public final class Text {
 	 * using the Collator for the {@link #COLLATOR_LANGUAGE} language, taking spaces into account.
 	 * <p>Note that the collator language is captured on first use; changing {@link #COLLATOR_LANGUAGE}
 	 * afterwards has no effect.
+	 * <p>The comparator returned is a {@link CollatorComparator}.
 	 * @param <T> the type of the objects to compare
 	 * @return a space aware collator
 	 * @see #COLLATOR_LANGUAGE
@@ -88,6 +90,7 @@ public final class Text {
 	/**
 	 * Creates a Comparator which compares the string representations of the objects
 	 * using the Collator for the given locale, taking spaces into account.
+	 * <p>The comparator returned is a {@link CollatorComparator}.
 	 * @param <T> the type of the objects to compare
 	 * @param locale the collator locale
 	 * @return a space aware collator
@@ -96,6 +99,23 @@ public final class Text {
 		return new SpaceAwareComparator<>(requireNonNull(locale));
 	}
 
+	/**
+	 * A {@link Comparator} comparing the string representations of objects using a {@link Collator},
+	 * providing the {@link CollationKey} of an object, for comparing the same objects repeatedly,
+	 * such as when sorting, without collating the strings on each comparison.
+	 * @param <T> the type of the objects to compare
+	 * @see #collator()
+	 * @see #collator(Locale)
+	 */
+	public interface CollatorComparator<T> extends Comparator<T> {
+
+		/**
+		 * @param object the object, null being collated as an empty string
+		 * @return the collation key of the given object, comparing to other keys as this comparator compares the objects
+		 */
+		CollationKey collationKey(@Nullable T object);
+	}
+
 	/**
 	 * Right pads the given string with the given pad character until a length of {@code length} has been reached
 	 * @param string the string to pad
@@ -181,7 +201,7 @@ public final class Text {
 		return false;
 	}
 
-	private static final class SpaceAwareComparator<T> implements Comparator<T>, Serializable {
+	private static final class SpaceAwareComparator<T> implements CollatorComparator<T>, Serializable {
 
 		@Serial
 		private static final long serialVersionUID = 1;
@@ -205,6 +225,11 @@ public final class Text {
 			return collator().compare(replaceSpacesWithUnderscore(s1), replaceSpacesWithUnderscore(s2));
 		}
 
+		@Override
+		public CollationKey collationKey(@Nullable T object) {
+			return collator().getCollationKey(replaceSpacesWithUnderscore(object == null ? "" : object.toString()));
+		}
+
 		/**
 		 * Efficiently replaces spaces with underscores using StringBuilder
 		 * to avoid creating multiple intermediate String objects.
@@ -66,6 +66,18 @@ public final class TextTest {
 		assertEquals(five, strings.get(3));
 	}
 
+	@Test
+	void collationKey() {
+		Text.CollatorComparator<String> collator = (Text.CollatorComparator<String>) Text.<String>collator(new Locale("is"));
+		List<String> strings = asList("tha", "þe", "æi", "aj", "bjö rn", "björn", null);
+		for (String one : strings) {
+			for (String two : strings) {
+				assertEquals(Integer.signum(collator.compare(one, two)),
+								Integer.signum(collator.collationKey(one).compareTo(collator.collationKey(two))));
+			}
+		}
+	}
+
 	@Test
 	void padString() {
 		String string = "hello";
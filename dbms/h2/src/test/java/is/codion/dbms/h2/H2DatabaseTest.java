@@ -28,7 +28,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -65,6 +67,23 @@ public class H2DatabaseTest {
 		assertEquals(H2Database.SEQUENCE_VALUE_QUERY + idSource, DATABASE.sequenceQuery(idSource));
 	}
 
+	@Test
+	void changeLogDDL() throws SQLException {
+		assertThrows(NullPointerException.class, () -> DATABASE.changeLogDDL(null));
+		H2Database database = new H2Database("jdbc:h2:mem:changelog");
+		try (Connection connection = database.createConnection(User.user("sa"));
+				 Statement statement = connection.createStatement()) {
+			statement.execute(database.changeLogDDL("change_log"));
+			statement.execute("insert into change_log (node, domain_type, entity_type, operation, entity_key, logged) " +
+							"values ('node', 'domain', 'entity', 'I', '1', 0)");
+			try (ResultSet resultSet = statement.executeQuery("select id, original_key from change_log")) {
+				assertTrue(resultSet.next());
+				assertTrue(resultSet.getLong(1) > 0);
+				assertNull(resultSet.getString(2));
+			}
+		}
+	}
+
 	@Test
 	void constructorNullUrl() {
 		assertThrows(NullPointerException.class, () -> new H2Database(null));
@@ -56,6 +56,11 @@ final class MySQLDatabase extends AbstractDatabase {
 		return AUTO_INCREMENT_QUERY;
 	}
 
+	@Override
+	public String changeLogDDL(String tableName) {
+		return createChangeLogDDL(tableName, "BIGINT AUTO_INCREMENT PRIMARY KEY", "BIGINT", "VARCHAR");
+	}
+
 	@Override
 	public String selectForUpdateClause() {
 		return FOR_UPDATE;
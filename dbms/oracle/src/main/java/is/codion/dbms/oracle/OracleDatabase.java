@@ -102,6 +102,11 @@ final class OracleDatabase extends AbstractDatabase {
 		return "SELECT " + requireNonNull(idSource) + ".CURRVAL FROM DUAL";
 	}
 
+	@Override
+	public String changeLogDDL(String tableName) {
+		return createChangeLogDDL(tableName, "NUMBER(19) GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY", "NUMBER(19)", "VARCHAR2");
+	}
+
 	@Override
 	public String sequenceQuery(String sequenceName) {
 		return "SELECT " + requireNonNull(sequenceName) + ".NEXTVAL FROM DUAL";
@@ -48,6 +48,11 @@ final class SQLiteDatabase extends AbstractDatabase {
 		return AUTO_INCREMENT_QUERY;
 	}
 
+	@Override
+	public String changeLogDDL(String tableName) {
+		return createChangeLogDDL(tableName, "INTEGER PRIMARY KEY AUTOINCREMENT", "INTEGER", "VARCHAR");
+	}
+
 	@Override
 	public String selectForUpdateClause() {
 		return FOR_UPDATE;
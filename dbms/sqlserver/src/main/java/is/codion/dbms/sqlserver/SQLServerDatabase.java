@@ -78,6 +78,11 @@ final class SQLServerDatabase extends AbstractDatabase {
 		return AUTO_INCREMENT_QUERY;
 	}
 
+	@Override
+	public String changeLogDDL(String tableName) {
+		return createChangeLogDDL(tableName, "BIGINT IDENTITY(1,1) PRIMARY KEY", "BIGINT", "NVARCHAR");
+	}
+
 	@Override
 	public boolean isAuthenticationException(SQLException exception) {
 		return requireNonNull(exception).getErrorCode() == AUTHENTICATION_ERROR;
@@ -23,12 +23,14 @@ import is.codion.common.db.exception.DatabaseException;
 import is.codion.common.utilities.user.User;
 import is.codion.demos.chinook.domain.api.Chinook.Playlist.RandomPlaylistParameters;
 import is.codion.demos.chinook.domain.api.Chinook.Track.RaisePriceParameters;
+import is.codion.framework.db.AsyncEntityConnection;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityConnection.Count;
 import is.codion.framework.db.EntityConnection.QueryCache;
 import is.codion.framework.db.EntityConnection.Select;
 import is.codion.framework.db.EntityConnection.Transactional;
 import is.codion.framework.db.EntityConnection.TransactionalResult;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.EntityConnection.Update;
 import is.codion.framework.db.EntityResultIterator;
 import is.codion.framework.db.local.LocalEntityConnection;
@@ -40,11 +42,13 @@ import is.codion.plugin.jasperreports.JasperReports;
 import net.sf.jasperreports.engine.JasperPrint;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static is.codion.demos.chinook.domain.api.Chinook.*;
 import static is.codion.framework.domain.entity.OrderBy.descending;
@@ -213,6 +217,24 @@ public final class EntityConnectionDemo {
 		// end::count[]
 	}
 
+	static void selects(EntityConnection connection) {
+		// tag::selects[]
+
+		List<List<Entity>> results = connection.selects(List.of(
+						Select.all(Genre.TYPE).build(),
+						Select.all(MediaType.TYPE).build(),
+						Select.where(Employee.TITLE.equalTo("IT Staff")).build()));
+
+		List<Entity> genres = results.get(0);
+		List<Entity> mediaTypes = results.get(1);
+		List<Entity> itStaff = results.get(2);
+
+		List<Integer> counts = connection.counts(List.of(
+						Count.all(Genre.TYPE),
+						Count.where(Employee.TITLE.equalTo("IT Staff"))));
+		// end::selects[]
+	}
+
 	static void insert(EntityConnection connection) {
 		// tag::insert[]
 
@@ -320,6 +342,55 @@ public final class EntityConnectionDemo {
 		// end::deleteKey[]
 	}
 
+	static void flush(EntityConnection connection) {
+		// tag::flush[]
+		Entities entities = connection.entities();
+
+		Entity customer = connection.selectSingle(Customer.ID.equalTo(42L));
+		List<Entity> tracks = connection.select(Track.NAME.like("Bad%"));
+
+		Entity invoice = entities.entity(Invoice.TYPE)
+						.with(Invoice.CUSTOMER_FK, customer)
+						.with(Invoice.DATE, LocalDate.now())
+						.build();
+
+		// The invoice id is generated on insert, the lines
+		// referencing the invoice instance receive it during flush
+		List<Entity> invoiceLines = tracks.stream()
+						.map(track -> entities.entity(InvoiceLine.TYPE)
+										.with(InvoiceLine.INVOICE_FK, invoice)
+										.with(InvoiceLine.TRACK_FK, track)
+										.with(InvoiceLine.UNITPRICE, track.get(Track.UNITPRICE))
+										.with(InvoiceLine.QUANTITY, 1)
+										.build())
+						.toList();
+
+		// Inserts, updates and deletes in a single transaction,
+		// ordered by their foreign key dependencies
+		Collection<Entity.Key> insertedKeys = connection.flush(UnitOfWork.builder()
+						.insert(invoiceLines)
+						.insert(invoice)
+						.build());
+		// end::flush[]
+	}
+
+	static void async(EntityConnection connection) {
+		// tag::async[]
+		AsyncEntityConnection async = connection.async();
+
+		// Both operations are sent without waiting for the other
+		CompletableFuture<List<Entity>> artists =
+						async.select(Artist.NAME.like("The %"));
+		CompletableFuture<Integer> albums =
+						async.count(Count.all(Album.TYPE));
+
+		artists.thenCombine(albums, (artistList, albumCount) ->
+										artistList.size() + " artists, " + albumCount + " albums")
+						.thenAccept(System.out::println)
+						.join();
+		// end::async[]
+	}
+
 	static void iterator(EntityConnection connection) {
 		// tag::iterator[]
 
@@ -555,11 +626,14 @@ public final class EntityConnectionDemo {
 		selectValues(connection);
 		dependencies(connection);
 		count(connection);
+		selects(connection);
 		insert(connection);
 		update(connection);
 		updateDemo(connection);
 		deleteCondition(connection);
 		deleteKey(connection);
+		flush(connection);
+		async(connection);
 		function(connection);
 		report(connection);
 		transaction(connection);
@@ -25,6 +25,8 @@ import is.codion.common.utilities.exceptions.Exceptions;
 import is.codion.common.utilities.resource.MessageBundle;
 import is.codion.common.utilities.user.User;
 import is.codion.common.utilities.version.Version;
+import is.codion.framework.db.AsyncEntityConnection;
+import is.codion.framework.db.EntitiesCache;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityResultIterator;
 import is.codion.framework.db.exception.EntityNotFoundException;
@@ -43,10 +45,13 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 import static is.codion.common.utilities.Serializer.deserialize;
 import static is.codion.common.utilities.Serializer.serialize;
@@ -57,6 +62,8 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static java.util.ResourceBundle.getBundle;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toUnmodifiableList;
 
 abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
@@ -85,6 +92,8 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 	protected final Entities entities;
 	protected final String[] headers;
 
+	private final AsyncEntityConnection async = AsyncEntityConnection.async(this, AsyncExecutor.EXECUTOR);
+
 	private boolean closed;
 	private @Nullable HttpQueryCache queryCache;
 
@@ -96,7 +105,7 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 	AbstractHttpEntityConnection(DefaultBuilder builder, String path) {
 		this.user = requireNonNull(builder.user, "user must be specified");
 		this.baseurl = createBaseUrl(builder, path);
-		this.transport = HttpTransport.instance(builder.connectTimeout, builder.socketTimeout);
+		this.transport = HttpTransport.instance(builder.connectTimeout, builder.socketTimeout, builder.compressionThreshold);
 		this.headers = initializeHeaders(builder, user);
 		this.id = requireNonNull(builder.connectionId, "connectionId must be specified");
 		this.clientType = requireNonNull(builder.clientType, "clientType must be specified");
@@ -145,6 +154,48 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 		}
 	}
 
+	/**
+	 * Not synchronized, the request being cancelled holding the transport lock.
+	 */
+	@Override
+	public final void cancel() {
+		try {
+			Request request = createRequest("cancel");
+			throwIfError(transport.post(request.url, headers, request.body));
+		}
+		catch (Exception exception) {
+			throw handleException(exception);
+		}
+	}
+
+	/**
+	 * Performs the blocking operations on a shared pool of daemon threads, so that they are sent one at a time
+	 * via the transport lock, along with the ones performed via this connection itself, participating in an
+	 * open transaction. Cancelling an operation in progress interrupts the thread performing it, which abandons
+	 * the request and cancels it on the server.
+	 * @return a non-blocking view of this connection
+	 */
+	@Override
+	public final AsyncEntityConnection async() {
+		return async;
+	}
+
+	/**
+	 * Cancels the request abandoned by an interrupted thread on the server. Sent synchronously while the
+	 * transport lock is still held, so that it can not reach a request sent after the abandoned one.
+	 */
+	private void cancelAbandoned() {
+		//the interrupted status is restored by handleException()
+		Thread.interrupted();
+		try {
+			Request request = createRequest("cancel");
+			throwIfError(transport.post(request.url, headers, request.body));
+		}
+		catch (Exception exception) {
+			LOG.warn("Unable to cancel an abandoned request", exception);
+		}
+	}
+
 	@Override
 	public final void startTransaction() {
 		synchronized (transport) {
@@ -268,12 +319,74 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 		return result;
 	}
 
+	/**
+	 * For use by {@link #selects(List)} implementations, must be called while holding the transport lock.
+	 * @param selects the selects
+	 * @return the cached result of each select, null for the ones to perform
+	 * @see #cachedResult(Select)
+	 */
+	protected final List<@Nullable List<Entity>> cachedResults(List<Select> selects) {
+		List<@Nullable List<Entity>> results = new ArrayList<>(selects.size());
+		for (Select select : selects) {
+			results.add(cachedResult(requireNonNull(select)));
+		}
+
+		return results;
+	}
+
+	/**
+	 * @param selects the selects
+	 * @param cachedResults the cached results, as returned by {@link #cachedResults(List)}
+	 * @return the selects to perform, the ones without a cached result
+	 */
+	protected static List<Select> uncached(List<Select> selects, List<@Nullable List<Entity>> cachedResults) {
+		List<Select> uncached = new ArrayList<>();
+		for (int i = 0; i < selects.size(); i++) {
+			if (cachedResults.get(i) == null) {
+				uncached.add(selects.get(i));
+			}
+		}
+
+		return uncached;
+	}
+
+	/**
+	 * For use by {@link #selects(List)} implementations, must be called while holding the transport lock.
+	 * @param selects the selects
+	 * @param cachedResults the cached results, as returned by {@link #cachedResults(List)}
+	 * @param selected the result of each select performed, in the order returned by {@link #uncached(List, List)}
+	 * @return the result of each select, the ones performed cached if a cache is active
+	 * @see #cacheResult(Select, List)
+	 */
+	protected final List<List<Entity>> cacheResults(List<Select> selects, List<@Nullable List<Entity>> cachedResults,
+																									List<List<Entity>> selected) {
+		List<List<Entity>> results = new ArrayList<>(selects.size());
+		int index = 0;
+		for (int i = 0; i < selects.size(); i++) {
+			List<Entity> cached = cachedResults.get(i);
+			results.add(cached == null ? cacheResult(selects.get(i), selected.get(index++)) : cached);
+		}
+
+		return results;
+	}
+
 	private static List<Entity> immutable(List<Entity> entities) {
 		return entities.stream()
 						.map(Entity::immutable)
 						.collect(toUnmodifiableList());
 	}
 
+	/**
+	 * @param entities the entities to update
+	 * @return copies of the given entities, containing only the values required to update them
+	 * @see Entity.Copy#delta()
+	 */
+	protected static List<Entity> delta(Collection<Entity> entities) {
+		return entities.stream()
+						.map(entity -> entity.copy().delta())
+						.collect(toList());
+	}
+
 	@Override
 	public final Entity.Key insert(Entity entity) {
 		return insert(singletonList(entity)).iterator().next();
@@ -361,7 +474,9 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 	private Entities initializeEntities() {
 		synchronized (transport) {
 			try {
-				return handleResponse(execute(createRequest("entities")));
+				Optional<EntitiesCache> cache = EntitiesCache.instance();
+
+				return cache.isPresent() ? initializeEntities(cache.get()) : handleResponse(execute(createRequest("entities")));
 			}
 			catch (Exception exception) {
 				throw handleException(exception);
@@ -369,8 +484,37 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 		}
 	}
 
-	protected final HttpTransport.Response execute(Request request) throws IOException {
-		return transport.post(request.url, headers, request.body);
+	private Entities initializeEntities(EntitiesCache cache) throws Exception {
+		String fingerprint = handleResponse(execute(createRequest("fingerprint")));
+		Optional<Entities> cached = cache.get(fingerprint);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+		Entities downloaded = handleResponse(execute(createRequest("entities")));
+		cache.put(fingerprint, downloaded);
+
+		return downloaded;
+	}
+
+	/**
+	 * Sends the given request, cancelling it on the server should the calling thread be interrupted meanwhile,
+	 * in case it holds the transport lock, a request sent without it, such as the changes long-poll, not being
+	 * the one a cancel would reach.
+	 * @param request the request
+	 * @return the response
+	 * @throws IOException in case of an exception
+	 * @throws InterruptedException in case the calling thread was interrupted while waiting for the response
+	 */
+	protected final HttpTransport.Response execute(Request request) throws IOException, InterruptedException {
+		try {
+			return transport.post(request.url, headers, request.body);
+		}
+		catch (InterruptedException e) {
+			if (Thread.holdsLock(transport)) {
+				cancelAbandoned();
+			}
+			throw e;
+		}
 	}
 
 	protected final Request createRequest(String path) {
@@ -396,7 +540,7 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 	/**
 	 * Returns the exception the given error response describes, the wire format of an error being mode specific.
 	 * <p>Note that this is called from the constructor, via {@link #initializeEntities()}, so it must not depend
-	 * on subclass state; the entities endpoint is the only request made before the subclass is initialized.
+	 * on subclass state; the entities and fingerprint endpoints are the only requests made before the subclass is initialized.
 	 * @param response the error response, its status being something other than 200
 	 * @return the exception to throw
 	 */
@@ -416,6 +560,16 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 		}
 	}
 
+	private static final class AsyncExecutor {
+
+		private static final Executor EXECUTOR = newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "codion-http-async-entity-connection");
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
 	protected static RuntimeException handleException(Exception exception) {
 		if (exception instanceof InterruptedException) {
 			Thread.currentThread().interrupt();
@@ -485,6 +639,7 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 		private boolean json = JSON.getOrThrow();
 		private int socketTimeout = SOCKET_TIMEOUT.getOrThrow();
 		private int connectTimeout = CONNECT_TIMEOUT.getOrThrow();
+		private int compressionThreshold = COMPRESSION_THRESHOLD.getOrThrow();
 		private User user;
 		private String clientType;
 		private UUID connectionId;
@@ -535,6 +690,11 @@ abstract class AbstractHttpEntityConnection implements HttpEntityConnection {
 			return this;
 		}
 
+		DefaultBuilder compressionThreshold(int compressionThreshold) {
+			this.compressionThreshold = compressionThreshold;
+			return this;
+		}
+
 		DefaultBuilder user(User user) {
 			this.user = requireNonNull(user);
 			return this;
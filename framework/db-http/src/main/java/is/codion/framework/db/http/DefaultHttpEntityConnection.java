@@ -18,12 +18,16 @@
  */
 package is.codion.framework.db.http;
 
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.domain.entity.Entity;
 import is.codion.framework.domain.entity.EntityType;
 import is.codion.framework.domain.entity.attribute.Column;
 import is.codion.framework.domain.entity.condition.Condition;
 
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +35,7 @@ import java.util.Map;
 import static is.codion.common.utilities.Serializer.deserialize;
 import static is.codion.common.utilities.Serializer.serialize;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -38,6 +43,7 @@ import static java.util.Objects.requireNonNull;
  */
 final class DefaultHttpEntityConnection extends AbstractHttpEntityConnection {
 
+
 	DefaultHttpEntityConnection(DefaultBuilder builder) {
 		super(builder, "/entities/serial/");
 	}
@@ -101,7 +107,7 @@ final class DefaultHttpEntityConnection extends AbstractHttpEntityConnection {
 		requireNonNull(entities);
 		synchronized (transport) {
 			try {
-				handleResponse(execute(createRequest("update", serialize(entities))));
+				handleResponse(execute(createRequest("update", serialize(delta(entities)))));
 			}
 			catch (Exception exception) {
 				throw handleException(exception);
@@ -114,7 +120,7 @@ final class DefaultHttpEntityConnection extends AbstractHttpEntityConnection {
 		requireNonNull(entities);
 		synchronized (transport) {
 			try {
-				return handleResponse(execute(createRequest("updateSelect", serialize(entities))));
+				return Entity.restore(handleResponse(execute(createRequest("updateSelect", serialize(delta(entities))))), entities);
 			}
 			catch (Exception exception) {
 				throw handleException(exception);
@@ -161,6 +167,19 @@ final class DefaultHttpEntityConnection extends AbstractHttpEntityConnection {
 		}
 	}
 
+	@Override
+	public Collection<Entity.Key> flush(UnitOfWork unitOfWork) {
+		requireNonNull(unitOfWork);
+		synchronized (transport) {
+			try {
+				return handleResponse(execute(createRequest("flush", serialize(unitOfWork))));
+			}
+			catch (Exception exception) {
+				throw handleException(exception);
+			}
+		}
+	}
+
 	@Override
 	public <T> List<T> select(Column<T> column, Select select) {
 		requireNonNull(column);
@@ -218,6 +237,23 @@ final class DefaultHttpEntityConnection extends AbstractHttpEntityConnection {
 		}
 	}
 
+	@Override
+	public List<List<Entity>> selects(List<Select> selects) {
+		requireNonNull(selects);
+		synchronized (transport) {
+			try {
+				List<@Nullable List<Entity>> cachedResults = cachedResults(selects);
+				List<Select> uncached = uncached(selects, cachedResults);
+
+				return cacheResults(selects, cachedResults, uncached.isEmpty() ? emptyList() :
+								handleResponse(execute(createRequest("selects", serialize(uncached)))));
+			}
+			catch (Exception exception) {
+				throw handleException(exception);
+			}
+		}
+	}
+
 	@Override
 	public int count(Count count) {
 		requireNonNull(count);
@@ -230,4 +266,28 @@ final class DefaultHttpEntityConnection extends AbstractHttpEntityConnection {
 			}
 		}
 	}
+
+	@Override
+	public List<Integer> counts(List<Count> counts) {
+		requireNonNull(counts);
+		synchronized (transport) {
+			try {
+				return handleResponse(execute(createRequest("counts", serialize(new ArrayList<>(counts)))));
+			}
+			catch (Exception exception) {
+				throw handleException(exception);
+			}
+		}
+	}
+
+	@Override
+	public EntityChanges changes(long position, int timeout) {
+		//a long-poll, which must not hold up the calls made meanwhile by holding the transport lock
+		try {
+			return handleResponse(execute(createRequest("changes", serialize(asList(position, timeout)))));
+		}
+		catch (Exception exception) {
+			throw handleException(exception);
+		}
+	}
 }
@@ -38,6 +38,7 @@ public final class DefaultHttpEntityConnectionBuilder
 	boolean json = HttpEntityConnection.JSON.getOrThrow();
 	int socketTimeout = HttpEntityConnection.SOCKET_TIMEOUT.getOrThrow();
 	int connectTimeout = HttpEntityConnection.CONNECT_TIMEOUT.getOrThrow();
+	int compressionThreshold = HttpEntityConnection.COMPRESSION_THRESHOLD.getOrThrow();
 
 	/**
 	 * Instantiates a new {@link DefaultHttpEntityConnectionBuilder}
@@ -88,6 +89,12 @@ public final class DefaultHttpEntityConnectionBuilder
 		return this;
 	}
 
+	@Override
+	public HttpEntityConnection.Builder compressionThreshold(int compressionThreshold) {
+		this.compressionThreshold = compressionThreshold;
+		return this;
+	}
+
 	@Override
 	protected HttpEntityConnection createConnection() {
 		return new ManagedHttpEntityConnection(this);
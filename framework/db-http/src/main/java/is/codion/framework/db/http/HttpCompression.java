@@ -0,0 +1,134 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db.http;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Request and response body compression, shared by the {@link HttpTransport} implementations.
+ * <p>Responses are always accepted gzip or deflate encoded, while request bodies are gzipped
+ * only when a threshold is configured and reached, since the server may not support inflating them.
+ * Neither transport decodes responses on its own, {@link java.net.http.HttpClient} not doing so at all and
+ * {@link java.net.HttpURLConnection} only doing so on Android, and only when the Accept-Encoding header is not set explicitly.
+ * @see HttpEntityConnection#COMPRESSION_THRESHOLD
+ */
+final class HttpCompression {
+
+	static final String ACCEPT_ENCODING = "Accept-Encoding";
+	static final String CONTENT_ENCODING = "Content-Encoding";
+
+	private static final String GZIP = "gzip";
+	private static final String DEFLATE = "deflate";
+	private static final String ACCEPTED_ENCODINGS = GZIP + ", " + DEFLATE;
+
+	private final int threshold;
+
+	/**
+	 * @param threshold the request body size in bytes from which to compress, a negative value for none
+	 */
+	HttpCompression(int threshold) {
+		this.threshold = threshold;
+	}
+
+	/**
+	 * @param headers the request headers, as a flat array of name, value, name, value...
+	 * @param body the request body, null for none
+	 * @return the headers to send along with the given body, including the accepted and content encoding
+	 */
+	String[] headers(String[] headers, byte @Nullable [] body) {
+		boolean compress = compress(body);
+		String[] requestHeaders = new String[headers.length + (compress ? 4 : 2)];
+		System.arraycopy(headers, 0, requestHeaders, 0, headers.length);
+		requestHeaders[headers.length] = ACCEPT_ENCODING;
+		requestHeaders[headers.length + 1] = ACCEPTED_ENCODINGS;
+		if (compress) {
+			requestHeaders[headers.length + 2] = CONTENT_ENCODING;
+			requestHeaders[headers.length + 3] = GZIP;
+		}
+
+		return requestHeaders;
+	}
+
+	/**
+	 * @param body the request body, null for none
+	 * @return the body to send, gzipped in case it reaches the threshold
+	 * @throws IOException in case of an exception
+	 */
+	byte @Nullable [] body(byte @Nullable [] body) throws IOException {
+		if (!compress(body)) {
+			return body;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 4);
+		try (GZIPOutputStream outputStream = new GZIPOutputStream(bytes)) {
+			outputStream.write(body);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @param body the response body
+	 * @param contentEncoding the response content encoding, null for none
+	 * @return the decoded response body
+	 * @throws IOException in case the encoding is unsupported or the body could not be decoded
+	 */
+	static byte[] decode(byte[] body, @Nullable String contentEncoding) throws IOException {
+		if (contentEncoding == null || contentEncoding.isEmpty() || body.length == 0) {
+			return body;
+		}
+		String encoding = contentEncoding.trim();
+		if (encoding.equalsIgnoreCase(GZIP)) {
+			return read(new GZIPInputStream(new ByteArrayInputStream(body)));
+		}
+		if (encoding.equalsIgnoreCase(DEFLATE)) {
+			return read(new InflaterInputStream(new ByteArrayInputStream(body)));
+		}
+		if (encoding.equalsIgnoreCase("identity")) {
+			return body;
+		}
+
+		throw new IOException("Unsupported response content encoding: " + contentEncoding);
+	}
+
+	private boolean compress(byte @Nullable [] body) {
+		return body != null && threshold >= 0 && body.length >= threshold;
+	}
+
+	// Read manually rather than via InputStream.readAllBytes(), which is API 33+ on Android
+	private static byte[] read(InputStream inputStream) throws IOException {
+		try (inputStream) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				bytes.write(buffer, 0, read);
+			}
+
+			return bytes.toByteArray();
+		}
+	}
+}
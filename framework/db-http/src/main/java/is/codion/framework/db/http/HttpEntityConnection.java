@@ -19,6 +19,7 @@
 package is.codion.framework.db.http;
 
 import is.codion.common.utilities.property.PropertyValue;
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 
 import static is.codion.common.utilities.Configuration.*;
@@ -28,6 +29,9 @@ import static is.codion.common.utilities.Configuration.*;
  * <p>
  * <b>Limitations:</b> {@code iterator(Condition)} and {@code iterator(Select)} are not
  * supported on http connections; they throw {@link UnsupportedOperationException}.
+ * <p>
+ * Delivers the changes committed by other clients via {@link #changes(long, int)}, in case the change feed
+ * is enabled on the server, the timeout of which should be shorter than the {@link #SOCKET_TIMEOUT}.
  * @see #HOSTNAME
  * @see #PORT
  * @see #SECURE_PORT
@@ -36,7 +40,7 @@ import static is.codion.common.utilities.Configuration.*;
  * @see #SOCKET_TIMEOUT
  * @see #CONNECT_TIMEOUT
  */
-public interface HttpEntityConnection extends EntityConnection {
+public interface HttpEntityConnection extends EntityConnection, EntityChanges.Feed {
 
 	/**
 	 * The host on which to locate the http server
@@ -107,6 +111,17 @@ public interface HttpEntityConnection extends EntityConnection {
 	 */
 	PropertyValue<Integer> CONNECT_TIMEOUT = integerValue("codion.client.http.connectTimeout", 10_000);
 
+	/**
+	 * <p>The request body size in bytes from which request bodies are gzip compressed, a negative value for none.
+	 * <p>Disabled by default, since a server not supporting compressed requests would reject them. Responses
+	 * are accepted compressed regardless, compressing those being up to the server.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: -1 (no compression)
+	 * </ul>
+	 */
+	PropertyValue<Integer> COMPRESSION_THRESHOLD = integerValue("codion.client.http.compressionThreshold", -1);
+
 	/**
 	 * <p>Instantiates a builder for a self-managing {@link HttpEntityConnection}, one which connects on demand
 	 * and reconnects when the underlying connection has gone bad, serving for the lifetime of a client.
@@ -164,5 +179,12 @@ public interface HttpEntityConnection extends EntityConnection {
 		 * @return this builder instance
 		 */
 		Builder connectTimeout(int connectTimeout);
+
+		/**
+		 * @param compressionThreshold the request body size in bytes from which to compress it, a negative value for none
+		 * @return this builder instance
+		 * @see #COMPRESSION_THRESHOLD
+		 */
+		Builder compressionThreshold(int compressionThreshold);
 	}
 }
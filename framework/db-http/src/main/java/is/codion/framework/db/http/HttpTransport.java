@@ -33,18 +33,21 @@ interface HttpTransport {
 
 	/**
 	 * Sends a POST request to the given url and returns the response.
+	 * <p>Where the transport allows, the calling thread being interrupted abandons the request, which the
+	 * connection then cancels on the server.
 	 * @param url the full request url
 	 * @param headers the request headers, as a flat array of name, value, name, value...
 	 * @param body the request body or null in case of no body
 	 * @return the response
 	 * @throws IOException in case of an I/O error
+	 * @throws InterruptedException in case the calling thread was interrupted while waiting for the response
 	 */
-	Response post(String url, String[] headers, byte @Nullable [] body) throws IOException;
+	Response post(String url, String[] headers, byte @Nullable [] body) throws IOException, InterruptedException;
 
 	/**
 	 * An HTTP response.
 	 * @param statusCode the HTTP status code
-	 * @param body the response body
+	 * @param body the response body, decoded in case it was compressed
 	 */
 	record Response(int statusCode, byte[] body) {}
 
@@ -54,16 +57,17 @@ interface HttpTransport {
 	 * available — notably on Android.
 	 * @param connectTimeout the connect timeout in milliseconds
 	 * @param socketTimeout the socket (read) timeout in milliseconds
+	 * @param compressionThreshold the request body size in bytes from which to compress it, a negative value for none
 	 * @return a new {@link HttpTransport} instance
 	 */
-	static HttpTransport instance(int connectTimeout, int socketTimeout) {
+	static HttpTransport instance(int connectTimeout, int socketTimeout, int compressionThreshold) {
 		// JdkHttpTransport is the sole java.net.http reference, constructed only in the present-branch, so it stays
 		// unloaded — and the module unresolved — where java.net.http is unavailable.
 		if (httpClientAvailable()) {
-			return new JdkHttpTransport(connectTimeout, socketTimeout);
+			return new JdkHttpTransport(connectTimeout, socketTimeout, compressionThreshold);
 		}
 
-		return new UrlConnectionTransport(connectTimeout, socketTimeout);
+		return new UrlConnectionTransport(connectTimeout, socketTimeout, compressionThreshold);
 	}
 
 	private static boolean httpClientAvailable() {
@@ -29,8 +29,15 @@ import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 
+import static is.codion.framework.db.http.HttpCompression.CONTENT_ENCODING;
+import static is.codion.framework.db.http.HttpCompression.decode;
+
 /**
  * The default {@link HttpTransport} implementation, based on {@link java.net.http.HttpClient}.
  * This is the only place {@code java.net.http} is referenced, isolating it from platforms where
@@ -40,8 +47,9 @@ final class JdkHttpTransport implements HttpTransport {
 
 	private final HttpClient httpClient;
 	private final @Nullable Duration socketTimeout;
+	private final HttpCompression compression;
 
-	JdkHttpTransport(int connectTimeout, int socketTimeout) {
+	JdkHttpTransport(int connectTimeout, int socketTimeout, int compressionThreshold) {
 		HttpClient.Builder builder = HttpClient.newBuilder()
 						.executor(new SynchronousExecutor())
 						.cookieHandler(new CookieManager());
@@ -52,10 +60,66 @@ final class JdkHttpTransport implements HttpTransport {
 		}
 		this.httpClient = builder.build();
 		this.socketTimeout = socketTimeout > 0 ? Duration.ofMillis(socketTimeout) : null;
+		this.compression = new HttpCompression(compressionThreshold);
 	}
 
+	/**
+	 * An interrupted caller abandons the request, the exchange being aborted, and the connection then cancels
+	 * the request on the server.
+	 */
 	@Override
-	public Response post(String url, String[] headers, byte @Nullable [] body) throws IOException {
+	public Response post(String url, String[] headers, byte @Nullable [] body) throws IOException, InterruptedException {
+		CompletableFuture<Response> response = postAsync(url, headers, body);
+		try {
+			return response.get();
+		}
+		catch (InterruptedException e) {
+			response.cancel(true);
+			throw e;
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Cancelling the returned future aborts the exchange.
+	 */
+	private CompletableFuture<Response> postAsync(String url, String[] headers, byte @Nullable [] body) {
+		HttpRequest request;
+		try {
+			request = request(url, compression.headers(headers, body), compression.body(body));
+		}
+		catch (IOException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(request, BodyHandlers.ofByteArray());
+		CompletableFuture<Response> response = exchange.thenApply(JdkHttpTransport::response);
+		//cancelling a dependent stage does not reach the exchange
+		response.whenComplete((result, exception) -> {
+			if (exception instanceof CancellationException) {
+				exchange.cancel(true);
+			}
+		});
+
+		return response;
+	}
+
+	private static Response response(HttpResponse<byte[]> response) {
+		try {
+			return new Response(response.statusCode(),
+							decode(response.body(), response.headers().firstValue(CONTENT_ENCODING).orElse(null)));
+		}
+		catch (IOException e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	private HttpRequest request(String url, String[] headers, byte @Nullable [] body) {
 		HttpRequest.Builder builder = HttpRequest.newBuilder()
 						.uri(URI.create(url))
 						.POST(body == null ? BodyPublishers.noBody() : BodyPublishers.ofByteArray(body))
@@ -63,16 +127,8 @@ final class JdkHttpTransport implements HttpTransport {
 		if (socketTimeout != null) {
 			builder.timeout(socketTimeout);
 		}
-		HttpRequest request = builder.build();
-		try {
-			HttpResponse<byte[]> response = httpClient.send(request, BodyHandlers.ofByteArray());
 
-			return new Response(response.statusCode(), response.body());
-		}
-		catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			throw new IOException(e);
-		}
+		return builder.build();
 	}
 
 	private static final class SynchronousExecutor implements Executor {
@@ -21,6 +21,7 @@ package is.codion.framework.db.http;
 import is.codion.common.db.database.Database.Operation;
 import is.codion.common.db.exception.AuthenticationException;
 import is.codion.common.db.exception.DatabaseException;
+import is.codion.common.db.exception.QueryCancelledException;
 import is.codion.common.db.exception.QueryTimeoutException;
 import is.codion.common.db.exception.ReferentialIntegrityException;
 import is.codion.common.db.exception.UniqueConstraintException;
@@ -28,12 +29,14 @@ import is.codion.common.db.operation.FunctionType;
 import is.codion.common.db.operation.ProcedureType;
 import is.codion.common.db.report.ReportException;
 import is.codion.common.db.report.ReportType;
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.exception.DeleteEntityException;
 import is.codion.framework.db.exception.EntityModifiedException;
 import is.codion.framework.db.exception.EntityNotFoundException;
 import is.codion.framework.db.exception.InsertEntityException;
 import is.codion.framework.db.exception.MultipleEntitiesFoundException;
+import is.codion.framework.db.exception.ServerBusyException;
 import is.codion.framework.db.exception.UpdateEntityException;
 import is.codion.framework.domain.DomainType;
 import is.codion.framework.domain.entity.Entity;
@@ -50,18 +53,23 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static is.codion.framework.json.db.DatabaseObjectMapper.COUNT_RESULTS_REFERENCE;
+import static is.codion.framework.json.db.DatabaseObjectMapper.ENTITY_LISTS_REFERENCE;
 import static is.codion.framework.json.db.DatabaseObjectMapper.databaseObjectMapper;
 import static is.codion.framework.json.domain.EntityObjectMapper.ENTITY_LIST_REFERENCE;
 import static is.codion.framework.json.domain.EntityObjectMapper.KEY_LIST_REFERENCE;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -70,6 +78,14 @@ import static java.util.Objects.requireNonNull;
 final class JsonHttpEntityConnection extends AbstractHttpEntityConnection {
 
 	private static final String PARAMETER = "parameter";
+	private static final String POSITION = "position";
+	private static final String TIMEOUT = "timeout";
+	private static final String INSERTED = "inserted";
+	private static final String UPDATED = "updated";
+	private static final String DELETED = "deleted";
+	private static final String RESET = "reset";
+	private static final String ORIGINAL = "original";
+	private static final String CURRENT = "current";
 
 	private final DatabaseObjectMapper objectMapper;
 
@@ -126,7 +142,7 @@ final class JsonHttpEntityConnection extends AbstractHttpEntityConnection {
 		synchronized (transport) {
 			try {
 				throwIfError(execute(createJsonRequest("update",
-								objectMapper.writeValueAsString(entities))));
+								objectMapper.writeValueAsString(delta(entities)))));
 			}
 			catch (Exception exception) {
 				throw handleException(exception);
@@ -139,8 +155,8 @@ final class JsonHttpEntityConnection extends AbstractHttpEntityConnection {
 		requireNonNull(entities);
 		synchronized (transport) {
 			try {
-				return handleJsonResponse(execute(createJsonRequest("updateSelect",
-								objectMapper.writeValueAsString(entities))), objectMapper, ENTITY_LIST_REFERENCE);
+				return Entity.restore(handleJsonResponse(execute(createJsonRequest("updateSelect",
+								objectMapper.writeValueAsString(delta(entities)))), objectMapper, ENTITY_LIST_REFERENCE), entities);
 			}
 			catch (Exception exception) {
 				throw handleException(exception);
@@ -190,6 +206,20 @@ final class JsonHttpEntityConnection extends AbstractHttpEntityConnection {
 		}
 	}
 
+	@Override
+	public Collection<Entity.Key> flush(UnitOfWork unitOfWork) {
+		requireNonNull(unitOfWork);
+		synchronized (transport) {
+			try {
+				return handleJsonResponse(execute(createJsonRequest("flush",
+								objectMapper.writeValueAsString(unitOfWork))), objectMapper, KEY_LIST_REFERENCE);
+			}
+			catch (Exception exception) {
+				throw handleException(exception);
+			}
+		}
+	}
+
 	@Override
 	public <T> List<T> select(Column<T> column, Select select) {
 		requireNonNull(column);
@@ -241,6 +271,24 @@ final class JsonHttpEntityConnection extends AbstractHttpEntityConnection {
 		}
 	}
 
+	@Override
+	public List<List<Entity>> selects(List<Select> selects) {
+		requireNonNull(selects);
+		synchronized (transport) {
+			try {
+				List<@Nullable List<Entity>> cachedResults = cachedResults(selects);
+				List<Select> uncached = uncached(selects, cachedResults);
+
+				return cacheResults(selects, cachedResults, uncached.isEmpty() ? emptyList() :
+								handleJsonResponse(execute(createJsonRequest("selects",
+												objectMapper.writeValueAsString(uncached))), objectMapper, ENTITY_LISTS_REFERENCE));
+			}
+			catch (Exception exception) {
+				throw handleException(exception);
+			}
+		}
+	}
+
 	@Override
 	public Map<EntityType, Collection<Entity>> dependencies(Collection<Entity> entities) {
 		requireNonNull(entities);
@@ -275,6 +323,20 @@ final class JsonHttpEntityConnection extends AbstractHttpEntityConnection {
 		}
 	}
 
+	@Override
+	public List<Integer> counts(List<Count> counts) {
+		requireNonNull(counts);
+		synchronized (transport) {
+			try {
+				return handleJsonResponse(execute(createJsonRequest("counts",
+								objectMapper.writeValueAsString(counts))), objectMapper, COUNT_RESULTS_REFERENCE);
+			}
+			catch (Exception exception) {
+				throw handleException(exception);
+			}
+		}
+	}
+
 	@Override
 	public <C extends EntityConnection, P, R> R execute(FunctionType<C, P, R> functionType, P parameter) {
 		requireNonNull(functionType);
@@ -338,6 +400,39 @@ final class JsonHttpEntityConnection extends AbstractHttpEntityConnection {
 		}
 	}
 
+	@Override
+	public EntityChanges changes(long position, int timeout) {
+		ObjectNode request = objectMapper.createObjectNode();
+		request.put(POSITION, position);
+		request.put(TIMEOUT, timeout);
+		//a long-poll, which must not hold up the calls made meanwhile by holding the transport lock
+		try {
+			return changes(handleJsonResponse(execute(createJsonRequest("changes", request.toString())), objectMapper, JsonNode.class));
+		}
+		catch (Exception exception) {
+			throw handleException(exception);
+		}
+	}
+
+	/**
+	 * @param node the changes, with the updated keys as a list of original/current pairs
+	 * @return the changes
+	 */
+	private EntityChanges changes(JsonNode node) {
+		if (node.path(RESET).asBoolean()) {
+			return EntityChanges.reset(node.get(POSITION).asLong());
+		}
+		Map<Entity.Key, Entity.Key> updated = new LinkedHashMap<>();
+		for (JsonNode pair : node.get(UPDATED)) {
+			updated.put(objectMapper.convertValue(pair.get(ORIGINAL), Entity.Key.class),
+							objectMapper.convertValue(pair.get(CURRENT), Entity.Key.class));
+		}
+
+		return EntityChanges.entityChanges(node.get(POSITION).asLong(),
+						objectMapper.convertValue(node.get(INSERTED), KEY_LIST_REFERENCE), updated,
+						objectMapper.convertValue(node.get(DELETED), KEY_LIST_REFERENCE));
+	}
+
 	/**
 	 * Reconstructs the exception the given error envelope describes.
 	 * <p>The envelope's {@link ErrorKind} maps to a known constructor, nothing on the wire names a class. An
@@ -368,6 +463,8 @@ final class JsonHttpEntityConnection extends AbstractHttpEntityConnection {
 			case AUTHENTICATION:
 				return new AuthenticationException(message);
 			case BAD_REQUEST:
+			case PAYLOAD_TOO_LARGE:
+			case UNSUPPORTED_MEDIA_TYPE:
 				return new IllegalArgumentException(message);
 			case ILLEGAL_STATE:
 				return new IllegalStateException(message);
@@ -389,6 +486,10 @@ final class JsonHttpEntityConnection extends AbstractHttpEntityConnection {
 				return new DeleteEntityException(message);
 			case QUERY_TIMEOUT:
 				return new QueryTimeoutException(message);
+			case QUERY_CANCELLED:
+				return new QueryCancelledException(message);
+			case SERVER_BUSY:
+				return new ServerBusyException(message);
 			case REPORT:
 				return new ReportException(message);
 			default:
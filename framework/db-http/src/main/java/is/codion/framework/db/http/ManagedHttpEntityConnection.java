@@ -20,6 +20,7 @@ package is.codion.framework.db.http;
 
 import is.codion.common.utilities.exceptions.Exceptions;
 import is.codion.framework.db.AbstractEntityConnection;
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 
 import org.slf4j.Logger;
@@ -46,6 +47,7 @@ final class ManagedHttpEntityConnection extends AbstractEntityConnection
 	private final boolean json;
 	private final int socketTimeout;
 	private final int connectTimeout;
+	private final int compressionThreshold;
 
 	ManagedHttpEntityConnection(DefaultHttpEntityConnectionBuilder builder) {
 		super(builder);
@@ -56,6 +58,7 @@ final class ManagedHttpEntityConnection extends AbstractEntityConnection
 		this.json = builder.json;
 		this.socketTimeout = builder.socketTimeout;
 		this.connectTimeout = builder.connectTimeout;
+		this.compressionThreshold = builder.compressionThreshold;
 	}
 
 	@Override
@@ -63,6 +66,11 @@ final class ManagedHttpEntityConnection extends AbstractEntityConnection
 		return Optional.of(DESCRIPTION.optional().orElse(hostname));
 	}
 
+	@Override
+	public EntityChanges changes(long position, int timeout) {
+		return ((EntityChanges.Feed) delegate()).changes(position, timeout);
+	}
+
 	@Override
 	protected EntityConnection connect() {
 		try {
@@ -82,6 +90,7 @@ final class ManagedHttpEntityConnection extends AbstractEntityConnection
 							.https(https)
 							.socketTimeout(socketTimeout)
 							.connectTimeout(connectTimeout)
+							.compressionThreshold(compressionThreshold)
 							.build();
 		}
 		catch (Exception e) {
@@ -31,6 +31,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import static is.codion.framework.db.http.HttpCompression.CONTENT_ENCODING;
+import static is.codion.framework.db.http.HttpCompression.decode;
+
 /**
  * A {@link HttpTransport} based on {@link HttpURLConnection}, the universally available (JVM and Android) HTTP
  * client. Used as the default when {@code java.net.http} is absent — notably Android, where {@link HttpURLConnection}
@@ -44,10 +47,12 @@ final class UrlConnectionTransport implements HttpTransport {
 	private final CookieManager cookieManager = new CookieManager();
 	private final int connectTimeout;
 	private final int socketTimeout;
+	private final HttpCompression compression;
 
-	UrlConnectionTransport(int connectTimeout, int socketTimeout) {
+	UrlConnectionTransport(int connectTimeout, int socketTimeout, int compressionThreshold) {
 		this.connectTimeout = Math.max(connectTimeout, 0);
 		this.socketTimeout = Math.max(socketTimeout, 0);
+		this.compression = new HttpCompression(compressionThreshold);
 	}
 
 	@Override
@@ -58,21 +63,23 @@ final class UrlConnectionTransport implements HttpTransport {
 		connection.setConnectTimeout(connectTimeout);
 		connection.setReadTimeout(socketTimeout);
 		// headers arrive as a flat [name, value, name, value...] array
-		for (int i = 0; i < headers.length - 1; i += 2) {
-			connection.addRequestProperty(headers[i], headers[i + 1]);
+		String[] requestHeaders = compression.headers(headers, body);
+		for (int i = 0; i < requestHeaders.length - 1; i += 2) {
+			connection.addRequestProperty(requestHeaders[i], requestHeaders[i + 1]);
 		}
 		addCookies(connection, uri);
-		if (body != null) {
+		byte[] requestBody = compression.body(body);
+		if (requestBody != null) {
 			connection.setDoOutput(true);
-			connection.setFixedLengthStreamingMode(body.length);
+			connection.setFixedLengthStreamingMode(requestBody.length);
 			try (OutputStream outputStream = connection.getOutputStream()) {
-				outputStream.write(body);
+				outputStream.write(requestBody);
 			}
 		}
 		int statusCode = connection.getResponseCode();
 		cookieManager.put(uri, connection.getHeaderFields());
 
-		return new Response(statusCode, responseBody(connection, statusCode));
+		return new Response(statusCode, decode(responseBody(connection, statusCode), connection.getHeaderField(CONTENT_ENCODING)));
 	}
 
 	private void addCookies(HttpURLConnection connection, URI uri) throws IOException {
@@ -25,6 +25,7 @@
  * <li>{@link is.codion.framework.db.http.HttpEntityConnection#JSON}
  * <li>{@link is.codion.framework.db.http.HttpEntityConnection#SOCKET_TIMEOUT}
  * <li>{@link is.codion.framework.db.http.HttpEntityConnection#SOCKET_TIMEOUT}
+ * <li>{@link is.codion.framework.db.http.HttpEntityConnection#COMPRESSION_THRESHOLD}
  * </ul>
  */
 @org.jspecify.annotations.NullMarked
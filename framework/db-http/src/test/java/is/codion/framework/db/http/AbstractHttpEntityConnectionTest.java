@@ -23,9 +23,11 @@ import is.codion.common.db.database.Database.Operation;
 import is.codion.common.db.exception.ReferentialIntegrityException;
 import is.codion.common.db.report.Report;
 import is.codion.common.rmi.client.Clients;
+import is.codion.framework.db.AsyncEntityConnection;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityConnection.QueryCache;
 import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.EntityConnection.Update;
 import is.codion.framework.db.exception.EntityModifiedException;
 import is.codion.framework.db.exception.EntityNotFoundException;
@@ -328,6 +330,92 @@ abstract class AbstractHttpEntityConnectionTest {
 		assertEquals(4, connection.count(all(Department.TYPE)));
 	}
 
+	@Test
+	void flush() {
+		Entity department = connection.entities().entity(Department.TYPE)
+						.with(Department.ID, 55L)
+						.with(Department.NAME, "flushed")
+						.with(Department.LOCATION, "loc")
+						.build();
+		Entity employee = connection.entities().entity(Employee.TYPE)
+						.with(Employee.NAME, "flushed")
+						.with(Employee.DEPARTMENT_FK, department)
+						.with(Employee.SALARY, 1000d)
+						.build();
+		List<Entity.Key> keys = new ArrayList<>(connection.flush(UnitOfWork.builder()
+						.insert(employee)
+						.insert(department)
+						.build()));
+		assertEquals(2, keys.size());
+		assertEquals(55L, connection.select(keys.get(0)).get(Employee.DEPARTMENT));
+		connection.flush(UnitOfWork.builder()
+						.delete(keys)
+						.build());
+		assertEquals(0, connection.count(where(Department.ID.equalTo(55L))));
+	}
+
+	@Test
+	void async() throws Exception {
+		AsyncEntityConnection async = connection.async();
+		Entity department = connection.entities().entity(Department.TYPE)
+						.with(Department.ID, 56L)
+						.with(Department.NAME, "async")
+						.with(Department.LOCATION, "loc")
+						.build();
+		Entity.Key key = async.insert(department).get();
+		assertEquals(1, async.count(where(Department.ID.equalTo(56L))).get());
+		department.set(Department.NAME, "updated");
+		async.update(department).get();
+		assertEquals("updated", async.select(key(key)).get().get(0).get(Department.NAME));
+		async.delete(key).get();
+		assertTrue(async.select(Department.ID.equalTo(56L)).get().isEmpty());
+	}
+
+	@Test
+	void asyncTransaction() throws Exception {
+		AsyncEntityConnection async = connection.async();
+		Entity department = connection.entities().entity(Department.TYPE)
+						.with(Department.ID, 57L)
+						.with(Department.NAME, "async")
+						.with(Department.LOCATION, "loc")
+						.build();
+		connection.startTransaction();
+		try {
+			async.insert(department).get();
+			assertEquals(1, connection.count(where(Department.ID.equalTo(57L))));
+		}
+		finally {
+			connection.rollbackTransaction();
+		}
+		//the async insert participated in the transaction
+		assertEquals(0, async.count(where(Department.ID.equalTo(57L))).get());
+	}
+
+	@Test
+	void rowCounts() {
+		assertEquals(asList(4, 1), connection.counts(asList(all(Department.TYPE),
+						where(Department.ID.equalTo(10L)))));
+	}
+
+	@Test
+	void selects() {
+		Select departments = Select.all(Department.TYPE).build();
+		Select managers = Select.where(Employee.JOB.equalTo("MANAGER")).build();
+		List<List<Entity>> selected = connection.selects(asList(departments, managers,
+						Select.where(Department.ID.equalTo(-1L)).build()));
+		assertEquals(3, selected.size());
+		assertEquals(4, selected.get(0).size());
+		assertEquals(connection.select(managers).size(), selected.get(1).size());
+		assertTrue(selected.get(2).isEmpty());
+		try (QueryCache cache = connection.cacheQueries()) {
+			List<Entity> cachedDepartments = connection.select(departments);
+			selected = connection.selects(asList(managers, departments));
+			assertEquals(connection.select(managers), selected.get(0));
+			//served from the cache
+			assertSame(cachedDepartments, selected.get(1));
+		}
+	}
+
 	@Test
 	void selectValues() {
 		List<String> values = connection.select(Department.NAME);
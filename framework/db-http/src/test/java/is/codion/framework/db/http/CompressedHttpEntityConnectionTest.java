@@ -0,0 +1,39 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db.http;
+
+import is.codion.common.utilities.user.User;
+
+/**
+ * Runs the connection tests with every request body gzipped.
+ */
+public final class CompressedHttpEntityConnectionTest extends AbstractHttpEntityConnectionTest {
+
+	private static final User UNIT_TEST_USER =
+					User.parse(System.getProperty("codion.test.user", "scott:tiger"));
+
+	public CompressedHttpEntityConnectionTest() {
+		super(HttpEntityConnection.builder()
+						.json(false)
+						.domain(TestDomain.DOMAIN)
+						.user(UNIT_TEST_USER)
+						.clientType("CompressedHttpEntityConnectionTest")
+						.compressionThreshold(0));
+	}
+}
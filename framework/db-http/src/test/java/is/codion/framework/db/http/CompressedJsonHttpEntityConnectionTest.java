@@ -0,0 +1,101 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db.http;
+
+import is.codion.common.utilities.user.User;
+import is.codion.framework.servlet.EntityService;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the connection tests with every request body gzipped, along with the
+ * server's handling of request bodies it refuses to inflate.
+ */
+public final class CompressedJsonHttpEntityConnectionTest extends AbstractHttpEntityConnectionTest {
+
+	private static final User UNIT_TEST_USER =
+					User.parse(System.getProperty("codion.test.user", "scott:tiger"));
+
+	public CompressedJsonHttpEntityConnectionTest() {
+		super(HttpEntityConnection.builder()
+						.json(true)
+						.domain(TestDomain.DOMAIN)
+						.user(UNIT_TEST_USER)
+						.clientType("CompressedJsonHttpEntityConnectionTest")
+						.compressionThreshold(0));
+	}
+
+	@Test
+	void unsupportedContentEncoding() throws Exception {
+		JsonHttpEntityConnection connection = connection();
+		HttpTransport.Response response = post(connection, "br", "{}".getBytes(UTF_8));
+		assertEquals(415, response.statusCode());
+		assertEquals(IllegalArgumentException.class, connection.decodeError(response).getClass());
+	}
+
+	@Test
+	void inflatedRequestTooLarge() throws Exception {
+		//a few kilobytes inflating beyond the default maximum
+		byte[] whitespace = new byte[EntityService.MAXIMUM_INFLATED_REQUEST_SIZE.getOrThrow() + 1];
+		Arrays.fill(whitespace, (byte) ' ');
+		JsonHttpEntityConnection connection = connection();
+		HttpTransport.Response response = post(connection, "gzip", gzip(whitespace));
+		assertEquals(413, response.statusCode());
+		assertEquals(IllegalArgumentException.class, connection.decodeError(response).getClass());
+	}
+
+	private static HttpTransport.Response post(JsonHttpEntityConnection connection, String contentEncoding,
+																						 byte[] body) throws IOException, InterruptedException {
+		String[] headers = Arrays.copyOf(connection.headers, connection.headers.length + 2);
+		headers[headers.length - 2] = HttpCompression.CONTENT_ENCODING;
+		headers[headers.length - 1] = contentEncoding;
+
+		return connection.transport.post(connection.baseurl + "count", headers, body);
+	}
+
+	private static JsonHttpEntityConnection connection() {
+		//a raw connection, which does not compress, the content encoding header being set by hand
+		return (JsonHttpEntityConnection) new AbstractHttpEntityConnection.DefaultBuilder()
+						.json(true)
+						.domain(TestDomain.DOMAIN)
+						.user(UNIT_TEST_USER)
+						.clientType("CompressedJsonHttpEntityConnectionTest")
+						.compressionThreshold(-1)
+						.connectionId(UUID.randomUUID())
+						.build();
+	}
+
+	private static byte[] gzip(byte[] bytes) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(outputStream)) {
+			gzip.write(bytes);
+		}
+
+		return outputStream.toByteArray();
+	}
+}
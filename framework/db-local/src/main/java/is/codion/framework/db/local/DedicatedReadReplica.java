@@ -0,0 +1,114 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db.local;
+
+import is.codion.common.db.database.Database;
+import is.codion.common.db.exception.DatabaseException;
+import is.codion.common.utilities.user.User;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static is.codion.framework.db.EntityConnection.VALIDITY_CHECK_INTERVAL;
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * A {@link ReadReplica} based on a single connection, kept open between reads.
+ */
+final class DedicatedReadReplica implements ReadReplica {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DedicatedReadReplica.class);
+
+	private final Database database;
+	private final User user;
+
+	private @Nullable Connection connection;
+	private long validated;
+
+	DedicatedReadReplica(Database database, User user) {
+		this.database = database;
+		this.user = user;
+	}
+
+	@Override
+	public synchronized Connection connection() {
+		if (connection != null && valid(connection)) {
+			return connection;
+		}
+		if (connection != null) {
+			LOG.info("Read replica connection invalid, reconnecting: {}", user);
+			close(connection);
+		}
+		connection = connect();
+		validated = currentTimeMillis();
+
+		return connection;
+	}
+
+	/**
+	 * Kept open for the next read.
+	 * @param connection the connection
+	 */
+	@Override
+	public void release(Connection connection) {}
+
+	@Override
+	public String toString() {
+		return "ReadReplica: " + user + "@" + database.name();
+	}
+
+	private boolean valid(Connection connection) {
+		if (currentTimeMillis() - validated < VALIDITY_CHECK_INTERVAL.getOrThrow()) {
+			return true;
+		}
+		if (database.connectionValid(connection)) {
+			validated = currentTimeMillis();
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private Connection connect() {
+		Connection replicaConnection = database.createConnection(user);
+		try {
+			replicaConnection.setAutoCommit(false);
+
+			return replicaConnection;
+		}
+		catch (SQLException e) {
+			close(replicaConnection);
+			throw new DatabaseException(e, "Unable to disable auto-commit on a read replica connection");
+		}
+	}
+
+	private static void close(Connection connection) {
+		try {
+			connection.close();
+		}
+		catch (SQLException e) {
+			LOG.debug("Unable to close a read replica connection", e);
+		}
+	}
+}
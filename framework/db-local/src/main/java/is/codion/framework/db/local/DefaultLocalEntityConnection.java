@@ -21,12 +21,14 @@ package is.codion.framework.db.local;
 import is.codion.common.db.database.Database;
 import is.codion.common.db.database.Database.Operation;
 import is.codion.common.db.exception.DatabaseException;
+import is.codion.common.db.exception.QueryCancelledException;
 import is.codion.common.db.operation.FunctionType;
 import is.codion.common.db.operation.ProcedureType;
 import is.codion.common.db.report.ReportType;
 import is.codion.common.utilities.exceptions.Exceptions;
 import is.codion.common.utilities.resource.MessageBundle;
 import is.codion.common.utilities.user.User;
+import is.codion.framework.db.AsyncEntityConnection;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityResultIterator;
 import is.codion.framework.db.exception.DeleteEntityException;
@@ -35,6 +37,7 @@ import is.codion.framework.db.exception.EntityNotFoundException;
 import is.codion.framework.db.exception.InsertEntityException;
 import is.codion.framework.db.exception.MultipleEntitiesFoundException;
 import is.codion.framework.db.exception.UpdateEntityException;
+import is.codion.framework.db.interrupt.InterruptWatcher;
 import is.codion.framework.db.local.tracer.MethodTracer;
 import is.codion.framework.domain.Domain;
 import is.codion.framework.domain.entity.Entities;
@@ -64,15 +67,20 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -92,6 +100,7 @@ import static is.codion.framework.domain.entity.OrderBy.ascending;
 import static is.codion.framework.domain.entity.attribute.ForeignKeyDefinition.REFERENCE_DEPTH;
 import static is.codion.framework.domain.entity.condition.Condition.*;
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.*;
 import static java.util.Objects.requireNonNull;
 import static java.util.ResourceBundle.getBundle;
@@ -107,7 +116,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 	private static final Map<String, User> META_DATA_USERS = new ConcurrentHashMap<>();
 	private static final String EXECUTE_UPDATE = "executeUpdate";
 	private static final String EXECUTE_QUERY = "executeQuery";
+	private static final String EXECUTE_BATCH = "executeBatch";
 	private static final String RECORD_MODIFIED = "record_modified";
+	private static final String QUERY_CANCELLED = "query_cancelled";
 	private static final String ENTITIES = "entities may not be null";
 	private static final String ENTITY = "entity may not be null";
 	private static final String SELECT_MAY_NOT_BE_NULL = "select may not be null";
@@ -115,11 +126,25 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 	private static final String EXECUTE = "execute";
 	private static final String REPORT = "report";
 	private static final Function<Entity, Entity> IMMUTABLE = Entity::immutable;
+	private static final ThreadFactory ASYNC_THREADS = Thread.ofVirtual().name("codion-async-entity-connection").factory();
+
+	/**
+	 * Performs the operations of the {@link #async()} view of a local connection, each on a virtual thread of its own,
+	 * waiting for the database costing next to nothing. Note that the operations on a single connection are still
+	 * performed one at a time, each waiting for the connection lock.
+	 */
+	static final Executor ASYNC_EXECUTOR = operation -> ASYNC_THREADS.newThread(operation).start();
 
 	private final Domain domain;
 	private final User user;
 	private final Database database;
-	private final Lock lock = new Lock();
+	/**
+	 * Guards this connection's statements, so that a connection shared between threads (such as a Swing worker
+	 * and the EDT) does not interleave statements. Note that this is per-connection, connections do not lock
+	 * against each other. A {@link ReentrantLock} rather than a monitor, since a virtual thread, performing an
+	 * operation of the {@link #async()} view, waiting on a monitor pins its carrier thread.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
 	private final SelectQueries selectQueries;
 	private final Map<EntityType, Boolean> generatedKeysCache = new HashMap<>();
 	private final Map<EntityType, List<ColumnDefinition<?>>> generatedColumnsCache = new HashMap<>();
@@ -135,11 +160,29 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 	private boolean limitReferenceDepth = LIMIT_REFERENCE_DEPTH.getOrThrow();
 	private int iteratorBufferSize = ITERATOR_BUFFER_SIZE.getOrThrow();
 	private int queryTimeout = QUERY_TIMEOUT.getOrThrow();
+	private int readYourWrites = READ_YOUR_WRITES.getOrThrow();
 
 	private @Nullable DefaultQueryCache queryCache;
 	private @Nullable Connection connection;
 	private @Nullable UUID id;
 	private boolean transactionOpen = false;
+	/**
+	 * The statement execution in progress, if any, see {@link #cancel()}
+	 */
+	private volatile @Nullable Execution execution;
+	private @Nullable ReadReplica readReplica;
+	/**
+	 * The replica connection the read in progress is being performed on, if any, see {@link #readFromReplica()}
+	 */
+	private @Nullable Connection replicaConnection;
+	/**
+	 * True while writes have been performed but not yet committed
+	 */
+	private boolean written = false;
+	/**
+	 * The time of the last commit following a write
+	 */
+	private long lastWrite = 0;
 
 	/**
 	 * Constructs a new LocalEntityConnection instance
@@ -189,13 +232,17 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 	 */
 	@Override
 	public UUID id() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			if (id == null) {
 				id = UUID.randomUUID();
 			}
 
 			return id;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -209,21 +256,30 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 
 	@Override
 	public boolean connected() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			return connectionValid();
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public void close() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			closeConnection();
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public void startTransaction() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			tracer.enter("startTransaction");
 			SQLException exception = null;
 			try {
@@ -242,18 +298,26 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				tracer.exit("startTransaction", exception);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public boolean transactionOpen() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			return transactionOpen;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public void rollbackTransaction() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			tracer.enter("rollbackTransaction");
 			SQLException exception = null;
 			try {
@@ -262,6 +326,7 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				}
 				verifyOpenConnection().rollback();
 				transactionOpen = false;
+				written = false;
 			}
 			catch (SQLException e) {
 				exception = e;
@@ -272,11 +337,15 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				tracer.exit("rollbackTransaction", exception);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public void commitTransaction() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			tracer.enter("commitTransaction");
 			SQLException exception = null;
 			try {
@@ -285,6 +354,7 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				}
 				verifyOpenConnection().commit();
 				transactionOpen = false;
+				committed();
 			}
 			catch (SQLException e) {
 				exception = e;
@@ -295,17 +365,37 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				tracer.exit("commitTransaction", exception);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public QueryCache cacheQueries() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			if (queryCache != null) {
 				throw new IllegalStateException("A query cache is already active on this connection");
 			}
 
 			return queryCache = new DefaultQueryCache();
 		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public AsyncEntityConnection async() {
+		return AsyncEntityConnection.async(this, ASYNC_EXECUTOR);
+	}
+
+	@Override
+	public void cancel() {
+		Execution current = execution;
+		if (current != null) {
+			current.cancel();
+		}
 	}
 
 	@Override
@@ -374,7 +464,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		List<Object> statementValues = new ArrayList<>();
 		List<ColumnDefinition<?>> statementColumns = new ArrayList<>();
 		String updateQuery = createUpdateQuery(update, statementColumns, statementValues);
-		synchronized (lock) {
+		lock.lock();
+		try {
 			try (PreparedStatement statement = prepareStatement(updateQuery)) {
 				int updatedRows = executeUpdate(statement, updateQuery, statementColumns, statementValues, UPDATE);
 				commitIfTransactionIsNotOpen();
@@ -387,6 +478,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throw database.exception(e, UPDATE);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -397,7 +491,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		List<?> statementValues = condition.values();
 		List<ColumnDefinition<?>> statementColumns = definitions(condition.columns());
 		String deleteQuery = deleteQuery(entityDefinition.table(), condition.string(entityDefinition));
-		synchronized (lock) {
+		lock.lock();
+		try {
 			try (PreparedStatement statement = prepareStatement(deleteQuery)) {
 				int deleteCount = executeUpdate(statement, deleteQuery, statementColumns, statementValues, DELETE);
 				commitIfTransactionIsNotOpen();
@@ -410,6 +505,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throw database.exception(e, DELETE);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -430,7 +528,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		List<ColumnDefinition<?>> statementColumns = emptyList();
 		Condition condition = null;
 		String deleteQuery = null;
-		synchronized (lock) {
+		lock.lock();
+		try {
 			try {
 				int deleteCount = 0;
 				for (Map.Entry<EntityType, List<Key>> entityTypeKeys : keysByEntityType.entrySet()) {
@@ -459,6 +558,44 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throw Exceptions.runtime(exception);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Collection<Key> flush(UnitOfWork unitOfWork) {
+		if (requireNonNull(unitOfWork, "unitOfWork may not be null").empty()) {
+			return emptyList();
+		}
+		lock.lock();
+		try {
+			return EntityConnection.transaction(this, () -> {
+				//identity based, the references being the very instances inserted
+				Set<Entity> inserted = newSetFromMap(new IdentityHashMap<>());
+				Map<EntityType, List<Entity>> insertsByEntityType = groupByType(unitOfWork.inserts());
+				for (EntityType entityType : dependencyOrder(insertsByEntityType.keySet())) {
+					flushInserts(insertsByEntityType.get(entityType), inserted);
+				}
+				if (!unitOfWork.updates().isEmpty()) {
+					unitOfWork.updates().forEach(entity -> resolveReferences(entity, inserted));
+					update(unitOfWork.updates(), null);
+				}
+				Map<EntityType, List<Key>> deletesByEntityType = Key.groupByType(unitOfWork.deletes());
+				List<EntityType> deleteOrder = dependencyOrder(deletesByEntityType.keySet());
+				reverse(deleteOrder);
+				for (EntityType entityType : deleteOrder) {
+					delete(deletesByEntityType.get(entityType));
+				}
+
+				return unitOfWork.inserts().stream()
+								.map(Entity::primaryKey)
+								.collect(toUnmodifiableList());
+			});
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -490,7 +627,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 			return emptyList();
 		}
 
-		synchronized (lock) {
+		lock.lock();
+		try {
+			boolean replica = readFromReplica();
 			try {
 				List<Entity> result = new ArrayList<>();
 				for (List<Key> entityTypeKeys : groupByType(keys).values()) {
@@ -508,6 +647,12 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throwDatabaseException(exception, SELECT);
 				throw Exceptions.runtime(exception);
 			}
+			finally {
+				releaseReplica(replica);
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -519,7 +664,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 	@Override
 	public List<Entity> select(Select select) {
 		requireNonNull(select, SELECT_MAY_NOT_BE_NULL);
-		synchronized (lock) {
+		lock.lock();
+		try {
+			boolean replica = !select.forUpdate() && readFromReplica();
 			try {
 				List<Entity> result = query(select);
 				if (!select.forUpdate()) {
@@ -533,6 +680,43 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throwDatabaseException(exception, SELECT);
 				throw Exceptions.runtime(exception);
 			}
+			finally {
+				releaseReplica(replica);
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public List<List<Entity>> selects(List<Select> selects) {
+		requireNonNull(selects, "selects may not be null").forEach(select -> requireNonNull(select, SELECT_MAY_NOT_BE_NULL));
+		lock.lock();
+		try {
+			boolean replica = selects.stream().noneMatch(Select::forUpdate) && readFromReplica();
+			try {
+				List<List<Entity>> result = new ArrayList<>(selects.size());
+				for (Select select : selects) {
+					result.add(query(select));
+				}
+				if (selects.stream().noneMatch(Select::forUpdate)) {
+					commitIfTransactionIsNotOpen();
+				}
+
+				return result;
+			}
+			catch (Exception exception) {
+				rollbackQuietlyIfTransactionIsNotOpen();
+				throwDatabaseException(exception, SELECT);
+				throw Exceptions.runtime(exception);
+			}
+			finally {
+				releaseReplica(replica);
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -574,7 +758,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		String selectQuery = queryBuilder.build();
 		List<Object> statementValues = statementValues(combinedCondition, select.having());
 		List<ColumnDefinition<?>> statementColumns = statementColumns(combinedCondition, select.having());
-		synchronized (lock) {
+		lock.lock();
+		try {
+			boolean replica = readFromReplica();
 			try (PreparedStatement statement = prepareStatement(selectQuery);
 					 ResultSet resultSet = executeQuery(statement, selectQuery, statementColumns, statementValues)) {
 				List<T> result = packResult(columnDefinition, resultSet);
@@ -588,34 +774,67 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throwDatabaseException(exception, SELECT);
 				throw Exceptions.runtime(exception);
 			}
+			finally {
+				releaseReplica(replica);
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
 	@Override
 	public int count(Count count) {
-		EntityDefinition entityDefinition = definition(requireNonNull(count, "count may not be null").where().entityType());
-		String selectQuery = selectQueries.builder(entityDefinition)
-						.count(count)
-						.build();
-		List<Object> statementValues = statementValues(count.where(), count.having());
-		List<ColumnDefinition<?>> statementColumns = statementColumns(count.where(), count.having());
-		synchronized (lock) {
-			try (PreparedStatement statement = prepareStatement(selectQuery);
-					 ResultSet resultSet = executeQuery(statement, selectQuery, statementColumns, statementValues)) {
-				if (!resultSet.next()) {
-					throw new SQLException("Row count query returned no value", SQL_STATE_NO_DATA);
+		requireNonNull(count, "count may not be null");
+		lock.lock();
+		try {
+			boolean replica = readFromReplica();
+			try {
+				int result = query(count);
+				commitIfTransactionIsNotOpen();
+
+				return result;
+			}
+			catch (Exception exception) {
+				rollbackQuietlyIfTransactionIsNotOpen();
+				throwDatabaseException(exception, SELECT);
+				throw Exceptions.runtime(exception);
+			}
+			finally {
+				releaseReplica(replica);
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public List<Integer> counts(List<Count> counts) {
+		requireNonNull(counts, "counts may not be null").forEach(count -> requireNonNull(count, "count may not be null"));
+		lock.lock();
+		try {
+			boolean replica = readFromReplica();
+			try {
+				List<Integer> result = new ArrayList<>(counts.size());
+				for (Count count : counts) {
+					result.add(query(count));
 				}
-				int result = resultSet.getInt(1);
 				commitIfTransactionIsNotOpen();
 
 				return result;
 			}
 			catch (Exception exception) {
 				rollbackQuietlyIfTransactionIsNotOpen();
-				LOG.error(createLogMessage(selectQuery, statementValues, statementColumns, exception), exception);
 				throwDatabaseException(exception, SELECT);
 				throw Exceptions.runtime(exception);
 			}
+			finally {
+				releaseReplica(replica);
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -632,7 +851,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		}
 
 		Map<EntityType, Collection<Entity>> dependencyMap = new HashMap<>();
-		synchronized (lock) {
+		lock.lock();
+		try {
 			try {
 				List<Entity> entityList = new ArrayList<>(entities);
 				for (ForeignKeyDefinition foreignKeyReference : hardForeignKeyReferences(entityTypes.iterator().next())) {
@@ -658,6 +878,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throw Exceptions.runtime(exception);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -671,8 +894,11 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		Exception exception = null;
 		tracer.enter(EXECUTE, functionType, parameter);
 		try {
-			synchronized (lock) {
+			lock.lock();
+			try {
 				boolean transactionWasOpen = transactionOpen;
+				//a function may write via the underlying connection, out of sight
+				written = true;
 				try {
 					R result = domain.function(functionType).execute((C) this, parameter);
 					commitIfTransactionIsNotOpen();
@@ -690,6 +916,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 					throw Exceptions.runtime(e);
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		finally {
 			tracer.exit(EXECUTE, exception);
@@ -707,8 +936,11 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		Exception exception = null;
 		tracer.enter(EXECUTE, procedureType, parameter);
 		try {
-			synchronized (lock) {
+			lock.lock();
+			try {
 				boolean transactionWasOpen = transactionOpen;
+				//a procedure may write via the underlying connection, out of sight
+				written = true;
 				try {
 					domain.procedure(procedureType).execute((C) this, parameter);
 					commitIfTransactionIsNotOpen();
@@ -724,6 +956,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 					throw Exceptions.runtime(e);
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		finally {
 			tracer.exit(EXECUTE, exception);
@@ -735,7 +970,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		requireNonNull(reportType, "reportType may not be null");
 		Exception exception = null;
 		tracer.enter(REPORT, reportType, parameter);
-		synchronized (lock) {
+		lock.lock();
+		try {
+			boolean replica = readFromReplica();
 			try {
 				R result = domain.report(reportType).fill(verifyOpenConnection(), parameter);
 				commitIfTransactionIsNotOpen();
@@ -750,9 +987,13 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throw Exceptions.runtime(e);
 			}
 			finally {
+				releaseReplica(replica);
 				tracer.exit(REPORT, exception);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -762,7 +1003,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 
 	@Override
 	public EntityResultIterator iterator(Select select) {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			try {
 				EntityResultIterator iterator = resultIterator(select);
 				if (noForeignKeysToPopulate(select)) {
@@ -775,11 +1017,15 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throw database.exception(e, SELECT);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public Connection connection() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			try {
 				return verifyOpenConnection();
 			}
@@ -787,6 +1033,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throw new DatabaseException(e);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -796,51 +1045,79 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 
 	@Override
 	public boolean optimisticLocking() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			return optimisticLocking;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public void optimisticLocking(boolean optimisticLocking) {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			this.optimisticLocking = optimisticLocking;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public int iteratorBufferSize() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			return iteratorBufferSize;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public void iteratorBufferSize(int iteratorBufferSize) {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			this.iteratorBufferSize = iteratorBufferSize;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public boolean limitReferenceDepth() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			return limitReferenceDepth;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public void limitReferenceDepth(boolean limitReferenceDepth) {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			this.limitReferenceDepth = limitReferenceDepth;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public int queryTimeout() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			return queryTimeout;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -848,38 +1125,101 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		if (queryTimeout < 0) {
 			throw new IllegalArgumentException("queryTimeout must be >= 0");
 		}
-		synchronized (lock) {
+		lock.lock();
+		try {
 			this.queryTimeout = queryTimeout;
 		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Optional<ReadReplica> readReplica() {
+		lock.lock();
+		try {
+			return Optional.ofNullable(readReplica);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void readReplica(@Nullable ReadReplica readReplica) {
+		lock.lock();
+		try {
+			this.readReplica = readReplica;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int readYourWrites() {
+		lock.lock();
+		try {
+			return readYourWrites;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void readYourWrites(int readYourWrites) {
+		if (readYourWrites < 0) {
+			throw new IllegalArgumentException("readYourWrites must be >= 0");
+		}
+		lock.lock();
+		try {
+			this.readYourWrites = readYourWrites;
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public void tracer(MethodTracer tracer) {
 		requireNonNull(tracer);
-		synchronized (lock) {
+		lock.lock();
+		try {
 			this.tracer = tracer;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public void attach(Connection connection) {
 		requireNonNull(connection);
-		synchronized (lock) {
+		lock.lock();
+		try {
 			//a connection this domain has not configured is not one it can be used with, and with a pool
 			//attaching is where a connection first arrives, the constructor having seen only the first one
 			domain.configure(connection);
 			this.connection = connection;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
 	public @Nullable Connection detach() {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			Connection connection = this.connection;
 			this.connection = null;
 
 			return connection;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	private Collection<Key> insert(Collection<Entity> entities, @Nullable Collection<Entity> insertedEntities) {
@@ -890,7 +1230,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		List<ColumnDefinition<?>> statementColumns = new ArrayList<>();
 		Map<EntityType, Set<Column<?>>> lazyColumns = new HashMap<>();
 		String insertQuery = null;
-		synchronized (lock) {
+		lock.lock();
+		try {
 			try {
 				for (Entity entity : entities) {
 					EntityDefinition entityDefinition = definition(entity.type());
@@ -942,6 +1283,139 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throw Exceptions.runtime(exception);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Inserts the given entities, all of the same type, as a single batch in case no values are generated
+	 * on insert, otherwise one by one, resolving references to entities inserted before each insert.
+	 */
+	private void flushInserts(List<Entity> entities, Set<Entity> inserted) {
+		EntityDefinition entityDefinition = definition(entities.get(0).type());
+		if (generatedColumns(entityDefinition).isEmpty()) {
+			entities.forEach(entity -> resolveReferences(entity, inserted));
+			insertBatch(entityDefinition, entities);
+			inserted.addAll(entities);
+		}
+		else {
+			for (Entity entity : entities) {
+				resolveReferences(entity, inserted);
+				insert(singletonList(entity), null);
+				inserted.add(entity);
+			}
+		}
+	}
+
+	/**
+	 * Inserts the given entities using batched statements, consecutive entities inserting the same columns
+	 * sharing a single statement. Only for entities without generated values, since generated values
+	 * are fetched per statement.
+	 */
+	private void insertBatch(EntityDefinition entityDefinition, List<Entity> entities) {
+		throwIfReadOnly(entities);
+
+		List<ColumnDefinition<?>> insertableColumns = insertableColumns(entityDefinition);
+		List<ColumnDefinition<?>> statementColumns = new ArrayList<>();
+		List<List<Object>> batchValues = new ArrayList<>();
+		String insertQuery = null;
+		lock.lock();
+		try {
+			try {
+				int index = 0;
+				while (index < entities.size()) {
+					statementColumns.clear();
+					batchValues.clear();
+					batchValues.add(insertValues(entities.get(index++), insertableColumns, statementColumns));
+					List<ColumnDefinition<?>> columns = new ArrayList<>(statementColumns.size());
+					while (index < entities.size()) {
+						columns.clear();
+						List<Object> values = insertValues(entities.get(index), insertableColumns, columns);
+						if (!columns.equals(statementColumns)) {
+							break;
+						}
+						batchValues.add(values);
+						index++;
+					}
+					insertQuery = insertQuery(entityDefinition.table(), statementColumns);
+					try (PreparedStatement statement = prepareStatement(insertQuery)) {
+						int[] insertedRows = executeBatch(statement, insertQuery, statementColumns, batchValues, INSERT);
+						for (int rows : insertedRows) {
+							if (rows != 1 && rows != Statement.SUCCESS_NO_INFO) {
+								throw new InsertEntityException(format("Single row insert affected %d rows, entityType: %s", rows, entityDefinition.type()));
+							}
+						}
+					}
+				}
+			}
+			catch (Exception exception) {
+				LOG.error(createLogMessage(insertQuery, batchValues.isEmpty() ? emptyList() : batchValues.get(0), statementColumns, exception), exception);
+				throwDatabaseException(exception, INSERT);
+				throw Exceptions.runtime(exception);
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private static List<Object> insertValues(Entity entity, List<ColumnDefinition<?>> insertableColumns,
+																					 List<ColumnDefinition<?>> statementColumns) throws InsertEntityException {
+		List<Object> statementValues = new ArrayList<>();
+		populateColumnsAndValues(entity, insertableColumns, statementColumns, statementValues,
+						column -> entity.contains(column.attribute()));
+		if (statementColumns.isEmpty()) {
+			throw new InsertEntityException("Unable to insert entity " + entity.type() + ", no values to insert");
+		}
+
+		return statementValues;
+	}
+
+	/**
+	 * Populates the reference columns of foreign keys referencing an entity already inserted,
+	 * with the key it was inserted with, generated or not.
+	 */
+	private void resolveReferences(Entity entity, Set<Entity> inserted) {
+		for (ForeignKeyDefinition foreignKeyDefinition : definition(entity.type()).foreignKeys().definitions()) {
+			Entity referenced = entity.get(foreignKeyDefinition.attribute());
+			if (referenced != null && inserted.contains(referenced)) {
+				for (Reference<?> reference : foreignKeyDefinition.references()) {
+					if (!foreignKeyDefinition.readOnly(reference.column())) {
+						setReference(entity, reference, referenced);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the given entity types, ordered so that referenced types precede the ones referencing them,
+	 * otherwise in their original order, which also applies in case of circular references
+	 */
+	private List<EntityType> dependencyOrder(Set<EntityType> entityTypes) {
+		List<EntityType> ordered = new ArrayList<>(entityTypes.size());
+		Set<EntityType> remaining = new LinkedHashSet<>(entityTypes);
+		while (!remaining.isEmpty()) {
+			EntityType next = remaining.stream()
+							.filter(entityType -> !referencesAny(entityType, remaining))
+							.findFirst()
+							.orElse(remaining.iterator().next());
+			ordered.add(next);
+			remaining.remove(next);
+		}
+
+		return ordered;
+	}
+
+	private boolean referencesAny(EntityType entityType, Set<EntityType> entityTypes) {
+		return definition(entityType).foreignKeys().get().stream()
+						.map(ForeignKey::referencedType)
+						.anyMatch(referencedType -> !referencedType.equals(entityType) && entityTypes.contains(referencedType));
+	}
+
+	private static <T> void setReference(Entity entity, Reference<T> reference, Entity referenced) {
+		entity.set(reference.column(), referenced.get(reference.foreign()));
 	}
 
 	private <T> void generateBeforeInsert(Entity entity, ColumnDefinition<T> column) throws SQLException {
@@ -964,7 +1438,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		List<Object> statementValues = new ArrayList<>();
 		List<ColumnDefinition<?>> statementColumns = new ArrayList<>();
 		String updateQuery = null;
-		synchronized (lock) {
+		lock.lock();
+		try {
 			try {
 				if (optimisticLocking) {
 					performOptimisticLocking(entitiesByEntityType);
@@ -1020,6 +1495,9 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 				throw Exceptions.runtime(exception);
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -1084,6 +1562,27 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		return updateQuery;
 	}
 
+	private int query(Count count) throws SQLException {
+		EntityDefinition entityDefinition = definition(count.where().entityType());
+		String selectQuery = selectQueries.builder(entityDefinition)
+						.count(count)
+						.build();
+		List<Object> statementValues = statementValues(count.where(), count.having());
+		List<ColumnDefinition<?>> statementColumns = statementColumns(count.where(), count.having());
+		try (PreparedStatement statement = prepareStatement(selectQuery);
+				 ResultSet resultSet = executeQuery(statement, selectQuery, statementColumns, statementValues)) {
+			if (!resultSet.next()) {
+				throw new SQLException("Row count query returned no value", SQL_STATE_NO_DATA);
+			}
+
+			return resultSet.getInt(1);
+		}
+		catch (SQLException exception) {
+			LOG.error(createLogMessage(selectQuery, statementValues, statementColumns, exception), exception);
+			throw exception;
+		}
+	}
+
 	private List<Entity> query(Select select) throws SQLException {
 		List<Entity> result = cachedResult(select);
 		if (result != null) {
@@ -1114,9 +1613,13 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 	 * @throws SQLException in case of a database exception
 	 */
 	void populateForeignKeysLocked(List<Entity> entities, Select select) throws SQLException {
-		synchronized (lock) {
+		lock.lock();
+		try {
 			populateForeignKeys(entities, select, 0);
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -1297,6 +1800,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		SQLException exception = null;
 		int affectedRows = 0;
 		tracer.enter(EXECUTE_UPDATE, statementValues);
+		written = true;
+		Execution execution = new Execution(statement, false);
 		try {
 			affectedRows = setParameterValues(statement, statementColumns, statementValues, database).executeUpdate();
 
@@ -1304,9 +1809,13 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		}
 		catch (SQLException e) {
 			exception = e;
+			if (execution.cancelled) {
+				throw new QueryCancelledException(e, MESSAGES.getString(QUERY_CANCELLED));
+			}
 			throw e;
 		}
 		finally {
+			execution.close();
 			tracer.exit(EXECUTE_UPDATE, exception, "affected rows: " + affectedRows);
 			countQuery(operation);
 			if (LOG.isDebugEnabled()) {
@@ -1315,18 +1824,55 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		}
 	}
 
+	private int[] executeBatch(PreparedStatement statement, String query, List<ColumnDefinition<?>> statementColumns,
+														 List<List<Object>> batchValues, Operation operation) throws SQLException {
+		SQLException exception = null;
+		int[] affectedRows = new int[0];
+		tracer.enter(EXECUTE_BATCH, batchValues.size());
+		written = true;
+		Execution execution = new Execution(statement, false);
+		try {
+			for (List<Object> statementValues : batchValues) {
+				setParameterValues(statement, statementColumns, statementValues, database).addBatch();
+			}
+			affectedRows = statement.executeBatch();
+
+			return affectedRows;
+		}
+		catch (SQLException e) {
+			exception = e;
+			if (execution.cancelled) {
+				throw new QueryCancelledException(e, MESSAGES.getString(QUERY_CANCELLED));
+			}
+			throw e;
+		}
+		finally {
+			execution.close();
+			tracer.exit(EXECUTE_BATCH, exception, "batch size: " + batchValues.size());
+			countQuery(operation);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug(createLogMessage(query, batchValues.get(0), statementColumns, exception));
+			}
+		}
+	}
+
 	private ResultSet executeQuery(PreparedStatement statement, String query,
 																 List<ColumnDefinition<?>> statementColumns, List<?> statementValues) throws SQLException {
 		SQLException exception = null;
 		tracer.enter(EXECUTE_QUERY, statementValues);
+		Execution execution = new Execution(statement, true);
 		try {
 			return setParameterValues(statement, statementColumns, statementValues, database).executeQuery();
 		}
 		catch (SQLException e) {
 			exception = e;
+			if (execution.cancelled) {
+				throw new QueryCancelledException(e, MESSAGES.getString(QUERY_CANCELLED));
+			}
 			throw e;
 		}
 		finally {
+			execution.close();
 			tracer.exit(EXECUTE_QUERY, exception);
 			countQuery(SELECT);
 			if (LOG.isDebugEnabled()) {
@@ -1495,7 +2041,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 		tracer.enter("rollback");
 		SQLException exception = null;
 		try {
-			connection.rollback();
+			current().rollback();
+			written = false;
 		}
 		catch (SQLException e) {
 			exception = e;
@@ -1511,7 +2058,8 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 			tracer.enter("commit");
 			SQLException exception = null;
 			try {
-				connection.commit();
+				current().commit();
+				committed();
 			}
 			catch (SQLException e) {
 				exception = e;
@@ -1524,7 +2072,7 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 	}
 
 	private void rollbackQuietlyIfTransactionIsNotOpen() {
-		if (connection != null && !transactionOpen()) {
+		if (current() != null && !transactionOpen()) {
 			rollbackQuietly();
 		}
 	}
@@ -1571,11 +2119,60 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 	}
 
 	private Connection verifyOpenConnection() throws SQLException {
-		if (connection == null || connection.isClosed()) {
+		Connection current = current();
+		if (current == null || current.isClosed()) {
 			throw new SQLException("Connection is closed");
 		}
 
-		return connection;
+		return current;
+	}
+
+	/**
+	 * @return the connection the operation in progress is performed on, the replica one during a routed read
+	 */
+	private @Nullable Connection current() {
+		return replicaConnection == null ? connection : replicaConnection;
+	}
+
+	/**
+	 * Routes the read about to be performed to the read replica, if one is attached, no transaction is open
+	 * and the read-your-writes window following the last write has elapsed. A replica which is unavailable
+	 * is logged and the read performed on the primary connection.
+	 * @return true if the read is being performed on the replica, which must then be released via {@link #releaseReplica(boolean)}
+	 */
+	private boolean readFromReplica() {
+		if (readReplica == null || transactionOpen || written || currentTimeMillis() - lastWrite < readYourWrites) {
+			return false;
+		}
+		try {
+			Connection replica = readReplica.connection();
+			domain.configure(replica);
+			replicaConnection = replica;
+
+			return true;
+		}
+		catch (Exception e) {
+			LOG.warn("Read replica unavailable, reading from the primary: {}", readReplica, e);
+			return false;
+		}
+	}
+
+	private void releaseReplica(boolean replica) {
+		if (replica && replicaConnection != null) {
+			Connection replicaConnection = this.replicaConnection;
+			this.replicaConnection = null;
+			requireNonNull(readReplica).release(replicaConnection);
+		}
+	}
+
+	/**
+	 * Starts the read-your-writes window, in case writes were committed.
+	 */
+	private void committed() {
+		if (written) {
+			written = false;
+			lastWrite = currentTimeMillis();
+		}
 	}
 
 	private boolean connectionValid() {
@@ -1979,11 +2576,44 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 	}
 
 	/**
-	 * A private monitor guarding this connection's statements, so that a connection shared
-	 * between threads (such as a Swing worker and the EDT) does not interleave statements.
-	 * Note that this is per-connection, connections do not synchronize against each other.
+	 * A statement being executed, cancelled via {@link #cancel()} or, in case of a query,
+	 * by the executing thread being interrupted, see {@link InterruptWatcher}.
 	 */
-	private static final class Lock {}
+	private final class Execution implements AutoCloseable {
+
+		private final Statement statement;
+		private final InterruptWatcher.@Nullable Watch watch;
+
+		private volatile boolean cancelled = false;
+
+		/**
+		 * @param statement the statement being executed
+		 * @param query true in case of a query, which is cancelled should the executing thread be interrupted
+		 */
+		private Execution(Statement statement, boolean query) {
+			this.statement = statement;
+			DefaultLocalEntityConnection.this.execution = this;
+			this.watch = query ? InterruptWatcher.watch(this::cancel) : null;
+		}
+
+		@Override
+		public void close() {
+			if (watch != null) {
+				watch.close();
+			}
+			DefaultLocalEntityConnection.this.execution = null;
+		}
+
+		private void cancel() {
+			cancelled = true;
+			try {
+				statement.cancel();
+			}
+			catch (SQLException e) {
+				LOG.debug("Unable to cancel statement", e);
+			}
+		}
+	}
 
 	private final class DefaultQueryCache implements QueryCache {
 
@@ -1991,12 +2621,16 @@ final class DefaultLocalEntityConnection implements LocalEntityConnection, Conne
 
 		@Override
 		public void close() {
-			synchronized (lock) {
+			lock.lock();
+			try {
 				cached.clear();
 				if (queryCache == this) {
 					queryCache = null;
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 	}
 
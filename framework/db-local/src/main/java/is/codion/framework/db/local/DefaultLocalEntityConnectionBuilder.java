@@ -36,6 +36,8 @@ public final class DefaultLocalEntityConnectionBuilder
 
 	@Nullable Database database;
 	int queryTimeout = LocalEntityConnection.QUERY_TIMEOUT.getOrThrow();
+	@Nullable ReadReplica readReplica;
+	int readYourWrites = LocalEntityConnection.READ_YOUR_WRITES.getOrThrow();
 
 	/**
 	 * Instantiates a new {@link DefaultLocalEntityConnectionBuilder}
@@ -59,6 +61,21 @@ public final class DefaultLocalEntityConnectionBuilder
 		return this;
 	}
 
+	@Override
+	public LocalEntityConnection.Builder readReplica(ReadReplica readReplica) {
+		this.readReplica = requireNonNull(readReplica);
+		return this;
+	}
+
+	@Override
+	public LocalEntityConnection.Builder readYourWrites(int readYourWrites) {
+		if (readYourWrites < 0) {
+			throw new IllegalArgumentException("readYourWrites must be >= 0");
+		}
+		this.readYourWrites = readYourWrites;
+		return this;
+	}
+
 	@Override
 	protected LocalEntityConnection createConnection() {
 		return new ManagedLocalEntityConnection(this);
@@ -28,7 +28,10 @@ import is.codion.framework.db.EntityResultIterator;
 import is.codion.framework.domain.Domain;
 import is.codion.framework.domain.entity.condition.Condition;
 
+import org.jspecify.annotations.Nullable;
+
 import java.sql.Connection;
+import java.util.Optional;
 
 import static is.codion.common.utilities.Configuration.booleanValue;
 import static is.codion.common.utilities.Configuration.integerValue;
@@ -76,6 +79,18 @@ public interface LocalEntityConnection extends EntityConnection {
 	 */
 	PropertyValue<Integer> QUERY_TIMEOUT = integerValue("codion.db.queryTimeout", 120);
 
+	/**
+	 * Specifies the number of milliseconds following a write during which reads are performed on the primary
+	 * connection rather than on the read replica, if one is attached, so that a client reads its own writes
+	 * while they are still making their way to the replica.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 0
+	 * </ul>
+	 * @see #readReplica(ReadReplica)
+	 */
+	PropertyValue<Integer> READ_YOUR_WRITES = integerValue("codion.db.readYourWrites", 0);
+
 	/**
 	 * Specifies the buffer size to use when iterating over entities.
 	 * <p>
@@ -189,6 +204,36 @@ public interface LocalEntityConnection extends EntityConnection {
 	 */
 	void queryTimeout(int queryTimeout);
 
+	/**
+	 * @return the read replica, an empty {@link Optional} if none is attached
+	 * @see #readReplica(ReadReplica)
+	 */
+	Optional<ReadReplica> readReplica();
+
+	/**
+	 * <p>Attaches a read replica, to which selects, counts and reports performed outside of a transaction are routed,
+	 * writes, reads within a transaction and selects {@link Select#forUpdate()} being performed on the primary
+	 * connection, along with iterators, which outlive the call creating them.
+	 * <p>Reads are performed on the primary connection for {@link #readYourWrites()} milliseconds following a write.
+	 * A replica which is unavailable is logged and the read performed on the primary connection.
+	 * @param readReplica the read replica, null to perform all operations on the primary connection
+	 */
+	void readReplica(@Nullable ReadReplica readReplica);
+
+	/**
+	 * @return the number of milliseconds following a write during which reads are performed on the primary connection
+	 * @see #READ_YOUR_WRITES
+	 */
+	int readYourWrites();
+
+	/**
+	 * @param readYourWrites the number of milliseconds following a write during which reads are performed
+	 * on the primary connection, 0 for none
+	 * @throws IllegalArgumentException in case the value is negative
+	 * @see #READ_YOUR_WRITES
+	 */
+	void readYourWrites(int readYourWrites);
+
 	/**
 	 * <p>Instantiates a builder for a self-managing {@link LocalEntityConnection}, one which connects on
 	 * demand and reconnects when the underlying connection has gone bad, serving for the lifetime of a client.
@@ -218,6 +263,21 @@ public interface LocalEntityConnection extends EntityConnection {
 		 * @return this builder instance
 		 */
 		Builder queryTimeout(int queryTimeout);
+
+		/**
+		 * @param readReplica the read replica to route reads to
+		 * @return this builder instance
+		 * @see LocalEntityConnection#readReplica(ReadReplica)
+		 */
+		Builder readReplica(ReadReplica readReplica);
+
+		/**
+		 * @param readYourWrites the number of milliseconds following a write during which reads are performed
+		 * on the primary connection
+		 * @return this builder instance
+		 * @see LocalEntityConnection#readYourWrites(int)
+		 */
+		Builder readYourWrites(int readYourWrites);
 	}
 
 	/**
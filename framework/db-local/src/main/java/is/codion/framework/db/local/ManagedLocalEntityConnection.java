@@ -29,11 +29,13 @@ import is.codion.framework.db.EntityConnectionTracer;
 import is.codion.framework.db.local.tracer.MethodTracer;
 import is.codion.framework.db.local.tracer.MethodTracer.Traceable;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static is.codion.framework.db.local.LocalEntityConnection.localEntityConnection;
 import static is.codion.framework.db.local.tracer.MethodTracer.methodTracer;
@@ -61,11 +63,15 @@ final class ManagedLocalEntityConnection extends AbstractEntityConnection
 	private volatile boolean optimisticLocking = OPTIMISTIC_LOCKING.getOrThrow();
 	private volatile boolean limitReferenceDepth = LIMIT_REFERENCE_DEPTH.getOrThrow();
 	private volatile int iteratorBufferSize = ITERATOR_BUFFER_SIZE.getOrThrow();
+	private volatile @Nullable ReadReplica readReplica;
+	private volatile int readYourWrites;
 
 	ManagedLocalEntityConnection(DefaultLocalEntityConnectionBuilder builder) {
 		super(builder);
 		this.database = builder.database == null ? Database.instance() : builder.database;
 		this.queryTimeout = builder.queryTimeout;
+		this.readReplica = builder.readReplica;
+		this.readYourWrites = builder.readYourWrites;
 	}
 
 	@Override
@@ -127,6 +133,31 @@ final class ManagedLocalEntityConnection extends AbstractEntityConnection
 		local().queryTimeout(queryTimeout);
 	}
 
+	@Override
+	public Optional<ReadReplica> readReplica() {
+		return Optional.ofNullable(readReplica);
+	}
+
+	@Override
+	public void readReplica(@Nullable ReadReplica readReplica) {
+		this.readReplica = readReplica;
+		local().readReplica(readReplica);
+	}
+
+	@Override
+	public int readYourWrites() {
+		return readYourWrites;
+	}
+
+	@Override
+	public void readYourWrites(int readYourWrites) {
+		if (readYourWrites < 0) {
+			throw new IllegalArgumentException("readYourWrites must be >= 0");
+		}
+		this.readYourWrites = readYourWrites;
+		local().readYourWrites(readYourWrites);
+	}
+
 	@Override
 	public State tracing() {
 		return tracing;
@@ -150,11 +181,18 @@ final class ManagedLocalEntityConnection extends AbstractEntityConnection
 		connection.optimisticLocking(optimisticLocking);
 		connection.limitReferenceDepth(limitReferenceDepth);
 		connection.iteratorBufferSize(iteratorBufferSize);
+		connection.readReplica(readReplica);
+		connection.readYourWrites(readYourWrites);
 		LOG.info("Connection established to {} for user {}", database.name(), user());
 
 		return connection;
 	}
 
+	@Override
+	protected Executor asyncExecutor() {
+		return DefaultLocalEntityConnection.ASYNC_EXECUTOR;
+	}
+
 	@Override
 	protected void close(EntityConnection connection) {
 		LOG.info("Connection closed for user {}", user());
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db.local;
+
+import is.codion.common.db.pool.ConnectionPoolWrapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A {@link ReadReplica} fetching a connection from a pool for each read.
+ */
+final class PooledReadReplica implements ReadReplica {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PooledReadReplica.class);
+
+	private final ConnectionPoolWrapper connectionPool;
+
+	PooledReadReplica(ConnectionPoolWrapper connectionPool) {
+		this.connectionPool = connectionPool;
+	}
+
+	@Override
+	public Connection connection() {
+		return connectionPool.connection(connectionPool.user());
+	}
+
+	@Override
+	public void release(Connection connection) {
+		try {
+			connection.close();
+		}
+		catch (SQLException e) {
+			LOG.warn("Unable to return a read replica connection to the pool", e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ReadReplica: " + connectionPool.user();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db.local;
+
+import is.codion.common.db.database.Database;
+import is.codion.common.db.exception.DatabaseException;
+import is.codion.common.db.pool.ConnectionPoolWrapper;
+import is.codion.common.utilities.user.User;
+
+import java.sql.Connection;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>A read-only replica of the database, to which a {@link LocalEntityConnection} routes the selects, counts
+ * and reports it performs outside of a transaction, see {@link LocalEntityConnection#readReplica(ReadReplica)}.
+ * <p>A connection is fetched from the replica for each read and released once the read is done, the
+ * reading connection committing or rolling back the transaction the read started, as it does on the primary.
+ * {@snippet :
+ * connection.readReplica(ReadReplica.readReplica(replicaDatabase.connectionPool("scott")));
+ *}
+ * @see LocalEntityConnection#readYourWrites()
+ */
+public interface ReadReplica {
+
+	/**
+	 * Note that auto-commit is assumed to be disabled on the connection, as it is on the primary one.
+	 * @return a connection to the replica
+	 * @throws DatabaseException in case a connection to the replica could not be established
+	 */
+	Connection connection();
+
+	/**
+	 * Releases a connection received from {@link #connection()} once the read performed on it is done.
+	 * @param connection the connection to release
+	 */
+	void release(Connection connection);
+
+	/**
+	 * Returns a {@link ReadReplica} fetching connections from the given pool, returning each one to the
+	 * pool once the read performed on it is done.
+	 * @param connectionPool the connection pool to the replica
+	 * @return a new {@link ReadReplica} instance
+	 */
+	static ReadReplica readReplica(ConnectionPoolWrapper connectionPool) {
+		return new PooledReadReplica(requireNonNull(connectionPool));
+	}
+
+	/**
+	 * Returns a {@link ReadReplica} based on a single connection to the given database, established on
+	 * the first read, kept open between reads and re-established in case it has gone bad, validated at most
+	 * once per {@link is.codion.framework.db.EntityConnection#VALIDITY_CHECK_INTERVAL}.
+	 * <p>Note that the connection is not to be shared, the returned instance serving a single {@link LocalEntityConnection}.
+	 * @param database the replica database
+	 * @param user the user to connect with
+	 * @return a new {@link ReadReplica} instance
+	 */
+	static ReadReplica readReplica(Database database, User user) {
+		return new DedicatedReadReplica(requireNonNull(database), requireNonNull(user));
+	}
+}
@@ -22,14 +22,17 @@ import is.codion.common.db.database.ConnectionProvider;
 import is.codion.common.db.database.Database;
 import is.codion.common.db.database.Database.Operation;
 import is.codion.common.db.exception.DatabaseException;
+import is.codion.common.db.exception.QueryCancelledException;
 import is.codion.common.db.exception.ReferentialIntegrityException;
 import is.codion.common.db.exception.UniqueConstraintException;
 import is.codion.common.utilities.user.User;
 import is.codion.dbms.h2.H2DatabaseFactory;
+import is.codion.framework.db.AsyncEntityConnection;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityConnection.Count;
 import is.codion.framework.db.EntityConnection.QueryCache;
 import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.EntityConnection.Update;
 import is.codion.framework.db.EntityResultIterator;
 import is.codion.framework.db.exception.DeleteEntityException;
@@ -71,6 +74,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -86,6 +90,7 @@ import static is.codion.framework.domain.entity.OrderBy.NullOrder.NULLS_LAST;
 import static is.codion.framework.domain.entity.OrderBy.descending;
 import static is.codion.framework.domain.entity.condition.Condition.*;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -726,6 +731,185 @@ public class DefaultLocalEntityConnectionTest {
 		assertEquals(4, rowCount);
 	}
 
+	@Test
+	void flush() {
+		Entity department = ENTITIES.entity(Department.TYPE)
+						.with(Department.DEPTNO, -10)
+						.with(Department.DNAME, "FLUSHED")
+						.build();
+		Entity manager = ENTITIES.entity(Employee.TYPE)
+						.with(Employee.NAME, "Manager")
+						.with(Employee.DEPARTMENT_FK, department)
+						.with(Employee.SALARY, 3000d)
+						.build();
+		Entity employee = ENTITIES.entity(Employee.TYPE)
+						.with(Employee.NAME, "Employee")
+						.with(Employee.DEPARTMENT_FK, department)
+						.with(Employee.MGR_FK, manager)
+						.with(Employee.SALARY, 2000d)
+						.build();
+		Entity sales = connection.selectSingle(Department.DNAME.equalTo("SALES"));
+		sales.set(Department.LOC, "REYKJAVIK");
+
+		connection.startTransaction();
+		try {
+			//the department inserted before the employees referencing it
+			List<Entity.Key> keys = new ArrayList<>(connection.flush(UnitOfWork.builder()
+							.insert(manager)
+							.insert(employee)
+							.insert(department)
+							.update(sales)
+							.build()));
+			assertEquals(3, keys.size());
+			assertEquals(department.primaryKey(), keys.get(2));
+			Entity insertedManager = connection.select(keys.get(0));
+			Entity insertedEmployee = connection.select(keys.get(1));
+			assertEquals(-10, insertedManager.get(Employee.DEPARTMENT));
+			assertEquals(-10, insertedEmployee.get(Employee.DEPARTMENT));
+			//the generated manager key resolved
+			assertEquals(insertedManager.get(Employee.ID), insertedEmployee.get(Employee.MGR));
+			assertEquals("REYKJAVIK", connection.select(sales.primaryKey()).get(Department.LOC));
+
+			//the employees deleted before the department they reference
+			connection.flush(UnitOfWork.builder()
+							.delete(department.primaryKey())
+							.delete(keys.subList(0, 2))
+							.build());
+			assertEquals(0, connection.count(Count.where(Department.DEPTNO.equalTo(-10))));
+			assertTrue(connection.flush(UnitOfWork.builder().build()).isEmpty());
+			assertTrue(connection.transactionOpen());
+		}
+		finally {
+			connection.rollbackTransaction();
+		}
+	}
+
+	@Test
+	void flushRollback() {
+		Entity department = ENTITIES.entity(Department.TYPE)
+						.with(Department.DEPTNO, -20)
+						.with(Department.DNAME, "ROLLED BACK")
+						.build();
+		Entity sales = connection.selectSingle(Department.DNAME.equalTo("SALES"));
+		//no modified values to update
+		assertThrows(UpdateEntityException.class, () -> connection.flush(UnitOfWork.builder()
+						.insert(department)
+						.update(sales)
+						.build()));
+		assertFalse(connection.transactionOpen());
+		assertEquals(0, connection.count(Count.where(Department.DEPTNO.equalTo(-20))));
+	}
+
+	@Test
+	void async() throws Exception {
+		AsyncEntityConnection async = connection.async();
+		Entity department = ENTITIES.entity(Department.TYPE)
+						.with(Department.DEPTNO, -30)
+						.with(Department.DNAME, "ASYNC")
+						.build();
+		Entity.Key key = async.insert(department).get();
+		assertEquals(1, async.count(Count.where(Department.DEPTNO.equalTo(-30))).get());
+		department.set(Department.DNAME, "UPDATED");
+		async.update(department).get();
+		assertEquals("UPDATED", async.select(Department.DEPTNO.equalTo(-30)).get().get(0).get(Department.DNAME));
+		async.delete(key).get();
+		assertTrue(async.select(Department.DEPTNO.equalTo(-30)).get().isEmpty());
+	}
+
+	@Test
+	void cancel() throws Exception {
+		//nothing being executed, nothing to cancel
+		connection.cancel();
+		assertEquals(4, connection.count(Count.all(Department.TYPE)));
+
+		AtomicReference<Exception> exception = new AtomicReference<>();
+		Thread thread = slowSelect(exception);
+		Thread.sleep(500);
+		connection.cancel();
+		thread.join(10_000);
+		assertFalse(thread.isAlive());
+		assertInstanceOf(QueryCancelledException.class, exception.get());
+		//the connection remains usable
+		assertEquals(4, connection.count(Count.all(Department.TYPE)));
+	}
+
+	@Test
+	void cancelOnInterrupt() throws Exception {
+		AtomicReference<Exception> exception = new AtomicReference<>();
+		Thread thread = slowSelect(exception);
+		Thread.sleep(500);
+		thread.interrupt();
+		thread.join(10_000);
+		assertFalse(thread.isAlive());
+		assertInstanceOf(QueryCancelledException.class, exception.get());
+		assertEquals(4, connection.count(Count.all(Department.TYPE)));
+	}
+
+	@Test
+	void readReplica() {
+		AtomicInteger reads = new AtomicInteger();
+		ReadReplica replica = ReadReplica.readReplica(Database.instance(), UNIT_TEST_USER);
+		connection.readReplica(new ReadReplica() {
+			@Override
+			public Connection connection() {
+				reads.incrementAndGet();
+
+				return replica.connection();
+			}
+
+			@Override
+			public void release(Connection connection) {
+				replica.release(connection);
+			}
+		});
+		assertEquals(4, connection.count(Count.all(Department.TYPE)));
+		assertEquals(4, connection.select(all(Department.TYPE)).size());
+		assertEquals(2, reads.get());
+		//reads within a transaction go to the primary
+		connection.startTransaction();
+		try {
+			assertEquals(4, connection.count(Count.all(Department.TYPE)));
+		}
+		finally {
+			connection.rollbackTransaction();
+		}
+		assertEquals(2, reads.get());
+		//as do reads within the read-your-writes window
+		assertThrows(IllegalArgumentException.class, () -> connection.readYourWrites(-1));
+		connection.readYourWrites(60_000);
+		connection.update(Update.where(Department.DNAME.equalTo("SALES"))
+						.set(Department.DNAME, "SALES")
+						.build());
+		assertEquals(4, connection.count(Count.all(Department.TYPE)));
+		assertEquals(2, reads.get());
+		connection.readYourWrites(0);
+		assertEquals(4, connection.count(Count.all(Department.TYPE)));
+		assertEquals(3, reads.get());
+		connection.readReplica(null);
+		assertEquals(4, connection.count(Count.all(Department.TYPE)));
+		assertEquals(3, reads.get());
+	}
+
+	@Test
+	void counts() {
+		assertEquals(asList(4, 2, 16), connection.counts(asList(Count.all(Department.TYPE),
+						Count.where(Department.DEPTNO.greaterThanOrEqualTo(30)), Count.all(EmpnoDeptno.TYPE))));
+		assertTrue(connection.counts(emptyList()).isEmpty());
+	}
+
+	@Test
+	void selects() {
+		List<List<Entity>> selected = connection.selects(asList(
+						Select.all(Department.TYPE).build(),
+						Select.where(Employee.JOB.equalTo("MANAGER")).build(),
+						Select.where(Department.DEPTNO.equalTo(-1)).build()));
+		assertEquals(3, selected.size());
+		assertEquals(4, selected.get(0).size());
+		assertEquals(connection.select(Employee.JOB.equalTo("MANAGER")), selected.get(1));
+		assertTrue(selected.get(2).isEmpty());
+		assertThrows(NullPointerException.class, () -> connection.selects(asList(Select.all(Department.TYPE).build(), null)));
+	}
+
 	@Test
 	void selectSingle() {
 		Entity sales = connection.selectSingle(Department.DNAME.equalTo("SALES"));
@@ -2832,4 +3016,15 @@ public class DefaultLocalEntityConnectionTest {
 			throw new RuntimeException(e);
 		}
 	}
-}
\ No newline at end of file
+
+	private Thread slowSelect(AtomicReference<Exception> exception) {
+		return Thread.ofPlatform().start(() -> {
+			try {
+				connection.select(Department.DEPARTMENT_CONDITION_SLOW_TYPE.get());
+			}
+			catch (Exception e) {
+				exception.set(e);
+			}
+		});
+	}
+}
@@ -120,6 +120,7 @@ public final class TestDomain extends DomainModel {
 		ConditionType DEPARTMENT_CONDITION_TYPE = TYPE.conditionType("condition");
 		ConditionType DEPARTMENT_CONDITION_SALES_TYPE = TYPE.conditionType("conditionSalesId");
 		ConditionType DEPARTMENT_CONDITION_INVALID_COLUMN_TYPE = TYPE.conditionType("conditionInvalidColumnId");
+		ConditionType DEPARTMENT_CONDITION_SLOW_TYPE = TYPE.conditionType("conditionSlowId");
 	}
 
 	void department() {
@@ -155,6 +156,9 @@ public final class TestDomain extends DomainModel {
 						})
 						.condition(Department.DEPARTMENT_CONDITION_SALES_TYPE, (attributes, values) -> "dname = 'SALES'")
 						.condition(Department.DEPARTMENT_CONDITION_INVALID_COLUMN_TYPE, (attributes, values) -> "no_column is null")
+						//runs until cancelled, for all practical purposes
+						.condition(Department.DEPARTMENT_CONDITION_SLOW_TYPE, (attributes, values) ->
+										"exists (select 1 from system_range(1, 1000000) a, system_range(1, 1000000) b where a.x + b.x < 0)")
 						.caption("Department")
 						.build());
 	}
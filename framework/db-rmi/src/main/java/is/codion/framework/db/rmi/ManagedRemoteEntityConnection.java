@@ -25,8 +25,12 @@ import is.codion.common.rmi.server.Server;
 import is.codion.common.rmi.server.ServerAdmin;
 import is.codion.common.utilities.exceptions.Exceptions;
 import is.codion.framework.db.AbstractEntityConnection;
+import is.codion.framework.db.AsyncEntityConnection;
+import is.codion.framework.db.EntitiesCache;
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityResultIterator;
+import is.codion.framework.db.interrupt.InterruptWatcher;
 import is.codion.framework.domain.entity.Entities;
 import is.codion.framework.domain.entity.Entity;
 import is.codion.framework.domain.entity.condition.Condition;
@@ -44,10 +48,16 @@ import java.rmi.NoSuchObjectException;
 import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import static is.codion.framework.db.EntityConnection.Select.where;
 import static is.codion.framework.domain.entity.condition.Condition.key;
@@ -55,6 +65,7 @@ import static java.lang.reflect.InvocationHandler.invokeDefault;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -97,6 +108,11 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 						.orElse(serverName == null ? hostname : serverName + "@" + hostname));
 	}
 
+	@Override
+	public EntityChanges changes(long position, int timeout) {
+		return ((EntityChanges.Feed) delegate()).changes(position, timeout);
+	}
+
 	@Override
 	protected EntityConnection connect() {
 		if (!truststoreResolved) {
@@ -106,7 +122,7 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 		try {
 			LOG.debug("Initializing connection for {}", user());
 			return (EntityConnection) Proxy.newProxyInstance(EntityConnection.class.getClassLoader(),
-							new Class[] {EntityConnection.class}, new ServerEntityConnectionHandler(
+							new Class[] {EntityConnection.class, EntityChanges.Feed.class}, new ServerEntityConnectionHandler(
 											server().connect(ConnectionRequest.builder()
 															.user(user())
 															.clientType(clientType())
@@ -120,6 +136,11 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 		}
 	}
 
+	@Override
+	protected Executor asyncExecutor() {
+		return AsyncExecutor.EXECUTOR;
+	}
+
 	@Override
 	protected void close(EntityConnection connection) {
 		try {
@@ -155,10 +176,34 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 			reconnectToServer();
 			LOG.info("Connection: {}, {} connected to server: {}", user(), id(), serverName);
 		}
+		else {
+			relocateServer();
+		}
 
 		return this.server;
 	}
 
+	/**
+	 * Reconnecting to a reachable server, the previous session having been closed, so nothing ties
+	 * this connection to that server, re-evaluate the choice, since the load may have shifted since
+	 * it was made. Keeps the current server if none is found.
+	 */
+	private void relocateServer() {
+		String previousServerName = serverName;
+		Server<ServerEntityConnection, ServerAdmin> previousServer = server;
+		try {
+			connectToServer();
+			if (!Objects.equals(previousServerName, serverName)) {
+				LOG.info("Connection: {}, {} relocated from server: {} to server: {}", user(), id(), previousServerName, serverName);
+			}
+		}
+		catch (Exception e) {
+			LOG.info("Unable to relocate connection: {}, {}, remaining on server: {}", user(), id(), previousServerName, e);
+			server = previousServer;
+			serverName = previousServerName;
+		}
+	}
+
 	/**
 	 * A server holding this client's live session accepts it back even when full, since existing
 	 * connections are exempt from the connection limit. Server discovery filters out servers with no
@@ -197,8 +242,14 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 		private static final String ENTITIES = "entities";
 		private static final String ITERATOR = "iterator";
 		private static final String CACHE_QUERIES = "cacheQueries";
+		private static final String ASYNC = "async";
+		private static final String CHANGES = "changes";
+		private static final String CANCEL = "cancel";
 		private static final String SELECT = "select";
 		private static final String SELECT_SINGLE = "selectSingle";
+		private static final String UPDATE = "update";
+		private static final String UPDATE_SELECT = "updateSelect";
+		private static final Set<String> QUERIES = Set.of(SELECT, SELECT_SINGLE, "selects", "count", "counts", "dependencies", ITERATOR);
 
 		private final Map<Method, Method> methodCache = new HashMap<>();
 		private final ServerEntityConnection serverConnection;
@@ -211,7 +262,22 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 		}
 
 		@Override
-		public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (method.getName().equals(CHANGES)) {
+				//a long-poll, which must not hold up the calls made meanwhile
+				return serverConnection.changes((Long) args[0], (Integer) args[1]);
+			}
+			if (method.getName().equals(CANCEL)) {
+				//cancels the call in progress, which holds the lock
+				serverConnection.cancel();
+				return null;
+			}
+			synchronized (this) {
+				return invokeSynchronized(proxy, method, args);
+			}
+		}
+
+		private Object invokeSynchronized(Object proxy, Method method, Object[] args) throws Throwable {
 			String methodName = method.getName();
 			if (methodName.equals(CONNECTED)) {
 				return connected();
@@ -222,6 +288,9 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 			if (methodName.equals(CACHE_QUERIES)) {
 				return cacheQueries();
 			}
+			if (methodName.equals(ASYNC)) {
+				return AsyncEntityConnection.async((EntityConnection) proxy, AsyncExecutor.EXECUTOR);
+			}
 			if (method.isDefault()) {
 				return invokeDefault(proxy, method, args);
 			}
@@ -233,6 +302,10 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 				return cached;
 			}
 
+			if (methodName.equals(UPDATE) || methodName.equals(UPDATE_SELECT)) {
+				return update(method, args);
+			}
+
 			Object result = invokeRemote(method, args);
 			if (methodName.equals(ITERATOR)) {
 				return new ServerEntityResultIteratorWrapper((ServerEntityResultIterator) result);
@@ -282,9 +355,14 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 			return cached;
 		}
 
+		/**
+		 * A query is cancelled on the server should the calling thread be interrupted, which it otherwise
+		 * does not notice while waiting for the result. The lock is held until the watch is closed, which
+		 * waits for a cancel in progress, so the cancel can only reach the query it targets.
+		 */
 		private Object invokeRemote(Method method, Object[] args) throws Throwable {
 			Method remoteMethod = methodCache.computeIfAbsent(method, ServerEntityConnectionHandler::remoteMethod);
-			try {
+			try (InterruptWatcher.Watch watch = QUERIES.contains(method.getName()) ? InterruptWatcher.watch(this::cancel) : null) {
 				return remoteMethod.invoke(serverConnection, args);
 			}
 			catch (InvocationTargetException e) {
@@ -297,6 +375,44 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 			}
 		}
 
+		private void cancel() {
+			try {
+				serverConnection.cancel();
+			}
+			catch (RemoteException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		/**
+		 * Sends only the values required to update the entities, see {@link Entity.Copy#delta()},
+		 * restoring the values left behind to the entities returned by updateSelect.
+		 */
+		private Object update(Method method, Object[] args) throws Throwable {
+			if (args[0] instanceof Entity) {
+				Entity entity = (Entity) args[0];
+				Object result = invokeRemote(method, new Object[] {entity.copy().delta()});
+				if (result instanceof Entity) {
+					Entity.restore(singletonList((Entity) result), singletonList(entity));
+				}
+
+				return result;
+			}
+			if (args[0] instanceof Collection) {
+				Collection<Entity> entities = (Collection<Entity>) args[0];
+				Object result = invokeRemote(method, new Object[] {entities.stream()
+								.map(entity -> entity.copy().delta())
+								.collect(toList())});
+				if (result instanceof Collection) {
+					Entity.restore((Collection<Entity>) result, entities);
+				}
+
+				return result;
+			}
+
+			return invokeRemote(method, args);
+		}
+
 		private QueryCache cacheQueries() {
 			if (queryCache != null) {
 				throw new IllegalStateException("A query cache is already active on this connection");
@@ -368,12 +484,25 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 
 		private Entities entities() throws RemoteException {
 			if (entities == null) {
-				entities = serverConnection.entities();
+				Optional<EntitiesCache> cache = EntitiesCache.instance();
+				entities = cache.isPresent() ? entities(cache.get()) : serverConnection.entities();
 			}
 
 			return entities;
 		}
 
+		private Entities entities(EntitiesCache cache) throws RemoteException {
+			String fingerprint = serverConnection.fingerprint();
+			Optional<Entities> cached = cache.get(fingerprint);
+			if (cached.isPresent()) {
+				return cached.get();
+			}
+			Entities downloaded = serverConnection.entities();
+			cache.put(fingerprint, downloaded);
+
+			return downloaded;
+		}
+
 		private static Method remoteMethod(Method method) {
 			try {
 				return ServerEntityConnection.class.getMethod(method.getName(), method.getParameterTypes());
@@ -431,4 +560,23 @@ final class ManagedRemoteEntityConnection extends AbstractEntityConnection
 			return databaseException;
 		}
 	}
+
+	private static final class AsyncExecutor {
+
+		private static final Executor EXECUTOR = createExecutor();
+
+		private static ThreadPoolExecutor createExecutor() {
+			int threads = ASYNC_THREADS.getOrThrow();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, SECONDS,
+							new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "codion-async-remote-entity-connection");
+				thread.setDaemon(true);
+
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+
+			return executor;
+		}
+	}
 }
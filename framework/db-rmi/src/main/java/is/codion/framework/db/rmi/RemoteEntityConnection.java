@@ -18,14 +18,32 @@
  */
 package is.codion.framework.db.rmi;
 
+import is.codion.common.utilities.property.PropertyValue;
 import is.codion.framework.db.AbstractEntityConnection;
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 
+import static is.codion.common.utilities.Configuration.integerValue;
+
 /**
  * An {@link EntityConnection} based on RMI, adapting a {@link ServerEntityConnection} running on the server.
+ * <p>Delivers the changes committed by other clients via {@link #changes(long, int)}, in case the change feed
+ * is enabled on the server.
  * @see #builder()
  */
-public interface RemoteEntityConnection extends EntityConnection {
+public interface RemoteEntityConnection extends EntityConnection, EntityChanges.Feed {
+
+	/**
+	 * <p>The maximum number of threads performing the operations of the {@link #async()} view of remote connections,
+	 * shared by all remote connections in this process. Each operation occupies a thread for as long as the remote
+	 * call takes, so this bounds the number of threads tied up waiting for the server, further operations being
+	 * queued until one becomes available.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 8
+	 * </ul>
+	 */
+	PropertyValue<Integer> ASYNC_THREADS = integerValue("codion.client.rmi.asyncThreads", 8);
 
 	/**
 	 * <p>Instantiates a builder for a self-managing {@link RemoteEntityConnection}, one which connects on
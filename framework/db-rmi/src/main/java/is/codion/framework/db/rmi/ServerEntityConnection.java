@@ -24,10 +24,13 @@ import is.codion.common.db.operation.ProcedureType;
 import is.codion.common.db.report.ReportType;
 import is.codion.common.utilities.user.User;
 import is.codion.common.utilities.version.Version;
+import is.codion.framework.db.EntitiesCache;
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityConnection.Count;
 import is.codion.framework.db.EntityConnection.Select;
 import is.codion.framework.db.EntityConnection.Update;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.EntityResultIterator;
 import is.codion.framework.domain.entity.Entities;
 import is.codion.framework.domain.entity.Entity;
@@ -72,6 +75,15 @@ public interface ServerEntityConnection extends Remote, AutoCloseable {
 	 */
 	Entities entities() throws RemoteException;
 
+	/**
+	 * Returns a fingerprint of the underlying domain entities, a content hash of the entity definitions,
+	 * which changes along with them, allowing a client to cache the entities between connections.
+	 * @return the fingerprint of the underlying domain entities
+	 * @throws RemoteException in case of an exception
+	 * @see EntitiesCache
+	 */
+	String fingerprint() throws RemoteException;
+
 	/**
 	 * @return the user being used by this connection
 	 * @throws RemoteException in case of an exception
@@ -323,6 +335,15 @@ public interface ServerEntityConnection extends Remote, AutoCloseable {
 	 */
 	int delete(Condition condition) throws RemoteException;
 
+	/**
+	 * Flushes the given unit of work, performing its inserts, updates and deletes within a single transaction.
+	 * @param unitOfWork the unit of work to flush
+	 * @return the primary keys of the inserted entities, in the order they were added to the unit of work
+	 * @throws RemoteException in case of a remote exception
+	 * @see EntityConnection#flush(UnitOfWork)
+	 */
+	Collection<Entity.Key> flush(UnitOfWork unitOfWork) throws RemoteException;
+
 	/**
 	 * Selects ordered and distinct non-null values of the given column.
 	 * @param column the column
@@ -435,6 +456,15 @@ public interface ServerEntityConnection extends Remote, AutoCloseable {
 	 */
 	List<Entity> select(Select select) throws RemoteException;
 
+	/**
+	 * Performs the given selects.
+	 * @param selects the selects to perform
+	 * @return the result of each select, in the same order as the selects
+	 * @throws RemoteException in case of a remote exception
+	 * @see EntityConnection#selects(List)
+	 */
+	List<List<Entity>> selects(List<Select> selects) throws RemoteException;
+
 	/**
 	 * Convenience overload accepting a {@link Select.Builder} or any {@link Supplier} of {@link Select},
 	 * removing the need for a trailing {@link Select.Builder#build()} call.
@@ -465,6 +495,15 @@ public interface ServerEntityConnection extends Remote, AutoCloseable {
 	 */
 	int count(Count count) throws RemoteException;
 
+	/**
+	 * Counts the number of rows returned based on each of the given count conditions.
+	 * @param counts the count conditions
+	 * @return the number of rows fitting each of the given count conditions, in the same order
+	 * @throws RemoteException in case of a remote exception
+	 * @see EntityConnection#counts(List)
+	 */
+	List<Integer> counts(List<Count> counts) throws RemoteException;
+
 	/**
 	 * Convenience overload accepting a {@link Count.Builder} or any {@link Supplier} of {@link Count},
 	 * removing the need for a trailing {@link Count.Builder#build()} call.
@@ -489,6 +528,27 @@ public interface ServerEntityConnection extends Remote, AutoCloseable {
 	 */
 	<P, R> R report(ReportType<P, R> reportType, @Nullable P parameter) throws RemoteException;
 
+	/**
+	 * Returns the changes committed by other clients since the given position, waiting for up to
+	 * {@code timeout} milliseconds for any. Unlike the other methods, this one does not hold up
+	 * the calls made on this connection while it waits.
+	 * @param position the position received with the previous changes, -1 for the current position
+	 * @param timeout the maximum number of milliseconds to wait for changes
+	 * @return the changes since the given position
+	 * @throws RemoteException in case of a remote exception
+	 * @throws UnsupportedOperationException in case the change feed is not enabled on the server
+	 * @see EntityChanges.Feed#changes(long, int)
+	 */
+	EntityChanges changes(long position, int timeout) throws RemoteException;
+
+	/**
+	 * Cancels the statement currently being executed on behalf of this connection, if any. Unlike the other
+	 * methods, this one does not wait for the call in progress, which is the one being cancelled.
+	 * @throws RemoteException in case of a remote exception
+	 * @see EntityConnection#cancel()
+	 */
+	void cancel() throws RemoteException;
+
 	/**
 	 * Returns a result set iterator based on the given query condition.
 	 * Note that the returned iterator is wrapped to present the {@link EntityResultIterator}
@@ -18,13 +18,16 @@
  */
 package is.codion.framework.db.rmi;
 
+import is.codion.common.db.exception.QueryCancelledException;
 import is.codion.common.db.exception.ReferentialIntegrityException;
 import is.codion.common.rmi.client.Clients;
 import is.codion.common.rmi.server.Server;
 import is.codion.common.utilities.user.User;
+import is.codion.framework.db.AsyncEntityConnection;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityConnection.QueryCache;
 import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.EntityResultIterator;
 import is.codion.framework.db.exception.MultipleEntitiesFoundException;
 import is.codion.framework.db.rmi.TestDomain.Department;
@@ -44,12 +47,14 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static is.codion.framework.db.EntityConnection.Count.all;
@@ -317,6 +322,89 @@ public class RemoteEntityConnectionTest {
 		assertEquals(4, connection().count(all(Department.TYPE)));
 	}
 
+	@Test
+	void flush() {
+		EntityConnection connection = connection();
+		Entity department = connection.entities().entity(Department.TYPE)
+						.with(Department.ID, 55L)
+						.with(Department.NAME, "flushed")
+						.with(Department.LOCATION, "loc")
+						.build();
+		Entity employee = connection.entities().entity(Employee.TYPE)
+						.with(Employee.NAME, "flushed")
+						.with(Employee.DEPARTMENT_FK, department)
+						.with(Employee.SALARY, 1000d)
+						.build();
+		List<Entity.Key> keys = new ArrayList<>(connection.flush(UnitOfWork.builder()
+						.insert(employee)
+						.insert(department)
+						.build()));
+		assertEquals(2, keys.size());
+		assertEquals(55L, connection.select(keys.get(0)).get(Employee.DEPARTMENT));
+		connection.flush(UnitOfWork.builder()
+						.delete(keys)
+						.build());
+		assertEquals(0, connection.count(where(Department.ID.equalTo(55L))));
+	}
+
+	@Test
+	void async() throws Exception {
+		EntityConnection connection = connection();
+		AsyncEntityConnection async = connection.async();
+		Entity department = connection.entities().entity(Department.TYPE)
+						.with(Department.ID, 56L)
+						.with(Department.NAME, "async")
+						.with(Department.LOCATION, "loc")
+						.build();
+		Entity.Key key = async.insert(department).get();
+		assertEquals(1, async.count(where(Department.ID.equalTo(56L))).get());
+		department.set(Department.NAME, "updated");
+		async.update(department).get();
+		assertEquals("updated", async.select(key(key)).get().get(0).get(Department.NAME));
+		async.delete(key).get();
+		assertTrue(async.select(Department.ID.equalTo(56L)).get().isEmpty());
+	}
+
+	@Test
+	void cancelOnInterrupt() throws Exception {
+		EntityConnection connection = connection();
+		AtomicReference<Exception> exception = new AtomicReference<>();
+		Thread thread = Thread.ofPlatform().start(() -> {
+			try {
+				connection.select(Department.CONDITION_SLOW.get());
+			}
+			catch (Exception e) {
+				exception.set(e);
+			}
+		});
+		Thread.sleep(500);
+		thread.interrupt();
+		thread.join(10_000);
+		assertFalse(thread.isAlive());
+		assertInstanceOf(QueryCancelledException.class, exception.get());
+		//the connection remains usable
+		assertEquals(4, connection.count(all(Department.TYPE)));
+	}
+
+	@Test
+	void rowCounts() {
+		assertEquals(asList(4, 1), connection().counts(asList(all(Department.TYPE),
+						where(Department.ID.equalTo(10L)))));
+	}
+
+	@Test
+	void selects() {
+		EntityConnection connection = connection();
+		List<List<Entity>> selected = connection.selects(asList(
+						Select.all(Department.TYPE).build(),
+						Select.where(Employee.JOB.equalTo("MANAGER")).build(),
+						Select.where(Department.ID.equalTo(-1L)).build()));
+		assertEquals(3, selected.size());
+		assertEquals(4, selected.get(0).size());
+		assertEquals(connection.select(Employee.JOB.equalTo("MANAGER")).size(), selected.get(1).size());
+		assertTrue(selected.get(2).isEmpty());
+	}
+
 	@Test
 	void selectValues() {
 		EntityConnection connection = connection();
@@ -520,8 +608,8 @@ public class RemoteEntityConnectionTest {
 						.filter(method -> !Modifier.isStatic(method.getModifiers())).collect(Collectors.toList());
 		List<Method> entityConnectionMethods = Arrays.stream(EntityConnection.class.getDeclaredMethods())
 						.filter(method -> !Modifier.isStatic(method.getModifiers()))
-						// the query cache is client-side only, it never crosses the wire
-						.filter(method -> !method.getName().equals("cacheQueries"))
+						// the query cache and the async view are client-side only, they never cross the wire
+						.filter(method -> !method.getName().equals("cacheQueries") && !method.getName().equals("async"))
 						.collect(Collectors.toList());
 		if (remoteEntityConnectionMethods.size() != entityConnectionMethods.size()) {
 			fail("Method count mismatch");
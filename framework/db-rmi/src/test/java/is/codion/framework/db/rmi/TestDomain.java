@@ -28,6 +28,7 @@ import is.codion.framework.domain.DomainType;
 import is.codion.framework.domain.entity.EntityType;
 import is.codion.framework.domain.entity.attribute.Column;
 import is.codion.framework.domain.entity.attribute.ForeignKey;
+import is.codion.framework.domain.entity.condition.ConditionType;
 
 import java.sql.Connection;
 import java.time.LocalDate;
@@ -69,6 +70,8 @@ public final class TestDomain extends DomainModel {
 		Column<Long> ID = TYPE.longColumn("deptno");
 		Column<String> NAME = TYPE.stringColumn("dname");
 		Column<String> LOCATION = TYPE.stringColumn("loc");
+
+		ConditionType CONDITION_SLOW = TYPE.conditionType("conditionSlow");
 	}
 
 	void department() {
@@ -92,6 +95,9 @@ public final class TestDomain extends DomainModel {
 						.smallDataset(true)
 						.orderBy(ascending(Department.NAME))
 						.formatter(Department.NAME)
+						//runs until cancelled, for all practical purposes
+						.condition(Department.CONDITION_SLOW, (attributes, values) ->
+										"exists (select 1 from system_range(1, 1000000) a, system_range(1, 1000000) b where a.x + b.x < 0)")
 						.caption("Department")
 						.build());
 	}
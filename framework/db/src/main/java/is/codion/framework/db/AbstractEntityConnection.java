@@ -40,8 +40,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Executors.newCachedThreadPool;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
@@ -227,6 +229,28 @@ public abstract class AbstractEntityConnection implements EntityConnection {
 		return delegate().cacheQueries();
 	}
 
+	/**
+	 * <p>Returns a non-blocking view of this connection, performing the operations via this connection, and
+	 * thereby the current underlying one, on the executor returned by {@link #asyncExecutor()}.
+	 * @return a non-blocking view of this connection
+	 */
+	@Override
+	public AsyncEntityConnection async() {
+		return AsyncEntityConnection.async(this, asyncExecutor());
+	}
+
+	/**
+	 * Cancels via the current underlying connection, as is, without validating or establishing it and without
+	 * waiting for any operation in progress, a connection not yet established having nothing to cancel.
+	 */
+	@Override
+	public final void cancel() {
+		EntityConnection connection = this.connection;
+		if (connection != null) {
+			connection.cancel();
+		}
+	}
+
 	@Override
 	public final <C extends EntityConnection, P, R> @Nullable R execute(FunctionType<C, P, R> functionType) {
 		return delegate().execute(functionType);
@@ -307,6 +331,11 @@ public abstract class AbstractEntityConnection implements EntityConnection {
 		return delegate().delete(condition);
 	}
 
+	@Override
+	public final Collection<Entity.Key> flush(UnitOfWork unitOfWork) {
+		return delegate().flush(unitOfWork);
+	}
+
 	@Override
 	public final <T> List<T> select(Column<T> column) {
 		return delegate().select(column);
@@ -352,6 +381,11 @@ public abstract class AbstractEntityConnection implements EntityConnection {
 		return delegate().select(select);
 	}
 
+	@Override
+	public final List<List<Entity>> selects(List<Select> selects) {
+		return delegate().selects(selects);
+	}
+
 	@Override
 	public final Map<EntityType, Collection<Entity>> dependencies(Collection<Entity> entities) {
 		return delegate().dependencies(entities);
@@ -362,6 +396,11 @@ public abstract class AbstractEntityConnection implements EntityConnection {
 		return delegate().count(count);
 	}
 
+	@Override
+	public final List<Integer> counts(List<Count> counts) {
+		return delegate().counts(counts);
+	}
+
 	@Override
 	public final <P, R> R report(ReportType<P, R> reportType, @Nullable P parameter) {
 		return delegate().report(reportType, parameter);
@@ -472,6 +511,15 @@ public abstract class AbstractEntityConnection implements EntityConnection {
 		connection.close();
 	}
 
+	/**
+	 * <p>Returns the executor performing the operations of the {@link #async()} view of this connection,
+	 * by default a shared pool of daemon threads, created on demand.
+	 * @return the executor performing asynchronous operations
+	 */
+	protected Executor asyncExecutor() {
+		return AsyncExecutor.EXECUTOR;
+	}
+
 	/**
 	 * <p>Returns the underlying connection should one be established, without validating it,
 	 * establishing one or throwing in case this connection has been closed. For subclasses
@@ -666,4 +714,14 @@ public abstract class AbstractEntityConnection implements EntityConnection {
 	}
 
 	private interface Lock {}
+
+	private static final class AsyncExecutor {
+
+		private static final Executor EXECUTOR = newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "codion-async-entity-connection");
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
 }
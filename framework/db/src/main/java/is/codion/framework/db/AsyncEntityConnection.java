@@ -0,0 +1,149 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db;
+
+import is.codion.framework.db.EntityConnection.Count;
+import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.domain.entity.condition.Condition;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A non-blocking view of an {@link EntityConnection}, each operation returning a {@link CompletableFuture}
+ * completed with its result, or exceptionally with the exception the blocking operation would have thrown.
+ * {@snippet :
+ * AsyncEntityConnection async = connection.async();
+ *
+ * CompletableFuture<List<Entity>> employees = async.select(Employee.DEPARTMENT.equalTo(10));
+ * CompletableFuture<Integer> departments = async.count(Count.all(Department.TYPE));
+ *
+ * employees.thenCombine(departments, (emps, depts) -> ...);
+ *}
+ * <p>The operations are performed on the underlying connection, which performs them one at a time, in the
+ * order they arrive, so issuing several concurrently does not make them run in parallel on the database, it
+ * frees the calling threads from waiting for them. Operations performed while a transaction is open on the
+ * underlying connection participate in it, as they would if performed via the connection itself.
+ * <p>Cancelling a future before its operation is performed prevents it from being performed, cancelling one in
+ * progress interrupts the thread performing it, which cancels a query on the database, see
+ * {@link EntityConnection#cancel()}. Note that an insert, update or delete which was in progress when cancelled
+ * is not cancelled, and may still have been performed.
+ * @see EntityConnection#async()
+ */
+public interface AsyncEntityConnection {
+
+	/**
+	 * Performs the given select.
+	 * @param select the select to perform
+	 * @return a future completed with the selected entities
+	 * @see EntityConnection#select(Select)
+	 */
+	CompletableFuture<List<Entity>> select(Select select);
+
+	/**
+	 * Selects the entities matching the given condition.
+	 * @param condition the condition specifying which entities to select
+	 * @return a future completed with the selected entities
+	 * @see EntityConnection#select(Condition)
+	 */
+	default CompletableFuture<List<Entity>> select(Condition condition) {
+		return select(Select.where(condition).build());
+	}
+
+	/**
+	 * Counts the number of rows returned by the given count query.
+	 * @param count the count query
+	 * @return a future completed with the number of rows
+	 * @see EntityConnection#count(Count)
+	 */
+	CompletableFuture<Integer> count(Count count);
+
+	/**
+	 * Inserts the given entities.
+	 * @param entities the entities to insert
+	 * @return a future completed with the primary keys of the inserted entities
+	 * @see EntityConnection#insert(Collection)
+	 */
+	CompletableFuture<Collection<Entity.Key>> insert(Collection<Entity> entities);
+
+	/**
+	 * Inserts the given entity.
+	 * @param entity the entity to insert
+	 * @return a future completed with the primary key of the inserted entity
+	 * @see EntityConnection#insert(Entity)
+	 */
+	default CompletableFuture<Entity.Key> insert(Entity entity) {
+		return insert(singletonList(requireNonNull(entity)))
+						.thenApply(keys -> keys.iterator().next());
+	}
+
+	/**
+	 * Updates the given entities.
+	 * @param entities the entities to update
+	 * @return a future completed when the entities have been updated
+	 * @see EntityConnection#update(Collection)
+	 */
+	CompletableFuture<Void> update(Collection<Entity> entities);
+
+	/**
+	 * Updates the given entity.
+	 * @param entity the entity to update
+	 * @return a future completed when the entity has been updated
+	 * @see EntityConnection#update(Entity)
+	 */
+	default CompletableFuture<Void> update(Entity entity) {
+		return update(singletonList(requireNonNull(entity)));
+	}
+
+	/**
+	 * Deletes the entities with the given primary keys.
+	 * @param keys the primary keys of the entities to delete
+	 * @return a future completed when the entities have been deleted
+	 * @see EntityConnection#delete(Collection)
+	 */
+	CompletableFuture<Void> delete(Collection<Entity.Key> keys);
+
+	/**
+	 * Deletes the entity with the given primary key.
+	 * @param key the primary key of the entity to delete
+	 * @return a future completed when the entity has been deleted
+	 * @see EntityConnection#delete(Entity.Key)
+	 */
+	default CompletableFuture<Void> delete(Entity.Key key) {
+		return delete(singletonList(requireNonNull(key)));
+	}
+
+	/**
+	 * Returns a {@link AsyncEntityConnection} performing the blocking operations of the given connection
+	 * on the given executor. Cancelling a future while its operation is in progress interrupts the thread
+	 * performing it.
+	 * @param connection the connection
+	 * @param executor the executor performing the operations
+	 * @return a new {@link AsyncEntityConnection}
+	 */
+	static AsyncEntityConnection async(EntityConnection connection, Executor executor) {
+		return new DefaultAsyncEntityConnection(connection, executor);
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db;
+
+import is.codion.framework.db.EntityConnection.Count;
+import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.domain.entity.Entity;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.util.Objects.requireNonNull;
+
+final class DefaultAsyncEntityConnection implements AsyncEntityConnection {
+
+	private final EntityConnection connection;
+	private final Executor executor;
+
+	DefaultAsyncEntityConnection(EntityConnection connection, Executor executor) {
+		this.connection = requireNonNull(connection);
+		this.executor = requireNonNull(executor);
+	}
+
+	@Override
+	public CompletableFuture<List<Entity>> select(Select select) {
+		requireNonNull(select);
+
+		return perform(() -> connection.select(select));
+	}
+
+	@Override
+	public CompletableFuture<Integer> count(Count count) {
+		requireNonNull(count);
+
+		return perform(() -> connection.count(count));
+	}
+
+	@Override
+	public CompletableFuture<Collection<Entity.Key>> insert(Collection<Entity> entities) {
+		requireNonNull(entities);
+
+		return perform(() -> connection.insert(entities));
+	}
+
+	@Override
+	public CompletableFuture<Void> update(Collection<Entity> entities) {
+		requireNonNull(entities);
+
+		return perform(() -> {
+			connection.update(entities);
+
+			return null;
+		});
+	}
+
+	@Override
+	public CompletableFuture<Void> delete(Collection<Entity.Key> keys) {
+		requireNonNull(keys);
+
+		return perform(() -> {
+			connection.delete(keys);
+
+			return null;
+		});
+	}
+
+	private <T> CompletableFuture<T> perform(Callable<T> operation) {
+		Operation<T> future = new Operation<>(operation);
+		try {
+			executor.execute(future);
+		}
+		catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+
+		return future;
+	}
+
+	/**
+	 * A future performing its operation when run, unless cancelled before, interrupting
+	 * the thread performing it when cancelled while in progress.
+	 */
+	private static final class Operation<T> extends CompletableFuture<T> implements Runnable {
+
+		private final Object lock = new Object();
+		private final Callable<T> operation;
+
+		private @Nullable Thread thread;
+
+		private Operation(Callable<T> operation) {
+			this.operation = operation;
+		}
+
+		@Override
+		public void run() {
+			synchronized (lock) {
+				if (isDone()) {
+					return;
+				}
+				thread = Thread.currentThread();
+			}
+			try {
+				complete(operation.call());
+			}
+			catch (Throwable e) {
+				completeExceptionally(e);
+			}
+			finally {
+				synchronized (lock) {
+					thread = null;
+					//an interrupt arriving after the operation finished must not leak into the next task run by this thread
+					Thread.interrupted();
+				}
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			if (cancelled) {
+				synchronized (lock) {
+					if (thread != null) {
+						thread.interrupt();
+					}
+				}
+			}
+
+			return cancelled;
+		}
+	}
+}
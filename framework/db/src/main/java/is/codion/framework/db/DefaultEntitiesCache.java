@@ -0,0 +1,110 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db;
+
+import is.codion.framework.domain.entity.Entities;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static is.codion.common.utilities.Serializer.deserialize;
+import static is.codion.common.utilities.Serializer.serialize;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+
+final class DefaultEntitiesCache implements EntitiesCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DefaultEntitiesCache.class);
+
+	private static final Pattern FINGERPRINT = Pattern.compile("[0-9a-fA-F]+");
+	private static final String SUFFIX = ".entities";
+
+	private final Path directory;
+
+	DefaultEntitiesCache(Path directory) {
+		this.directory = requireNonNull(directory);
+	}
+
+	@Override
+	public Optional<Entities> get(String fingerprint) {
+		Path path = path(fingerprint);
+		if (!Files.isRegularFile(path)) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.ofNullable(deserialize(Files.readAllBytes(path)));
+		}
+		catch (IOException | ClassNotFoundException | ClassCastException e) {
+			LOG.warn("Unable to read cached entities: {}, removing", path, e);
+			delete(path);
+
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public void put(String fingerprint, Entities entities) {
+		Path path = path(fingerprint);
+		requireNonNull(entities);
+		try {
+			Files.createDirectories(directory);
+			//written to a temporary file and moved, so that a concurrent reader never sees a partial file
+			Path temporary = Files.createTempFile(directory, fingerprint, ".tmp");
+			try {
+				Files.write(temporary, serialize(entities));
+				Files.move(temporary, path, REPLACE_EXISTING, ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(temporary);
+			}
+		}
+		catch (IOException e) {
+			LOG.warn("Unable to cache entities: {}", path, e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + ": " + directory;
+	}
+
+	private Path path(String fingerprint) {
+		if (!FINGERPRINT.matcher(requireNonNull(fingerprint)).matches()) {
+			throw new IllegalArgumentException("Invalid domain fingerprint: " + fingerprint);
+		}
+
+		return directory.resolve(fingerprint + SUFFIX);
+	}
+
+	private static void delete(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		}
+		catch (IOException e) {
+			LOG.warn("Unable to remove cached entities: {}", path, e);
+		}
+	}
+}
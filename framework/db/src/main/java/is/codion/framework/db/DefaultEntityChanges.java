@@ -0,0 +1,93 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db;
+
+import is.codion.framework.domain.entity.Entity;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+final class DefaultEntityChanges implements EntityChanges, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1;
+
+	private final long position;
+	private final Collection<Entity.Key> inserted;
+	private final Map<Entity.Key, Entity.Key> updated;
+	private final Collection<Entity.Key> deleted;
+	private final boolean reset;
+
+	DefaultEntityChanges(long position, Collection<Entity.Key> inserted,
+											 Map<Entity.Key, Entity.Key> updated, Collection<Entity.Key> deleted, boolean reset) {
+		this.position = position;
+		this.inserted = unmodifiableCollection(new ArrayList<>(requireNonNull(inserted)));
+		this.updated = unmodifiableMap(new LinkedHashMap<>(requireNonNull(updated)));
+		this.deleted = unmodifiableCollection(new ArrayList<>(requireNonNull(deleted)));
+		this.reset = reset;
+	}
+
+	@Override
+	public long position() {
+		return position;
+	}
+
+	@Override
+	public Collection<Entity.Key> inserted() {
+		return inserted;
+	}
+
+	@Override
+	public Map<Entity.Key, Entity.Key> updated() {
+		return updated;
+	}
+
+	@Override
+	public Collection<Entity.Key> deleted() {
+		return deleted;
+	}
+
+	@Override
+	public boolean empty() {
+		return inserted.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+	}
+
+	@Override
+	public boolean reset() {
+		return reset;
+	}
+
+	@Override
+	public String toString() {
+		return "DefaultEntityChanges{" +
+						"position=" + position +
+						", inserted=" + inserted +
+						", updated=" + updated +
+						", deleted=" + deleted +
+						", reset=" + reset + "}";
+	}
+}
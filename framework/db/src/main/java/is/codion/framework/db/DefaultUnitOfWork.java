@@ -0,0 +1,123 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db;
+
+import is.codion.framework.db.EntityConnection.UnitOfWork;
+import is.codion.framework.domain.entity.Entity;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+final class DefaultUnitOfWork implements UnitOfWork, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1;
+
+	private final List<Entity> inserts;
+	private final List<Entity> updates;
+	private final List<Entity.Key> deletes;
+
+	private DefaultUnitOfWork(DefaultBuilder builder) {
+		this.inserts = unmodifiableList(new ArrayList<>(builder.inserts));
+		this.updates = unmodifiableList(new ArrayList<>(builder.updates));
+		this.deletes = unmodifiableList(new ArrayList<>(builder.deletes));
+	}
+
+	@Override
+	public List<Entity> inserts() {
+		return inserts;
+	}
+
+	@Override
+	public List<Entity> updates() {
+		return updates;
+	}
+
+	@Override
+	public List<Entity.Key> deletes() {
+		return deletes;
+	}
+
+	@Override
+	public boolean empty() {
+		return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "UnitOfWork{" +
+						"inserts=" + inserts.size() +
+						", updates=" + updates.size() +
+						", deletes=" + deletes.size() + "}";
+	}
+
+	static final class DefaultBuilder implements Builder {
+
+		private final List<Entity> inserts = new ArrayList<>();
+		private final List<Entity> updates = new ArrayList<>();
+		private final List<Entity.Key> deletes = new ArrayList<>();
+
+		@Override
+		public Builder insert(Entity entity) {
+			inserts.add(requireNonNull(entity));
+			return this;
+		}
+
+		@Override
+		public Builder insert(Collection<Entity> entities) {
+			requireNonNull(entities).forEach(this::insert);
+			return this;
+		}
+
+		@Override
+		public Builder update(Entity entity) {
+			updates.add(requireNonNull(entity));
+			return this;
+		}
+
+		@Override
+		public Builder update(Collection<Entity> entities) {
+			requireNonNull(entities).forEach(this::update);
+			return this;
+		}
+
+		@Override
+		public Builder delete(Entity.Key key) {
+			deletes.add(requireNonNull(key));
+			return this;
+		}
+
+		@Override
+		public Builder delete(Collection<Entity.Key> keys) {
+			requireNonNull(keys).forEach(this::delete);
+			return this;
+		}
+
+		@Override
+		public UnitOfWork build() {
+			return new DefaultUnitOfWork(this);
+		}
+	}
+}
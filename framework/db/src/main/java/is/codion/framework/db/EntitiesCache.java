@@ -0,0 +1,93 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db;
+
+import is.codion.common.utilities.property.PropertyValue;
+import is.codion.framework.domain.entity.Entities;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static is.codion.common.utilities.Configuration.stringValue;
+
+/**
+ * A client side cache of domain {@link Entities}, kept on disk and keyed by the fingerprint the server
+ * provides for its domain, a content hash of the entity definitions.
+ * <p>A remote or http connection fetches the fingerprint when connecting, loading the entities from this cache
+ * when present, instead of downloading them from the server, which for a large domain is a significant payload.
+ * A domain changing on the server changes its fingerprint, in which case the entities are downloaded and cached anew.
+ * <p>The cache is used when {@link #DIRECTORY} is specified.
+ * {@snippet :
+ * EntitiesCache cache = EntitiesCache.entitiesCache(Path.of("/var/cache/codion"));
+ *
+ * Entities entities = cache.get(fingerprint).orElseGet(() -> {
+ *   Entities downloaded = downloadEntities();
+ *   cache.put(fingerprint, downloaded);
+ *
+ *   return downloaded;
+ * });
+ *}
+ */
+public interface EntitiesCache {
+
+	/**
+	 * Specifies the directory in which to cache domain entities on the client, the cache not being used if none is specified.
+	 * <ul>
+	 * <li>Value type: String
+	 * <li>Default value: null
+	 * </ul>
+	 * @see #instance()
+	 */
+	PropertyValue<String> DIRECTORY = stringValue("codion.client.entitiesCache");
+
+	/**
+	 * Returns the cached entities with the given fingerprint, an empty Optional in case none are cached
+	 * or the cached ones can not be read, for example after a framework upgrade, in which case they are removed.
+	 * @param fingerprint the domain fingerprint
+	 * @return the cached entities, an empty Optional if none are found
+	 * @throws IllegalArgumentException in case the fingerprint is not a hexadecimal string
+	 */
+	Optional<Entities> get(String fingerprint);
+
+	/**
+	 * Caches the given entities with the given fingerprint. Failing to write the entities is logged, not thrown,
+	 * since the cache only saves a download the next time around.
+	 * @param fingerprint the domain fingerprint
+	 * @param entities the entities to cache
+	 * @throws IllegalArgumentException in case the fingerprint is not a hexadecimal string
+	 */
+	void put(String fingerprint, Entities entities);
+
+	/**
+	 * @return the cache in the directory specified by {@link #DIRECTORY}, an empty Optional if none is specified
+	 */
+	static Optional<EntitiesCache> instance() {
+		return DIRECTORY.optional()
+						.map(Path::of)
+						.map(EntitiesCache::entitiesCache);
+	}
+
+	/**
+	 * @param directory the directory in which to cache the entities, created if it does not exist
+	 * @return a new {@link EntitiesCache} instance
+	 */
+	static EntitiesCache entitiesCache(Path directory) {
+		return new DefaultEntitiesCache(directory);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db;
+
+import is.codion.framework.domain.entity.Entity;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+/**
+ * <p>The changes committed by other clients, as received from a server's change feed, identified by
+ * primary key only, the keys being all a client needs to decide whether, and what, to refresh.
+ * <p>Changes are coalesced before they are delivered, an entity inserted and then updated is reported
+ * as inserted with its current key, one updated and then deleted as deleted with the key the receiving
+ * client knows it by, and one inserted and then deleted not at all.
+ * <p>Note that only changes made via the entity based insert, update and delete operations are reported by key.
+ * Changes made via {@link EntityConnection#update(EntityConnection.Update)} and
+ * {@link EntityConnection#delete(is.codion.framework.domain.entity.condition.Condition)} are reported as a
+ * {@link #reset()}, since the rows affected are not known, while those made via functions, procedures or
+ * outside of the server are not reported.
+ * @see Feed
+ * @see #entityChanges(long, Collection, Map, Collection)
+ */
+public interface EntityChanges {
+
+	/**
+	 * @return the position in the feed these changes bring the receiver up to date with,
+	 * to use when requesting the next changes
+	 * @see Feed#changes(long, int)
+	 */
+	long position();
+
+	/**
+	 * @return the keys of the inserted entities
+	 */
+	Collection<Entity.Key> inserted();
+
+	/**
+	 * @return the original keys of the updated entities, the ones the receiver knows them by, mapped
+	 * to their current keys, which differ only in case the primary key was updated
+	 */
+	Map<Entity.Key, Entity.Key> updated();
+
+	/**
+	 * @return the keys of the deleted entities
+	 */
+	Collection<Entity.Key> deleted();
+
+	/**
+	 * @return true if these changes contain no inserted, updated nor deleted entities
+	 */
+	boolean empty();
+
+	/**
+	 * Returns true in case the receiver has missed changes which are no longer available, having fallen further
+	 * behind than the server retains changes, or knowing a position from before a server restart, or in case
+	 * rows were updated or deleted based on a condition, without the keys affected being known. Changes
+	 * indicating a reset contain no inserted, updated nor deleted entities, the receiver having to refresh in
+	 * full instead, continuing from the {@link #position()} they bring it up to.
+	 * @return true if the receiver must refresh in full
+	 * @see #reset(long)
+	 */
+	boolean reset();
+
+	/**
+	 * @param position the position in the feed
+	 * @param inserted the keys of the inserted entities
+	 * @param updated the original keys of the updated entities, mapped to their current keys
+	 * @param deleted the keys of the deleted entities
+	 * @return a new {@link EntityChanges} instance
+	 */
+	static EntityChanges entityChanges(long position, Collection<Entity.Key> inserted,
+																		 Map<Entity.Key, Entity.Key> updated, Collection<Entity.Key> deleted) {
+		return new DefaultEntityChanges(position, inserted, updated, deleted, false);
+	}
+
+	/**
+	 * @param position the position in the feed
+	 * @return a new {@link EntityChanges} instance, indicating that the receiver must refresh in full
+	 * @see #reset()
+	 */
+	static EntityChanges reset(long position) {
+		return new DefaultEntityChanges(position, emptyList(), emptyMap(), emptyList(), true);
+	}
+
+	/**
+	 * <p>A connection delivering the changes committed by other clients, implemented by connections to
+	 * a server with its change feed enabled.
+	 * <p>The feed is long-polled, a client requesting the changes since the position it has received,
+	 * the request returning as soon as there are any, or once the timeout has elapsed, in which case the
+	 * returned changes are empty. Note that a long-poll does not hold up other calls on the same connection.
+	 * {@snippet :
+	 * EntityChanges.Feed feed = (EntityChanges.Feed) connection;
+	 * long position = feed.changes(-1, 0).position();
+	 * while (running) {
+	 *   EntityChanges changes = feed.changes(position, 30_000);
+	 *   position = changes.position();
+	 *   // refresh, in full in case of changes.reset()
+	 * }
+	 *}
+	 */
+	interface Feed {
+
+		/**
+		 * Returns the changes committed by other clients since the given position. A negative position
+		 * returns no changes, along with the current position, without waiting.
+		 * <p>The server retains a limited number of changes, a client falling further behind than that,
+		 * or requesting a position the server does not recognize, a restarted server for example, receiving
+		 * a {@link EntityChanges#reset()}, along with the current position, without waiting.
+		 * <p>If the changes are interrupted while waiting, no changes are returned, along with the given position.
+		 * @param position the position received with the previous changes, -1 for the current position
+		 * @param timeout the maximum number of milliseconds to wait for changes, should be shorter than
+		 * any socket timeout on the connection, the server reducing it to its own maximum
+		 * @return the changes since the given position
+		 * @throws UnsupportedOperationException in case the change feed is not enabled on the server
+		 */
+		EntityChanges changes(long position, int timeout);
+	}
+}
@@ -437,6 +437,30 @@ public interface EntityConnection extends AutoCloseable {
 	 */
 	QueryCache cacheQueries();
 
+	/**
+	 * Returns a non-blocking view of this connection, for performing operations without tying up
+	 * the calling thread while waiting for the result.
+	 * <p>How the operations are performed depends on the connection type, a local connection performs them
+	 * on virtual threads, a remote one on a bounded number of threads and a http connection on a shared
+	 * pool of threads.
+	 * @return an {@link AsyncEntityConnection} based on this connection
+	 * @see AsyncEntityConnection
+	 */
+	AsyncEntityConnection async();
+
+	/**
+	 * <p>Cancels the statement currently being executed via this connection, if any, on behalf of another thread,
+	 * the operation performing it failing with a {@link is.codion.common.db.exception.QueryCancelledException}.
+	 * Safe to call from any thread, without waiting for the operation in progress.
+	 * <p>Note that interrupting a thread performing a query via a local or a http connection cancels it as well,
+	 * so a superseded query running on a cancelled {@link java.util.concurrent.Future}, a table refresh
+	 * for example, does not keep the database busy until it completes. Interrupting a thread performing an
+	 * insert, update or delete does not cancel it, nor does interrupting one waiting on a remote (RMI) connection.
+	 * <p>Has no effect in case no statement is being executed. Note that only the execution of a statement is
+	 * cancelled, not the fetching of a result already produced.
+	 */
+	void cancel();
+
 	/**
 	 * Executes the function with the given type with no parameter
 	 * @param functionType the function type
@@ -668,6 +692,44 @@ public interface EntityConnection extends AutoCloseable {
 	 */
 	int delete(Condition condition);
 
+	/**
+	 * Flushes the given unit of work, performing its inserts, updates and deletes within a single transaction,
+	 * in a single round trip in case of a remote connection.
+	 * The inserts are performed first, ordered so that referenced entities are inserted before the ones
+	 * referencing them, followed by the updates and finally the deletes, ordered so that referencing entities
+	 * are deleted before the ones they reference.
+	 * <p>A foreign key value referencing an entity inserted by the same unit of work, such as invoice lines
+	 * referencing a new invoice, has its reference columns populated with the key of the inserted entity,
+	 * including any generated key values, before being inserted or updated.
+	 * Note that this relies on the referenced entity instance being the one added to the unit of work,
+	 * which a JSON based connection does not preserve.
+	 * <p>Joins a transaction in case one is already open, otherwise commits on success and rolls back on exception.
+	 * {@snippet :
+	 * Entity invoice = entities.entity(Invoice.TYPE)
+	 *     .with(Invoice.CUSTOMER_FK, customer)
+	 *     .build();
+	 * Entity invoiceLine = entities.entity(InvoiceLine.TYPE)
+	 *     .with(InvoiceLine.INVOICE_FK, invoice)
+	 *     .with(InvoiceLine.TRACK_FK, track)
+	 *     .build();
+	 * customer.set(Customer.SUPPORTREP_FK, employee);
+	 *
+	 * Collection<Entity.Key> insertedKeys = connection.flush(UnitOfWork.builder()
+	 *     .insert(invoiceLine)
+	 *     .insert(invoice)
+	 *     .update(customer)
+	 *     .delete(previousInvoice.primaryKey())
+	 *     .build());
+	 *}
+	 * @param unitOfWork the unit of work to flush
+	 * @return the primary keys of the inserted entities, in the order they were added to the unit of work
+	 * @throws DatabaseException in case of a database exception
+	 * @throws is.codion.common.db.exception.UpdateEntityException in case an update affects no row, or more than one
+	 * @throws is.codion.common.db.exception.DeleteEntityException in case the number of deleted rows does not match the number of keys
+	 * @throws is.codion.common.db.exception.EntityModifiedException in case an entity being updated has been modified or deleted by another user
+	 */
+	Collection<Entity.Key> flush(UnitOfWork unitOfWork);
+
 	/**
 	 * Selects ordered and distinct non-null values of the given column.
 	 * @param column column
@@ -825,6 +887,23 @@ public interface EntityConnection extends AutoCloseable {
 		return select(requireNonNull(select).get());
 	}
 
+	/**
+	 * Performs the given selects, in a single round trip in case of a remote connection.
+	 * {@snippet :
+	 * // Populate a master-detail screen in one go
+	 * List<List<Entity>> result = connection.selects(List.of(
+	 *     Select.all(Artist.TYPE).build(),
+	 *     Select.all(Genre.TYPE).build(),
+	 *     Select.all(MediaType.TYPE).build()));
+	 * List<Entity> artists = result.get(0);
+	 *}
+	 * @param selects the selects to perform
+	 * @return the result of each select, in the same order as the selects
+	 * @throws DatabaseException in case of a database exception
+	 * @see #select(Select)
+	 */
+	List<List<Entity>> selects(List<Select> selects);
+
 	/**
 	 * Selects the entities that depend on the given entities via (non-soft) foreign keys, mapped to corresponding entityTypes
 	 * @param entities the entities for which to retrieve dependencies, must be of same type
@@ -855,6 +934,16 @@ public interface EntityConnection extends AutoCloseable {
 		return count(requireNonNull(count).get());
 	}
 
+	/**
+	 * Counts the number of rows returned based on each of the given count conditions,
+	 * in a single round trip in case of a remote connection.
+	 * @param counts the count conditions
+	 * @return the number of rows fitting each of the given count conditions, in the same order
+	 * @throws DatabaseException in case of a database exception
+	 * @see #count(Count)
+	 */
+	List<Integer> counts(List<Count> counts);
+
 	/**
 	 * Takes a ReportType object using a JDBC datasource and returns an initialized report result object
 	 * @param reportType the report to fill
@@ -1710,4 +1799,85 @@ public interface EntityConnection extends AutoCloseable {
 			return DefaultCount.DefaultBuilder.WHERE;
 		}
 	}
+
+	/**
+	 * Records inserts, updates and deletes, to be performed together via {@link EntityConnection#flush(UnitOfWork)}.
+	 * @see #builder()
+	 */
+	interface UnitOfWork {
+
+		/**
+		 * @return the entities to insert, in the order they were added
+		 */
+		List<Entity> inserts();
+
+		/**
+		 * @return the entities to update, in the order they were added
+		 */
+		List<Entity> updates();
+
+		/**
+		 * @return the primary keys of the entities to delete, in the order they were added
+		 */
+		List<Entity.Key> deletes();
+
+		/**
+		 * @return true if this unit of work contains no inserts, updates nor deletes
+		 */
+		boolean empty();
+
+		/**
+		 * Builds a {@link UnitOfWork}.
+		 */
+		interface Builder {
+
+			/**
+			 * @param entity the entity to insert
+			 * @return this builder instance
+			 */
+			Builder insert(Entity entity);
+
+			/**
+			 * @param entities the entities to insert
+			 * @return this builder instance
+			 */
+			Builder insert(Collection<Entity> entities);
+
+			/**
+			 * @param entity the entity to update
+			 * @return this builder instance
+			 */
+			Builder update(Entity entity);
+
+			/**
+			 * @param entities the entities to update
+			 * @return this builder instance
+			 */
+			Builder update(Collection<Entity> entities);
+
+			/**
+			 * @param key the primary key of the entity to delete
+			 * @return this builder instance
+			 */
+			Builder delete(Entity.Key key);
+
+			/**
+			 * @param keys the primary keys of the entities to delete
+			 * @return this builder instance
+			 */
+			Builder delete(Collection<Entity.Key> keys);
+
+			/**
+			 * @return a new {@link UnitOfWork} instance based on this builder
+			 */
+			UnitOfWork build();
+		}
+
+		/**
+		 * @return a new {@link Builder} instance
+		 */
+		static Builder builder() {
+			return new DefaultUnitOfWork.DefaultBuilder();
+		}
+	}
 }
@@ -0,0 +1,37 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db.exception;
+
+import is.codion.common.db.exception.DatabaseException;
+
+/**
+ * Exception used when the server rejects an operation, being at capacity, either having no room left for
+ * another client waiting to run one, or the client having waited longer than allowed. Nothing has been run,
+ * so the operation can safely be retried once the load has eased.
+ */
+public final class ServerBusyException extends DatabaseException {
+
+	/**
+	 * Instantiates a new ServerBusyException
+	 * @param message the exception message
+	 */
+	public ServerBusyException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db.interrupt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>Turns the interruption of a thread blocked in a query into the cancellation of that query.
+ * <p>A thread blocked on a JDBC statement or a remote call does not notice being interrupted, so a cancelled
+ * {@link java.util.concurrent.Future} running a query leaves the query running to completion, its result
+ * simply discarded. A thread registers a {@link Watch} for the duration of a query, and should it be interrupted
+ * meanwhile, the cancel action is run on the watcher thread, which then cancels the query from the outside,
+ * via {@link java.sql.Statement#cancel()} or by asking the server to cancel it.
+ * <p>Closing a watch waits for a cancel action in progress, so a cancellation never outlives the query it targets.
+ * <p>Only queries are watched, an interrupted thread performing an insert, update or delete having it run to
+ * completion, rather than having a save cancelled halfway through.
+ * <p>The watcher thread polls the watched threads every {@value #POLL_INTERVAL} milliseconds, is started on
+ * demand and exits once there is nothing left to watch.
+ * <p>For internal use by the connection implementations, the package is only exported to them.
+ * <pre>
+ * try (InterruptWatcher.Watch watch = InterruptWatcher.watch(statement::cancel)) {
+ *   return statement.executeQuery();
+ * }
+ * </pre>
+ */
+public final class InterruptWatcher {
+
+	private static final Logger LOG = LoggerFactory.getLogger(InterruptWatcher.class);
+
+	/**
+	 * The interval in milliseconds between checks for interrupted threads
+	 */
+	static final int POLL_INTERVAL = 50;
+
+	private static final Set<DefaultWatch> WATCHES = ConcurrentHashMap.newKeySet();
+	private static final AtomicBoolean POLLING = new AtomicBoolean();
+
+	private InterruptWatcher() {}
+
+	/**
+	 * Starts watching the current thread, running the given action should it be interrupted before the
+	 * returned {@link Watch} is closed. Note that an already interrupted thread triggers the action as well.
+	 * @param cancel the action cancelling the query being executed by the current thread
+	 * @return the watch, to close once the query has completed
+	 */
+	public static Watch watch(Runnable cancel) {
+		DefaultWatch watch = new DefaultWatch(Thread.currentThread(), requireNonNull(cancel));
+		WATCHES.add(watch);
+		if (!POLLING.get() && POLLING.compareAndSet(false, true)) {
+			startPolling();
+		}
+
+		return watch;
+	}
+
+	/**
+	 * A watch on a thread executing a query, closing it ends the watch.
+	 */
+	public interface Watch extends AutoCloseable {
+
+		@Override
+		void close();
+	}
+
+	private static void startPolling() {
+		Thread.ofPlatform()
+						.name("codion-interrupt-watcher")
+						.daemon(true)
+						.start(InterruptWatcher::poll);
+	}
+
+	private static void poll() {
+		while (true) {
+			try {
+				Thread.sleep(POLL_INTERVAL);
+			}
+			catch (InterruptedException e) {
+				//only ever exits on its own accord, see below
+				LOG.debug("Interrupt watcher interrupted", e);
+			}
+			if (WATCHES.isEmpty()) {
+				POLLING.set(false);
+				//a watch added since the check above may have found the watcher still polling
+				if (WATCHES.isEmpty() || !POLLING.compareAndSet(false, true)) {
+					return;
+				}
+			}
+			WATCHES.forEach(DefaultWatch::check);
+		}
+	}
+
+	private static final class DefaultWatch implements Watch {
+
+		private final Thread thread;
+		private final Runnable cancel;
+
+		private boolean closed = false;
+
+		private DefaultWatch(Thread thread, Runnable cancel) {
+			this.thread = thread;
+			this.cancel = cancel;
+		}
+
+		/**
+		 * Waits for a cancellation in progress, so that it can never reach a query executed after this one.
+		 */
+		@Override
+		public synchronized void close() {
+			closed = true;
+			WATCHES.remove(this);
+		}
+
+		private synchronized void check() {
+			if (!closed && thread.isInterrupted()) {
+				closed = true;
+				try {
+					cancel.run();
+				}
+				catch (Exception e) {
+					LOG.warn("Cancelling the query executed by an interrupted thread failed: {}", thread, e);
+				}
+			}
+		}
+	}
+}
@@ -31,6 +31,7 @@ module is.codion.framework.db {
 
 	exports is.codion.framework.db;
 	exports is.codion.framework.db.exception;
+	exports is.codion.framework.db.interrupt to is.codion.framework.db.local, is.codion.framework.db.rmi;
 
 	uses is.codion.framework.db.EntityConnection.Builder;
 	uses is.codion.framework.db.EntityQueries.Factory;
@@ -0,0 +1,139 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db;
+
+import is.codion.common.utilities.proxy.ProxyBuilder;
+import is.codion.framework.db.EntityConnection.Count;
+import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.db.TestDomain.Department;
+import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.domain.entity.Entity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncEntityConnectionTest")
+public final class AsyncEntityConnectionTest {
+
+	private static final Entities ENTITIES = new TestDomain().entities();
+
+	private final ExecutorService executor = newSingleThreadExecutor();
+
+	private final Entity department = ENTITIES.entity(Department.TYPE)
+					.with(Department.ID, 10)
+					.with(Department.NAME, "Accounting")
+					.build();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("operations complete with the result of the blocking operation")
+	void operations_complete_withResult() {
+		List<Entity.Key> deleted = new ArrayList<>();
+		EntityConnection connection = ProxyBuilder.of(EntityConnection.class)
+						.method("select", Select.class, parameters -> singletonList(department))
+						.method("count", Count.class, parameters -> 42)
+						.method("insert", Collection.class, parameters -> singletonList(department.primaryKey()))
+						.method("delete", Collection.class, parameters -> {
+							deleted.addAll((Collection<Entity.Key>) parameters.arguments().get(0));
+
+							return null;
+						})
+						.build();
+		AsyncEntityConnection async = AsyncEntityConnection.async(connection, executor);
+
+		assertEquals(singletonList(department), async.select(Department.ID.equalTo(10)).join());
+		int count = async.count(Count.all(Department.TYPE)).join();
+		assertEquals(42, count);
+		assertEquals(department.primaryKey(), async.insert(department).join());
+		assertNull(async.delete(department.primaryKey()).join());
+		assertEquals(singletonList(department.primaryKey()), deleted);
+	}
+
+	@Test
+	@DisplayName("an operation failing completes the future exceptionally")
+	void operation_fails_completesExceptionally() {
+		EntityConnection connection = ProxyBuilder.of(EntityConnection.class)
+						.method("update", Collection.class, parameters -> {
+							throw new IllegalStateException("failed");
+						})
+						.build();
+		AsyncEntityConnection async = AsyncEntityConnection.async(connection, executor);
+
+		CompletionException exception = assertThrows(CompletionException.class, () -> async.update(department).join());
+		assertInstanceOf(IllegalStateException.class, exception.getCause());
+	}
+
+	@Test
+	@DisplayName("cancelling an operation in progress interrupts it, one pending is never performed")
+	void cancel_interruptsInProgress_skipsPending() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		AtomicBoolean counted = new AtomicBoolean();
+		EntityConnection connection = ProxyBuilder.of(EntityConnection.class)
+						.method("select", Select.class, parameters -> {
+							started.countDown();
+							try {
+								Thread.sleep(10_000);
+							}
+							catch (InterruptedException e) {
+								interrupted.countDown();
+							}
+
+							return singletonList(department);
+						})
+						.method("count", Count.class, parameters -> {
+							counted.set(true);
+
+							return 0;
+						})
+						.build();
+		AsyncEntityConnection async = AsyncEntityConnection.async(connection, executor);
+
+		CompletableFuture<List<Entity>> select = async.select(Department.ID.equalTo(10));
+		CompletableFuture<Integer> count = async.count(Count.all(Department.TYPE));
+		assertTrue(started.await(5, SECONDS));
+		assertTrue(count.cancel(true));
+		assertTrue(select.cancel(true));
+		assertTrue(interrupted.await(5, SECONDS));
+		assertThrows(CancellationException.class, select::join);
+		//the executor moves on, skipping the cancelled count
+		executor.submit(() -> {}).get(5, SECONDS);
+		assertFalse(counted.get());
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db;
+
+import is.codion.framework.db.TestDomain.Department;
+import is.codion.framework.domain.entity.Entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class EntitiesCacheTest {
+
+	@Test
+	void cache() throws IOException {
+		Path directory = Files.createTempDirectory("entities");
+		try {
+			EntitiesCache cache = EntitiesCache.entitiesCache(directory.resolve("cache"));
+			String fingerprint = "0123456789abcdef";
+			assertFalse(cache.get(fingerprint).isPresent());
+
+			cache.put(fingerprint, new TestDomain().entities());
+			Optional<Entities> cached = cache.get(fingerprint);
+			assertTrue(cached.isPresent());
+			assertEquals(TestDomain.DOMAIN, cached.get().domainType());
+			assertTrue(cached.get().contains(Department.TYPE));
+			assertFalse(cache.get("fedcba9876543210").isPresent());
+
+			//unreadable, removed
+			Path path = directory.resolve("cache").resolve(fingerprint + ".entities");
+			Files.write(path, new byte[] {1, 2, 3});
+			assertFalse(cache.get(fingerprint).isPresent());
+			assertFalse(Files.exists(path));
+
+			assertThrows(IllegalArgumentException.class, () -> cache.get("../entities"));
+			assertThrows(IllegalArgumentException.class, () -> cache.put("", new TestDomain().entities()));
+		}
+		finally {
+			try (Stream<Path> paths = Files.walk(directory)) {
+				paths.sorted((path1, path2) -> path2.compareTo(path1)).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+}
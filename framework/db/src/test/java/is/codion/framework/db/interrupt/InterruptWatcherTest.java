@@ -0,0 +1,86 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.db.interrupt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class InterruptWatcherTest {
+
+	@Test
+	void interrupted() throws Exception {
+		AtomicInteger cancelled = new AtomicInteger();
+		CountDownLatch cancel = new CountDownLatch(1);
+		CountDownLatch watching = new CountDownLatch(1);
+		Thread thread = Thread.ofPlatform().start(() -> {
+			try (InterruptWatcher.Watch watch = InterruptWatcher.watch(() -> {
+				cancelled.incrementAndGet();
+				cancel.countDown();
+			})) {
+				watching.countDown();
+				//blocked without noticing the interrupt, as a thread waiting on a statement
+				while (cancel.getCount() > 0) {
+					Thread.onSpinWait();
+				}
+			}
+		});
+		watching.await();
+		thread.interrupt();
+		assertTrue(cancel.await(5, SECONDS));
+		thread.join();
+		assertEquals(1, cancelled.get());
+	}
+
+	@Test
+	void closed() throws Exception {
+		AtomicInteger cancelled = new AtomicInteger();
+		Thread thread = Thread.ofPlatform().start(() -> {
+			InterruptWatcher.watch(cancelled::incrementAndGet).close();
+			Thread.currentThread().interrupt();
+		});
+		thread.join();
+		Thread.sleep(InterruptWatcher.POLL_INTERVAL * 3);
+		assertEquals(0, cancelled.get());
+	}
+
+	@Test
+	void failingCancel() throws Exception {
+		CountDownLatch cancelled = new CountDownLatch(2);
+		Thread.currentThread().interrupt();
+		try (InterruptWatcher.Watch failing = InterruptWatcher.watch(() -> {
+			cancelled.countDown();
+			throw new IllegalStateException();
+		}); InterruptWatcher.Watch watch = InterruptWatcher.watch(cancelled::countDown)) {
+			//the failure is logged, the watcher keeps going
+			long timeout = System.currentTimeMillis() + 5000;
+			while (cancelled.getCount() > 0 && System.currentTimeMillis() < timeout) {
+				Thread.onSpinWait();
+			}
+		}
+		finally {
+			assertTrue(Thread.interrupted());
+		}
+		assertEquals(0, cancelled.getCount());
+	}
+}
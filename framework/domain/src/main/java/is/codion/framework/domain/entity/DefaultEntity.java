@@ -847,6 +847,27 @@ sealed class DefaultEntity implements Entity, Serializable permits ImmutableEnti
 		return values;
 	}
 
+	static Collection<Entity> restore(Collection<Entity> updated, Collection<Entity> entities) {
+		Map<Key, Entity> entitiesByKey = new HashMap<>();
+		requireNonNull(entities).forEach(entity -> entitiesByKey.put(entity.primaryKey(), entity));
+		for (Entity entity : requireNonNull(updated)) {
+			Entity source = entitiesByKey.get(entity.primaryKey());
+			if (source != null) {
+				for (Map.Entry<Attribute<?>, Object> entry : ((DefaultEntity) source).values.entrySet()) {
+					if (entry.getKey() instanceof Column && !entity.contains(entry.getKey())) {
+						restore(entity, source, entry.getKey());
+					}
+				}
+			}
+		}
+
+		return updated;
+	}
+
+	private static <T> void restore(Entity entity, Entity source, Attribute<T> attribute) {
+		entity.set(attribute, source.get(attribute));
+	}
+
 	private static Map<Attribute<?>, Object> createValueMap(Key key) {
 		Collection<Column<?>> columns = key.columns();
 		Map<Attribute<?>, @Nullable Object> values = new HashMap<>(columns.size());
@@ -913,6 +934,46 @@ sealed class DefaultEntity implements Entity, Serializable permits ImmutableEnti
 		public Builder builder() {
 			return new DefaultEntityBuilder(entity.definition, entity.values, entity.originalValues);
 		}
+
+		@Override
+		public Entity delta() {
+			DefaultEntity delta = new DefaultEntity(entity.definition(), EMPTY_MAP, EMPTY_MAP);
+			boolean optimisticLocking = entity.definition.optimisticLocking();
+			for (Map.Entry<Attribute<?>, Object> entry : entity.values.entrySet()) {
+				if (delta(entry.getKey(), optimisticLocking)) {
+					delta.values.put(entry.getKey(), entry.getValue()); // Bypass type validation, already validated
+				}
+			}
+			if (entity.originalValues != null) {
+				for (Map.Entry<Attribute<?>, Object> entry : entity.originalValues.entrySet()) {
+					if (entry.getKey() instanceof Column) {
+						if (delta.originalValues == null) {
+							delta.originalValues = new HashMap<>();
+						}
+						delta.originalValues.put(entry.getKey(), entry.getValue());
+					}
+				}
+			}
+
+			return delta;
+		}
+
+		private boolean delta(Attribute<?> attribute, boolean optimisticLocking) {
+			if (!(attribute instanceof Column)) {
+				return false;
+			}
+
+			if (entity.isModified(attribute) || entity.definition.primaryKey().columns().contains(attribute)) {
+				return true;
+			}
+			if (!optimisticLocking) {
+				return false;
+			}
+			ColumnDefinition<?> columnDefinition = entity.definition.columns().definition((Column<?>) attribute);
+
+			// the optimistic locking compares the updatable columns, lazy ones only when loaded into both entities
+			return columnDefinition.updatable() && columnDefinition.selected();
+		}
 	}
 
 	private static final class DefaultEntityValidator implements EntityValidator, Serializable {
@@ -479,6 +479,7 @@ public sealed interface Entity extends Comparable<Entity> permits DefaultEntity
 	 * <ul>
 	 *   <li>{@link #mutable()} returns a mutable copy
 	 *   <li>{@link #builder()} returns a {@link Builder} instance initialized with the values of the entity being copied
+	 *   <li>{@link #delta()} returns a mutable copy containing only what an update requires
 	 * </ul>
 	 */
 	sealed interface Copy permits DefaultCopy {
@@ -496,6 +497,25 @@ public sealed interface Entity extends Comparable<Entity> permits DefaultEntity
 		 * @return a {@link Builder} instance.
 		 */
 		Builder builder();
+
+		/**
+		 * Returns a mutable copy of this entity containing only the column values required to update it,
+		 * for sending the entity across the wire, the rest of the row not travelling along with it.
+		 * <ul>
+		 *   <li>the primary key column values
+		 *   <li>the modified column values, along with their original values
+		 *   <li>when {@link EntityDefinition#optimisticLocking()} is enabled, the unmodified values of the updatable
+		 *   columns selected by default, which the optimistic locking compares with the row
+		 * </ul>
+		 * <p>Foreign key, derived and transient values are not included, neither are unmodified read-only values.
+		 * Note that with optimistic locking enabled, which is the default, most of the row still travels along,
+		 * the values left out being the foreign key entities and unmodified lazy loaded values, such as BLOBs.
+		 * Since lazy loaded values are only compared by the optimistic locking when loaded, an unmodified lazy
+		 * loaded value is not compared when updating via a delta, a modified one is.
+		 * Byte array columns selected by default are compared, same as any other column.
+		 * @return a copy of this entity, containing only the values required to update it
+		 */
+		Entity delta();
 	}
 
 	/**
@@ -730,6 +750,19 @@ public sealed interface Entity extends Comparable<Entity> permits DefaultEntity
 						.collect(groupingBy(Entity::type, LinkedHashMap::new, toList()));
 	}
 
+	/**
+	 * Restores the column values missing from the {@code updated} entities, from the entities with the same
+	 * primary key in {@code entities}, such as the unmodified lazy loaded values left out of a {@link Copy#delta()}
+	 * and therefore not re-selected along with the updated entities.
+	 * @param updated the updated entities, as returned by the update
+	 * @param entities the entities the update was based on
+	 * @return the {@code updated} entities
+	 * @see Copy#delta()
+	 */
+	static Collection<Entity> restore(Collection<Entity> updated, Collection<Entity> entities) {
+		return DefaultEntity.restore(updated, entities);
+	}
+
 	/**
 	 * Represents a unique column combination for a given entity.
 	 */
@@ -57,6 +57,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -765,6 +766,84 @@ public class DefaultEntityTest {
 			assertFalse(originalKey.primary());
 		}
 
+		@Test
+		@DisplayName("delta copy contains only the values required to update")
+		void copy_delta() {
+			Entity department = ENTITIES.entity(Department.TYPE)
+							.with(Department.ID, 10)
+							.with(Department.NAME, "Sales")
+							.with(Department.ACTIVE, true)
+							.with(Department.DATA, new byte[] {1, 2, 3})
+							.build();
+			Entity employee = ENTITIES.entity(Employee.TYPE)
+							.with(Employee.ID, 1)
+							.with(Employee.NAME, "Scott")
+							.with(Employee.JOB, "CLERK")
+							.with(Employee.HIREDATE, LocalDateTime.now())
+							.with(Employee.DEPARTMENT_FK, department)
+							.with(Employee.DATA, new byte[] {1, 2, 3})
+							.build();
+			employee.set(Employee.ID, 2);
+			employee.set(Employee.NAME, "John");
+
+			Entity delta = employee.copy().delta();
+			assertTrue(delta.mutable());
+			assertEquals(employee.primaryKey(), delta.primaryKey());
+			assertEquals(employee.originalPrimaryKey(), delta.originalPrimaryKey());
+			assertEquals("John", delta.get(Employee.NAME));
+			assertEquals("Scott", delta.original(Employee.NAME));
+			assertTrue(delta.modified(Employee.NAME));
+			// unmodified, required for optimistic locking
+			assertEquals("CLERK", delta.get(Employee.JOB));
+			assertFalse(delta.modified(Employee.JOB));
+			assertEquals(10, delta.get(Employee.DEPARTMENT_NO));
+			assertArrayEquals(new byte[] {1, 2, 3}, delta.get(Employee.DATA));
+			// unmodified and not updatable, not compared by optimistic locking
+			assertFalse(delta.contains(Employee.HIREDATE));
+			assertFalse(delta.contains(Employee.DEPARTMENT_FK));
+			assertFalse(delta.contains(Employee.DEPARTMENT_NAME));
+
+			employee.set(Employee.DATA, new byte[] {4, 5, 6});
+			delta = employee.copy().delta();
+			assertArrayEquals(new byte[] {4, 5, 6}, delta.get(Employee.DATA));
+			assertArrayEquals(new byte[] {1, 2, 3}, delta.original(Employee.DATA));
+
+			// unmodified lazy loaded and read-only values left out
+			delta = department.copy().delta();
+			assertEquals("Sales", delta.get(Department.NAME));
+			assertFalse(delta.contains(Department.DATA));
+			assertFalse(delta.contains(Department.ACTIVE));
+
+			department.set(Department.DATA, new byte[] {4, 5, 6});
+			delta = department.copy().delta();
+			assertArrayEquals(new byte[] {4, 5, 6}, delta.get(Department.DATA));
+		}
+
+		@Test
+		@DisplayName("restore adds the values left out of a delta to the updated entities")
+		void restore() {
+			Entity department = ENTITIES.entity(Department.TYPE)
+							.with(Department.ID, 10)
+							.with(Department.NAME, "Sales")
+							.with(Department.DATA, new byte[] {1, 2, 3})
+							.build();
+			department.set(Department.NAME, "Marketing");
+			Entity updated = ENTITIES.entity(Department.TYPE)
+							.with(Department.ID, 10)
+							.with(Department.NAME, "Marketing")
+							.build();
+			Entity other = ENTITIES.entity(Department.TYPE)
+							.with(Department.ID, 20)
+							.with(Department.NAME, "Research")
+							.build();
+
+			Entity.restore(asList(updated, other), singletonList(department));
+			assertArrayEquals(new byte[] {1, 2, 3}, updated.get(Department.DATA));
+			assertEquals("Marketing", updated.get(Department.NAME));
+			assertFalse(updated.modified());
+			assertFalse(other.contains(Department.DATA));
+		}
+
 		@Test
 		@DisplayName("entity basic operations work correctly")
 		void entity_basicOperations() {
@@ -20,18 +20,22 @@ package is.codion.framework.json.db;
 
 import is.codion.framework.db.EntityConnection.Count;
 import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.EntityConnection.Update;
+import is.codion.framework.domain.entity.Entity;
 import is.codion.framework.json.domain.EntityObjectMapper;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import java.io.Serial;
+import java.util.List;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * ObjectMapper implementation for {@link Select} and {@link Update}.
+ * ObjectMapper implementation for {@link Select}, {@link Update}, {@link Count} and {@link UnitOfWork}.
  * For instances use the {@link #databaseObjectMapper(EntityObjectMapper)} factory method.
  */
 public final class DatabaseObjectMapper extends ObjectMapper {
@@ -39,6 +43,11 @@ public final class DatabaseObjectMapper extends ObjectMapper {
 	@Serial
 	private static final long serialVersionUID = 1;
 
+	public static final TypeReference<List<Select>> SELECT_LIST_REFERENCE = new TypeReference<List<Select>>() {};
+	public static final TypeReference<List<Count>> COUNT_LIST_REFERENCE = new TypeReference<List<Count>>() {};
+	public static final TypeReference<List<List<Entity>>> ENTITY_LISTS_REFERENCE = new TypeReference<List<List<Entity>>>() {};
+	public static final TypeReference<List<Integer>> COUNT_RESULTS_REFERENCE = new TypeReference<List<Integer>>() {};
+
 	private final EntityObjectMapper entityObjectMapper;
 
 	private DatabaseObjectMapper(EntityObjectMapper entityObjectMapper) {
@@ -51,6 +60,8 @@ public final class DatabaseObjectMapper extends ObjectMapper {
 		module.addDeserializer(Update.class, new UpdateDeserializer(entityObjectMapper));
 		module.addSerializer(Count.class, new CountSerializer(entityObjectMapper));
 		module.addDeserializer(Count.class, new CountDeserializer(entityObjectMapper));
+		module.addSerializer(UnitOfWork.class, new UnitOfWorkSerializer(entityObjectMapper));
+		module.addDeserializer(UnitOfWork.class, new UnitOfWorkDeserializer(entityObjectMapper));
 		registerModule(module);
 	}
 
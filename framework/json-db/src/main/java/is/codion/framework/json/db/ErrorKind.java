@@ -42,6 +42,15 @@ public enum ErrorKind {
 	 * The request is malformed, an unparseable body, an unknown entity type or attribute name, a malformed header.
 	 */
 	BAD_REQUEST(400, Severity.DEBUG),
+	/**
+	 * The request body exceeds the maximum size the server accepts once inflated.
+	 * <p>Logged at {@link Severity#WARN}, a correctly configured client never sending one.
+	 */
+	PAYLOAD_TOO_LARGE(413, Severity.WARN),
+	/**
+	 * The request body has a content encoding the server does not support.
+	 */
+	UNSUPPORTED_MEDIA_TYPE(415, Severity.DEBUG),
 	/**
 	 * The request is at odds with the state of the connection, committing when no transaction is open,
 	 * or with the state of the domain, calling an operation whose parameter type is not registered.
@@ -54,6 +63,11 @@ public enum ErrorKind {
 	 * The server is at its connection limit.
 	 */
 	CONNECTION_UNAVAILABLE(503, Severity.WARN),
+	/**
+	 * The server is at capacity and rejected the operation without running it, reported as
+	 * {@link is.codion.framework.db.exception.ServerBusyException}.
+	 */
+	SERVER_BUSY(503, Severity.WARN),
 	/**
 	 * An entity being updated has been modified or deleted since it was loaded.
 	 */
@@ -90,6 +104,12 @@ public enum ErrorKind {
 	 * A statement timed out or was cancelled.
 	 */
 	QUERY_TIMEOUT(504, Severity.WARN),
+	/**
+	 * A statement was cancelled on the client's request, reported as
+	 * {@link is.codion.common.db.exception.QueryCancelledException}.
+	 * <p>Logged at {@link Severity#DEBUG}, a superseded query being cancelled on purpose.
+	 */
+	QUERY_CANCELLED(409, Severity.DEBUG),
 	/**
 	 * A report failed to fill or export.
 	 * <p>The message is passed verbatim, unlike {@link #INTERNAL}, the plugin producing it having already
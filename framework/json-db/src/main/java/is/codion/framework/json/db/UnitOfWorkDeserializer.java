@@ -0,0 +1,84 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.json.db;
+
+import is.codion.framework.db.EntityConnection.UnitOfWork;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.domain.entity.attribute.Attribute;
+import is.codion.framework.domain.entity.attribute.ForeignKey;
+import is.codion.framework.json.domain.EntityObjectMapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.List;
+
+import static is.codion.framework.json.domain.EntityObjectMapper.ENTITY_LIST_REFERENCE;
+import static is.codion.framework.json.domain.EntityObjectMapper.KEY_LIST_REFERENCE;
+
+final class UnitOfWorkDeserializer extends StdDeserializer<UnitOfWork> {
+
+	@Serial
+	private static final long serialVersionUID = 1;
+
+	private final EntityObjectMapper entityObjectMapper;
+
+	UnitOfWorkDeserializer(EntityObjectMapper entityObjectMapper) {
+		super(UnitOfWork.class);
+		this.entityObjectMapper = entityObjectMapper;
+	}
+
+	@Override
+	public UnitOfWork deserialize(JsonParser parser, DeserializationContext ctxt)
+					throws IOException {
+		JsonNode jsonNode = parser.getCodec().readTree(parser);
+		List<Entity> inserts = entityObjectMapper.readerFor(ENTITY_LIST_REFERENCE).readValue(jsonNode.get("inserts"));
+		List<Entity> updates = entityObjectMapper.readerFor(ENTITY_LIST_REFERENCE).readValue(jsonNode.get("updates"));
+		List<Entity.Key> deletes = entityObjectMapper.readerFor(KEY_LIST_REFERENCE).readValue(jsonNode.get("deletes"));
+		resolveReferences(jsonNode.get("insertReferences"), inserts, inserts);
+		resolveReferences(jsonNode.get("updateReferences"), updates, inserts);
+
+		return UnitOfWork.builder()
+						.insert(inserts)
+						.update(updates)
+						.delete(deletes)
+						.build();
+	}
+
+	/**
+	 * Restores the references to the entities being inserted, which are resolved by instance.
+	 * @param references the references, as [entity index, foreign key, insert index], null if none
+	 * @param entities the referencing entities
+	 * @param inserts the entities being inserted
+	 */
+	private static void resolveReferences(@Nullable JsonNode references, List<Entity> entities, List<Entity> inserts) {
+		if (references != null) {
+			for (JsonNode reference : references) {
+				Entity entity = entities.get(reference.get(0).asInt());
+				Attribute<?> foreignKey = entity.definition().attributes().getOrThrow(reference.get(1).asText());
+				entity.set((ForeignKey) foreignKey, inserts.get(reference.get(2).asInt()));
+			}
+		}
+	}
+}
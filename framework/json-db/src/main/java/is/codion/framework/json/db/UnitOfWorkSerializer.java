@@ -0,0 +1,89 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.json.db;
+
+import is.codion.framework.db.EntityConnection.UnitOfWork;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.domain.entity.attribute.ForeignKey;
+import is.codion.framework.json.domain.EntityObjectMapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class UnitOfWorkSerializer extends StdSerializer<UnitOfWork> {
+
+	@Serial
+	private static final long serialVersionUID = 1;
+
+	private final EntityObjectMapper entityObjectMapper;
+
+	UnitOfWorkSerializer(EntityObjectMapper entityObjectMapper) {
+		super(UnitOfWork.class);
+		this.entityObjectMapper = entityObjectMapper;
+	}
+
+	@Override
+	public void serialize(UnitOfWork unitOfWork, JsonGenerator generator,
+												SerializerProvider provider) throws IOException {
+		Map<Entity, Integer> insertIndexes = new IdentityHashMap<>();
+		for (Entity insert : unitOfWork.inserts()) {
+			insertIndexes.put(insert, insertIndexes.size());
+		}
+		generator.writeStartObject();
+		generator.writeFieldName("inserts");
+		entityObjectMapper.writeValue(generator, unitOfWork.inserts());
+		generator.writeFieldName("updates");
+		entityObjectMapper.writeValue(generator, unitOfWork.updates());
+		generator.writeFieldName("deletes");
+		entityObjectMapper.writeValue(generator, unitOfWork.deletes());
+		writeReferences("insertReferences", unitOfWork.inserts(), insertIndexes, generator);
+		writeReferences("updateReferences", unitOfWork.updates(), insertIndexes, generator);
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Writes the references to entities being inserted by the unit of work, by index, since they are
+	 * resolved by instance, which does not survive deserialization, as [entity index, foreign key, insert index].
+	 */
+	private static void writeReferences(String fieldName, List<Entity> entities, Map<Entity, Integer> insertIndexes,
+																			JsonGenerator generator) throws IOException {
+		generator.writeArrayFieldStart(fieldName);
+		for (int i = 0; i < entities.size(); i++) {
+			Entity entity = entities.get(i);
+			for (ForeignKey foreignKey : entity.definition().foreignKeys().get()) {
+				Integer insertIndex = insertIndexes.get(entity.get(foreignKey));
+				if (insertIndex != null) {
+					generator.writeStartArray();
+					generator.writeNumber(i);
+					generator.writeString(foreignKey.name());
+					generator.writeNumber(insertIndex);
+					generator.writeEndArray();
+				}
+			}
+		}
+		generator.writeEndArray();
+	}
+}
@@ -20,8 +20,10 @@ package is.codion.framework.json.db;
 
 import is.codion.framework.db.EntityConnection.Count;
 import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.EntityConnection.Update;
 import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.domain.entity.Entity;
 import is.codion.framework.domain.entity.OrderBy;
 import is.codion.framework.domain.entity.attribute.ForeignKey;
 import is.codion.framework.json.TestDomain;
@@ -141,4 +143,60 @@ public final class DatabaseObjectMapperTest {
 		assertEquals(count.where(), readCount.where());
 		assertEquals(count.having(), readCount.having());
 	}
+
+	@Test
+	void unitOfWork() throws JsonProcessingException {
+		Entity department = entities.entity(Department.TYPE)
+						.with(Department.DEPTNO, 1)
+						.with(Department.NAME, "name")
+						.build();
+		Entity updated = entities.entity(Department.TYPE)
+						.with(Department.DEPTNO, 2)
+						.with(Department.NAME, "name")
+						.build();
+		updated.set(Department.NAME, "another");
+		UnitOfWork unitOfWork = UnitOfWork.builder()
+						.insert(department)
+						.update(updated)
+						.delete(entities.primaryKey(Department.TYPE, 3))
+						.build();
+
+		String jsonString = mapper.writeValueAsString(unitOfWork);
+		UnitOfWork readUnitOfWork = mapper.readValue(jsonString, UnitOfWork.class);
+
+		assertEquals(1, readUnitOfWork.inserts().size());
+		assertTrue(readUnitOfWork.inserts().get(0).equalValues(department));
+		assertEquals("another", readUnitOfWork.updates().get(0).get(Department.NAME));
+		assertTrue(readUnitOfWork.updates().get(0).modified(Department.NAME));
+		assertEquals(unitOfWork.deletes(), readUnitOfWork.deletes());
+	}
+
+	@Test
+	void unitOfWorkReferences() throws JsonProcessingException {
+		//no primary key value yet, referenced by instance
+		Entity department = entities.entity(Department.TYPE)
+						.with(Department.NAME, "name")
+						.build();
+		Entity inserted = entities.entity(Employee.TYPE)
+						.with(Employee.NAME, "inserted")
+						.with(Employee.DEPARTMENT_FK, department)
+						.build();
+		Entity updated = entities.entity(Employee.TYPE)
+						.with(Employee.EMPNO, 1)
+						.with(Employee.NAME, "updated")
+						.build();
+		updated.set(Employee.DEPARTMENT_FK, department);
+		UnitOfWork unitOfWork = UnitOfWork.builder()
+						.insert(department)
+						.insert(inserted)
+						.update(updated)
+						.build();
+
+		UnitOfWork readUnitOfWork = mapper.readValue(mapper.writeValueAsString(unitOfWork), UnitOfWork.class);
+
+		Entity readDepartment = readUnitOfWork.inserts().get(0);
+		assertSame(readDepartment, readUnitOfWork.inserts().get(1).get(Employee.DEPARTMENT_FK));
+		assertSame(readDepartment, readUnitOfWork.updates().get(0).get(Employee.DEPARTMENT_FK));
+		assertTrue(readUnitOfWork.updates().get(0).modified(Employee.DEPARTMENT_FK));
+	}
 }
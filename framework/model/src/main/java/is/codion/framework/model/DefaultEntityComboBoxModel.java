@@ -23,6 +23,7 @@ import is.codion.common.model.selection.SingleSelection;
 import is.codion.common.reactive.state.State;
 import is.codion.common.reactive.value.Value;
 import is.codion.framework.db.EntityConnection;
+import is.codion.framework.db.EntityConnection.Select;
 import is.codion.framework.domain.entity.Entity;
 import is.codion.framework.domain.entity.EntityDefinition;
 import is.codion.framework.domain.entity.EntityDefinition.ForeignKeys;
@@ -118,6 +119,11 @@ final class DefaultEntityComboBoxModel implements EntityComboBoxModel {
 		return entityItems.entityDefinition;
 	}
 
+	@Override
+	public RefreshBatch.Prefetch prefetch() {
+		return entityItems.prefetch;
+	}
+
 	@Override
 	public void select(Entity.Key primaryKey) {
 		validateType(requireNonNull(primaryKey), entityItems.entityDefinition.type());
@@ -363,6 +369,7 @@ final class DefaultEntityComboBoxModel implements EntityComboBoxModel {
 		private final EntityDefinition entityDefinition;
 		private final EntityConnection connection;
 		private final Value<Supplier<Condition>> condition;
+		private final DefaultPrefetch prefetch = new DefaultPrefetch(() -> Optional.of(select()));
 
 		private @Nullable OrderBy orderBy;
 		private Collection<Attribute<?>> attributes = emptyList();
@@ -384,9 +391,17 @@ final class DefaultEntityComboBoxModel implements EntityComboBoxModel {
 
 		@Override
 		public Collection<Entity> get() {
-			return connection.select(where(validate(condition.getOrThrow().get()))
+			Select select = select();
+
+			return prefetch.take(select)
+							.orElseGet(() -> connection.select(select));
+		}
+
+		private Select select() {
+			return where(validate(condition.getOrThrow().get()))
 							.attributes(attributes)
-							.orderBy(orderBy));
+							.orderBy(orderBy)
+							.build();
 		}
 
 		private Condition validate(Condition queryCondition) {
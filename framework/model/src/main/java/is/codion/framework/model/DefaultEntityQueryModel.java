@@ -35,6 +35,7 @@ import is.codion.framework.domain.entity.attribute.ForeignKeyDefinition;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -56,6 +57,7 @@ final class DefaultEntityQueryModel implements EntityQueryModel {
 	private final Value<Integer> referenceDepth = Value.nullable();
 	private final Map<ForeignKey, Value<Integer>> foreignKeyReferenceDepth = new HashMap<>();
 	private final Value<Function<EntityQueryModel, List<Entity>>> dataSource = Value.nonNull(new DefaultDataSource());
+	private final DefaultPrefetch prefetch = new DefaultPrefetch(this::prefetchSelect);
 
 	DefaultEntityQueryModel(EntityConditionModel conditionModel) {
 		this.conditionModel = requireNonNull(conditionModel);
@@ -78,7 +80,7 @@ final class DefaultEntityQueryModel implements EntityQueryModel {
 
 	@Override
 	public List<Entity> query() {
-		if (conditionRequired.is() && !conditionEnabled.getOrThrow().is()) {
+		if (conditionRequiredNotEnabled()) {
 			conditionModel.modified().reset();
 
 			return emptyList();
@@ -138,6 +140,11 @@ final class DefaultEntityQueryModel implements EntityQueryModel {
 		return dataSource;
 	}
 
+	@Override
+	public RefreshBatch.Prefetch prefetch() {
+		return prefetch;
+	}
+
 	@Override
 	public Select select() {
 		Select.Builder builder = Select
@@ -155,6 +162,18 @@ final class DefaultEntityQueryModel implements EntityQueryModel {
 		return builder.build();
 	}
 
+	private boolean conditionRequiredNotEnabled() {
+		return conditionRequired.is() && !conditionEnabled.getOrThrow().is();
+	}
+
+	private Optional<Select> prefetchSelect() {
+		if (conditionRequiredNotEnabled() || !(dataSource.getOrThrow() instanceof DefaultDataSource)) {
+			return Optional.empty();
+		}
+
+		return Optional.of(select());
+	}
+
 	private class AttributeValidator implements Value.Validator<Set<Attribute<?>>> {
 
 		@Override
@@ -167,11 +186,14 @@ final class DefaultEntityQueryModel implements EntityQueryModel {
 		}
 	}
 
-	private static final class DefaultDataSource implements Function<EntityQueryModel, List<Entity>> {
+	private final class DefaultDataSource implements Function<EntityQueryModel, List<Entity>> {
 
 		@Override
 		public List<Entity> apply(EntityQueryModel queryModel) {
-			return queryModel.connection().select(queryModel.select());
+			Select select = queryModel.select();
+
+			return prefetch.take(select)
+							.orElseGet(() -> queryModel.connection().select(select));
 		}
 	}
 
@@ -0,0 +1,209 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.model;
+
+import is.codion.common.reactive.event.Event;
+import is.codion.common.reactive.observer.Observer;
+import is.codion.common.utilities.dispatch.Dispatcher;
+import is.codion.framework.db.EntityChanges;
+import is.codion.framework.db.EntityConnection;
+import is.codion.framework.domain.entity.Entity;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static is.codion.framework.domain.entity.Entity.groupByType;
+import static is.codion.framework.model.PersistenceEvents.persistenceEvents;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+final class DefaultPersistenceFeed implements PersistenceFeed {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DefaultPersistenceFeed.class);
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	private final EntityConnection connection;
+	private final EntityChanges.Feed feed;
+	private final int timeout;
+	private final int retryDelay;
+	private final Executor executor;
+	private final Event<?> reset = Event.event();
+	private final Thread thread;
+
+	private volatile boolean running = true;
+
+	private DefaultPersistenceFeed(DefaultBuilder builder, Executor executor) {
+		this.connection = builder.connection;
+		this.feed = (EntityChanges.Feed) builder.connection;
+		this.timeout = builder.timeout;
+		this.retryDelay = builder.retryDelay;
+		this.executor = executor;
+		this.thread = new Thread(this::poll, "PersistenceFeed-" + COUNTER.incrementAndGet());
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	@Override
+	public boolean running() {
+		return running;
+	}
+
+	@Override
+	public Observer<?> reset() {
+		return reset.observer();
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		thread.interrupt();
+	}
+
+	private void poll() {
+		//the first poll returns the current position without waiting
+		long position = -1;
+		while (running) {
+			try {
+				EntityChanges changes = feed.changes(position, timeout);
+				if (changes.reset()) {
+					LOG.warn("Changes missed, the change feed reset from position {} to {}", position, changes.position());
+					executor.execute(reset);
+				}
+				else if (position >= 0 && !changes.empty()) {
+					publish(changes);
+				}
+				position = changes.position();
+			}
+			catch (UnsupportedOperationException e) {
+				LOG.error("Change feed not available, stopping", e);
+				running = false;
+			}
+			catch (Exception e) {
+				if (running) {
+					LOG.warn("Polling the change feed failed, retrying in {} ms", retryDelay, e);
+					pause();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Selects the inserted and updated entities before dispatching, keeping the query off the dispatch context.
+	 */
+	private void publish(EntityChanges changes) {
+		Collection<Entity> inserted = select(changes.inserted());
+		Map<Entity.Key, Entity> selected = select(changes.updated().values()).stream()
+						.collect(toMap(Entity::primaryKey, Function.identity()));
+		//an updated entity no longer found has been deleted since, that change is yet to arrive
+		Map<Entity, Entity> updated = new LinkedHashMap<>();
+		changes.updated().forEach((original, current) -> {
+			Entity entity = selected.get(current);
+			if (entity != null) {
+				updated.put(Entity.entity(original), entity);
+			}
+		});
+		Collection<Entity> deleted = changes.deleted().stream()
+						.map(Entity::entity)
+						.collect(toList());
+		executor.execute(() -> {
+			groupByType(inserted).forEach((entityType, entities) ->
+							persistenceEvents(entityType).inserted().accept(entities));
+			updated.entrySet().stream()
+							.collect(groupingBy(entry -> entry.getKey().type(), LinkedHashMap::new,
+											toMap(Map.Entry::getKey, Map.Entry::getValue)))
+							.forEach((entityType, entities) ->
+											persistenceEvents(entityType).updated().accept(entities));
+			groupByType(deleted).forEach((entityType, entities) ->
+							persistenceEvents(entityType).deleted().accept(entities));
+		});
+	}
+
+	private Collection<Entity> select(Collection<Entity.Key> keys) {
+		return keys.isEmpty() ? emptyList() : connection.select(keys);
+	}
+
+	private void pause() {
+		try {
+			Thread.sleep(retryDelay);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	static final class DefaultBuilder implements Builder {
+
+		private final EntityConnection connection;
+
+		private int timeout = TIMEOUT.getOrThrow();
+		private int retryDelay = RETRY_DELAY.getOrThrow();
+		private Dispatcher dispatcher = Dispatcher.instance();
+
+		DefaultBuilder(EntityConnection connection) {
+			if (!(requireNonNull(connection) instanceof EntityChanges.Feed)) {
+				throw new IllegalArgumentException("Connection does not provide a change feed: " + connection);
+			}
+			this.connection = connection;
+		}
+
+		@Override
+		public Builder timeout(int timeout) {
+			if (timeout < 0) {
+				throw new IllegalArgumentException("Timeout must be a non-negative number");
+			}
+			this.timeout = timeout;
+			return this;
+		}
+
+		@Override
+		public Builder retryDelay(int retryDelay) {
+			if (retryDelay < 0) {
+				throw new IllegalArgumentException("Retry delay must be a non-negative number");
+			}
+			this.retryDelay = retryDelay;
+			return this;
+		}
+
+		@Override
+		public Builder dispatcher(Dispatcher dispatcher) {
+			this.dispatcher = requireNonNull(dispatcher);
+			return this;
+		}
+
+		@Override
+		public PersistenceFeed start() {
+			if (dispatcher != Dispatcher.SYNCHRONOUS && !dispatcher.bound()) {
+				throw new IllegalStateException("PersistenceFeed must be started where a dispatch context is bound");
+			}
+
+			return new DefaultPersistenceFeed(this, dispatcher.executor());
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.model;
+
+import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.model.RefreshBatch.Prefetch;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Holds a single prefetched result, consumed by the next select, whether equal or not,
+ * so that a result is never used by any but the refresh it was fetched for.
+ */
+final class DefaultPrefetch implements Prefetch {
+
+	private final Supplier<Optional<Select>> select;
+
+	private @Nullable Select prefetchedSelect;
+	private @Nullable List<Entity> prefetchedResult;
+
+	DefaultPrefetch(Supplier<Optional<Select>> select) {
+		this.select = select;
+	}
+
+	@Override
+	public Optional<Select> select() {
+		return select.get();
+	}
+
+	@Override
+	public synchronized void result(Select select, List<Entity> result) {
+		this.prefetchedSelect = requireNonNull(select);
+		this.prefetchedResult = requireNonNull(result);
+	}
+
+	/**
+	 * @param select the select about to be performed
+	 * @return the prefetched result, if one is available for the given select
+	 */
+	synchronized Optional<List<Entity>> take(Select select) {
+		List<Entity> result = select.equals(prefetchedSelect) ? prefetchedResult : null;
+		prefetchedSelect = null;
+		prefetchedResult = null;
+
+		return Optional.ofNullable(result);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.model;
+
+import is.codion.framework.db.EntityConnection;
+import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.domain.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+final class DefaultRefreshBatch implements RefreshBatch {
+
+	private final EntityConnection connection;
+	private final List<Enlisted> enlisted = new ArrayList<>();
+
+	DefaultRefreshBatch(EntityConnection connection) {
+		this.connection = requireNonNull(connection);
+	}
+
+	@Override
+	public RefreshBatch add(EntityTableModel<?, ?> tableModel) {
+		requireNonNull(tableModel);
+		enlisted.add(new Enlisted(tableModel.connection(), tableModel.query().prefetch(), tableModel.items()::refresh));
+
+		return this;
+	}
+
+	@Override
+	public RefreshBatch add(EntityComboBoxModel comboBoxModel) {
+		requireNonNull(comboBoxModel);
+		enlisted.add(new Enlisted(comboBoxModel.connection(), comboBoxModel.prefetch(), comboBoxModel.items()::refresh));
+
+		return this;
+	}
+
+	@Override
+	public void refresh() {
+		List<Enlisted> prefetched = new ArrayList<>(enlisted.size());
+		List<Select> selects = new ArrayList<>(enlisted.size());
+		for (Enlisted model : enlisted) {
+			if (model.connection == connection) {
+				Optional<Select> select = model.prefetch.select();
+				if (select.isPresent()) {
+					prefetched.add(model);
+					selects.add(select.get());
+				}
+			}
+		}
+		if (!selects.isEmpty()) {
+			List<List<Entity>> results = connection.selects(selects);
+			for (int i = 0; i < selects.size(); i++) {
+				prefetched.get(i).prefetch.result(selects.get(i), results.get(i));
+			}
+		}
+		enlisted.forEach(model -> model.refresh.run());
+	}
+
+	private static final class Enlisted {
+
+		private final EntityConnection connection;
+		private final Prefetch prefetch;
+		private final Runnable refresh;
+
+		private Enlisted(EntityConnection connection, Prefetch prefetch, Runnable refresh) {
+			this.connection = connection;
+			this.prefetch = prefetch;
+			this.refresh = refresh;
+		}
+	}
+}
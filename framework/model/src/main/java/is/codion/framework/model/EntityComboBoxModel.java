@@ -71,6 +71,12 @@ public interface EntityComboBoxModel extends FilterComboBoxModel<Entity> {
 	 */
 	EntityDefinition entityDefinition();
 
+	/**
+	 * Allows the select performed by the next refresh to be performed as part of a {@link RefreshBatch}.
+	 * @return the {@link RefreshBatch.Prefetch} instance for this combo box model
+	 */
+	RefreshBatch.Prefetch prefetch();
+
 	/**
 	 * Selects the entity with the given primary key, whether included or filtered.
 	 * If the entity is not available in the model this method returns silently without changing the selection.
@@ -150,6 +150,14 @@ public interface EntityQueryModel {
 	 */
 	Value<Function<EntityQueryModel, List<Entity>>> dataSource();
 
+	/**
+	 * Allows the select performed by the next {@link #query()} to be performed as part of a {@link RefreshBatch}.
+	 * Note that no select is prefetched in case a custom {@link #dataSource()} is in use or in case a required
+	 * condition is not enabled.
+	 * @return the {@link RefreshBatch.Prefetch} instance for this query model
+	 */
+	RefreshBatch.Prefetch prefetch();
+
 	/**
 	 * @param conditionModel the {@link EntityConditionModel}
 	 * @return a new {@link EntityQueryModel} instance based on the given {@link EntityConditionModel}
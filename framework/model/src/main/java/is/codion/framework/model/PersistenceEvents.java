@@ -37,6 +37,7 @@ import static java.util.Objects.requireNonNull;
  * @see EntityEditor#PUBLISH_PERSISTENCE_EVENTS
  * @see EntityEditor.Settings#publishPersistenceEvents()
  * @see #persistenceEvents(EntityType)
+ * @see PersistenceFeed
  */
 public interface PersistenceEvents {
 
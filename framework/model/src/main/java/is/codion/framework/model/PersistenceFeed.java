@@ -0,0 +1,131 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.model;
+
+import is.codion.common.reactive.observer.Observer;
+import is.codion.common.utilities.dispatch.Dispatcher;
+import is.codion.common.utilities.property.PropertyValue;
+import is.codion.framework.db.EntityChanges;
+import is.codion.framework.db.EntityConnection;
+
+import static is.codion.common.utilities.Configuration.integerValue;
+
+/**
+ * <p>Republishes the changes committed by other clients, as delivered by a server's change feed, into
+ * {@link PersistenceEvents}, so that the models listening for them, combo box models and the table models
+ * referencing the changed entities for example, refresh incrementally, instead of users refreshing to
+ * find out what others have changed.
+ * <p>The feed is long-polled on a background thread, and the inserted and updated entities selected
+ * via the same connection, before the events are published using the {@link Dispatcher}.
+ * In case polling fails, a lost connection for example, it is retried after {@link #RETRY_DELAY} milliseconds.
+ * <p>A client which has missed changes, having fallen further behind than the server retains them, or polling
+ * a restarted server, is notified via {@link #reset()}, and should refresh its models in full.
+ * {@snippet :
+ * PersistenceFeed feed = PersistenceFeed.builder(connection).start();
+ * // and when done
+ * feed.close();
+ *}
+ * <p>Requires a connection to a server with its change feed enabled, a connection implementing
+ * {@link EntityChanges.Feed}, see {@link EntityChanges} for the changes delivered.
+ * @see #builder(EntityConnection)
+ */
+public interface PersistenceFeed extends AutoCloseable {
+
+	/**
+	 * Specifies the default maximum number of milliseconds each long-poll waits for changes.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 30000 (30 seconds)
+	 * </ul>
+	 */
+	PropertyValue<Integer> TIMEOUT = integerValue("codion.client.persistenceFeed.timeout", 30_000);
+
+	/**
+	 * Specifies the default number of milliseconds to wait before polling again, after polling has failed.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 5000 (5 seconds)
+	 * </ul>
+	 */
+	PropertyValue<Integer> RETRY_DELAY = integerValue("codion.client.persistenceFeed.retryDelay", 5_000);
+
+	/**
+	 * @param connection the connection, must implement {@link EntityChanges.Feed}
+	 * @return a new {@link Builder}
+	 * @throws IllegalArgumentException in case the connection does not implement {@link EntityChanges.Feed}
+	 */
+	static Builder builder(EntityConnection connection) {
+		return new DefaultPersistenceFeed.DefaultBuilder(connection);
+	}
+
+	/**
+	 * @return true until this feed has been closed, or has stopped due to the change feed not being enabled on the server
+	 */
+	boolean running();
+
+	/**
+	 * Notified, using the {@link Dispatcher}, when changes have been missed, which are no longer available,
+	 * in which case the models should be refreshed in full.
+	 * @return an observer notified when changes have been missed
+	 * @see EntityChanges#reset()
+	 */
+	Observer<?> reset();
+
+	/**
+	 * Stops polling, changes already received may still be published.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Builds a {@link PersistenceFeed}
+	 */
+	interface Builder {
+
+		/**
+		 * @param timeout the maximum number of milliseconds each long-poll waits for changes,
+		 * should be shorter than any socket timeout on the connection
+		 * @return this builder instance
+		 * @see #TIMEOUT
+		 */
+		Builder timeout(int timeout);
+
+		/**
+		 * @param retryDelay the number of milliseconds to wait before polling again, after polling has failed
+		 * @return this builder instance
+		 * @see #RETRY_DELAY
+		 */
+		Builder retryDelay(int retryDelay);
+
+		/**
+		 * @param dispatcher the dispatcher to publish the events with, {@link Dispatcher#instance()} by default
+		 * @return this builder instance
+		 */
+		Builder dispatcher(Dispatcher dispatcher);
+
+		/**
+		 * Starts polling the change feed.
+		 * <p>Must be called where a dispatch context is bound ({@link Dispatcher#bound()}), since the executor
+		 * publishing the events is resolved for the caller at this point.
+		 * @return a new {@link PersistenceFeed}, polling the change feed
+		 * @throws IllegalStateException if no dispatch context is bound (except when using {@link Dispatcher#SYNCHRONOUS})
+		 */
+		PersistenceFeed start();
+	}
+}
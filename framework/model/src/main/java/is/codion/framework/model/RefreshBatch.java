@@ -0,0 +1,93 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.model;
+
+import is.codion.framework.db.EntityConnection;
+import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.domain.entity.Entity;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Refreshes several models, performing their selects in a single {@link EntityConnection#selects(List)} call,
+ * that is, in a single round trip in case of a remote connection, instead of one round trip per model.
+ * {@snippet :
+ * RefreshBatch.refreshBatch(connection)
+ *     .add(invoiceTableModel)
+ *     .add(customerComboBoxModel)
+ *     .add(employeeComboBoxModel)
+ *     .refresh();
+ *}
+ * <p>The selects are performed on the calling thread, after which each model is refreshed as usual,
+ * using the result already fetched, as long as the select it performs is still equal to the one in the batch.
+ * Models not using the batch connection, or not performing a select, such as a query model with a required
+ * condition not enabled or a custom {@link EntityQueryModel#dataSource()}, are simply refreshed as usual.
+ * @see EntityQueryModel#prefetch()
+ * @see EntityComboBoxModel#prefetch()
+ */
+public interface RefreshBatch {
+
+	/**
+	 * Enlists the given table model in this batch
+	 * @param tableModel the table model
+	 * @return this batch instance
+	 */
+	RefreshBatch add(EntityTableModel<?, ?> tableModel);
+
+	/**
+	 * Enlists the given combo box model in this batch
+	 * @param comboBoxModel the combo box model
+	 * @return this batch instance
+	 */
+	RefreshBatch add(EntityComboBoxModel comboBoxModel);
+
+	/**
+	 * Performs the selects of the enlisted models in a single call and refreshes the models.
+	 * @throws is.codion.common.db.exception.DatabaseException in case of an exception, in which case no model is refreshed
+	 */
+	void refresh();
+
+	/**
+	 * @param connection the connection to perform the selects with
+	 * @return a new {@link RefreshBatch} instance
+	 */
+	static RefreshBatch refreshBatch(EntityConnection connection) {
+		return new DefaultRefreshBatch(connection);
+	}
+
+	/**
+	 * Allows the select performed by the next refresh of a model to be performed elsewhere.
+	 */
+	interface Prefetch {
+
+		/**
+		 * @return the select performed by the next refresh, an empty Optional in case it does not perform one
+		 */
+		Optional<Select> select();
+
+		/**
+		 * Provides the result of the given select, to be used by the next refresh instead of
+		 * performing the select, in case the select it performs is equal to the given one.
+		 * @param select the select
+		 * @param result the select result
+		 */
+		void result(Select select, List<Entity> result);
+	}
+}
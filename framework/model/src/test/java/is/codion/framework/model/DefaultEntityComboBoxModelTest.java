@@ -21,7 +21,9 @@ package is.codion.framework.model;
 import is.codion.common.reactive.value.Value;
 import is.codion.common.utilities.user.User;
 import is.codion.framework.db.EntityConnection;
+import is.codion.framework.db.EntityConnection.Count;
 import is.codion.framework.db.EntityConnection.QueryCache;
+import is.codion.framework.db.EntityConnection.Select;
 import is.codion.framework.db.local.LocalEntityConnection;
 import is.codion.framework.domain.entity.Entities;
 import is.codion.framework.domain.entity.Entity;
@@ -44,6 +46,7 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static is.codion.framework.model.PersistenceEvents.persistenceEvents;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -575,4 +578,28 @@ public final class DefaultEntityComboBoxModelTest {
 						.filter(Objects::nonNull)
 						.allMatch(Entity::mutable));
 	}
+
+	@Test
+	void refreshBatch() {
+		EntityComboBoxModel departments = EntityComboBoxModel.builder()
+						.entityType(Department.TYPE)
+						.connection(CONNECTION)
+						.build();
+		EntityComboBoxModel employees = EntityComboBoxModel.builder()
+						.entityType(Employee.TYPE)
+						.connection(CONNECTION)
+						.build();
+		RefreshBatch.refreshBatch(CONNECTION)
+						.add(departments)
+						.add(employees)
+						.refresh();
+		assertFalse(departments.items().get().isEmpty());
+		assertFalse(employees.items().get().isEmpty());
+		assertEquals(CONNECTION.count(Count.all(Department.TYPE)), departments.items().get().size());
+
+		// a prefetched result is only used for an equal select
+		departments.prefetch().result(Select.all(Employee.TYPE).build(), emptyList());
+		departments.items().refresh();
+		assertFalse(departments.items().get().isEmpty());
+	}
 }
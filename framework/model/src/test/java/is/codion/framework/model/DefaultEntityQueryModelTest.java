@@ -481,4 +481,33 @@ public final class DefaultEntityQueryModelTest {
 			}
 		}
 	}
+
+	@Test
+	void prefetch() {
+		DefaultEntityQueryModel queryModel = new DefaultEntityQueryModel(EntityConditionModel.builder()
+						.entityType(Employee.TYPE)
+						.connection(CONNECTION)
+						.build());
+		Select select = queryModel.prefetch().select().orElseThrow(IllegalStateException::new);
+		assertEquals(queryModel.select(), select);
+		List<Entity> employees = queryModel.query();
+		List<Entity> prefetched = employees.subList(0, 1);
+		queryModel.prefetch().result(select, prefetched);
+		assertSame(prefetched, queryModel.query());
+		// consumed by the query it was fetched for
+		assertEquals(employees.size(), queryModel.query().size());
+
+		// not used when the select differs
+		queryModel.prefetch().result(select, prefetched);
+		queryModel.limit().set(2);
+		assertEquals(2, queryModel.query().size());
+		queryModel.limit().clear();
+		assertEquals(employees.size(), queryModel.query().size());
+
+		queryModel.conditionRequired().set(true);
+		assertFalse(queryModel.prefetch().select().isPresent());
+		queryModel.conditionRequired().set(false);
+		queryModel.dataSource().set(query -> emptyList());
+		assertFalse(queryModel.prefetch().select().isPresent());
+	}
 }
@@ -0,0 +1,179 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.model;
+
+import is.codion.common.utilities.dispatch.Dispatcher;
+import is.codion.common.utilities.user.User;
+import is.codion.framework.db.EntityChanges;
+import is.codion.framework.db.EntityConnection;
+import is.codion.framework.db.local.LocalEntityConnection;
+import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.model.test.TestDomain;
+import is.codion.framework.model.test.TestDomain.Department;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import static is.codion.framework.db.EntityChanges.entityChanges;
+import static is.codion.framework.model.PersistenceEvents.persistenceEvents;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class DefaultPersistenceFeedTest {
+
+	private static final Entities ENTITIES = new TestDomain().entities();
+
+	private static final User UNIT_TEST_USER =
+					User.parse(System.getProperty("codion.test.user", "scott:tiger"));
+
+	private static final EntityConnection CONNECTION = LocalEntityConnection.builder()
+					.domain(new TestDomain())
+					.user(UNIT_TEST_USER)
+					.build();
+
+	@Test
+	void poll() throws Exception {
+		Entity.Key accounting = ENTITIES.primaryKey(Department.TYPE, 10);
+		ScriptedFeed feed = new ScriptedFeed(
+						entityChanges(5, emptyList(), emptyMap(), emptyList()),
+						new IllegalStateException("Connection lost"),
+						entityChanges(6, singletonList(accounting), emptyMap(), emptyList()));
+		CountDownLatch inserted = new CountDownLatch(1);
+		List<Entity> insertedEntities = new CopyOnWriteArrayList<>();
+		CountDownLatch reset = new CountDownLatch(1);
+		Consumer<Collection<Entity>> insertListener = entities -> {
+			if (entities.stream().anyMatch(entity -> entity.primaryKey().equals(accounting))) {
+				insertedEntities.addAll(entities);
+				inserted.countDown();
+			}
+		};
+		persistenceEvents(Department.TYPE).inserted().addConsumer(insertListener);
+		try (PersistenceFeed persistenceFeed = PersistenceFeed.builder(feed.connection())
+						.timeout(10)
+						.retryDelay(10)
+						.dispatcher(Dispatcher.SYNCHRONOUS)
+						.start()) {
+			persistenceFeed.reset().addListener(reset::countDown);
+			assertTrue(inserted.await(10, SECONDS));
+			//the inserted entity is selected before being published
+			assertEquals("ACCOUNTING", insertedEntities.get(0).get(Department.NAME));
+			//the failed poll is retried from the same position
+			assertEquals(asList(-1L, 5L, 5L, 6L), feed.positions.subList(0, 4));
+
+			feed.responses.add(EntityChanges.reset(20));
+			assertTrue(reset.await(10, SECONDS));
+			//polling continues from the position the reset brings it up to
+			assertTrue(feed.polled(20));
+			assertTrue(persistenceFeed.running());
+		}
+		finally {
+			persistenceEvents(Department.TYPE).inserted().removeConsumer(insertListener);
+		}
+	}
+
+	@Test
+	void unsupported() throws Exception {
+		ScriptedFeed feed = new ScriptedFeed(new UnsupportedOperationException("The change feed is not enabled"));
+		try (PersistenceFeed persistenceFeed = PersistenceFeed.builder(feed.connection())
+						.retryDelay(10)
+						.dispatcher(Dispatcher.SYNCHRONOUS)
+						.start()) {
+			long deadline = System.currentTimeMillis() + 10_000;
+			while (persistenceFeed.running() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertFalse(persistenceFeed.running());
+			assertEquals(singletonList(-1L), feed.positions);
+		}
+	}
+
+	@Test
+	void invalidBuilderValues() {
+		assertThrows(IllegalArgumentException.class, () -> PersistenceFeed.builder(CONNECTION));
+		ScriptedFeed feed = new ScriptedFeed();
+		assertThrows(IllegalArgumentException.class, () -> PersistenceFeed.builder(feed.connection()).timeout(-1));
+		assertThrows(IllegalArgumentException.class, () -> PersistenceFeed.builder(feed.connection()).retryDelay(-1));
+	}
+
+	/**
+	 * A connection delivering the given responses in order, changes or exceptions to throw,
+	 * timing out with no changes once they are exhausted.
+	 */
+	private static final class ScriptedFeed {
+
+		private final BlockingQueue<Object> responses;
+		private final List<Long> positions = new CopyOnWriteArrayList<>();
+
+		private ScriptedFeed(Object... responses) {
+			this.responses = new LinkedBlockingQueue<>(asList(responses));
+		}
+
+		private EntityConnection connection() {
+			return (EntityConnection) Proxy.newProxyInstance(EntityConnection.class.getClassLoader(),
+							new Class[] {EntityConnection.class, EntityChanges.Feed.class}, (proxy, method, args) -> {
+								if (method.getDeclaringClass().equals(EntityChanges.Feed.class)) {
+									return changes((Long) args[0], (Integer) args[1]);
+								}
+								try {
+									return method.invoke(CONNECTION, args);
+								}
+								catch (InvocationTargetException e) {
+									throw e.getCause();
+								}
+							});
+		}
+
+		private boolean polled(long position) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + 10_000;
+			while (!positions.contains(position) && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+
+			return positions.contains(position);
+		}
+
+		private EntityChanges changes(long position, int timeout) throws InterruptedException {
+			positions.add(position);
+			Object response = responses.poll(timeout, MILLISECONDS);
+			if (response == null) {
+				return entityChanges(position, emptyList(), emptyMap(), emptyList());
+			}
+			if (response instanceof RuntimeException) {
+				throw (RuntimeException) response;
+			}
+
+			return (EntityChanges) response;
+		}
+	}
+}
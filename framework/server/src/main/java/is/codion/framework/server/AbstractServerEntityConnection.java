@@ -26,8 +26,10 @@ import is.codion.common.rmi.server.RemoteSession;
 import is.codion.common.utilities.logging.MethodTrace;
 import is.codion.common.utilities.property.PropertyValue;
 import is.codion.common.utilities.user.User;
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityResultIterator;
+import is.codion.framework.db.local.ReadReplica;
 import is.codion.framework.db.rmi.ServerEntityResultIterator;
 import is.codion.framework.domain.Domain;
 import is.codion.framework.domain.entity.Entity;
@@ -50,7 +52,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import static is.codion.common.utilities.Configuration.longValue;
+import static is.codion.framework.db.EntityChanges.entityChanges;
 import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.newSetFromMap;
 
 /**
@@ -93,6 +98,8 @@ public abstract class AbstractServerEntityConnection implements Remote {
 	private final RMIServerSocketFactory serverSocketFactory;
 	private final boolean exported;
 
+	private volatile ChangeFeed changeFeed;
+
 	/**
 	 * Instantiates a new AbstractServerEntityConnection, exported on the given port number unless the port is
 	 * negative, in which case the connection is not exported (it serves an HTTP client in-process and needs no
@@ -224,6 +231,52 @@ public abstract class AbstractServerEntityConnection implements Remote {
 		return connectionHandler.isTracingEnabled();
 	}
 
+	final void setSelectCoalescer(SelectCoalescer selectCoalescer) {
+		connectionHandler.setSelectCoalescer(selectCoalescer);
+	}
+
+	final void setAdmissionControl(AdmissionControl admissionControl) {
+		connectionHandler.setAdmissionControl(admissionControl);
+	}
+
+	final void setChangeLog(ChangeLog changeLog) {
+		connectionHandler.setChangeLog(changeLog);
+	}
+
+	final void setReadReplica(ReadReplica readReplica) {
+		connectionHandler.setReadReplica(readReplica);
+	}
+
+	final void setChangeFeed(ChangeFeed changeFeed) {
+		this.changeFeed = changeFeed;
+		connectionHandler.setChangeFeed(changeFeed);
+	}
+
+	/**
+	 * Returns the changes committed by other clients since the given position, without holding up
+	 * the calls this client makes meanwhile, which a lock on this connection would.
+	 * @param position the position
+	 * @param timeout the maximum number of milliseconds to wait for changes
+	 * @return the changes since the given position, no changes in case the thread is interrupted while waiting
+	 * @throws UnsupportedOperationException in case the change feed is not enabled
+	 * @see is.codion.framework.db.EntityChanges.Feed#changes(long, int)
+	 */
+	final EntityChanges changesSince(long position, int timeout) {
+		ChangeFeed feed = changeFeed;
+		if (feed == null) {
+			throw new UnsupportedOperationException("The change feed is not enabled on this server");
+		}
+		try {
+			return feed.changes(id(), position, timeout);
+		}
+		catch (InterruptedException e) {
+			//the server shutting down or the client disconnecting, the poll ending as if timed out
+			Thread.currentThread().interrupt();
+
+			return entityChanges(position, emptyList(), emptyMap(), emptyList());
+		}
+	}
+
 	/**
 	 * @return true during a remote method call
 	 */
@@ -0,0 +1,371 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.framework.db.exception.ServerBusyException;
+import is.codion.framework.server.EntityServerAdmin.AdmissionStatistics;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Limits the number of operations run concurrently on behalf of clients, server wide and per client type,
+ * so that a burst of heavy operations from one kind of client, a report client for example, can not
+ * exhaust the connection pool and starve every other client.
+ * <p>A client must be admitted before running an operation, holding its {@link Permit} for as long as it
+ * holds a connection, that is, until the operation is done, or, should it leave a transaction open or an
+ * iterator unclosed, until those are done as well. A client which can not be admitted right away waits,
+ * in a bounded queue per client type, until admitted or until the timeout elapses. A client arriving to a
+ * full queue, or timing out, is rejected with a {@link ServerBusyException}, having run nothing.
+ * <p>Whenever a permit is released the waiting clients of interactive client types are admitted before those
+ * of batch client types, each in the order they arrived, skipping any waiting on the limit of their own client
+ * type, so that one client type at its limit does not hold up the others.
+ * @see EntityServerConfiguration#admissionLimit()
+ */
+final class AdmissionControl {
+
+	private final int limit;
+	private final Map<String, Integer> clientTypeLimits;
+	private final Set<String> batchClientTypes;
+	private final int queueSize;
+	private final long timeout;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<String, ClientType> clientTypes = new HashMap<>();
+	private final Deque<Waiter> interactive = new ArrayDeque<>();
+	private final Deque<Waiter> batch = new ArrayDeque<>();
+
+	private int running = 0;
+
+	/**
+	 * @param limit the maximum number of operations running concurrently, -1 for no limit
+	 * @param clientTypeLimits the maximum number of operations running concurrently per client type
+	 * @param batchClientTypes the client types to admit only once no interactive client is waiting
+	 * @param queueSize the maximum number of clients waiting to be admitted, per client type
+	 * @param timeout the maximum number of milliseconds a client waits to be admitted
+	 */
+	AdmissionControl(int limit, Map<String, Integer> clientTypeLimits, Collection<String> batchClientTypes,
+									 int queueSize, int timeout) {
+		if (limit == 0 || limit < -1) {
+			throw new IllegalArgumentException("Admission limit must be a positive integer or -1 for no limit");
+		}
+		if (queueSize < 0) {
+			throw new IllegalArgumentException("Admission queue size must be a non-negative integer");
+		}
+		if (timeout < 0) {
+			throw new IllegalArgumentException("Admission timeout must be a non-negative integer");
+		}
+		clientTypeLimits.forEach((clientType, clientTypeLimit) -> {
+			if (clientTypeLimit < 1) {
+				throw new IllegalArgumentException("Admission limit for client type " + clientType + " must be a positive integer");
+			}
+		});
+		this.limit = limit;
+		this.clientTypeLimits = new HashMap<>(clientTypeLimits);
+		this.batchClientTypes = new HashSet<>(batchClientTypes);
+		this.queueSize = queueSize;
+		this.timeout = TimeUnit.MILLISECONDS.toNanos(timeout);
+	}
+
+	/**
+	 * Admits a client of the given type, waiting if the server or the client type is at its limit.
+	 * @param clientType the client type
+	 * @return the permit, to release once the client is done
+	 * @throws ServerBusyException in case the queue is full, the client was not admitted before the timeout
+	 * or was interrupted while waiting, in which case the interrupted status is restored
+	 */
+	Permit acquire(String clientType) {
+		requireNonNull(clientType);
+		lock.lock();
+		try {
+			ClientType type = clientTypes.computeIfAbsent(clientType, this::clientType);
+			//no waiting client can be admitted between releases, see dispatch(), so no one is being overtaken here
+			if (admissible(type)) {
+				admit(type);
+
+				return new Permit(type);
+			}
+			if (type.queued >= queueSize) {
+				type.rejected++;
+				throw new ServerBusyException("The server is busy, try again later");
+			}
+
+			return await(type);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return a snapshot of the admission statistics, per client type
+	 */
+	List<AdmissionStatistics> statistics() {
+		lock.lock();
+		try {
+			List<AdmissionStatistics> statistics = new ArrayList<>(clientTypes.size());
+			for (ClientType type : clientTypes.values()) {
+				statistics.add(statistics(type));
+			}
+
+			return statistics;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @param clientType the client type
+	 * @return the admission statistics for the given client type, null if it has not been encountered
+	 */
+	AdmissionStatistics statistics(String clientType) {
+		lock.lock();
+		try {
+			ClientType type = clientTypes.get(clientType);
+
+			return type == null ? null : statistics(type);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private static AdmissionStatistics statistics(ClientType type) {
+		return new DefaultAdmissionStatistics(type.name, type.batch, type.limit,
+						type.running, type.queued, type.admitted, type.rejected);
+	}
+
+	private Permit await(ClientType type) {
+		Waiter waiter = new Waiter(type, lock.newCondition());
+		Deque<Waiter> queue = type.batch ? batch : interactive;
+		queue.addLast(waiter);
+		type.queued++;
+		long remaining = timeout;
+		try {
+			while (!waiter.admitted) {
+				if (remaining <= 0) {
+					queue.remove(waiter);
+					type.queued--;
+					type.rejected++;
+					throw new ServerBusyException("The server is busy, try again later");
+				}
+				remaining = waiter.condition.awaitNanos(remaining);
+			}
+
+			return new Permit(type);
+		}
+		catch (InterruptedException e) {
+			if (waiter.admitted) {
+				release(type);
+			}
+			else {
+				queue.remove(waiter);
+				type.queued--;
+			}
+			Thread.currentThread().interrupt();
+			throw new ServerBusyException("Interrupted while waiting to be admitted");
+		}
+	}
+
+	private void release(ClientType type) {
+		lock.lock();
+		try {
+			running--;
+			type.running--;
+			dispatch();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Admits as many of the waiting clients as there is room for, interactive ones first.
+	 */
+	private void dispatch() {
+		dispatch(interactive);
+		dispatch(batch);
+	}
+
+	private void dispatch(Deque<Waiter> queue) {
+		Iterator<Waiter> iterator = queue.iterator();
+		while (iterator.hasNext() && (limit == -1 || running < limit)) {
+			Waiter waiter = iterator.next();
+			if (admissible(waiter.type)) {
+				iterator.remove();
+				waiter.type.queued--;
+				admit(waiter.type);
+				waiter.admitted = true;
+				waiter.condition.signal();
+			}
+		}
+	}
+
+	private boolean admissible(ClientType type) {
+		return (limit == -1 || running < limit) && (type.limit == -1 || type.running < type.limit);
+	}
+
+	private void admit(ClientType type) {
+		running++;
+		type.running++;
+		type.admitted++;
+	}
+
+	private ClientType clientType(String clientType) {
+		return new ClientType(clientType, batchClientTypes.contains(clientType),
+						clientTypeLimits.getOrDefault(clientType, -1));
+	}
+
+	/**
+	 * Allows a client to run operations until released.
+	 */
+	final class Permit {
+
+		private final ClientType type;
+
+		private boolean released = false;
+
+		private Permit(ClientType type) {
+			this.type = type;
+		}
+
+		/**
+		 * Releases this permit, admitting the next waiting client, if any. Releasing more than once has no effect,
+		 * a client disconnecting while running an operation releasing its permit on both accounts.
+		 */
+		void release() {
+			lock.lock();
+			try {
+				if (!released) {
+					released = true;
+					AdmissionControl.this.release(type);
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private static final class ClientType {
+
+		private final String name;
+		private final boolean batch;
+		private final int limit;
+
+		private int running = 0;
+		private int queued = 0;
+		private long admitted = 0;
+		private long rejected = 0;
+
+		private ClientType(String name, boolean batch, int limit) {
+			this.name = name;
+			this.batch = batch;
+			this.limit = limit;
+		}
+	}
+
+	private static final class Waiter {
+
+		private final ClientType type;
+		private final Condition condition;
+
+		private boolean admitted = false;
+
+		private Waiter(ClientType type, Condition condition) {
+			this.type = type;
+			this.condition = condition;
+		}
+	}
+
+	private static final class DefaultAdmissionStatistics implements AdmissionStatistics, Serializable {
+
+		@Serial
+		private static final long serialVersionUID = 1;
+
+		private final String clientType;
+		private final boolean batch;
+		private final int limit;
+		private final int running;
+		private final int queued;
+		private final long admitted;
+		private final long rejected;
+
+		private DefaultAdmissionStatistics(String clientType, boolean batch, int limit, int running,
+																			 int queued, long admitted, long rejected) {
+			this.clientType = clientType;
+			this.batch = batch;
+			this.limit = limit;
+			this.running = running;
+			this.queued = queued;
+			this.admitted = admitted;
+			this.rejected = rejected;
+		}
+
+		@Override
+		public String clientType() {
+			return clientType;
+		}
+
+		@Override
+		public boolean batch() {
+			return batch;
+		}
+
+		@Override
+		public int limit() {
+			return limit;
+		}
+
+		@Override
+		public int running() {
+			return running;
+		}
+
+		@Override
+		public int queued() {
+			return queued;
+		}
+
+		@Override
+		public long admitted() {
+			return admitted;
+		}
+
+		@Override
+		public long rejected() {
+			return rejected;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+/**
+ * Exposes the admission statistics of a single client type as a JMX MXBean, registered as
+ * {@code is.codion:type=Admission,clientType=<clientType>} on the platform MBean server when
+ * {@link EntityServerConfiguration#JMX} and admission control are enabled. One MBean is registered
+ * per client type as it is first encountered.
+ * @see EntityServerConfiguration#admissionLimit()
+ */
+public interface AdmissionMXBean {
+
+	/**
+	 * @return true if this is a batch client type, admitted only once no interactive client is waiting
+	 */
+	boolean isBatch();
+
+	/**
+	 * @return the maximum number of operations running concurrently for this client type, -1 for no limit
+	 */
+	int getLimit();
+
+	/**
+	 * @return the number of operations currently running for this client type
+	 */
+	int getRunning();
+
+	/**
+	 * The queue depth, a client type constantly queueing being either at its own limit or starved by others.
+	 * @return the number of clients of this type currently waiting to be admitted
+	 */
+	int getQueued();
+
+	/**
+	 * @return the number of clients of this type admitted since server startup
+	 */
+	long getAdmittedCount();
+
+	/**
+	 * @return the number of clients of this type rejected since server startup, having either
+	 * arrived to a full queue or timed out waiting
+	 */
+	long getRejectedCount();
+}
@@ -0,0 +1,415 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.framework.db.EntityChanges;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
+import is.codion.framework.db.EntityConnection.Update;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.domain.entity.condition.Condition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static is.codion.framework.db.EntityChanges.entityChanges;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>Collects the changes committed via the connections to a single domain and delivers them to the clients
+ * long-polling for them, see {@link EntityChanges.Feed}.
+ * <p>The changes made via a connection are recorded as they are made, see {@link Recorder}, and published
+ * as a single batch once committed, the batches being numbered consecutively, the number of the latest one
+ * being the position of the feed. A client requests the changes since the position it received with the
+ * previous ones, receiving the batches published since then, merged into one, excluding its own.
+ * <p>The latest {@link #CAPACITY} batches are retained, a client which has fallen further behind than that,
+ * or which knows a position from before a restart, receiving a {@link EntityChanges#reset()}, since it has
+ * missed changes which are no longer available.
+ * <p>Rows updated or deleted via {@link is.codion.framework.db.EntityConnection#update(Update)} or
+ * {@link is.codion.framework.db.EntityConnection#delete(Condition)} are not known by key, the batch
+ * containing such changes delivering a {@link EntityChanges#reset()} to the other clients instead.
+ * Changes made via functions and procedures are not recorded.
+ * @see EntityServerConfiguration#changeFeed()
+ */
+final class ChangeFeed {
+
+	/**
+	 * The number of batches retained
+	 */
+	static final int CAPACITY = 10_000;
+
+	/**
+	 * The source of the changes committed elsewhere, excluded by no subscriber
+	 */
+	private static final UUID EXTERNAL = UUID.randomUUID();
+
+	/**
+	 * The retained batches, the one at a given position found at index {@code (position - 1) % CAPACITY}
+	 */
+	private final Batch[] batches = new Batch[CAPACITY];
+	private final int maximumTimeout;
+
+	private long position = 0;
+
+	ChangeFeed() {
+		this(EntityServerConfiguration.CHANGE_FEED_TIMEOUT.getOrThrow());
+	}
+
+	/**
+	 * @param maximumTimeout the maximum number of milliseconds a subscriber is kept waiting
+	 */
+	ChangeFeed(int maximumTimeout) {
+		this.maximumTimeout = maximumTimeout;
+	}
+
+	/**
+	 * @param source the id of the connection the changes are recorded for
+	 * @return a new {@link Recorder}
+	 */
+	Recorder recorder(UUID source) {
+		return new Recorder(requireNonNull(source));
+	}
+
+	/**
+	 * Returns the changes committed via connections other than the subscriber's since the given position,
+	 * waiting for up to {@code timeout} milliseconds, at most the maximum timeout, for any to be published.
+	 * @param subscriber the id of the connection requesting the changes
+	 * @param position the position, see {@link EntityChanges.Feed#changes(long, int)}
+	 * @param timeout the maximum number of milliseconds to wait
+	 * @return the changes since the given position
+	 * @throws InterruptedException in case the thread is interrupted while waiting
+	 */
+	EntityChanges changes(UUID subscriber, long position, int timeout) throws InterruptedException {
+		requireNonNull(subscriber);
+		long current;
+		List<Batch> published;
+		synchronized (this) {
+			if (position < 0) {
+				//a new subscriber
+				return entityChanges(this.position, emptyList(), emptyMap(), emptyList());
+			}
+			if (position > this.position) {
+				//one which knows a position from before a restart
+				return EntityChanges.reset(this.position);
+			}
+			long deadline = currentTimeMillis() + min(timeout, maximumTimeout);
+			long remaining = min(timeout, maximumTimeout);
+			while (this.position == position && remaining > 0) {
+				wait(remaining);
+				remaining = deadline - currentTimeMillis();
+			}
+			if (position < oldest()) {
+				//one which has fallen behind the batches retained
+				return EntityChanges.reset(this.position);
+			}
+			current = this.position;
+			published = publishedSince(position);
+		}
+		//published batches are not modified, merged outside the monitor
+		Changes changes = new Changes();
+		for (Batch batch : published) {
+			if (!batch.source.equals(subscriber)) {
+				changes.merge(batch.changes);
+			}
+		}
+
+		return changes.entityChanges(current);
+	}
+
+	/**
+	 * @return the current position
+	 */
+	synchronized long position() {
+		return position;
+	}
+
+	/**
+	 * @return the oldest position the retained batches bring a subscriber up to date from
+	 */
+	private long oldest() {
+		return max(0, position - CAPACITY);
+	}
+
+	/**
+	 * @param position a position no older than {@link #oldest()}
+	 * @return the batches published after the given position, in order
+	 */
+	private List<Batch> publishedSince(long position) {
+		List<Batch> published = new ArrayList<>((int) (this.position - position));
+		for (long batch = position + 1; batch <= this.position; batch++) {
+			published.add(batches[index(batch)]);
+		}
+
+		return published;
+	}
+
+	/**
+	 * Publishes changes committed elsewhere, via another server for example, see {@link ChangeLog}.
+	 * @param changes the changes
+	 */
+	void publish(Changes changes) {
+		if (!changes.empty()) {
+			publish(EXTERNAL, changes);
+		}
+	}
+
+	private synchronized void publish(UUID source, Changes changes) {
+		position++;
+		batches[index(position)] = new Batch(source, changes);
+		notifyAll();
+	}
+
+	private static int index(long position) {
+		return (int) ((position - 1) % CAPACITY);
+	}
+
+	/**
+	 * <p>Records the changes made via a single connection, publishing them once committed and discarding
+	 * them in case of a rollback.
+	 * <p>Not thread safe, the connection invoking it serializing the calls.
+	 */
+	final class Recorder {
+
+		private static final String ROLLBACK_TRANSACTION = "rollbackTransaction";
+
+		private final UUID source;
+
+		private Changes changes = new Changes();
+
+		private Recorder(UUID source) {
+			this.source = source;
+		}
+
+		/**
+		 * Records the changes made by the given, successful, invocation, publishing them unless a transaction is open.
+		 * @param methodName the name of the method invoked
+		 * @param args the method arguments
+		 * @param result the method result
+		 * @param transactionOpen true if a transaction is open after the invocation
+		 */
+		void record(String methodName, Object[] args, Object result, boolean transactionOpen) {
+			if (methodName.equals(ROLLBACK_TRANSACTION)) {
+				changes = new Changes();
+			}
+			else {
+				changes.record(methodName, args, result);
+			}
+			if (!transactionOpen && !changes.empty()) {
+				publish(source, changes);
+				changes = new Changes();
+			}
+		}
+	}
+
+	/**
+	 * The changes made via a connection, or several merged, coalesced so that the keys reported are
+	 * those the receiving client knows the entities by.
+	 */
+	static final class Changes {
+
+		private static final String INSERT = "insert";
+		private static final String INSERT_SELECT = "insertSelect";
+		private static final String UPDATE = "update";
+		private static final String UPDATE_SELECT = "updateSelect";
+		private static final String DELETE = "delete";
+		private static final String FLUSH = "flush";
+
+		private final Set<Entity.Key> inserted = new LinkedHashSet<>();
+		private final Map<Entity.Key, Entity.Key> updated = new LinkedHashMap<>();
+		private final Map<Entity.Key, Entity.Key> originals = new HashMap<>();
+		private final Set<Entity.Key> deleted = new LinkedHashSet<>();
+
+		/**
+		 * True if rows were changed without their keys being known
+		 */
+		private boolean unidentified = false;
+
+		void inserted(Entity.Key key) {
+			if (deleted.remove(key)) {
+				//deleted and inserted again, a new row in place of one the receiver knows
+				updated(key, key);
+			}
+			else {
+				inserted.add(key);
+			}
+		}
+
+		void updated(Entity.Key original, Entity.Key current) {
+			if (inserted.remove(original)) {
+				//the receiver does not know the original, only that it has been inserted
+				inserted.add(current);
+
+				return;
+			}
+			Entity.Key known = originals.remove(original);
+			if (known == null) {
+				known = original;
+			}
+			updated.put(known, current);
+			originals.put(current, known);
+		}
+
+		void deleted(Entity.Key key) {
+			if (inserted.remove(key)) {
+				return;
+			}
+			Entity.Key known = originals.remove(key);
+			if (known != null) {
+				updated.remove(known);
+				deleted.add(known);
+			}
+			else {
+				deleted.add(key);
+			}
+		}
+
+		/**
+		 * Records the changes made by the given, successful, invocation.
+		 * @param methodName the name of the method invoked
+		 * @param args the method arguments
+		 * @param result the method result
+		 */
+		void record(String methodName, Object[] args, Object result) {
+			switch (methodName) {
+				case INSERT:
+					keys(result).forEach(this::inserted);
+					break;
+				case INSERT_SELECT:
+					entities(result).forEach(entity -> inserted(entity.primaryKey()));
+					break;
+				case UPDATE:
+				case UPDATE_SELECT:
+					if (args[0] instanceof Update) {
+						//modifies rows without knowing which
+						unidentified = true;
+					}
+					else {
+						entities(args[0]).forEach(entity -> updated(entity.originalPrimaryKey(), entity.primaryKey()));
+					}
+					break;
+				case DELETE:
+					if (args[0] instanceof Condition) {
+						//as does delete(Condition)
+						unidentified = true;
+					}
+					else {
+						keys(args[0]).forEach(this::deleted);
+					}
+					break;
+				case FLUSH:
+					//in the order flushed, inserts, updates and then deletes
+					UnitOfWork unitOfWork = (UnitOfWork) args[0];
+					keys(result).forEach(this::inserted);
+					unitOfWork.updates().forEach(entity -> updated(entity.originalPrimaryKey(), entity.primaryKey()));
+					unitOfWork.deletes().forEach(this::deleted);
+					break;
+				default:
+					break;
+			}
+		}
+
+		boolean empty() {
+			return !unidentified && inserted.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+		}
+
+
+		/**
+		 * Merges the given changes, made after these, into these.
+		 * @param changes the changes to merge
+		 */
+		void merge(Changes changes) {
+			changes.inserted.forEach(this::inserted);
+			changes.updated.forEach(this::updated);
+			changes.deleted.forEach(this::deleted);
+			unidentified = unidentified || changes.unidentified;
+		}
+
+		Set<Entity.Key> inserted() {
+			return inserted;
+		}
+
+		/**
+		 * @return the original keys of the updated entities, mapped to their current keys
+		 */
+		Map<Entity.Key, Entity.Key> updated() {
+			return updated;
+		}
+
+		Set<Entity.Key> deleted() {
+			return deleted;
+		}
+
+		/**
+		 * @param position the position
+		 * @return the changes, a reset in case rows were changed without their keys being known
+		 */
+		EntityChanges entityChanges(long position) {
+			if (unidentified) {
+				return EntityChanges.reset(position);
+			}
+
+			return EntityChanges.entityChanges(position, inserted, updated, deleted);
+		}
+
+		private static Collection<Entity.Key> keys(Object object) {
+			if (object instanceof Entity.Key) {
+				return singletonList((Entity.Key) object);
+			}
+			if (object instanceof Collection) {
+				return (Collection<Entity.Key>) object;
+			}
+
+			return emptyList();
+		}
+
+		private static Collection<Entity> entities(Object object) {
+			if (object instanceof Entity) {
+				return singletonList((Entity) object);
+			}
+			if (object instanceof Collection) {
+				return (Collection<Entity>) object;
+			}
+
+			return emptyList();
+		}
+	}
+
+	private static final class Batch {
+
+		private final UUID source;
+		private final Changes changes;
+
+		private Batch(UUID source, Changes changes) {
+			this.source = source;
+			this.changes = changes;
+		}
+	}
+}
@@ -0,0 +1,589 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.common.db.database.Database;
+import is.codion.common.db.exception.DatabaseException;
+import is.codion.common.utilities.scheduler.TaskScheduler;
+import is.codion.common.utilities.user.User;
+import is.codion.framework.domain.Domain;
+import is.codion.framework.domain.DomainType;
+import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.domain.entity.EntityDefinition;
+import is.codion.framework.domain.entity.EntityType;
+import is.codion.framework.domain.entity.attribute.Column;
+import is.codion.framework.server.ChangeFeed.Changes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.nCopies;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>Extends the change feed to changes committed via other servers, or other applications, writing to the same
+ * database, via a change log table, see {@link Database#changeLogDDL(String)}.
+ * <p>The changes made via each connection are appended to the change log within the transaction making them,
+ * see {@link #append(Connection, String, String, Object[], Object)}, and the change log is polled at a fixed interval,
+ * the changes appended by other writers being published to the change feed of their domain.
+ * <p>Ids are assigned as rows are appended, not as they are committed, so a row may become visible after one
+ * with a higher id. Each poll therefore looks for rows above the highest id seen, along with the rows missing
+ * below it, the gaps, which are looked for until found or until {@link #SETTLE} milliseconds have passed since
+ * they were noticed, after which they are assumed to have been rolled back, or skipped by the id generator.
+ * Each row is picked up once, and a change committed later than that after being appended is missed.
+ * <p>Updates and deletes based on a condition are not logged, the keys affected not being known, so while the
+ * clients of the server making them receive a reset, see {@link ChangeFeed}, the clients of other servers miss them.
+ * <p>Rows logged more than the retention period ago are purged.
+ * <p>The key values are logged as text, composite keys being comma separated, with any comma or backslash within
+ * a value escaped with a backslash. Keys with values of types other than the ones listed below are not logged,
+ * a warning listing the entity types affected being logged on startup.
+ * <ul>
+ * <li>String, Character, Boolean
+ * <li>Short, Integer, Long, Double, BigInteger, BigDecimal
+ * <li>LocalDate, LocalTime, LocalDateTime, OffsetDateTime
+ * <li>UUID
+ * </ul>
+ * @see EntityServerConfiguration#changeLog()
+ */
+final class ChangeLog {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ChangeLog.class);
+
+	/**
+	 * The number of milliseconds a row is allowed between being appended and committed,
+	 * that is, for how long a gap in the ids is looked for
+	 */
+	static final int SETTLE = 60_000;
+
+	static final String INSERT = "I";
+	static final String UPDATE = "U";
+	static final String DELETE = "D";
+
+	private static final int PURGE_INTERVAL = 60_000;
+	private static final int GAPS_PER_QUERY = 100;
+	private static final char SEPARATOR = ',';
+	private static final char ESCAPE = '\\';
+	private static final Set<String> LOGGED = new HashSet<>(Arrays.asList(
+					"insert", "insertSelect", "update", "updateSelect", "delete", "flush"));
+
+	private final String node = UUID.randomUUID().toString();
+	private final Database database;
+	private final User user;
+	private final Map<String, Domain> domains = new HashMap<>();
+	private final Map<DomainType, ChangeFeed> changeFeeds;
+	private final int retention;
+	private final String insertQuery;
+	private final String selectQuery;
+	private final String gapQuery;
+	private final String maximumIdQuery;
+	private final String purgeQuery;
+	private final NavigableMap<Long, Gap> gaps = new TreeMap<>();
+	private final TaskScheduler scheduler;
+
+	private Connection connection;
+	/**
+	 * The highest id below which no row is missing
+	 */
+	private long watermark;
+	private long highest;
+	private long lastPurge;
+
+	/**
+	 * @param database the database
+	 * @param table the change log table name
+	 * @param user the user to poll the change log with
+	 * @param changeFeeds the change feeds to publish to, mapped to their domain
+	 * @param domains the domains
+	 * @param interval the polling interval in milliseconds
+	 * @param retention the number of milliseconds to retain rows
+	 */
+	ChangeLog(Database database, String table, User user, Map<DomainType, ChangeFeed> changeFeeds,
+						Collection<Domain> domains, int interval, int retention) {
+		this.database = requireNonNull(database);
+		this.user = requireNonNull(user);
+		this.changeFeeds = requireNonNull(changeFeeds);
+		if (retention <= SETTLE) {
+			throw new IllegalArgumentException("Change log retention must exceed " + SETTLE + " milliseconds");
+		}
+		this.retention = retention;
+		domains.forEach(domain -> this.domains.put(domain.type().name(), domain));
+		this.insertQuery = "INSERT INTO " + requireNonNull(table) +
+						" (node, domain_type, entity_type, operation, entity_key, original_key, logged) VALUES (?, ?, ?, ?, ?, ?, ?)";
+		this.selectQuery = "SELECT id, node, domain_type, entity_type, operation, entity_key, original_key FROM " + table +
+						" WHERE id > ? ORDER BY id";
+		this.gapQuery = "SELECT id, node, domain_type, entity_type, operation, entity_key, original_key FROM " + table +
+						" WHERE ";
+		this.maximumIdQuery = "SELECT MAX(id) FROM " + table;
+		this.purgeQuery = "DELETE FROM " + table + " WHERE logged < ?";
+		this.watermark = maximumId();
+		this.highest = watermark;
+		warnUnsupported(domains);
+		this.scheduler = TaskScheduler.builder()
+						.task(this::poll)
+						.interval(interval, TimeUnit.MILLISECONDS)
+						.initialDelay(interval)
+						.name("Change log")
+						.start();
+	}
+
+	/**
+	 * @param methodName the name of a connection method
+	 * @return true if the changes made by the given method are logged
+	 */
+	static boolean logged(String methodName) {
+		return LOGGED.contains(methodName);
+	}
+
+	/**
+	 * Appends the changes made by the given, successful, invocation to the change log, via the connection
+	 * it was made on, so that they are committed or rolled back along with it.
+	 * @param connection the connection the invocation was made on
+	 * @param domainType the name of the domain
+	 * @param methodName the name of the method invoked
+	 * @param args the method arguments
+	 * @param result the method result
+	 * @throws DatabaseException in case of an exception
+	 */
+	void append(Connection connection, String domainType, String methodName, Object[] args, Object result) {
+		Changes changes = new Changes();
+		changes.record(methodName, args, result);
+		if (changes.empty()) {
+			return;
+		}
+		long logged = currentTimeMillis();
+		try (PreparedStatement statement = connection.prepareStatement(insertQuery)) {
+			int rows = 0;
+			for (Entity.Key key : changes.inserted()) {
+				rows += add(statement, domainType, INSERT, key, null, logged);
+			}
+			for (Map.Entry<Entity.Key, Entity.Key> updated : changes.updated().entrySet()) {
+				rows += add(statement, domainType, UPDATE, updated.getValue(), updated.getKey(), logged);
+			}
+			for (Entity.Key key : changes.deleted()) {
+				rows += add(statement, domainType, DELETE, key, null, logged);
+			}
+			if (rows > 0) {
+				statement.executeBatch();
+			}
+		}
+		catch (SQLException e) {
+			throw new DatabaseException(e, e.getMessage());
+		}
+	}
+
+	/**
+	 * Stops polling and closes the connection
+	 */
+	void close() {
+		scheduler.stop();
+		synchronized (this) {
+			closeConnection();
+		}
+	}
+
+	private int add(PreparedStatement statement, String domainType, String operation,
+									Entity.Key key, Entity.Key originalKey, long logged) throws SQLException {
+		String entityKey = encode(key);
+		String originalEntityKey = originalKey == null ? null : encode(originalKey);
+		if (entityKey == null || (originalKey != null && originalEntityKey == null)) {
+			LOG.debug("Unable to log the change of {}, unsupported key type", key);//warned on startup
+
+			return 0;
+		}
+		statement.setString(1, node);
+		statement.setString(2, domainType);
+		statement.setString(3, key.type().name());
+		statement.setString(4, operation);
+		statement.setString(5, entityKey);
+		statement.setString(6, originalEntityKey);
+		statement.setLong(7, logged);
+		statement.addBatch();
+
+		return 1;
+	}
+
+	synchronized void poll() {
+		try {
+			long time = currentTimeMillis();
+			Map<DomainType, Changes> changes = new HashMap<>();
+			fill(changes);
+			select(changes, time);
+			expire(time);
+			changes.forEach((domainType, domainChanges) -> changeFeeds.get(domainType).publish(domainChanges));
+			purge(time);
+			connection.commit();
+		}
+		catch (Exception e) {
+			LOG.error("Unable to poll the change log", e);
+			closeConnection();
+		}
+	}
+
+	/**
+	 * @return the highest id below which no row is missing
+	 */
+	synchronized long watermark() {
+		return watermark;
+	}
+
+	/**
+	 * Selects the rows above the highest id seen, noting any ids missing below them as a gap.
+	 */
+	private void select(Map<DomainType, Changes> changes, long time) throws SQLException {
+		try (PreparedStatement statement = connection().prepareStatement(selectQuery)) {
+			statement.setLong(1, highest);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					long id = resultSet.getLong(1);
+					if (id > highest + 1) {
+						gaps.put(highest + 1, new Gap(id - 1, time));
+					}
+					highest = id;
+					record(changes, resultSet);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Selects the rows which have become visible within the gaps, splitting or removing the gaps accordingly.
+	 */
+	private void fill(Map<DomainType, Changes> changes) throws SQLException {
+		List<Map.Entry<Long, Gap>> ranges = gaps.entrySet().stream()
+						.map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+						.collect(toList());
+		for (int i = 0; i < ranges.size(); i += GAPS_PER_QUERY) {
+			List<Map.Entry<Long, Gap>> chunk = ranges.subList(i, Math.min(i + GAPS_PER_QUERY, ranges.size()));
+			try (PreparedStatement statement = connection().prepareStatement(gapQuery +
+							String.join(" OR ", nCopies(chunk.size(), "id BETWEEN ? AND ?")) + " ORDER BY id")) {
+				int index = 1;
+				for (Map.Entry<Long, Gap> range : chunk) {
+					statement.setLong(index++, range.getKey());
+					statement.setLong(index++, range.getValue().to);
+				}
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next()) {
+						fill(resultSet.getLong(1));
+						record(changes, resultSet);
+					}
+				}
+			}
+		}
+	}
+
+	private void fill(long id) {
+		Map.Entry<Long, Gap> entry = gaps.floorEntry(id);
+		long from = entry.getKey();
+		Gap gap = entry.getValue();
+		gaps.remove(from);
+		if (id > from) {
+			gaps.put(from, new Gap(id - 1, gap.since));
+		}
+		if (id < gap.to) {
+			gaps.put(id + 1, gap);
+		}
+	}
+
+	/**
+	 * Gives up on the gaps noticed at least {@link #SETTLE} milliseconds ago and moves the watermark up
+	 * to the highest id below which no row is missing.
+	 */
+	private void expire(long time) {
+		gaps.values().removeIf(gap -> time - gap.since >= SETTLE);
+		watermark = gaps.isEmpty() ? highest : gaps.firstKey() - 1;
+	}
+
+	private void record(Map<DomainType, Changes> changes, ResultSet resultSet) throws SQLException {
+		if (!node.equals(resultSet.getString(2))) {
+			record(changes, resultSet.getString(3), resultSet.getString(4), resultSet.getString(5),
+							resultSet.getString(6), resultSet.getString(7));
+		}
+	}
+
+	private void record(Map<DomainType, Changes> changes, String domainType, String entityType,
+											String operation, String key, String originalKey) {
+		Domain domain = domains.get(domainType);
+		if (domain == null || !changeFeeds.containsKey(domain.type())) {
+			return;
+		}
+		try {
+			Entities entities = domain.entities();
+			EntityDefinition definition = entities.definition(entityType);
+			Changes domainChanges = changes.computeIfAbsent(domain.type(), k -> new Changes());
+			switch (operation) {
+				case INSERT:
+					domainChanges.inserted(decode(entities, definition, key));
+					break;
+				case UPDATE:
+					domainChanges.updated(decode(entities, definition, originalKey == null ? key : originalKey),
+									decode(entities, definition, key));
+					break;
+				case DELETE:
+					domainChanges.deleted(decode(entities, definition, key));
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown operation: " + operation);
+			}
+		}
+		catch (RuntimeException e) {
+			LOG.warn("Unable to read change log row: {}, {}, {}, {}", domainType, entityType, operation, key, e);
+		}
+	}
+
+	private void purge(long time) throws SQLException {
+		if (time - lastPurge >= PURGE_INTERVAL) {
+			try (PreparedStatement statement = connection.prepareStatement(purgeQuery)) {
+				statement.setLong(1, time - retention);
+				statement.executeUpdate();
+			}
+			lastPurge = time;
+		}
+	}
+
+	private long maximumId() {
+		try (Statement statement = connection().createStatement();
+				 ResultSet resultSet = statement.executeQuery(maximumIdQuery)) {
+			long maximumId = resultSet.next() ? resultSet.getLong(1) : 0;
+			connection.commit();
+
+			return maximumId;
+		}
+		catch (SQLException e) {
+			closeConnection();
+			throw new DatabaseException(e, e.getMessage());
+		}
+	}
+
+	private Connection connection() throws SQLException {
+		if (connection == null) {
+			connection = database.createConnection(user);
+			connection.setAutoCommit(false);
+		}
+
+		return connection;
+	}
+
+	private void closeConnection() {
+		if (connection != null) {
+			try {
+				connection.close();
+			}
+			catch (Exception e) {
+				LOG.debug("Exception while closing the change log connection", e);
+			}
+			connection = null;
+		}
+	}
+
+	/**
+	 * @param key the key
+	 * @return the key values as text, null in case of an unsupported value type
+	 */
+	static String encode(Entity.Key key) {
+		if (!key.primary()) {
+			return null;
+		}
+		StringBuilder builder = new StringBuilder();
+		for (Column<?> column : key.columns()) {
+			Object value = key.get(column);
+			if (value == null || !supported(value.getClass())) {
+				return null;
+			}
+			if (!builder.isEmpty()) {
+				builder.append(SEPARATOR);
+			}
+			String string = value.toString();
+			for (int i = 0; i < string.length(); i++) {
+				char character = string.charAt(i);
+				if (character == SEPARATOR || character == ESCAPE) {
+					builder.append(ESCAPE);
+				}
+				builder.append(character);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * @param entities the entities
+	 * @param definition the entity definition
+	 * @param key the key values as text, see {@link #encode(Entity.Key)}
+	 * @return the key
+	 * @throws IllegalArgumentException in case the key could not be decoded
+	 */
+	static Entity.Key decode(Entities entities, EntityDefinition definition, String key) {
+		List<Column<?>> columns = definition.primaryKey().columns();
+		List<String> values = split(requireNonNull(key));
+		if (columns.isEmpty() || columns.size() != values.size()) {
+			throw new IllegalArgumentException("Key " + key + " does not match the primary key of " + definition.type());
+		}
+		Entity.Key.Builder builder = entities.key(definition.type());
+		for (int i = 0; i < columns.size(); i++) {
+			with(builder, columns.get(i), values.get(i));
+		}
+
+		return builder.build();
+	}
+
+	private static <T> void with(Entity.Key.Builder builder, Column<T> column, String value) {
+		builder.with(column, parse(column.type().valueClass(), value));
+	}
+
+	private static List<String> split(String key) {
+		List<String> values = new ArrayList<>();
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < key.length(); i++) {
+			char character = key.charAt(i);
+			if (character == ESCAPE && i + 1 < key.length()) {
+				builder.append(key.charAt(++i));
+			}
+			else if (character == SEPARATOR) {
+				values.add(builder.toString());
+				builder.setLength(0);
+			}
+			else {
+				builder.append(character);
+			}
+		}
+		values.add(builder.toString());
+
+		return values;
+	}
+
+	private static void warnUnsupported(Collection<Domain> domains) {
+		for (Domain domain : domains) {
+			List<EntityType> unsupported = domain.entities().definitions().stream()
+							.filter(definition -> !definition.readOnly() && !supported(definition))
+							.map(EntityDefinition::type)
+							.collect(toList());
+			if (!unsupported.isEmpty()) {
+				LOG.warn("Changes to the following entity types of domain {} are not logged, " +
+								"their primary key being missing or of an unsupported type: {}", domain.type(), unsupported);
+			}
+		}
+	}
+
+	private static boolean supported(EntityDefinition definition) {
+		List<Column<?>> columns = definition.primaryKey().columns();
+
+		return !columns.isEmpty() && columns.stream()
+						.allMatch(column -> supported(column.type().valueClass()));
+	}
+
+	private static boolean supported(Class<?> valueClass) {
+		return valueClass == String.class || valueClass == Character.class || valueClass == Boolean.class ||
+						valueClass == Short.class || valueClass == Integer.class || valueClass == Long.class ||
+						valueClass == Double.class || valueClass == BigInteger.class || valueClass == BigDecimal.class ||
+						valueClass == LocalDate.class || valueClass == LocalTime.class || valueClass == LocalDateTime.class ||
+						valueClass == OffsetDateTime.class || valueClass == UUID.class;
+	}
+
+	private static <T> T parse(Class<T> valueClass, String value) {
+		Object parsed;
+		if (valueClass == String.class) {
+			parsed = value;
+		}
+		else if (valueClass == Character.class && value.length() == 1) {
+			parsed = value.charAt(0);
+		}
+		else if (valueClass == Boolean.class) {
+			parsed = Boolean.valueOf(value);
+		}
+		else if (valueClass == Short.class) {
+			parsed = Short.valueOf(value);
+		}
+		else if (valueClass == Integer.class) {
+			parsed = Integer.valueOf(value);
+		}
+		else if (valueClass == Long.class) {
+			parsed = Long.valueOf(value);
+		}
+		else if (valueClass == Double.class) {
+			parsed = Double.valueOf(value);
+		}
+		else if (valueClass == BigInteger.class) {
+			parsed = new BigInteger(value);
+		}
+		else if (valueClass == BigDecimal.class) {
+			parsed = new BigDecimal(value);
+		}
+		else if (valueClass == LocalDate.class) {
+			parsed = LocalDate.parse(value);
+		}
+		else if (valueClass == LocalTime.class) {
+			parsed = LocalTime.parse(value);
+		}
+		else if (valueClass == LocalDateTime.class) {
+			parsed = LocalDateTime.parse(value);
+		}
+		else if (valueClass == OffsetDateTime.class) {
+			parsed = OffsetDateTime.parse(value);
+		}
+		else if (valueClass == UUID.class) {
+			parsed = UUID.fromString(value);
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported key value type: " + valueClass);
+		}
+
+		return valueClass.cast(parsed);
+	}
+
+	/**
+	 * A range of missing ids, from the id it is mapped to, up to and including {@link #to}.
+	 */
+	private static final class Gap {
+
+		private final long to;
+		private final long since;
+
+		private Gap(long to, long since) {
+			this.to = to;
+			this.since = since;
+		}
+	}
+}
@@ -66,8 +66,8 @@ public interface ConnectionPoolMetricsMXBean {
 	int getDestroyed();
 
 	/**
-	 * The average connection check-out time in microseconds, 0 unless check-out time collection is
-	 * enabled via {@link EntityServerAdmin#collectPoolCheckOutTimes(String, boolean)}.
+	 * The average connection check-out time in microseconds, 0 if check-out time collection has been
+	 * disabled via {@link EntityServerAdmin#collectPoolCheckOutTimes(String, boolean)}.
 	 * @return the average check-out time in microseconds
 	 */
 	long getAverageCheckOutTime();
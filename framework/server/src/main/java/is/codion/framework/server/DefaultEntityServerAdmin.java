@@ -19,6 +19,7 @@
 package is.codion.framework.server;
 
 import is.codion.common.db.database.Database;
+import is.codion.common.db.pool.ConnectionPoolState;
 import is.codion.common.db.pool.ConnectionPoolStatistics;
 import is.codion.common.rmi.server.AbstractServerAdmin;
 import is.codion.common.utilities.logging.LoggerProxy;
@@ -151,6 +152,11 @@ final class DefaultEntityServerAdmin extends AbstractServerAdmin implements Enti
 		return server.database().connectionPool(username).statistics(since);
 	}
 
+	@Override
+	public ConnectionPoolState connectionPoolState(String username) {
+		return server.database().connectionPool(username).state();
+	}
+
 	@Override
 	public Database.Statistics databaseStatistics() {
 		return server.databaseStatistics();
@@ -216,6 +222,11 @@ final class DefaultEntityServerAdmin extends AbstractServerAdmin implements Enti
 		server.database().connectionPool(username).maximumCheckOutTime(value);
 	}
 
+	@Override
+	public Collection<AdmissionStatistics> admissionStatistics() {
+		return server.admissionStatistics();
+	}
+
 	@Override
 	public List<MethodTrace> methodTraces(UUID connectionId) {
 		return server.methodTraces(connectionId);
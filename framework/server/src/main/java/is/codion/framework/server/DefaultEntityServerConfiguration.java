@@ -23,7 +23,7 @@ import is.codion.common.rmi.server.ServerConfiguration;
 import is.codion.common.utilities.Text;
 import is.codion.common.utilities.user.User;
 import is.codion.common.utilities.version.Version;
-
+import is.codion.framework.db.EntityConnection.Select;
 
 import java.rmi.server.RMIClientSocketFactory;
 import java.rmi.server.RMIServerSocketFactory;
@@ -33,6 +33,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static is.codion.common.utilities.Text.nullOrEmpty;
@@ -57,6 +58,19 @@ final class DefaultEntityServerConfiguration implements EntityServerConfiguratio
 	private final Collection<String> domainClasses;
 	private final Collection<User> connectionPoolUsers;
 	private final Map<String, Integer> clientTypeIdleConnectionTimeouts;
+	private final Predicate<Select> coalescedSelects;
+	private final boolean changeFeed;
+	private final int changeFeedTimeout;
+	private final int admissionLimit;
+	private final Map<String, Integer> clientTypeAdmissionLimits;
+	private final Collection<String> batchClientTypes;
+	private final int admissionQueueSize;
+	private final int admissionTimeout;
+	private final String changeLog;
+	private final User changeLogUser;
+	private final int changeLogInterval;
+	private final int changeLogRetention;
+	private final Map<User, Database> readReplicas;
 
 	DefaultEntityServerConfiguration(DefaultEntityServerConfiguration.DefaultBuilder builder) {
 		this.serverConfiguration = requireNonNull(builder.serverConfigurationBuilder.build());
@@ -68,6 +82,19 @@ final class DefaultEntityServerConfiguration implements EntityServerConfiguratio
 		this.domainClasses = unmodifiableSet(builder.domainClasses);
 		this.connectionPoolUsers = unmodifiableSet(builder.connectionPoolUsers);
 		this.clientTypeIdleConnectionTimeouts = unmodifiableMap(builder.clientTypeIdleConnectionTimeouts);
+		this.coalescedSelects = coalescedSelects(unmodifiableSet(new HashSet<>(builder.coalescedEntityTypes)), builder.coalescedSelects);
+		this.changeFeed = builder.changeFeed;
+		this.changeFeedTimeout = builder.changeFeedTimeout;
+		this.admissionLimit = builder.admissionLimit;
+		this.clientTypeAdmissionLimits = unmodifiableMap(builder.clientTypeAdmissionLimits);
+		this.batchClientTypes = unmodifiableSet(builder.batchClientTypes);
+		this.admissionQueueSize = builder.admissionQueueSize;
+		this.admissionTimeout = builder.admissionTimeout;
+		this.changeLog = nullOrEmpty(builder.changeLog) ? null : builder.changeLog;
+		this.changeLogUser = builder.changeLogUser;
+		this.changeLogInterval = builder.changeLogInterval;
+		this.changeLogRetention = builder.changeLogRetention;
+		this.readReplicas = unmodifiableMap(builder.readReplicas);
 	}
 
 	@Override
@@ -100,6 +127,16 @@ final class DefaultEntityServerConfiguration implements EntityServerConfiguratio
 		return serverConfiguration.sslEnabled();
 	}
 
+	@Override
+	public boolean compression() {
+		return serverConfiguration.compression();
+	}
+
+	@Override
+	public int compressionThreshold() {
+		return serverConfiguration.compressionThreshold();
+	}
+
 	@Override
 	public Optional<RMIClientSocketFactory> rmiClientSocketFactory() {
 		return serverConfiguration.rmiClientSocketFactory();
@@ -185,6 +222,79 @@ final class DefaultEntityServerConfiguration implements EntityServerConfiguratio
 		return clientTypeIdleConnectionTimeouts;
 	}
 
+	@Override
+	public Predicate<Select> coalescedSelects() {
+		return coalescedSelects;
+	}
+
+	@Override
+	public boolean changeFeed() {
+		return changeFeed;
+	}
+
+	@Override
+	public int changeFeedTimeout() {
+		return changeFeedTimeout;
+	}
+
+	@Override
+	public int admissionLimit() {
+		return admissionLimit;
+	}
+
+	@Override
+	public Map<String, Integer> clientTypeAdmissionLimits() {
+		return clientTypeAdmissionLimits;
+	}
+
+	@Override
+	public Collection<String> batchClientTypes() {
+		return batchClientTypes;
+	}
+
+	@Override
+	public int admissionQueueSize() {
+		return admissionQueueSize;
+	}
+
+	@Override
+	public int admissionTimeout() {
+		return admissionTimeout;
+	}
+
+	@Override
+	public Optional<String> changeLog() {
+		return Optional.ofNullable(changeLog);
+	}
+
+	@Override
+	public User changeLogUser() {
+		return changeLogUser;
+	}
+
+	@Override
+	public int changeLogInterval() {
+		return changeLogInterval;
+	}
+
+	@Override
+	public int changeLogRetention() {
+		return changeLogRetention;
+	}
+
+	@Override
+	public Map<User, Database> readReplicas() {
+		return readReplicas;
+	}
+
+	private static Predicate<Select> coalescedSelects(Set<String> entityTypes, Predicate<Select> selects) {
+		if (entityTypes.isEmpty()) {
+			return selects;
+		}
+
+		return select -> entityTypes.contains(select.where().entityType().name()) || selects.test(select);
+	}
+
 	static final class DefaultBuilder implements Builder {
 
 		private final ServerConfiguration.Builder<?> serverConfigurationBuilder;
@@ -197,6 +307,20 @@ final class DefaultEntityServerConfiguration implements EntityServerConfiguratio
 		private final Set<String> domainClasses = new HashSet<>();
 		private final Set<User> connectionPoolUsers = new HashSet<>();
 		private final Map<String, Integer> clientTypeIdleConnectionTimeouts = new HashMap<>();
+		private final Set<String> coalescedEntityTypes = new HashSet<>();
+		private Predicate<Select> coalescedSelects = select -> false;
+		private boolean changeFeed = CHANGE_FEED.getOrThrow();
+		private int changeFeedTimeout = CHANGE_FEED_TIMEOUT.getOrThrow();
+		private int admissionLimit = ADMISSION_LIMIT.getOrThrow();
+		private final Map<String, Integer> clientTypeAdmissionLimits = new HashMap<>();
+		private final Set<String> batchClientTypes = new HashSet<>();
+		private int admissionQueueSize = ADMISSION_QUEUE_SIZE.getOrThrow();
+		private int admissionTimeout = ADMISSION_TIMEOUT.getOrThrow();
+		private String changeLog = CHANGE_LOG.get();
+		private User changeLogUser;
+		private int changeLogInterval = CHANGE_LOG_INTERVAL.getOrThrow();
+		private int changeLogRetention = CHANGE_LOG_RETENTION.getOrThrow();
+		private final Map<User, Database> readReplicas = new HashMap<>();
 
 		DefaultBuilder() {
 			serverConfigurationBuilder = ServerConfiguration.builder();
@@ -220,24 +344,31 @@ final class DefaultEntityServerConfiguration implements EntityServerConfiguratio
 			connectionPoolUsers(Text.parseCSV(CONNECTION_POOL_USERS.get()).stream()
 							.map(User::parse)
 							.collect(toList()));
-			clientTypeIdleConnectionTimeouts(parseClientTypeIdleConnectionTimeouts());
+			clientTypeIdleConnectionTimeouts(parseClientTypeValues(CLIENT_CONNECTION_TIMEOUT.get()));
+			clientTypeAdmissionLimits(parseClientTypeValues(ADMISSION_CLIENT_TYPE_LIMITS.get()));
+			batchClientTypes(Text.parseCSV(ADMISSION_BATCH_CLIENT_TYPES.get()));
+			coalescedEntityTypes(Text.parseCSV(COALESCED_ENTITY_TYPES.get()));
+			String changeLogUserString = CHANGE_LOG_USER.get();
+			if (!nullOrEmpty(changeLogUserString)) {
+				changeLogUser(User.parse(changeLogUserString));
+			}
 			String adminUserString = ADMIN_USER.get();
 			if (!nullOrEmpty(adminUserString)) {
 				adminUser(User.parse(adminUserString));
 			}
 		}
 
-		private static Map<String, Integer> parseClientTypeIdleConnectionTimeouts() {
-			Map<String, Integer> timeouts = new HashMap<>();
-			for (String clientTimeout : Text.parseCSV(CLIENT_CONNECTION_TIMEOUT.get())) {
-				String[] split = clientTimeout.split(":");
+		private static Map<String, Integer> parseClientTypeValues(String clientTypeValues) {
+			Map<String, Integer> values = new HashMap<>();
+			for (String clientTypeValue : Text.parseCSV(clientTypeValues)) {
+				String[] split = clientTypeValue.split(":");
 				if (split.length < 2) {
 					throw new IllegalArgumentException("Expecting a ':' delimiter");
 				}
-				timeouts.put(split[0], Integer.parseInt(split[1]));
+				values.put(split[0], Integer.parseInt(split[1]));
 			}
 
-			return timeouts;
+			return values;
 		}
 
 		@Override
@@ -270,6 +401,18 @@ final class DefaultEntityServerConfiguration implements EntityServerConfiguratio
 			return this;
 		}
 
+		@Override
+		public Builder compression(boolean compression) {
+			serverConfigurationBuilder.compression(compression);
+			return this;
+		}
+
+		@Override
+		public Builder compressionThreshold(int compressionThreshold) {
+			serverConfigurationBuilder.compressionThreshold(compressionThreshold);
+			return this;
+		}
+
 		@Override
 		public Builder objectInputFilterFactory(String objectInputFilterFactory) {
 			serverConfigurationBuilder.objectInputFilterFactory(objectInputFilterFactory);
@@ -372,6 +515,93 @@ final class DefaultEntityServerConfiguration implements EntityServerConfiguratio
 			return this;
 		}
 
+		@Override
+		public Builder coalescedEntityTypes(Collection<String> coalescedEntityTypes) {
+			this.coalescedEntityTypes.addAll(requireNonNull(coalescedEntityTypes));
+			return this;
+		}
+
+		@Override
+		public Builder coalescedSelects(Predicate<Select> coalescedSelects) {
+			this.coalescedSelects = requireNonNull(coalescedSelects);
+			return this;
+		}
+
+		@Override
+		public Builder changeFeed(boolean changeFeed) {
+			this.changeFeed = changeFeed;
+			return this;
+		}
+
+		@Override
+		public Builder changeFeedTimeout(int changeFeedTimeout) {
+			if (changeFeedTimeout < 0) {
+				throw new IllegalArgumentException("Change feed timeout must be a non-negative number");
+			}
+			this.changeFeedTimeout = changeFeedTimeout;
+			return this;
+		}
+
+		@Override
+		public Builder admissionLimit(int admissionLimit) {
+			this.admissionLimit = admissionLimit;
+			return this;
+		}
+
+		@Override
+		public Builder clientTypeAdmissionLimits(Map<String, Integer> clientTypeAdmissionLimits) {
+			this.clientTypeAdmissionLimits.putAll(requireNonNull(clientTypeAdmissionLimits));
+			return this;
+		}
+
+		@Override
+		public Builder batchClientTypes(Collection<String> batchClientTypes) {
+			this.batchClientTypes.addAll(requireNonNull(batchClientTypes));
+			return this;
+		}
+
+		@Override
+		public Builder admissionQueueSize(int admissionQueueSize) {
+			this.admissionQueueSize = admissionQueueSize;
+			return this;
+		}
+
+		@Override
+		public Builder admissionTimeout(int admissionTimeout) {
+			this.admissionTimeout = admissionTimeout;
+			return this;
+		}
+
+		@Override
+		public Builder changeLog(String changeLog) {
+			this.changeLog = requireNonNull(changeLog);
+			return this;
+		}
+
+		@Override
+		public Builder changeLogUser(User changeLogUser) {
+			this.changeLogUser = requireNonNull(changeLogUser);
+			return this;
+		}
+
+		@Override
+		public Builder changeLogInterval(int changeLogInterval) {
+			this.changeLogInterval = changeLogInterval;
+			return this;
+		}
+
+		@Override
+		public Builder changeLogRetention(int changeLogRetention) {
+			this.changeLogRetention = changeLogRetention;
+			return this;
+		}
+
+		@Override
+		public Builder readReplica(User user, Database readReplica) {
+			this.readReplicas.put(requireNonNull(user), requireNonNull(readReplica));
+			return this;
+		}
+
 		@Override
 		public EntityServerConfiguration build() {
 			return new DefaultEntityServerConfiguration(this);
@@ -24,10 +24,12 @@ import is.codion.common.db.operation.FunctionType;
 import is.codion.common.db.operation.ProcedureType;
 import is.codion.common.db.report.ReportType;
 import is.codion.common.rmi.server.RemoteSession;
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityConnection.Count;
 import is.codion.framework.db.EntityConnection.Select;
 import is.codion.framework.db.EntityConnection.Update;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.rmi.ServerEntityConnection;
 import is.codion.framework.db.rmi.ServerEntityResultIterator;
 import is.codion.framework.domain.Domain;
@@ -90,6 +92,11 @@ final class DefaultServerEntityConnection extends AbstractServerEntityConnection
 		}
 	}
 
+	@Override
+	public String fingerprint() {
+		return DomainFingerprint.fingerprint(entities());
+	}
+
 	@Override
 	public int count(Count count) {
 		synchronized (connectionProxy) {
@@ -97,6 +104,13 @@ final class DefaultServerEntityConnection extends AbstractServerEntityConnection
 		}
 	}
 
+	@Override
+	public List<Integer> counts(List<Count> counts) {
+		synchronized (connectionProxy) {
+			return connectionProxy.counts(counts);
+		}
+	}
+
 	@Override
 	public <P, R> R report(ReportType<P, R> reportType, P parameter) {
 		synchronized (connectionProxy) {
@@ -240,6 +254,13 @@ final class DefaultServerEntityConnection extends AbstractServerEntityConnection
 		}
 	}
 
+	@Override
+	public Collection<Entity.Key> flush(UnitOfWork unitOfWork) {
+		synchronized (connectionProxy) {
+			return connectionProxy.flush(unitOfWork);
+		}
+	}
+
 	@Override
 	public <T> List<T> select(Column<T> column) {
 		synchronized (connectionProxy) {
@@ -303,6 +324,13 @@ final class DefaultServerEntityConnection extends AbstractServerEntityConnection
 		}
 	}
 
+	@Override
+	public List<List<Entity>> selects(List<Select> selects) {
+		synchronized (connectionProxy) {
+			return connectionProxy.selects(selects);
+		}
+	}
+
 	@Override
 	public Map<EntityType, Collection<Entity>> dependencies(Collection<Entity> entities) {
 		synchronized (connectionProxy) {
@@ -310,6 +338,18 @@ final class DefaultServerEntityConnection extends AbstractServerEntityConnection
 		}
 	}
 
+	@Override
+	public EntityChanges changes(long position, int timeout) {
+		//not synchronized, a long-poll must not hold up this client's calls
+		return changesSince(position, timeout);
+	}
+
+	@Override
+	public void cancel() {
+		//not synchronized, the call being cancelled holds the lock
+		connectionHandler().cancel();
+	}
+
 	@Override
 	public ServerEntityResultIterator iterator(Condition condition) throws RemoteException {
 		synchronized (connectionProxy) {
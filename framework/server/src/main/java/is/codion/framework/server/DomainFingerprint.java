@@ -0,0 +1,298 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.framework.domain.DomainType;
+import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.domain.entity.EntityDefinition;
+import is.codion.framework.domain.entity.attribute.AttributeDefinition;
+import is.codion.framework.domain.entity.attribute.ColumnDefinition;
+import is.codion.framework.domain.entity.attribute.DerivedAttributeDefinition;
+import is.codion.framework.domain.entity.attribute.ForeignKeyDefinition;
+import is.codion.framework.domain.entity.attribute.TransientAttributeDefinition;
+import is.codion.framework.domain.entity.attribute.ValueAttributeDefinition;
+import is.codion.framework.domain.entity.query.EntitySelectQuery;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+
+/**
+ * Provides the fingerprint of a domain, a SHA-256 digest of a canonical description of its entity definitions,
+ * computed once per domain.
+ * <p>The description lists the entity definitions and their attribute definitions sorted by name, along with
+ * their properties and the class names of the objects providing their behaviour, such as formatters and validators,
+ * followed by a digest of the bytecode of those classes, a lambda being represented by the class declaring it.
+ * The fingerprint therefore changes along with the definitions and the code providing their behaviour, while
+ * remaining the same across server restarts as long as neither changes. Note that code called by a lambda or a
+ * class providing behaviour, residing in another class, is not part of the fingerprint.
+ * @see is.codion.framework.db.rmi.ServerEntityConnection#fingerprint()
+ */
+final class DomainFingerprint {
+
+	private static final Map<DomainType, String> FINGERPRINTS = new ConcurrentHashMap<>();
+	private static final String LAMBDA = "$$Lambda";
+
+	private DomainFingerprint() {}
+
+	/**
+	 * @param entities the domain entities
+	 * @return the fingerprint of the given entities
+	 */
+	static String fingerprint(Entities entities) {
+		return FINGERPRINTS.computeIfAbsent(entities.domainType(), domainType -> digest(entities));
+	}
+
+	/**
+	 * @param entities the domain entities
+	 * @return the fingerprint of the given entities, bypassing the cache
+	 */
+	static String digest(Entities entities) {
+		return sha256(describe(entities).getBytes(UTF_8));
+	}
+
+	static String describe(Entities entities) {
+		StringBuilder builder = new StringBuilder("domain ").append(entities.domainType().name()).append('\n');
+		entities.definitions().stream()
+						.sorted(comparing(definition -> definition.type().name()))
+						.forEach(definition -> describe(definition, builder));
+		describeClasses(entities, builder);
+
+		return builder.toString();
+	}
+
+	/**
+	 * Describes the classes providing behaviour by a digest of their bytecode, a lambda by the class declaring it,
+	 * which contains its body, so that a change in behaviour changes the fingerprint. Classes provided by the
+	 * runtime itself are excluded.
+	 */
+	private static void describeClasses(Entities entities, StringBuilder builder) {
+		Map<String, Class<?>> classes = new TreeMap<>();
+		entities.definitions().stream()
+						.flatMap(DomainFingerprint::behaviour)
+						.filter(Objects::nonNull)
+						.map(object -> declaringClass(object.getClass()))
+						.filter(type -> type.getClassLoader() != null && type.getClassLoader() != ClassLoader.getPlatformClassLoader())
+						.forEach(type -> classes.put(type.getName(), type));
+		classes.forEach((name, type) -> builder.append("class ").append(name)
+						.append(" digest=").append(bytecodeDigest(type)).append('\n'));
+	}
+
+	private static Stream<@Nullable Object> behaviour(EntityDefinition definition) {
+		return Stream.concat(Stream.of(definition.formatter(), definition.comparator(), definition.validator(), definition.exists()),
+						definition.attributes().definitions().stream().flatMap(DomainFingerprint::behaviour));
+	}
+
+	private static Stream<@Nullable Object> behaviour(AttributeDefinition<?> definition) {
+		List<@Nullable Object> behaviour = new ArrayList<>();
+		behaviour.add(definition.comparator());
+		definition.format().ifPresent(behaviour::add);
+		if (definition instanceof ColumnDefinition) {
+			ColumnDefinition<?> columnDefinition = (ColumnDefinition<?>) definition;
+			behaviour.add(columnDefinition.converter());
+			if (columnDefinition.generated()) {
+				behaviour.add(columnDefinition.generator());
+			}
+		}
+		if (definition instanceof DerivedAttributeDefinition) {
+			behaviour.add(((DerivedAttributeDefinition<?>) definition).value());
+		}
+
+		return behaviour.stream();
+	}
+
+	/**
+	 * @param type the class of an object providing behaviour
+	 * @return the given class, or in case of a lambda, the class declaring it, named by the lambda class name
+	 * by convention, otherwise the top level class of its nest
+	 */
+	private static Class<?> declaringClass(Class<?> type) {
+		if (!type.isHidden()) {
+			return type;
+		}
+		int lambdaIndex = type.getName().indexOf(LAMBDA);
+		if (lambdaIndex > 0) {
+			try {
+				return Class.forName(type.getName().substring(0, lambdaIndex), false, type.getClassLoader());
+			}
+			catch (ClassNotFoundException e) {
+				//fall back to the nest host
+			}
+		}
+
+		return type.getNestHost();
+	}
+
+	private static String bytecodeDigest(Class<?> type) {
+		try (InputStream bytecode = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+			return bytecode == null ? "" : sha256(bytecode.readAllBytes());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static String sha256(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void describe(EntityDefinition definition, StringBuilder builder) {
+		builder.append("entity ").append(definition.type().name())
+						.append(" table=").append(definition.table())
+						.append(" selectTable=").append(definition.selectTable())
+						.append(" caption=").append(definition.caption())
+						.append(" description=").append(definition.description().orElse(""))
+						.append(" smallDataset=").append(definition.smallDataset())
+						.append(" readOnly=").append(definition.readOnly())
+						.append(" optimisticLocking=").append(definition.optimisticLocking())
+						.append(" cacheToString=").append(definition.cacheToString())
+						.append(" orderBy=").append(definition.orderBy().map(Object::toString).orElse(""))
+						.append(" selectQuery=").append(definition.selectQuery().map(DomainFingerprint::describe).orElse(""))
+						.append(" formatter=").append(type(definition.formatter()))
+						.append(" comparator=").append(type(definition.comparator()))
+						.append(" validator=").append(type(definition.validator()))
+						.append(" exists=").append(type(definition.exists()))
+						.append('\n');
+		definition.attributes().definitions().stream()
+						.sorted(comparing(attributeDefinition -> attributeDefinition.attribute().name()))
+						.forEach(attributeDefinition -> describe(attributeDefinition, builder));
+	}
+
+	private static void describe(AttributeDefinition<?> definition, StringBuilder builder) {
+		builder.append("attribute ").append(definition.attribute().name())
+						.append(" type=").append(definition.attribute().type().valueClass().getName())
+						.append(" definition=").append(definition.getClass().getName())
+						.append(" caption=").append(definition.caption())
+						.append(" description=").append(definition.description().orElse(""))
+						.append(" hidden=").append(definition.hidden())
+						.append(" mnemonic=").append((int) definition.mnemonic())
+						.append(" fractionDigits=").append(definition.fractionDigits())
+						.append(" roundingMode=").append(definition.roundingMode())
+						.append(" dateTimePattern=").append(definition.dateTimePattern().orElse(""))
+						.append(" format=").append(definition.format().map(DomainFingerprint::type).orElse(""))
+						.append(" comparator=").append(type(definition.comparator()));
+		if (definition instanceof ValueAttributeDefinition) {
+			describe((ValueAttributeDefinition<?>) definition, builder);
+		}
+		if (definition instanceof ColumnDefinition) {
+			describe((ColumnDefinition<?>) definition, builder);
+		}
+		if (definition instanceof ForeignKeyDefinition) {
+			describe((ForeignKeyDefinition) definition, builder);
+		}
+		if (definition instanceof DerivedAttributeDefinition) {
+			describe((DerivedAttributeDefinition<?>) definition, builder);
+		}
+		if (definition instanceof TransientAttributeDefinition) {
+			builder.append(" modifies=").append(((TransientAttributeDefinition<?>) definition).modifies());
+		}
+		builder.append('\n');
+	}
+
+	private static void describe(ValueAttributeDefinition<?> definition, StringBuilder builder) {
+		builder.append(" nullable=").append(definition.nullable())
+						.append(" minimum=").append(definition.minimum().orElse(null))
+						.append(" maximum=").append(definition.maximum().orElse(null))
+						.append(" maximumLength=").append(definition.maximumLength())
+						.append(" trim=").append(definition.trim())
+						.append(" hasDefaultValue=").append(definition.hasDefaultValue())
+						.append(" items=");
+		definition.items().forEach(item -> builder.append(item.get()).append(':').append(item.caption()).append(','));
+	}
+
+	private static void describe(ColumnDefinition<?> definition, StringBuilder builder) {
+		builder.append(" name=").append(definition.name())
+						.append(" expression=").append(definition.expression())
+						.append(" sqlType=").append(definition.type())
+						.append(" keyIndex=").append(definition.keyIndex())
+						.append(" groupBy=").append(definition.groupBy())
+						.append(" aggregate=").append(definition.aggregate())
+						.append(" selected=").append(definition.selected())
+						.append(" insertable=").append(definition.insertable())
+						.append(" updatable=").append(definition.updatable())
+						.append(" withDefault=").append(definition.withDefault())
+						.append(" searchable=").append(definition.searchable())
+						.append(" generator=").append(definition.generated() ? type(definition.generator()) : "")
+						.append(" converter=").append(type(definition.converter()));
+	}
+
+	private static void describe(ForeignKeyDefinition definition, StringBuilder builder) {
+		builder.append(" referencedType=").append(definition.attribute().referencedType().name())
+						.append(" soft=").append(definition.soft())
+						.append(" referenceDepth=").append(definition.referenceDepth())
+						.append(" references=");
+		definition.attribute().references().forEach(reference -> builder
+						.append(reference.column().name()).append(':').append(reference.foreign().name())
+						.append(':').append(definition.readOnly(reference.column())).append(','));
+		builder.append(" attributes=");
+		definition.attributes().forEach(attribute -> builder.append(attribute.name()).append(','));
+	}
+
+	private static void describe(DerivedAttributeDefinition<?> definition, StringBuilder builder) {
+		builder.append(" value=").append(type(definition.value()))
+						.append(" cached=").append(definition.cached())
+						.append(" sources=");
+		definition.attributes().forEach(attribute -> builder.append(attribute.name()).append(','));
+	}
+
+	private static String describe(EntitySelectQuery selectQuery) {
+		return new StringBuilder()
+						.append("with=").append(new TreeMap<>(selectQuery.with()))
+						.append(" withRecursive=").append(selectQuery.withRecursive())
+						.append(" columns=").append(selectQuery.columns())
+						.append(" from=").append(selectQuery.from())
+						.append(" where=").append(selectQuery.where())
+						.append(" groupBy=").append(selectQuery.groupBy())
+						.append(" having=").append(selectQuery.having())
+						.append(" orderBy=").append(selectQuery.orderBy())
+						.toString();
+	}
+
+	/**
+	 * @param object the object providing some behaviour
+	 * @return the class name of the given object, without the unstable names of lambda classes
+	 */
+	private static String type(@Nullable Object object) {
+		if (object == null) {
+			return "";
+		}
+
+		return object.getClass().isHidden() ? "lambda" : object.getClass().getName();
+	}
+}
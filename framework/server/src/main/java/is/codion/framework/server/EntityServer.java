@@ -19,9 +19,11 @@
 package is.codion.framework.server;
 
 import is.codion.common.db.database.Database;
+import is.codion.common.db.database.DatabaseFactory;
 import is.codion.common.db.exception.AuthenticationException;
 import is.codion.common.db.exception.DatabaseException;
 import is.codion.common.db.pool.ConnectionPoolFactory;
+import is.codion.common.db.pool.ConnectionPoolWrapper;
 import is.codion.common.db.report.Report;
 import is.codion.common.rmi.client.Clients;
 import is.codion.common.rmi.server.AbstractServer;
@@ -31,13 +33,16 @@ import is.codion.common.rmi.server.Server;
 import is.codion.common.rmi.server.ServerConfiguration;
 import is.codion.common.rmi.server.exception.LoginException;
 import is.codion.common.rmi.server.exception.ServerAuthenticationException;
+import is.codion.common.utilities.Text;
 import is.codion.common.utilities.exceptions.Exceptions;
 import is.codion.common.utilities.logging.MethodTrace;
 import is.codion.common.utilities.user.User;
 import is.codion.framework.db.local.LocalEntityConnection;
+import is.codion.framework.db.local.ReadReplica;
 import is.codion.framework.db.rmi.ServerEntityConnection;
 import is.codion.framework.domain.Domain;
 import is.codion.framework.domain.DomainType;
+import is.codion.framework.server.EntityServerAdmin.AdmissionStatistics;
 import is.codion.framework.server.EntityServerAdmin.DomainEntityDefinition;
 import is.codion.framework.server.EntityServerAdmin.DomainOperation;
 import is.codion.framework.server.EntityServerAdmin.DomainReport;
@@ -53,15 +58,18 @@ import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
 import java.rmi.server.RMIClientSocketFactory;
 import java.rmi.server.RMIServerSocketFactory;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static is.codion.common.utilities.Text.nullOrEmpty;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -80,6 +88,11 @@ public class EntityServer extends AbstractServer<AbstractServerEntityConnection,
 	private final Database database;
 	private final boolean methodTracing;
 	private final Map<String, Integer> clientTypeIdleConnectionTimeouts = new HashMap<>();
+	private final SelectCoalescer selectCoalescer;
+	private final Map<DomainType, ChangeFeed> changeFeeds = new HashMap<>();
+	private final AdmissionControl admissionControl;
+	private final ChangeLog changeLog;
+	private final Map<String, ReadReplica> readReplicas = new HashMap<>();
 
 	private MetricsMBeans metricsMBeans;
 	private int idleConnectionTimeout;
@@ -98,8 +111,14 @@ public class EntityServer extends AbstractServer<AbstractServerEntityConnection,
 		try {
 			this.database = requireNonNull(configuration.database());
 			this.methodTracing = configuration.methodTracing();
+			this.selectCoalescer = new SelectCoalescer(configuration.coalescedSelects());
+			this.admissionControl = admissionControl(configuration);
 			this.domainModels = loadDomainModels(configuration.domainClasses());
+			if (configuration.changeFeed()) {
+				domainModels.keySet().forEach(domainType -> changeFeeds.put(domainType, new ChangeFeed(configuration.changeFeedTimeout())));
+			}
 			configureDatabase(domainModels.values(), database);
+			this.changeLog = changeLog(configuration);
 			//loaded here so that a context which can not be loaded fails the server start, not the first connect
 			SessionContexts.contexts();
 			EntityServerAdmin serverAdmin = createServerAdmin(configuration);
@@ -109,6 +128,7 @@ public class EntityServer extends AbstractServer<AbstractServerEntityConnection,
 			idleConnectionTimeout(configuration.idleConnectionTimeout());
 			setClientTypeIdleConnectionTimeouts(configuration.clientTypeIdleConnectionTimeouts());
 			createConnectionPools(configuration.database(), configuration.connectionPoolFactory(), configuration.connectionPoolUsers());
+			createReadReplicas(configuration.readReplicas(), configuration.connectionPoolFactory());
 			if (EntityServerConfiguration.JMX.getOrThrow()) {
 				metricsMBeans = MetricsMBeans.register(this);
 			}
@@ -146,6 +166,21 @@ public class EntityServer extends AbstractServer<AbstractServerEntityConnection,
 							configuration.rmi() ? configuration.port() : -1, configuration.rmiClientSocketFactory().orElse(null),
 							configuration.rmiServerSocketFactory().orElse(null));
 			connection.setTracingEnabled(methodTracing);
+			connection.setSelectCoalescer(selectCoalescer);
+			if (admissionControl != null) {
+				connection.setAdmissionControl(admissionControl);
+			}
+			ChangeFeed changeFeed = changeFeeds.get(clientDomainModel(session).type());
+			if (changeFeed != null) {
+				connection.setChangeFeed(changeFeed);
+				if (changeLog != null) {
+					connection.setChangeLog(changeLog);
+				}
+			}
+			ReadReplica readReplica = readReplicas.get(session.databaseUser().username().toLowerCase());
+			if (readReplica != null) {
+				connection.setReadReplica(readReplica);
+			}
 
 			connection.closed().addConsumer(this::removeConnection);
 			LOG.debug("{} connected", session);
@@ -249,6 +284,48 @@ public class EntityServer extends AbstractServer<AbstractServerEntityConnection,
 		}
 	}
 
+	/**
+	 * Returns the utilization of the connections or of the most utilized connection pool, whichever is higher.
+	 * @return the utilization in percent
+	 */
+	@Override
+	protected final int utilization() {
+		int utilization = super.utilization();
+		if (database != null) {
+			for (String username : database.connectionPoolUsernames()) {
+				ConnectionPoolWrapper pool = database.connectionPool(username);
+				int maximumPoolSize = pool.maximumPoolSize();
+				if (maximumPoolSize > 0) {
+					utilization = Math.max(utilization, pool.state().inUse() * 100 / maximumPoolSize);
+				}
+			}
+		}
+
+		return utilization;
+	}
+
+	/**
+	 * @return the 95th percentile latency of the requests served recently, -1 if none
+	 */
+	@Override
+	protected final int latency() {
+		return ServerMetrics.INSTANCE.recentLatency();
+	}
+
+	/**
+	 * @return the admission control, an empty Optional in case admission control is not enabled
+	 */
+	final Optional<AdmissionControl> admissionControl() {
+		return Optional.ofNullable(admissionControl);
+	}
+
+	/**
+	 * @return the admission statistics per client type, empty in case admission control is not enabled
+	 */
+	final Collection<AdmissionStatistics> admissionStatistics() {
+		return admissionControl == null ? emptyList() : admissionControl.statistics();
+	}
+
 	final Map<DomainType, Collection<DomainEntityDefinition>> domainEntityDefinitions() {
 		Map<DomainType, Collection<DomainEntityDefinition>> domainEntities = new HashMap<>();
 		for (Domain domain : domainModels.values()) {
@@ -403,6 +480,28 @@ public class EntityServer extends AbstractServer<AbstractServerEntityConnection,
 		return domain;
 	}
 
+	private ChangeLog changeLog(EntityServerConfiguration configuration) {
+		if (changeFeeds.isEmpty() || !configuration.changeLog().isPresent()) {
+			return null;
+		}
+		if (configuration.changeLogUser() == null) {
+			throw new IllegalStateException("No change log user specified");
+		}
+		LOG.info("Polling change log '{}' every {} ms", configuration.changeLog().get(), configuration.changeLogInterval());
+
+		return new ChangeLog(database, configuration.changeLog().get(), configuration.changeLogUser(), changeFeeds,
+						domainModels.values(), configuration.changeLogInterval(), configuration.changeLogRetention());
+	}
+
+	private static AdmissionControl admissionControl(EntityServerConfiguration configuration) {
+		if (configuration.admissionLimit() == -1 && configuration.clientTypeAdmissionLimits().isEmpty()) {
+			return null;
+		}
+
+		return new AdmissionControl(configuration.admissionLimit(), configuration.clientTypeAdmissionLimits(),
+						configuration.batchClientTypes(), configuration.admissionQueueSize(), configuration.admissionTimeout());
+	}
+
 	private static void configureDatabase(Collection<Domain> domainModels, Database database) {
 		for (Domain domain : domainModels) {
 			LocalEntityConnection.configureDatabase(database, domain);
@@ -434,30 +533,53 @@ public class EntityServer extends AbstractServer<AbstractServerEntityConnection,
 		}
 	}
 
+	private void createReadReplicas(Map<User, Database> replicas, String connectionPoolFactory) {
+		if (!replicas.isEmpty()) {
+			ConnectionPoolFactory poolFactory = connectionPoolFactory(connectionPoolFactory);
+			replicas.forEach((user, replica) -> {
+				configureDatabase(domainModels.values(), replica);
+				LOG.info("Routing reads of database user '{}' to read replica '{}'", user.username(), replica.name());
+				readReplicas.put(user.username().toLowerCase(),
+								ReadReplica.readReplica(replica.createConnectionPool(poolFactory, user)));
+			});
+		}
+	}
+
 	private static void createConnectionPools(Database database, String connectionPoolFactory,
 																						Collection<User> connectionPoolUsers) {
 		if (!connectionPoolUsers.isEmpty()) {
-			ConnectionPoolFactory poolFactory;
-			if (nullOrEmpty(connectionPoolFactory)) {
-				poolFactory = ConnectionPoolFactory.instance();
-			}
-			else {
-				poolFactory = ConnectionPoolFactory.instance(connectionPoolFactory);
-			}
+			ConnectionPoolFactory poolFactory = connectionPoolFactory(connectionPoolFactory);
 			for (User user : connectionPoolUsers) {
 				database.createConnectionPool(poolFactory, user);
 			}
 		}
 	}
 
+	private static ConnectionPoolFactory connectionPoolFactory(String connectionPoolFactory) {
+		if (nullOrEmpty(connectionPoolFactory)) {
+			return ConnectionPoolFactory.instance();
+		}
+
+		return ConnectionPoolFactory.instance(connectionPoolFactory);
+	}
+
 	/**
 	 * Starts the server, using the configuration from system properties.
 	 * @return the server instance
 	 * @throws RemoteException in case of an exception
 	 */
 	public static EntityServer startServer() throws RemoteException {
-		return startServer(EntityServerConfiguration.builder()
-						.database(Database.instance()).build());
+		EntityServerConfiguration.Builder configuration = EntityServerConfiguration.builder()
+						.database(Database.instance());
+		String readReplicaUrl = EntityServerConfiguration.READ_REPLICA_URL.get();
+		if (!nullOrEmpty(readReplicaUrl)) {
+			Database readReplica = readReplica(readReplicaUrl);
+			Text.parseCSV(EntityServerConfiguration.READ_REPLICA_USERS.get()).stream()
+							.map(User::parse)
+							.forEach(user -> configuration.readReplica(user, readReplica));
+		}
+
+		return startServer(configuration.build());
 	}
 
 	/**
@@ -481,6 +603,15 @@ public class EntityServer extends AbstractServer<AbstractServerEntityConnection,
 		}
 	}
 
+	private static Database readReplica(String url) {
+		try {
+			return DatabaseFactory.instance(url).create(url);
+		}
+		catch (SQLException e) {
+			throw new DatabaseException(e, e.getMessage());
+		}
+	}
+
 	private static void printStartupInfo(EntityServer server, long startTime) {
 		String startupInfo = server.information().name()
 						+ " started on port: " + server.information().port()
@@ -556,7 +687,11 @@ public class EntityServer extends AbstractServer<AbstractServerEntityConnection,
 			if (metricsMBeans != null) {
 				metricsMBeans.unregister();
 			}
+			if (changeLog != null) {
+				changeLog.close();
+			}
 			database.close();
+			configuration.readReplicas().values().forEach(Database::close);
 		}
 	}
 
@@ -19,6 +19,7 @@
 package is.codion.framework.server;
 
 import is.codion.common.db.database.Database;
+import is.codion.common.db.pool.ConnectionPoolState;
 import is.codion.common.db.pool.ConnectionPoolStatistics;
 import is.codion.common.rmi.server.ServerAdmin;
 import is.codion.common.utilities.logging.MethodTrace;
@@ -152,6 +153,14 @@ public interface EntityServerAdmin extends ServerAdmin {
 	 */
 	ConnectionPoolStatistics connectionPoolStatistics(String username, long since) throws RemoteException;
 
+	/**
+	 * @param username the username
+	 * @return the current pool state
+	 * @throws RemoteException in case of an exception
+	 * @see is.codion.common.db.pool.ConnectionPoolWrapper#state()
+	 */
+	ConnectionPoolState connectionPoolState(String username) throws RemoteException;
+
 	/**
 	 * Returns the statistics gathered via {@link Database#queryCounter()}.
 	 * @return a {@link Database.Statistics} object containing query statistics collected since
@@ -301,6 +310,55 @@ public interface EntityServerAdmin extends ServerAdmin {
 	 */
 	void minimumConnectionPoolSize(String username, int value) throws RemoteException;
 
+	/**
+	 * Returns the admission statistics, per client type, empty in case admission control is not enabled.
+	 * @return the admission statistics for each client type encountered since server startup
+	 * @throws RemoteException in case of a communication error
+	 * @see EntityServerConfiguration#admissionLimit()
+	 */
+	Collection<AdmissionStatistics> admissionStatistics() throws RemoteException;
+
+	/**
+	 * Admission statistics for a single client type.
+	 */
+	interface AdmissionStatistics {
+
+		/**
+		 * @return the client type
+		 */
+		String clientType();
+
+		/**
+		 * @return true if this is a batch client type, admitted only once no interactive client is waiting
+		 */
+		boolean batch();
+
+		/**
+		 * @return the maximum number of operations running concurrently for this client type, -1 for no limit
+		 */
+		int limit();
+
+		/**
+		 * @return the number of operations currently running for this client type
+		 */
+		int running();
+
+		/**
+		 * @return the number of clients of this type currently waiting to be admitted
+		 */
+		int queued();
+
+		/**
+		 * @return the number of clients of this type admitted since server startup
+		 */
+		long admitted();
+
+		/**
+		 * @return the number of clients of this type rejected since server startup
+		 */
+		long rejected();
+	}
+
 	/**
 	 * Basic information about an entity definition.
 	 */
@@ -24,9 +24,12 @@ import is.codion.common.db.pool.ConnectionPoolFactory;
 import is.codion.common.rmi.server.ServerConfiguration;
 import is.codion.common.utilities.property.PropertyValue;
 import is.codion.common.utilities.user.User;
+import is.codion.framework.db.EntityConnection.Select;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import static is.codion.common.utilities.Configuration.*;
 
@@ -99,6 +102,150 @@ public interface EntityServerConfiguration extends ServerConfiguration {
 	 */
 	PropertyValue<String> DOMAIN_CLASSES = stringValue("codion.server.domain.classes");
 
+	/**
+	 * Specifies a comma separated list of entity type names, for which identical selects run concurrently
+	 * by different clients are coalesced into a single query.
+	 * <ul>
+	 * <li>Example: store.order,store.warehouse
+	 * <li>Value type: String
+	 * <li>Default value: none
+	 * </ul>
+	 * @see #coalescedSelects()
+	 */
+	PropertyValue<String> COALESCED_ENTITY_TYPES = stringValue("codion.server.coalescedEntityTypes");
+
+	/**
+	 * Specifies whether the change feed is enabled, delivering the changes committed via each connection
+	 * to the clients of the other connections to the same domain, long-polling for them.
+	 * <ul>
+	 * <li>Value type: Boolean
+	 * <li>Default value: false
+	 * </ul>
+	 * @see #changeFeed()
+	 */
+	PropertyValue<Boolean> CHANGE_FEED = booleanValue("codion.server.changeFeed", false);
+
+	/**
+	 * Specifies the maximum number of milliseconds a client long-polling the change feed is kept waiting,
+	 * a longer timeout requested by the client being reduced to this one.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 60000 (1 minute)
+	 * </ul>
+	 * @see #changeFeedTimeout()
+	 */
+	PropertyValue<Integer> CHANGE_FEED_TIMEOUT = integerValue("codion.server.changeFeedTimeout", 60_000);
+
+	/**
+	 * Specifies the maximum number of operations the server runs concurrently on behalf of clients,
+	 * -1 indicating no limit.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: -1
+	 * </ul>
+	 * @see #admissionLimit()
+	 */
+	PropertyValue<Integer> ADMISSION_LIMIT = integerValue("codion.server.admission.limit", -1);
+
+	/**
+	 * Specifies the maximum number of operations run concurrently per client type, in a comma separated list.
+	 * <ul>
+	 * <li>Example: is.codion.demos.chinook.ui.ChinookAppPanel:20,is.codion.demos.chinook.reports.ReportClient:2
+	 * <li>Value type: String
+	 * <li>Default value: none
+	 * </ul>
+	 * @see #admissionLimit()
+	 */
+	PropertyValue<String> ADMISSION_CLIENT_TYPE_LIMITS = stringValue("codion.server.admission.clientTypeLimits");
+
+	/**
+	 * Specifies a comma separated list of batch client types, admitted only once no interactive client is waiting.
+	 * <ul>
+	 * <li>Example: is.codion.demos.chinook.reports.ReportClient
+	 * <li>Value type: String
+	 * <li>Default value: none
+	 * </ul>
+	 * @see #admissionLimit()
+	 */
+	PropertyValue<String> ADMISSION_BATCH_CLIENT_TYPES = stringValue("codion.server.admission.batchClientTypes");
+
+	/**
+	 * Specifies the maximum number of clients waiting to be admitted, per client type,
+	 * a client arriving to a full queue being rejected right away.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 100
+	 * </ul>
+	 * @see #admissionLimit()
+	 */
+	PropertyValue<Integer> ADMISSION_QUEUE_SIZE = integerValue("codion.server.admission.queueSize", 100);
+
+	/**
+	 * Specifies the maximum number of milliseconds a client waits to be admitted before being rejected.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 10000 (10 seconds)
+	 * </ul>
+	 * @see #admissionLimit()
+	 */
+	PropertyValue<Integer> ADMISSION_TIMEOUT = integerValue("codion.server.admission.timeout", 10_000);
+
+	/**
+	 * Specifies the name of the change log table, extending the change feed to several servers, or other
+	 * applications, writing to the same database.
+	 * <ul>
+	 * <li>Value type: String
+	 * <li>Default value: null
+	 * </ul>
+	 * @see #changeLog()
+	 */
+	PropertyValue<String> CHANGE_LOG = stringValue("codion.server.changeLog");
+
+	/**
+	 * Specifies the username:password combination of the database user polling the change log.
+	 * @see #changeLog()
+	 */
+	PropertyValue<String> CHANGE_LOG_USER = stringValue("codion.server.changeLog.user");
+
+	/**
+	 * Specifies the number of milliseconds between polls of the change log.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 1000 (1 second)
+	 * </ul>
+	 * @see #changeLog()
+	 */
+	PropertyValue<Integer> CHANGE_LOG_INTERVAL = integerValue("codion.server.changeLog.interval", 1_000);
+
+	/**
+	 * Specifies the number of milliseconds the rows in the change log are retained before being purged.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 3600000 (1 hour)
+	 * </ul>
+	 * @see #changeLog()
+	 */
+	PropertyValue<Integer> CHANGE_LOG_RETENTION = integerValue("codion.server.changeLog.retention", 3_600_000);
+
+	/**
+	 * Specifies the jdbc url of a read-only replica of the database, to which the reads of the
+	 * {@link #READ_REPLICA_USERS} are routed.
+	 * <ul>
+	 * <li>Value type: String
+	 * <li>Default value: null
+	 * </ul>
+	 * @see #readReplicas()
+	 */
+	PropertyValue<String> READ_REPLICA_URL = stringValue("codion.server.readReplica.url");
+
+	/**
+	 * Specifies a comma separated list of username:password combinations for which to route reads to the
+	 * {@link #READ_REPLICA_URL} replica, a connection pool being created on the replica for each on startup.
+	 * Example: scott:tiger,john:foo
+	 * @see #readReplicas()
+	 */
+	PropertyValue<String> READ_REPLICA_USERS = stringValue("codion.server.readReplica.users");
+
 	/**
 	 * @return the Database implementation
 	 */
@@ -139,6 +286,132 @@ public interface EntityServerConfiguration extends ServerConfiguration {
 	 */
 	Map<String, Integer> clientTypeIdleConnectionTimeouts();
 
+	/**
+	 * <p>Specifies the selects to coalesce. An identical select, run by another client while one is already
+	 * running, waits for the result of the one running instead of running itself, receiving a copy of it.
+	 * Selects are identical when they are equal, run on the same domain by the same database user and,
+	 * should any {@link is.codion.common.db.database.SessionContext} apply, by the same client.
+	 * <p>Selects {@link Select#forUpdate() for update} and those run within a transaction are never coalesced.
+	 * <p>Coalescing is for the burst of identical selects issued when many clients open the same screen at once,
+	 * a select coalesced no more than sharing a query with one started slightly before it. The result may
+	 * therefore predate a change committed by another client while it was running, as it may for any select.
+	 * @return the predicate specifying the selects to coalesce
+	 * @see #COALESCED_ENTITY_TYPES
+	 * @see Builder#coalescedEntityTypes(Collection)
+	 * @see Builder#coalescedSelects(Predicate)
+	 */
+	Predicate<Select> coalescedSelects();
+
+	/**
+	 * <p>Specifies whether the change feed is enabled. The keys of the entities inserted, updated and deleted via
+	 * each connection are collected per domain, and published once committed, to be delivered to the clients of
+	 * the other connections, which long-poll for them, see {@link is.codion.framework.db.EntityChanges.Feed}.
+	 * <p>Note that only changes made via the entity based insert, update and delete operations are collected,
+	 * not those made via update or delete by condition, functions, procedures or outside of the server.
+	 * @return true if the change feed is enabled
+	 * @see #CHANGE_FEED
+	 */
+	boolean changeFeed();
+
+	/**
+	 * @return the maximum number of milliseconds a client long-polling the change feed is kept waiting
+	 * @see #changeFeed()
+	 * @see #CHANGE_FEED_TIMEOUT
+	 */
+	int changeFeedTimeout();
+
+	/**
+	 * <p>Specifies the maximum number of operations the server runs concurrently on behalf of clients. Along with
+	 * {@link #clientTypeAdmissionLimits()} this enables admission control, a client having to be admitted before
+	 * running an operation, so that a burst of heavy operations from one kind of client, a report client for
+	 * example, can not exhaust the connection pool and starve the others.
+	 * <p>A client holds on to its admission for as long as it holds on to a connection, that is, until the
+	 * operation is done, or, should it leave a transaction open or an iterator unclosed, until those are done.
+	 * A client which can not be admitted right away waits, for at most {@link #admissionTimeout()} milliseconds,
+	 * in a queue of at most {@link #admissionQueueSize()} clients per client type. A client arriving to a full
+	 * queue, or timing out, is rejected with a {@link is.codion.framework.db.exception.ServerBusyException}.
+	 * <p>Waiting clients of the {@link #batchClientTypes()} are admitted only once no other client is waiting.
+	 * @return the maximum number of operations run concurrently, -1 for no limit
+	 * @see #ADMISSION_LIMIT
+	 * @see EntityServerAdmin#admissionStatistics()
+	 */
+	int admissionLimit();
+
+	/**
+	 * @return the maximum number of operations run concurrently, per client type
+	 * @see #admissionLimit()
+	 * @see #ADMISSION_CLIENT_TYPE_LIMITS
+	 */
+	Map<String, Integer> clientTypeAdmissionLimits();
+
+	/**
+	 * @return the client types admitted only once no interactive client is waiting
+	 * @see #admissionLimit()
+	 * @see #ADMISSION_BATCH_CLIENT_TYPES
+	 */
+	Collection<String> batchClientTypes();
+
+	/**
+	 * @return the maximum number of clients waiting to be admitted, per client type
+	 * @see #admissionLimit()
+	 * @see #ADMISSION_QUEUE_SIZE
+	 */
+	int admissionQueueSize();
+
+	/**
+	 * @return the maximum number of milliseconds a client waits to be admitted
+	 * @see #admissionLimit()
+	 * @see #ADMISSION_TIMEOUT
+	 */
+	int admissionTimeout();
+
+	/**
+	 * <p>Specifies the change log table, which extends the change feed to the changes committed via other servers,
+	 * or other applications, writing to the same database, see {@link is.codion.common.db.database.Database#changeLogDDL(String)}.
+	 * <p>The changes made via each connection are appended to the change log within the transaction making them,
+	 * and the change log is polled every {@link #changeLogInterval()} milliseconds by the {@link #changeLogUser()},
+	 * the changes appended by other writers being published to the change feed.
+	 * <p>Only used when the {@link #changeFeed()} is enabled.
+	 * @return the name of the change log table, an empty Optional if none is used
+	 * @see #CHANGE_LOG
+	 */
+	Optional<String> changeLog();
+
+	/**
+	 * @return the database user polling the change log, null if none is specified
+	 * @see #changeLog()
+	 * @see #CHANGE_LOG_USER
+	 */
+	User changeLogUser();
+
+	/**
+	 * @return the number of milliseconds between polls of the change log
+	 * @see #changeLog()
+	 * @see #CHANGE_LOG_INTERVAL
+	 */
+	int changeLogInterval();
+
+	/**
+	 * @return the number of milliseconds the rows in the change log are retained before being purged
+	 * @see #changeLog()
+	 * @see #CHANGE_LOG_RETENTION
+	 */
+	int changeLogRetention();
+
+	/**
+	 * <p>Specifies the read-only replicas to route reads to, per database user. A connection pool is created on the
+	 * replica for each user on startup, and the selects, counts and reports the connections of that user perform
+	 * outside of a transaction are routed to it, while writes and reads within a transaction go to the primary.
+	 * <p>Reads following a write by the same client go to the primary for at least
+	 * {@link is.codion.framework.db.local.LocalEntityConnection#READ_YOUR_WRITES} milliseconds, so that a client
+	 * sees its own writes despite any replication lag.
+	 * @return the read-only replicas, mapped to the database user
+	 * @see #READ_REPLICA_URL
+	 * @see #READ_REPLICA_USERS
+	 * @see is.codion.framework.db.local.LocalEntityConnection#readReplica(is.codion.framework.db.local.ReadReplica)
+	 */
+	Map<User, Database> readReplicas();
+
 	/**
 	 * A Builder for EntityServerConfiguration
 	 */
@@ -192,6 +465,106 @@ public interface EntityServerConfiguration extends ServerConfiguration {
 		 */
 		Builder clientTypeIdleConnectionTimeouts(Map<String, Integer> clientTypeIdleConnectionTimeouts);
 
+		/**
+		 * @param coalescedEntityTypes the names of the entity types for which to coalesce identical selects
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#coalescedSelects()
+		 */
+		Builder coalescedEntityTypes(Collection<String> coalescedEntityTypes);
+
+		/**
+		 * @param coalescedSelects specifies selects to coalesce, in addition to the ones for the entity types
+		 * specified via {@link #coalescedEntityTypes(Collection)}
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#coalescedSelects()
+		 */
+		Builder coalescedSelects(Predicate<Select> coalescedSelects);
+
+		/**
+		 * @param changeFeed true if the change feed should be enabled
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#changeFeed()
+		 */
+		Builder changeFeed(boolean changeFeed);
+
+		/**
+		 * @param changeFeedTimeout the maximum number of milliseconds a client long-polling the change feed is kept waiting
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#changeFeedTimeout()
+		 */
+		Builder changeFeedTimeout(int changeFeedTimeout);
+
+		/**
+		 * @param admissionLimit the maximum number of operations run concurrently, -1 for no limit
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#admissionLimit()
+		 */
+		Builder admissionLimit(int admissionLimit);
+
+		/**
+		 * @param clientTypeAdmissionLimits the maximum number of operations run concurrently, mapped to client type
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#clientTypeAdmissionLimits()
+		 */
+		Builder clientTypeAdmissionLimits(Map<String, Integer> clientTypeAdmissionLimits);
+
+		/**
+		 * @param batchClientTypes the client types admitted only once no interactive client is waiting
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#batchClientTypes()
+		 */
+		Builder batchClientTypes(Collection<String> batchClientTypes);
+
+		/**
+		 * @param admissionQueueSize the maximum number of clients waiting to be admitted, per client type
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#admissionQueueSize()
+		 */
+		Builder admissionQueueSize(int admissionQueueSize);
+
+		/**
+		 * @param admissionTimeout the maximum number of milliseconds a client waits to be admitted
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#admissionTimeout()
+		 */
+		Builder admissionTimeout(int admissionTimeout);
+
+		/**
+		 * @param changeLog the name of the change log table
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#changeLog()
+		 */
+		Builder changeLog(String changeLog);
+
+		/**
+		 * @param changeLogUser the database user polling the change log
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#changeLogUser()
+		 */
+		Builder changeLogUser(User changeLogUser);
+
+		/**
+		 * @param changeLogInterval the number of milliseconds between polls of the change log
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#changeLogInterval()
+		 */
+		Builder changeLogInterval(int changeLogInterval);
+
+		/**
+		 * @param changeLogRetention the number of milliseconds the rows in the change log are retained
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#changeLogRetention()
+		 */
+		Builder changeLogRetention(int changeLogRetention);
+
+		/**
+		 * @param user the database user
+		 * @param readReplica the read-only replica to route the reads of the given user to
+		 * @return this builder instance
+		 * @see EntityServerConfiguration#readReplicas()
+		 */
+		Builder readReplica(User user, Database readReplica);
+
 		/**
 		 * @return a new EntityServerConfiguration instance based on this builder
 		 */
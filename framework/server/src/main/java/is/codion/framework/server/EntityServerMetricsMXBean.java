@@ -34,6 +34,25 @@ public interface EntityServerMetricsMXBean {
 	 */
 	long getRequestCount();
 
+	/**
+	 * @return the number of selects eligible for coalescing since server startup
+	 * @see EntityServerConfiguration#coalescedSelects()
+	 */
+	long getCoalescableSelectCount();
+
+	/**
+	 * The number of selects served from an identical one already running, rather than by a query of their own,
+	 * the coalescing rate being this count relative to {@link #getCoalescableSelectCount()}.
+	 * @return the number of coalesced selects since server startup
+	 * @see EntityServerConfiguration#coalescedSelects()
+	 */
+	long getCoalescedSelectCount();
+
+	/**
+	 * @return the ratio of coalesced selects to those eligible for coalescing since server startup, 0 if none have been eligible
+	 */
+	double getCoalescingRate();
+
 	/**
 	 * @return the current number of connected clients
 	 */
@@ -24,13 +24,17 @@ import is.codion.common.db.exception.DatabaseException;
 import is.codion.common.db.pool.ConnectionPoolWrapper;
 import is.codion.common.rmi.server.RemoteSession;
 import is.codion.common.utilities.logging.MethodTrace;
+import is.codion.framework.db.EntityConnection.Select;
 import is.codion.framework.db.EntityResultIterator;
 import is.codion.framework.db.local.ConnectionHolder;
 import is.codion.framework.db.local.LocalEntityConnection;
+import is.codion.framework.db.local.ReadReplica;
 import is.codion.framework.db.local.tracer.MethodTracer;
 import is.codion.framework.db.local.tracer.MethodTracer.Traceable;
 import is.codion.framework.domain.Domain;
 import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.domain.entity.condition.Condition;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,7 +45,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
@@ -63,6 +70,12 @@ final class LocalConnectionHandler implements InvocationHandler {
 	private static final String RETURN_CONNECTION = "returnConnection";
 	private static final String CREATE_CONNECTION = "createConnection";
 	private static final String ENTITIES = "entities";
+	private static final String SELECT = "select";
+	/**
+	 * The methods which neither fetch a connection nor touch the database, run without admission
+	 */
+	private static final Set<String> ADMISSION_FREE = new HashSet<>(Arrays.asList("user", "id", "clientType", "description",
+					"clientVersion", "connected", "close", "transactionOpen", "cacheQueries", "commitTransaction", "rollbackTransaction"));
 
 	private final Domain domain;
 	private final RemoteSession session;
@@ -78,6 +91,7 @@ final class LocalConnectionHandler implements InvocationHandler {
 	private final AtomicBoolean active = new AtomicBoolean(false);
 	private final LocalEntityConnection entityConnection;
 	private final ConnectionHolder connectionHolder;
+	private final Object coalescingScope;
 
 	private MethodTracer tracer = MethodTracer.NO_OP;
 	private boolean traceToFile = false;
@@ -87,6 +101,14 @@ final class LocalConnectionHandler implements InvocationHandler {
 	 * check out to do that on: once, on first use, and again after the connection has been replaced.
 	 */
 	private boolean prepared = false;
+	private SelectCoalescer selectCoalescer;
+	private ChangeFeed.Recorder changeRecorder;
+	private ChangeLog changeLog;
+	private AdmissionControl admissionControl;
+	/**
+	 * Held for as long as a connection is, see {@link #admit(String)} and {@link #releasePermit()}
+	 */
+	private volatile AdmissionControl.Permit permit;
 	private volatile long lastAccessTime = creationTime;
 	private volatile boolean closed = false;
 
@@ -104,6 +126,7 @@ final class LocalConnectionHandler implements InvocationHandler {
 		this.clientDescription = clientInfo.toString();
 		this.entityConnection = initializeConnection();
 		this.connectionHolder = (ConnectionHolder) entityConnection;
+		this.coalescingScope = coalescingScope();
 	}
 
 	@Override
@@ -121,11 +144,16 @@ final class LocalConnectionHandler implements InvocationHandler {
 		long startNanoseconds = nanoTime();
 		logEntry(methodName, args);
 		try {
-			prepareConnection();
-			Object result = method.invoke(entityConnection, args);
-			if (result instanceof EntityResultIterator) {
-				//pin the connection until the iterator is closed, see returnConnection()/iteratorClosed()
-				openIterators++;
+			admit(methodName);
+			Select select = coalesce(methodName, args);
+			if (select != null) {
+				return selectCoalescer.select(coalescingScope, select, () -> (List<Entity>) invoke(method, args));
+			}
+
+			Object result = changeLog != null && ChangeLog.logged(methodName) ?
+							invokeLogged(method, args) : invoke(method, args);
+			if (changeRecorder != null) {
+				changeRecorder.record(methodName, args, result, entityConnection.transactionOpen());
 			}
 
 			return result;
@@ -141,12 +169,99 @@ final class LocalConnectionHandler implements InvocationHandler {
 		}
 		finally {
 			returnConnection();
+			releasePermit();
 			logExit(methodName, exception);
 			ServerMetrics.INSTANCE.record(methodName, nanoTime() - startNanoseconds);
 			active.set(false);
 		}
 	}
 
+	private Object invoke(Method method, Object[] args) throws Exception {
+		prepareConnection();
+		Object result = method.invoke(entityConnection, args);
+		if (result instanceof EntityResultIterator) {
+			//pin the connection until the iterator is closed, see returnConnection()/iteratorClosed()
+			openIterators++;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Appends the changes made by the given method to the change log, within the transaction making them,
+	 * one being started for the method should none be open.
+	 */
+	private Object invokeLogged(Method method, Object[] args) throws Exception {
+		if (entityConnection.transactionOpen()) {
+			Object result = invoke(method, args);
+			changeLog.append(entityConnection.connection(), domain.type().name(), method.getName(), args, result);
+
+			return result;
+		}
+		prepareConnection();
+		entityConnection.startTransaction();
+		try {
+			Object result = method.invoke(entityConnection, args);
+			changeLog.append(entityConnection.connection(), domain.type().name(), method.getName(), args, result);
+			entityConnection.commitTransaction();
+
+			return result;
+		}
+		catch (Exception | Error e) {
+			if (entityConnection.transactionOpen()) {
+				try {
+					entityConnection.rollbackTransaction();
+				}
+				catch (RuntimeException rollbackException) {
+					e.addSuppressed(rollbackException);
+				}
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @return the select to coalesce, null if this invocation is not to be coalesced
+	 * @see SelectCoalescer
+	 */
+	private Select coalesce(String methodName, Object[] args) {
+		if (selectCoalescer == null || !methodName.equals(SELECT) || args == null || args.length != 1 ||
+						entityConnection.transactionOpen()) {
+			return null;
+		}
+		Select select = null;
+		if (args[0] instanceof Select) {
+			select = (Select) args[0];
+		}
+		else if (args[0] instanceof Condition) {
+			select = Select.where((Condition) args[0]).build();
+		}
+
+		return select != null && selectCoalescer.coalesces(select) ? select : null;
+	}
+
+	/**
+	 * Admits this client, unless it already holds a permit, within a transaction for example, or the method
+	 * does not require one.
+	 * @see AdmissionControl
+	 */
+	private void admit(String methodName) {
+		if (admissionControl != null && permit == null && !ADMISSION_FREE.contains(methodName)) {
+			permit = admissionControl.acquire(session.request().clientType());
+		}
+	}
+
+	/**
+	 * Releases the permit unless the connection is still held, by an open transaction or an open iterator,
+	 * mirroring {@link #returnConnection()}.
+	 */
+	private void releasePermit() {
+		if (permit != null && !entityConnection.transactionOpen() && openIterators == 0) {
+			permit.release();
+			permit = null;
+		}
+	}
+
 	private Entities entities() {
 		active.set(true);
 		lastAccessTime = currentTimeMillis();
@@ -183,6 +298,15 @@ final class LocalConnectionHandler implements InvocationHandler {
 		MDC.remove(LOG_IDENTIFIER_PROPERTY);
 	}
 
+	/**
+	 * Cancels the statement being executed, without waiting for the call in progress.
+	 */
+	void cancel() {
+		if (!closed) {
+			entityConnection.cancel();
+		}
+	}
+
 	boolean connected() {
 		if (connectionPool != null) {
 			return !closed;
@@ -197,11 +321,19 @@ final class LocalConnectionHandler implements InvocationHandler {
 		}
 		closed = true;
 		rollbackIfRequired(entityConnection);
-		if (connectionPool != null) {
-			returnToPool();
+		try {
+			if (connectionPool != null) {
+				returnToPool();
+			}
+			else {
+				closeConnection();
+			}
 		}
-		else {
-			closeConnection();
+		finally {
+			AdmissionControl.Permit held = permit;
+			if (held != null) {
+				held.release();
+			}
 		}
 	}
 
@@ -295,6 +427,7 @@ final class LocalConnectionHandler implements InvocationHandler {
 			openIterators--;
 			if (openIterators == 0) {
 				returnConnection();
+				releasePermit();
 			}
 		}
 	}
@@ -475,6 +608,40 @@ final class LocalConnectionHandler implements InvocationHandler {
 		catch (Exception ignored) {/*ignored*/}
 	}
 
+	synchronized void setSelectCoalescer(SelectCoalescer selectCoalescer) {
+		this.selectCoalescer = selectCoalescer;
+	}
+
+	synchronized void setAdmissionControl(AdmissionControl admissionControl) {
+		this.admissionControl = admissionControl;
+	}
+
+	synchronized void setChangeLog(ChangeLog changeLog) {
+		this.changeLog = changeLog;
+	}
+
+	synchronized void setReadReplica(ReadReplica readReplica) {
+		entityConnection.readReplica(readReplica);
+	}
+
+	synchronized void setChangeFeed(ChangeFeed changeFeed) {
+		this.changeRecorder = changeFeed.recorder(session.id());
+	}
+
+	/**
+	 * The session contexts being free to apply whatever session state they like, based on who the client is,
+	 * the client is part of the scope whenever any apply, a row level security policy for example.
+	 * @return the scope within which this connection's selects are coalesced
+	 * @see SelectCoalescer
+	 */
+	private Object coalescingScope() {
+		String databaseUsername = session.databaseUser().username();
+
+		return sessionContexts.empty() ?
+						Arrays.asList(domain.type(), databaseUsername) :
+						Arrays.asList(domain.type(), databaseUsername, clientInfo);
+	}
+
 	synchronized void setTraceToFile(boolean traceToFile) {
 		this.traceToFile = traceToFile;
 	}
@@ -22,6 +22,7 @@ import is.codion.common.db.database.Database;
 import is.codion.common.db.pool.ConnectionPoolStatistics;
 import is.codion.common.db.pool.ConnectionPoolWrapper;
 import is.codion.common.utilities.scheduler.TaskScheduler;
+import is.codion.framework.server.EntityServerAdmin.AdmissionStatistics;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,17 +52,19 @@ final class MetricsMBeans {
 	private static final String ENTITY_SERVER = "is.codion:type=EntityServer";
 	private static final String CONNECTION_POOL = "is.codion:type=ConnectionPool,username=";
 	private static final String OPERATION_LATENCY = "is.codion:type=OperationLatency,operation=";
+	private static final String ADMISSION = "is.codion:type=Admission,clientType=";
+	private static final String ILLEGAL_VALUE_CHARACTERS = ",=:\"*?\n";
 
 	/**
 	 * The connection pool statistics are cached for this many milliseconds so that reading all the
 	 * attributes of a pool MBean during a single scrape triggers a single {@link ConnectionPoolWrapper#statistics(long)}
-	 * call, which shares its per-second counters and check-out time buffer with the RMI admin feed.
+	 * call, which shares its per-second counters and check-out time interval with the RMI admin feed.
 	 */
 	private static final long STATISTICS_CACHE = 1_000;
 
 	/**
-	 * Operation types are discovered as they are first served, so a scheduled task registers an MBean
-	 * for each newly encountered operation at this interval, in seconds.
+	 * Operation and client types are discovered as they are first served, so a scheduled task registers an MBean
+	 * for each newly encountered operation and client type at this interval, in seconds.
 	 */
 	private static final int OPERATION_RECONCILE_INTERVAL = 2;
 
@@ -73,6 +76,7 @@ final class MetricsMBeans {
 					.name("Metric MBean operation reconciler")
 					.build();
 
+	private AdmissionControl admissionControl;
 	private boolean closed = false;
 
 	private MetricsMBeans() {}
@@ -109,6 +113,7 @@ final class MetricsMBeans {
 
 	private void registerServer(EntityServer server) throws Exception {
 		register(new ObjectName(ENTITY_SERVER), new EntityServerMetrics(server), EntityServerMetricsMXBean.class);
+		admissionControl = server.admissionControl().orElse(null);
 		Database database = server.database();
 		for (String username : database.connectionPoolUsernames()) {
 			register(new ObjectName(CONNECTION_POOL + username),
@@ -131,6 +136,37 @@ final class MetricsMBeans {
 		catch (Exception e) {
 			LOG.error("Unable to register operation latency MBeans", e);
 		}
+		registerClientTypes();
+	}
+
+	private void registerClientTypes() {
+		if (admissionControl == null) {
+			return;
+		}
+		try {
+			for (AdmissionStatistics statistics : admissionControl.statistics()) {
+				ObjectName objectName = new ObjectName(ADMISSION + value(statistics.clientType()));
+				if (!registered.contains(objectName)) {
+					register(objectName, new AdmissionMetrics(admissionControl, statistics.clientType()), AdmissionMXBean.class);
+				}
+			}
+		}
+		catch (Exception e) {
+			LOG.error("Unable to register admission MBeans", e);
+		}
+	}
+
+	/**
+	 * Quotes the given key property value only if required, a client type usually being a class name.
+	 */
+	private static String value(String value) {
+		for (char character : value.toCharArray()) {
+			if (ILLEGAL_VALUE_CHARACTERS.indexOf(character) >= 0) {
+				return ObjectName.quote(value);
+			}
+		}
+
+		return value;
 	}
 
 	private <T> void register(ObjectName objectName, T implementation, Class<T> mBeanInterface) throws Exception {
@@ -151,6 +187,21 @@ final class MetricsMBeans {
 			return ServerMetrics.INSTANCE.requestCount();
 		}
 
+		@Override
+		public long getCoalescableSelectCount() {
+			return ServerMetrics.INSTANCE.coalescableSelects();
+		}
+
+		@Override
+		public long getCoalescedSelectCount() {
+			return ServerMetrics.INSTANCE.coalescedSelects();
+		}
+
+		@Override
+		public double getCoalescingRate() {
+			return ServerMetrics.INSTANCE.coalescingRate();
+		}
+
 		@Override
 		public int getConnectionCount() {
 			return server.connectionCount();
@@ -224,6 +275,54 @@ final class MetricsMBeans {
 		}
 	}
 
+	private static final class AdmissionMetrics implements AdmissionMXBean {
+
+		private final AdmissionControl admissionControl;
+		private final String clientType;
+
+		private AdmissionMetrics(AdmissionControl admissionControl, String clientType) {
+			this.admissionControl = admissionControl;
+			this.clientType = clientType;
+		}
+
+		@Override
+		public boolean isBatch() {
+			return statistics().batch();
+		}
+
+		@Override
+		public int getLimit() {
+			return statistics().limit();
+		}
+
+		@Override
+		public int getRunning() {
+			return statistics().running();
+		}
+
+		@Override
+		public int getQueued() {
+			return statistics().queued();
+		}
+
+		@Override
+		public long getAdmittedCount() {
+			return statistics().admitted();
+		}
+
+		@Override
+		public long getRejectedCount() {
+			return statistics().rejected();
+		}
+
+		/**
+		 * Registered only once encountered, and never forgotten, so always available.
+		 */
+		private AdmissionStatistics statistics() {
+			return admissionControl.statistics(clientType);
+		}
+	}
+
 	private static final class OperationLatencyMetrics implements OperationLatencyMXBean {
 
 		private static final double NANOSECONDS_IN_SECOND = 1_000_000_000d;
@@ -0,0 +1,475 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.common.db.database.Database;
+import is.codion.common.db.pool.ConnectionPoolStatistics;
+import is.codion.common.rmi.server.AuxiliaryServer;
+import is.codion.common.utilities.property.PropertyValue;
+import is.codion.common.utilities.version.Version;
+import is.codion.framework.server.EntityServerAdmin.AdmissionStatistics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static is.codion.common.utilities.Configuration.integerValue;
+import static is.codion.framework.server.OpenMetricsWriter.family;
+import static is.codion.framework.server.OpenMetricsWriter.series;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An {@link AuxiliaryServer} exposing the server metrics in the OpenMetrics text format, for Prometheus
+ * or any other OpenMetrics compatible collector to scrape, on {@code http://host:port/metrics}.
+ * <p>
+ * The exposition covers the server request count and rate, the connection count and limit, select coalescing,
+ * the per-operation latency histograms, the per-pool connection counts, waiting requests and check-out times,
+ * the admission control queues, when enabled, along with the JVM garbage collection, memory, thread and CPU usage.
+ * The metric names are the ones the JMX Exporter configuration shipped with the server produces, including the
+ * standard {@code jvm_*} and {@code process_*} ones, so dashboards and alerts work against either.
+ * <p>
+ * The values are read from the same sources as the {@link EntityServerAdmin} RMI feed and the JMX MBeans,
+ * {@link ServerMetrics} and the connection pool counters, and each series name and label set is rendered
+ * to bytes once, so a scrape writes values into a reused buffer and is cheap enough to run every few seconds.
+ * Note that each {@link is.codion.common.db.pool.ConnectionPoolWrapper#statistics(long)} call starts a new check-out
+ * time interval, the check-out time gauges therefore describe the check-outs since the previous scrape, or the
+ * previous call from the server monitor.
+ * <p>
+ * Enabled by adding {@link MetricsServiceFactory} to the auxiliary server factories.
+ * @see #PORT
+ * @see is.codion.common.rmi.server.ServerConfiguration#AUXILIARY_SERVER_FACTORIES
+ */
+public final class MetricsService implements AuxiliaryServer {
+
+	private static final Logger LOG = LoggerFactory.getLogger(MetricsService.class);
+
+	/**
+	 * The port on which the metrics endpoint is made available.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 9940
+	 * </ul>
+	 */
+	public static final PropertyValue<Integer> PORT = integerValue("codion.server.metrics.port", 9940);
+
+	static final String PATH = "/metrics";
+	static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+	private static final String GET = "GET";
+	private static final int OK = 200;
+	private static final int METHOD_NOT_ALLOWED = 405;
+	private static final int INTERNAL_SERVER_ERROR = 500;
+	private static final long NANOSECONDS_IN_MICROSECOND = 1_000L;
+	private static final long NANOSECONDS_IN_MILLISECOND = 1_000_000L;
+
+	private static final byte[] REQUESTS = family("codion_server_requests", "counter", "The number of requests served");
+	private static final byte[] REQUESTS_TOTAL = series("codion_server_requests_total");
+	private static final byte[] REQUESTS_PER_SECOND = family("codion_server_requests_per_second", "gauge", "The current request rate");
+	private static final byte[] REQUESTS_PER_SECOND_VALUE = series("codion_server_requests_per_second");
+	private static final byte[] CONNECTIONS = family("codion_server_connections", "gauge", "The number of connected clients");
+	private static final byte[] CONNECTIONS_VALUE = series("codion_server_connections");
+	private static final byte[] CONNECTION_LIMIT = family("codion_server_connection_limit", "gauge", "The maximum number of connected clients, -1 if unlimited");
+	private static final byte[] CONNECTION_LIMIT_VALUE = series("codion_server_connection_limit");
+	private static final byte[] COALESCABLE_SELECTS = family("codion_server_coalescable_selects", "counter", "The number of selects eligible for coalescing");
+	private static final byte[] COALESCABLE_SELECTS_TOTAL = series("codion_server_coalescable_selects_total");
+	private static final byte[] COALESCED_SELECTS = family("codion_server_coalesced_selects", "counter", "The number of selects served by an identical one already running");
+	private static final byte[] COALESCED_SELECTS_TOTAL = series("codion_server_coalesced_selects_total");
+	private static final byte[] OPERATION_LATENCY = family("codion_operation_latency_seconds", "histogram", "The server operation latency");
+	private static final byte[] POOL_SIZE = family("codion_connection_pool_size", "gauge", "The number of connections managed by the pool");
+	private static final byte[] POOL_IN_USE = family("codion_connection_pool_in_use", "gauge", "The number of connections in use");
+	private static final byte[] POOL_AVAILABLE = family("codion_connection_pool_available", "gauge", "The number of available connections");
+	private static final byte[] POOL_WAITING = family("codion_connection_pool_waiting", "gauge", "The number of connection requests waiting for a connection");
+	private static final byte[] POOL_REQUESTS = family("codion_connection_pool_requests", "counter", "The number of connection requests since the last reset");
+	private static final byte[] POOL_FAILED_REQUESTS = family("codion_connection_pool_failed_requests", "counter", "The number of failed connection requests since the last reset");
+	private static final byte[] POOL_CREATED = family("codion_connection_pool_created", "counter", "The number of connections created since the last reset");
+	private static final byte[] POOL_DESTROYED = family("codion_connection_pool_destroyed", "counter", "The number of connections destroyed since the last reset");
+	private static final byte[] POOL_CHECK_OUT_TIME = family("codion_connection_pool_checkout_time_seconds", "gauge", "The average check-out time since the previous collection");
+	private static final byte[] POOL_CHECK_OUT_TIME_MAXIMUM = family("codion_connection_pool_checkout_time_maximum_seconds", "gauge", "The maximum check-out time since the previous collection");
+	private static final byte[] ADMISSION_LIMIT = family("codion_admission_limit", "gauge", "The number of requests admitted to run concurrently, -1 if unlimited");
+	private static final byte[] ADMISSION_RUNNING = family("codion_admission_running", "gauge", "The number of admitted requests running");
+	private static final byte[] ADMISSION_QUEUED = family("codion_admission_queued", "gauge", "The number of requests waiting for admission");
+	private static final byte[] ADMISSION_ADMITTED = family("codion_admission_admitted", "counter", "The number of admitted requests");
+	private static final byte[] ADMISSION_REJECTED = family("codion_admission_rejected", "counter", "The number of rejected requests");
+	private static final byte[] GC_COLLECTION = family("jvm_gc_collection_seconds", "summary", "The garbage collection count and accumulated time");
+	private static final byte[] MEMORY_USED = family("jvm_memory_bytes_used", "gauge", "The used memory");
+	private static final byte[] MEMORY_USED_HEAP = series("jvm_memory_bytes_used", "area", "heap");
+	private static final byte[] MEMORY_USED_NON_HEAP = series("jvm_memory_bytes_used", "area", "nonheap");
+	private static final byte[] MEMORY_MAX = family("jvm_memory_bytes_max", "gauge", "The maximum memory, -1 if undefined");
+	private static final byte[] MEMORY_MAX_HEAP = series("jvm_memory_bytes_max", "area", "heap");
+	private static final byte[] MEMORY_MAX_NON_HEAP = series("jvm_memory_bytes_max", "area", "nonheap");
+	private static final byte[] THREADS = family("jvm_threads_current", "gauge", "The number of live threads");
+	private static final byte[] THREADS_VALUE = series("jvm_threads_current");
+	private static final byte[] THREADS_DAEMON = family("jvm_threads_daemon", "gauge", "The number of live daemon threads");
+	private static final byte[] THREADS_DAEMON_VALUE = series("jvm_threads_daemon");
+	private static final byte[] THREADS_PEAK = family("jvm_threads_peak", "gauge", "The peak number of live threads");
+	private static final byte[] THREADS_PEAK_VALUE = series("jvm_threads_peak");
+	private static final byte[] PROCESS_CPU = family("process_cpu_seconds", "counter", "The CPU time used by the process");
+	private static final byte[] PROCESS_CPU_TOTAL = series("process_cpu_seconds_total");
+
+	private final EntityServer server;
+	private final int port;
+	private final OpenMetricsWriter writer = new OpenMetricsWriter();
+	private final Map<String, LatencySeries> latencySeries = new HashMap<>();
+	private final Map<String, PoolSeries> poolSeries = new LinkedHashMap<>();
+	private final Map<String, AdmissionSeries> admissionSeries = new HashMap<>();
+	private final List<GarbageCollectorSeries> garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans().stream()
+					.map(GarbageCollectorSeries::new)
+					.collect(toList());
+	private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+	private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+
+	private HttpServer httpServer;
+
+	MetricsService(EntityServer server) {
+		this.server = requireNonNull(server);
+		this.port = PORT.getOrThrow();
+	}
+
+	@Override
+	public void start() throws IOException {
+		httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+		httpServer.createContext(PATH, this::handle);
+		httpServer.start();
+	}
+
+	@Override
+	public void stop() {
+		if (httpServer != null) {
+			httpServer.stop(0);
+		}
+	}
+
+	@Override
+	public String information() {
+		return "Metrics Service " + Version.version() + " started on port: " + port + ", path: " + PATH;
+	}
+
+	/**
+	 * Writes the current metrics to the given writer.
+	 * @param output the writer to write to
+	 */
+	void scrape(OpenMetricsWriter output) {
+		writeServer(output);
+		writeLatencies(output);
+		writePools(output);
+		writeAdmission(output);
+		writeJvm(output);
+		output.eof();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			if (!GET.equals(exchange.getRequestMethod())) {
+				exchange.getResponseHeaders().set("Allow", GET);
+				exchange.sendResponseHeaders(METHOD_NOT_ALLOWED, -1);
+				return;
+			}
+			respond(exchange);
+		}
+		catch (Exception e) {
+			LOG.error("Unable to serve metrics", e);
+			exchange.sendResponseHeaders(INTERNAL_SERVER_ERROR, -1);
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Scrapes are serialized, since they share the writer and the series caches.
+	 */
+	private synchronized void respond(HttpExchange exchange) throws IOException {
+		writer.reset();
+		scrape(writer);
+		exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+		exchange.sendResponseHeaders(OK, writer.size());
+		writer.writeTo(exchange.getResponseBody());
+	}
+
+	private void writeServer(OpenMetricsWriter output) {
+		ServerMetrics metrics = ServerMetrics.INSTANCE;
+		output.write(REQUESTS).write(REQUESTS_TOTAL).value(metrics.requestCount());
+		output.write(REQUESTS_PER_SECOND).write(REQUESTS_PER_SECOND_VALUE).value(metrics.requestsPerSecond());
+		output.write(CONNECTIONS).write(CONNECTIONS_VALUE).value(server.connectionCount());
+		output.write(CONNECTION_LIMIT).write(CONNECTION_LIMIT_VALUE).value(server.connectionLimit());
+		output.write(COALESCABLE_SELECTS).write(COALESCABLE_SELECTS_TOTAL).value(metrics.coalescableSelects());
+		output.write(COALESCED_SELECTS).write(COALESCED_SELECTS_TOTAL).value(metrics.coalescedSelects());
+	}
+
+	private void writeLatencies(OpenMetricsWriter output) {
+		Map<String, OperationLatency> latencies = ServerMetrics.INSTANCE.latencies();
+		if (latencies.isEmpty()) {
+			return;
+		}
+		output.write(OPERATION_LATENCY);
+		for (Map.Entry<String, OperationLatency> latency : latencies.entrySet()) {
+			latencySeries.computeIfAbsent(latency.getKey(), LatencySeries::new).write(latency.getValue(), output);
+		}
+	}
+
+	private void writePools(OpenMetricsWriter output) {
+		Database database = server.database();
+		if (database == null) {
+			//scraped while the server is starting
+			return;
+		}
+		poolSeries.values().forEach(series -> series.statistics = null);
+		for (String username : database.connectionPoolUsernames()) {
+			poolSeries.computeIfAbsent(username, PoolSeries::new).statistics = database.connectionPool(username).statistics(-1);
+		}
+		output.write(POOL_SIZE);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.size).value(series.statistics.size());
+			}
+		}
+		output.write(POOL_IN_USE);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.inUse).value(series.statistics.inUse());
+			}
+		}
+		output.write(POOL_AVAILABLE);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.available).value(series.statistics.available());
+			}
+		}
+		output.write(POOL_WAITING);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.waiting).value(series.statistics.waiting());
+			}
+		}
+		output.write(POOL_REQUESTS);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.requests).value(series.statistics.requests());
+			}
+		}
+		output.write(POOL_FAILED_REQUESTS);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.failedRequests).value(series.statistics.failedRequests());
+			}
+		}
+		output.write(POOL_CREATED);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.created).value(series.statistics.created());
+			}
+		}
+		output.write(POOL_DESTROYED);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.destroyed).value(series.statistics.destroyed());
+			}
+		}
+		output.write(POOL_CHECK_OUT_TIME);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.checkOutTime).seconds(series.statistics.averageTime() * NANOSECONDS_IN_MICROSECOND);
+			}
+		}
+		output.write(POOL_CHECK_OUT_TIME_MAXIMUM);
+		for (PoolSeries series : poolSeries.values()) {
+			if (series.statistics != null) {
+				output.write(series.checkOutTimeMaximum).seconds(series.statistics.maximumTime() * NANOSECONDS_IN_MICROSECOND);
+			}
+		}
+	}
+
+	private void writeAdmission(OpenMetricsWriter output) {
+		AdmissionControl admissionControl = server.admissionControl().orElse(null);
+		if (admissionControl == null) {
+			return;
+		}
+		List<AdmissionStatistics> statistics = admissionControl.statistics();
+		if (statistics.isEmpty()) {
+			return;
+		}
+		output.write(ADMISSION_LIMIT);
+		for (AdmissionStatistics clientType : statistics) {
+			output.write(admissionSeries(clientType).limit).value(clientType.limit());
+		}
+		output.write(ADMISSION_RUNNING);
+		for (AdmissionStatistics clientType : statistics) {
+			output.write(admissionSeries(clientType).running).value(clientType.running());
+		}
+		output.write(ADMISSION_QUEUED);
+		for (AdmissionStatistics clientType : statistics) {
+			output.write(admissionSeries(clientType).queued).value(clientType.queued());
+		}
+		output.write(ADMISSION_ADMITTED);
+		for (AdmissionStatistics clientType : statistics) {
+			output.write(admissionSeries(clientType).admitted).value(clientType.admitted());
+		}
+		output.write(ADMISSION_REJECTED);
+		for (AdmissionStatistics clientType : statistics) {
+			output.write(admissionSeries(clientType).rejected).value(clientType.rejected());
+		}
+	}
+
+	private AdmissionSeries admissionSeries(AdmissionStatistics statistics) {
+		return admissionSeries.computeIfAbsent(statistics.clientType(), AdmissionSeries::new);
+	}
+
+	private void writeJvm(OpenMetricsWriter output) {
+		output.write(GC_COLLECTION);
+		for (GarbageCollectorSeries collector : garbageCollectors) {
+			output.write(collector.count).value(collector.bean.getCollectionCount());
+			output.write(collector.sum).seconds(collector.bean.getCollectionTime() * NANOSECONDS_IN_MILLISECOND);
+		}
+		MemoryUsage heap = memory.getHeapMemoryUsage();
+		MemoryUsage nonHeap = memory.getNonHeapMemoryUsage();
+		output.write(MEMORY_USED).write(MEMORY_USED_HEAP).value(heap.getUsed())
+						.write(MEMORY_USED_NON_HEAP).value(nonHeap.getUsed());
+		output.write(MEMORY_MAX).write(MEMORY_MAX_HEAP).value(heap.getMax())
+						.write(MEMORY_MAX_NON_HEAP).value(nonHeap.getMax());
+		output.write(THREADS).write(THREADS_VALUE).value(threads.getThreadCount());
+		output.write(THREADS_DAEMON).write(THREADS_DAEMON_VALUE).value(threads.getDaemonThreadCount());
+		output.write(THREADS_PEAK).write(THREADS_PEAK_VALUE).value(threads.getPeakThreadCount());
+		if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean) {
+			long cpuTime = ((com.sun.management.OperatingSystemMXBean) operatingSystem).getProcessCpuTime();
+			if (cpuTime >= 0) {
+				output.write(PROCESS_CPU).write(PROCESS_CPU_TOTAL).seconds(cpuTime);
+			}
+		}
+	}
+
+	private static final class LatencySeries {
+
+		private static final String BUCKET = "codion_operation_latency_seconds_bucket";
+		private static final String OPERATION = "operation";
+		private static final String LE = "le";
+		private static final String INFINITE_BUCKET = "+Inf";
+		private static final double MILLISECONDS_IN_SECOND = 1_000d;
+
+		private final byte[][] buckets;
+		private final byte[] count;
+		private final byte[] sum;
+		private final long[] bucketCounts;
+
+		private LatencySeries(String operation) {
+			long[] bounds = OperationLatency.bucketBounds();
+			this.buckets = new byte[bounds.length + 1][];
+			for (int i = 0; i < bounds.length; i++) {
+				buckets[i] = series(BUCKET, OPERATION, operation, LE, String.valueOf(bounds[i] / MILLISECONDS_IN_SECOND));
+			}
+			buckets[bounds.length] = series(BUCKET, OPERATION, operation, LE, INFINITE_BUCKET);
+			this.count = series("codion_operation_latency_seconds_count", OPERATION, operation);
+			this.sum = series("codion_operation_latency_seconds_sum", OPERATION, operation);
+			this.bucketCounts = new long[buckets.length];
+		}
+
+		/**
+		 * The count is read after the buckets, so that it is never smaller than the {@code +Inf} bucket
+		 * of a histogram observed while being recorded to.
+		 */
+		private void write(OperationLatency latency, OpenMetricsWriter output) {
+			latency.bucketCounts(bucketCounts);
+			for (int i = 0; i < buckets.length; i++) {
+				output.write(buckets[i]).value(bucketCounts[i]);
+			}
+			output.write(count).value(Math.max(latency.count(), bucketCounts[buckets.length - 1]));
+			output.write(sum).seconds(latency.totalNanoseconds());
+		}
+	}
+
+	private static final class PoolSeries {
+
+		private static final String USERNAME = "username";
+
+		private final byte[] size;
+		private final byte[] inUse;
+		private final byte[] available;
+		private final byte[] waiting;
+		private final byte[] requests;
+		private final byte[] failedRequests;
+		private final byte[] created;
+		private final byte[] destroyed;
+		private final byte[] checkOutTime;
+		private final byte[] checkOutTimeMaximum;
+
+		private ConnectionPoolStatistics statistics;
+
+		private PoolSeries(String username) {
+			this.size = series("codion_connection_pool_size", USERNAME, username);
+			this.inUse = series("codion_connection_pool_in_use", USERNAME, username);
+			this.available = series("codion_connection_pool_available", USERNAME, username);
+			this.waiting = series("codion_connection_pool_waiting", USERNAME, username);
+			this.requests = series("codion_connection_pool_requests_total", USERNAME, username);
+			this.failedRequests = series("codion_connection_pool_failed_requests_total", USERNAME, username);
+			this.created = series("codion_connection_pool_created_total", USERNAME, username);
+			this.destroyed = series("codion_connection_pool_destroyed_total", USERNAME, username);
+			this.checkOutTime = series("codion_connection_pool_checkout_time_seconds", USERNAME, username);
+			this.checkOutTimeMaximum = series("codion_connection_pool_checkout_time_maximum_seconds", USERNAME, username);
+		}
+	}
+
+	private static final class AdmissionSeries {
+
+		private static final String CLIENT_TYPE = "client_type";
+
+		private final byte[] limit;
+		private final byte[] running;
+		private final byte[] queued;
+		private final byte[] admitted;
+		private final byte[] rejected;
+
+		private AdmissionSeries(String clientType) {
+			this.limit = series("codion_admission_limit", CLIENT_TYPE, clientType);
+			this.running = series("codion_admission_running", CLIENT_TYPE, clientType);
+			this.queued = series("codion_admission_queued", CLIENT_TYPE, clientType);
+			this.admitted = series("codion_admission_admitted_total", CLIENT_TYPE, clientType);
+			this.rejected = series("codion_admission_rejected_total", CLIENT_TYPE, clientType);
+		}
+	}
+
+	private static final class GarbageCollectorSeries {
+
+		private static final String GC = "gc";
+
+		private final GarbageCollectorMXBean bean;
+		private final byte[] count;
+		private final byte[] sum;
+
+		private GarbageCollectorSeries(GarbageCollectorMXBean bean) {
+			this.bean = bean;
+			this.count = series("jvm_gc_collection_seconds_count", GC, bean.getName());
+			this.sum = series("jvm_gc_collection_seconds_sum", GC, bean.getName());
+		}
+	}
+}
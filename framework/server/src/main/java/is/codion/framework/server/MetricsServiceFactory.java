@@ -0,0 +1,37 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.common.rmi.server.AuxiliaryServerFactory;
+import is.codion.common.rmi.server.Server;
+
+/**
+ * Provides a {@link MetricsService} auxiliary server instance, for an {@link EntityServer}.
+ */
+public final class MetricsServiceFactory implements AuxiliaryServerFactory<AbstractServerEntityConnection, EntityServerAdmin, MetricsService> {
+
+	@Override
+	public MetricsService create(Server<AbstractServerEntityConnection, EntityServerAdmin> server) {
+		if (!(server instanceof EntityServer)) {
+			throw new IllegalArgumentException("The metrics service requires an EntityServer");
+		}
+
+		return new MetricsService((EntityServer) server);
+	}
+}
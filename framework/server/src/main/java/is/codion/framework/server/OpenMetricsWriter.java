@@ -0,0 +1,242 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes the OpenMetrics text format into a growable byte buffer, reused from scrape to scrape.
+ * <p>
+ * Metric names and label sets are known in advance, so each series is written as a precomputed UTF-8
+ * prefix, see {@link #series(String, String, String)}, followed by a value written digit by digit,
+ * which means a scrape allocates nothing per metric once the buffer has grown to fit the exposition.
+ * @see MetricsService
+ */
+final class OpenMetricsWriter {
+
+	private static final int INITIAL_CAPACITY = 16_384;
+	private static final long NANOSECONDS_IN_SECOND = 1_000_000_000L;
+	private static final int FRACTION_DIGITS = 9;
+	private static final byte NEWLINE = '\n';
+	private static final byte[] EOF = bytes("# EOF\n");
+
+	private final byte[] digits = new byte[20];
+
+	private byte[] buffer = new byte[INITIAL_CAPACITY];
+	private int size = 0;
+
+	/**
+	 * Clears this writer, keeping the buffer.
+	 */
+	void reset() {
+		size = 0;
+	}
+
+	/**
+	 * @return the number of bytes written since the last {@link #reset()}
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Writes the given precomputed bytes, a family header or a series prefix.
+	 * @param bytes the bytes to write
+	 * @return this writer
+	 */
+	OpenMetricsWriter write(byte[] bytes) {
+		ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, buffer, size, bytes.length);
+		size += bytes.length;
+
+		return this;
+	}
+
+	/**
+	 * Writes the given value followed by a newline, completing a series.
+	 * @param value the value
+	 * @return this writer
+	 */
+	OpenMetricsWriter value(long value) {
+		writeLong(value);
+
+		return newline();
+	}
+
+	/**
+	 * Writes the given duration as a decimal number of seconds followed by a newline, completing a series.
+	 * @param nanoseconds the duration in nanoseconds
+	 * @return this writer
+	 */
+	OpenMetricsWriter seconds(long nanoseconds) {
+		if (nanoseconds < 0) {
+			ensureCapacity(1);
+			buffer[size++] = '-';
+			nanoseconds = -nanoseconds;
+		}
+		writeLong(nanoseconds / NANOSECONDS_IN_SECOND);
+		long fraction = nanoseconds % NANOSECONDS_IN_SECOND;
+		int fractionDigits = FRACTION_DIGITS;
+		while (fractionDigits > 1 && fraction % 10 == 0) {
+			fraction /= 10;
+			fractionDigits--;
+		}
+		ensureCapacity(fractionDigits + 1);
+		buffer[size++] = '.';
+		for (int i = size + fractionDigits - 1; i >= size; i--) {
+			buffer[i] = (byte) ('0' + fraction % 10);
+			fraction /= 10;
+		}
+		size += fractionDigits;
+
+		return newline();
+	}
+
+	/**
+	 * Writes the terminating {@code # EOF} line.
+	 * @return this writer
+	 */
+	OpenMetricsWriter eof() {
+		return write(EOF);
+	}
+
+	/**
+	 * @param output the output stream to write the buffer contents to
+	 * @throws IOException in case of an exception
+	 */
+	void writeTo(OutputStream output) throws IOException {
+		output.write(buffer, 0, size);
+	}
+
+	@Override
+	public String toString() {
+		return new String(buffer, 0, size, UTF_8);
+	}
+
+	/**
+	 * @param name the family name
+	 * @param type the family type, {@code counter}, {@code gauge} or {@code histogram}
+	 * @param help the help text
+	 * @return the family metadata lines
+	 */
+	static byte[] family(String name, String type, String help) {
+		return bytes("# TYPE " + name + " " + type + "\n# HELP " + name + " " + escape(help) + "\n");
+	}
+
+	/**
+	 * @param name the sample name
+	 * @return the prefix of a series without labels, to be followed by its value
+	 */
+	static byte[] series(String name) {
+		return bytes(name + " ");
+	}
+
+	/**
+	 * @param name the sample name
+	 * @param label the label name
+	 * @param value the label value
+	 * @return the prefix of a series with a single label, to be followed by its value
+	 */
+	static byte[] series(String name, String label, String value) {
+		return bytes(name + "{" + label + "=\"" + escape(value) + "\"} ");
+	}
+
+	/**
+	 * @param name the sample name
+	 * @param label the first label name
+	 * @param value the first label value
+	 * @param secondLabel the second label name
+	 * @param secondValue the second label value
+	 * @return the prefix of a series with two labels, to be followed by its value
+	 */
+	static byte[] series(String name, String label, String value, String secondLabel, String secondValue) {
+		return bytes(name + "{" + label + "=\"" + escape(value) + "\","
+						+ secondLabel + "=\"" + escape(secondValue) + "\"} ");
+	}
+
+	private OpenMetricsWriter newline() {
+		ensureCapacity(1);
+		buffer[size++] = NEWLINE;
+
+		return this;
+	}
+
+	private void writeLong(long value) {
+		if (value == Long.MIN_VALUE) {
+			write(bytes(Long.toString(value)));
+			return;
+		}
+		if (value < 0) {
+			ensureCapacity(1);
+			buffer[size++] = '-';
+			value = -value;
+		}
+		int index = digits.length;
+		do {
+			digits[--index] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		while (value > 0);
+		int length = digits.length - index;
+		ensureCapacity(length);
+		System.arraycopy(digits, index, buffer, size, length);
+		size += length;
+	}
+
+	private void ensureCapacity(int length) {
+		if (size + length > buffer.length) {
+			byte[] grown = new byte[Math.max(buffer.length * 2, size + length)];
+			System.arraycopy(buffer, 0, grown, 0, size);
+			buffer = grown;
+		}
+	}
+
+	/**
+	 * Escapes backslash, double quote and line feed, as required in both label values and help texts.
+	 */
+	private static String escape(String value) {
+		requireNonNull(value);
+		StringBuilder builder = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char character = value.charAt(i);
+			if (character == '\\') {
+				builder.append("\\\\");
+			}
+			else if (character == '\n') {
+				builder.append("\\n");
+			}
+			else if (character == '"') {
+				builder.append("\\\"");
+			}
+			else {
+				builder.append(character);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	private static byte[] bytes(String string) {
+		return string.getBytes(UTF_8);
+	}
+}
@@ -67,13 +67,22 @@ final class OperationLatency {
 	 */
 	long[] bucketCounts() {
 		long[] cumulative = new long[counts.length];
+		bucketCounts(cumulative);
+
+		return cumulative;
+	}
+
+	/**
+	 * Populates the given array with the cumulative observation counts, as returned by {@link #bucketCounts()},
+	 * allowing a frequent reader to reuse a single array.
+	 * @param cumulative the array to populate, of length {@link #bucketBounds()} plus one
+	 */
+	void bucketCounts(long[] cumulative) {
 		long running = 0;
 		for (int i = 0; i < counts.length; i++) {
 			running += counts[i].get();
 			cumulative[i] = running;
 		}
-
-		return cumulative;
 	}
 
 	/**
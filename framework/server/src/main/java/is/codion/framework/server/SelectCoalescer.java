@@ -0,0 +1,169 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.domain.entity.Entity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Coalesces identical selects running concurrently on behalf of different clients into a single query,
+ * shared by the whole server.
+ * <p>The first client to issue a select becomes its leader and runs it, any client issuing an equal select
+ * within the same scope before the leader is done waits for the leader's result instead of running one of
+ * its own, receiving a copy of it, or the exception the leader failed with. The select is forgotten the
+ * moment the leader is done, so a select issued after that runs anew, a coalesced result is never older
+ * than the query it was waiting on.
+ * <p>The scope is what, besides the select itself, decides the result: the domain, the database user and,
+ * when session contexts apply, the client they are applied on behalf of, a row level security policy for
+ * example seeing a different result for each. Two selects are only coalesced when both the select and the
+ * scope are equal.
+ * @see EntityServerConfiguration#coalescedSelects()
+ */
+final class SelectCoalescer {
+
+	private final Predicate<Select> coalesce;
+	private final Map<Query, CompletableFuture<List<Entity>>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * @param coalesce specifies the selects to coalesce
+	 */
+	SelectCoalescer(Predicate<Select> coalesce) {
+		this.coalesce = requireNonNull(coalesce);
+	}
+
+	/**
+	 * @param select the select
+	 * @return true if the given select should be coalesced
+	 */
+	boolean coalesces(Select select) {
+		return !select.forUpdate() && coalesce.test(select);
+	}
+
+	/**
+	 * Runs the given select, or waits for an identical one already running within the same scope.
+	 * @param scope the scope, see {@link SelectCoalescer}
+	 * @param select the select
+	 * @param query runs the select, called only when this caller becomes the leader
+	 * @return the result, a copy of it unless this caller ran the query
+	 * @throws Exception the exception the query failed with, whether run by this caller or the leader
+	 */
+	List<Entity> select(Object scope, Select select, Callable<List<Entity>> query) throws Exception {
+		Query key = new Query(scope, select);
+		CompletableFuture<List<Entity>> result = new CompletableFuture<>();
+		CompletableFuture<List<Entity>> running = inFlight.putIfAbsent(key, result);
+		ServerMetrics.INSTANCE.coalescable(running != null);
+		if (running != null) {
+			return copy(await(running));
+		}
+		try {
+			List<Entity> entities = query.call();
+			complete(key, result, entities);
+
+			return entities;
+		}
+		catch (Exception | Error e) {
+			fail(key, result, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Removed before completed, so that a select arriving once the result is ready runs anew,
+	 * instead of receiving a result it did not wait for.
+	 */
+	private void complete(Query key, CompletableFuture<List<Entity>> result, List<Entity> entities) {
+		inFlight.remove(key, result);
+		result.complete(entities);
+	}
+
+	private void fail(Query key, CompletableFuture<List<Entity>> result, Throwable exception) {
+		inFlight.remove(key, result);
+		result.completeExceptionally(exception);
+	}
+
+	private static List<Entity> await(CompletableFuture<List<Entity>> running) throws Exception {
+		try {
+			return running.join();
+		}
+		catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Each waiting caller receives mutable copies of its own, the leader's entities being
+	 * handed to the leader's client, which is free to modify them.
+	 */
+	private static List<Entity> copy(List<Entity> entities) {
+		return entities.stream()
+						.map(entity -> entity.copy().mutable())
+						.collect(toList());
+	}
+
+	private static final class Query {
+
+		private final Object scope;
+		private final Select select;
+		private final int hashCode;
+
+		private Query(Object scope, Select select) {
+			this.scope = requireNonNull(scope);
+			this.select = requireNonNull(select);
+			this.hashCode = Objects.hash(scope, select);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Query)) {
+				return false;
+			}
+			Query query = (Query) object;
+
+			return scope.equals(query.scope) && select.equals(query.select);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -20,6 +20,7 @@ package is.codion.framework.server;
 
 import is.codion.common.utilities.scheduler.TaskScheduler;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -30,7 +31,8 @@ import static java.lang.System.currentTimeMillis;
 
 /**
  * The single in-server source of the server-wide operation metrics, shared by all remote connections:
- * the cumulative request count, the current request rate and the per-operation latency. Both the
+ * the cumulative request count, the current request rate, the per-operation latency and the rate at which
+ * selects are coalesced, see {@link SelectCoalescer}. Both the
  * {@link is.codion.common.rmi.server.ServerAdmin} RMI feed and, when enabled, the JMX MBeans project
  * from this one model, so nothing is computed twice.
  */
@@ -40,16 +42,26 @@ final class ServerMetrics {
 
 	private static final int REQUESTS_PER_SECOND_UPDATE_INTERVAL = 2_500;
 	private static final double THOUSAND = 1_000d;
+	private static final double LATENCY_PERCENTILE = 0.95;
+	private static final long[] LATENCY_BOUNDS = OperationLatency.bucketBounds();
 
 	private final AtomicLong requestCount = new AtomicLong();
 	private final AtomicLong requestsPerSecondTime = new AtomicLong(currentTimeMillis());
 	private final AtomicInteger requestsPerSecond = new AtomicInteger();
 	private final AtomicInteger requestsPerSecondCounter = new AtomicInteger();
 	private final Map<String, OperationLatency> latencies = new ConcurrentHashMap<>();
+	private final AtomicLong coalescableSelects = new AtomicLong();
+	private final AtomicLong coalescedSelects = new AtomicLong();
+	// only accessed by the update task
+	private final long[] bucketCounts = new long[LATENCY_BOUNDS.length + 1];
+	private final long[] latencyCounts = new long[LATENCY_BOUNDS.length + 1];
+	private final long[] previousLatencyCounts = new long[LATENCY_BOUNDS.length + 1];
+
+	private volatile int recentLatency = -1;
 
 	private ServerMetrics() {
 		TaskScheduler.builder()
-						.task(this::updateRequestsPerSecond)
+						.task(this::update)
 						.interval(REQUESTS_PER_SECOND_UPDATE_INTERVAL, TimeUnit.MILLISECONDS)
 						.name("ServerMetrics request counter")
 						.start();
@@ -66,6 +78,17 @@ final class ServerMetrics {
 		latencies.computeIfAbsent(operation, name -> new OperationLatency()).record(nanoseconds);
 	}
 
+	/**
+	 * Records a select eligible for coalescing.
+	 * @param coalesced true if the select waited for an identical one already running, instead of running itself
+	 */
+	void coalescable(boolean coalesced) {
+		coalescableSelects.incrementAndGet();
+		if (coalesced) {
+			coalescedSelects.incrementAndGet();
+		}
+	}
+
 	/**
 	 * @return the cumulative number of requests served since server startup
 	 */
@@ -80,6 +103,38 @@ final class ServerMetrics {
 		return requestsPerSecond.get();
 	}
 
+	/**
+	 * @return the cumulative number of selects eligible for coalescing since server startup
+	 */
+	long coalescableSelects() {
+		return coalescableSelects.get();
+	}
+
+	/**
+	 * @return the cumulative number of selects served from an identical one already running, since server startup
+	 */
+	long coalescedSelects() {
+		return coalescedSelects.get();
+	}
+
+	/**
+	 * @return the ratio of coalesced selects to those eligible for coalescing since server startup,
+	 * 0 if none have been eligible
+	 */
+	double coalescingRate() {
+		long coalescable = coalescableSelects.get();
+
+		return coalescable == 0 ? 0 : coalescedSelects.get() / (double) coalescable;
+	}
+
+	/**
+	 * @return the 95th percentile latency of the requests served since the previous update, in milliseconds,
+	 * as the upper bound of the histogram bucket it falls into, -1 if no requests were served
+	 */
+	int recentLatency() {
+		return recentLatency;
+	}
+
 	/**
 	 * @return the per-operation latency histograms, keyed by operation name
 	 */
@@ -87,6 +142,11 @@ final class ServerMetrics {
 		return latencies;
 	}
 
+	private void update() {
+		updateRequestsPerSecond();
+		updateRecentLatency();
+	}
+
 	private void updateRequestsPerSecond() {
 		long current = currentTimeMillis();
 		double seconds = (current - requestsPerSecondTime.getAndSet(current)) / THOUSAND;
@@ -94,4 +154,29 @@ final class ServerMetrics {
 			requestsPerSecond.set((int) (requestsPerSecondCounter.getAndSet(0) / seconds));
 		}
 	}
+
+	private void updateRecentLatency() {
+		Arrays.fill(latencyCounts, 0);
+		for (OperationLatency latency : latencies.values()) {
+			latency.bucketCounts(bucketCounts);
+			for (int i = 0; i < bucketCounts.length; i++) {
+				latencyCounts[i] += bucketCounts[i];
+			}
+		}
+		int last = latencyCounts.length - 1;
+		long requests = latencyCounts[last] - previousLatencyCounts[last];
+		if (requests == 0) {
+			recentLatency = -1;
+		}
+		else {
+			long percentile = (long) Math.ceil(requests * LATENCY_PERCENTILE);
+			int bucket = 0;
+			while (latencyCounts[bucket] - previousLatencyCounts[bucket] < percentile) {
+				bucket++;
+			}
+			// beyond the last bound, twice that is as good a guess as any
+			recentLatency = (int) (bucket < LATENCY_BOUNDS.length ? LATENCY_BOUNDS[bucket] : 2 * LATENCY_BOUNDS[LATENCY_BOUNDS.length - 1]);
+		}
+		System.arraycopy(latencyCounts, 0, previousLatencyCounts, 0, latencyCounts.length);
+	}
 }
@@ -22,10 +22,14 @@
  * <li>{@link is.codion.framework.server.EntityServer}
  * <li>{@link is.codion.framework.server.EntityServerAdmin}
  * <li>{@link is.codion.framework.server.EntityServerConfiguration}
+ * <li>{@link is.codion.framework.server.MetricsService}
  * </ul>
+ * @provides is.codion.common.rmi.server.AuxiliaryServerFactory
  */
 module is.codion.framework.server {
 	requires java.management;
+	requires jdk.httpserver;
+	requires jdk.management;
 	requires org.slf4j;
 	requires is.codion.tools.jul.classpath;
 	requires is.codion.framework.db.local;
@@ -34,4 +38,7 @@ module is.codion.framework.server {
 	exports is.codion.framework.server;
 
 	uses is.codion.common.db.database.SessionContext;
+
+	provides is.codion.common.rmi.server.AuxiliaryServerFactory
+					with is.codion.framework.server.MetricsServiceFactory;
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.framework.db.exception.ServerBusyException;
+import is.codion.framework.server.EntityServerAdmin.AdmissionStatistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class AdmissionControlTest {
+
+	private static final String INTERACTIVE = "interactive";
+	private static final String BATCH = "batch";
+
+	@Test
+	void limit() throws Exception {
+		AdmissionControl admissionControl = new AdmissionControl(1, emptyMap(), emptyList(), 10, 60_000);
+		AdmissionControl.Permit permit = admissionControl.acquire(INTERACTIVE);
+		ExecutorService executor = newFixedThreadPool(1);
+		try {
+			Future<AdmissionControl.Permit> waiting = executor.submit(() -> admissionControl.acquire(INTERACTIVE));
+			awaitQueued(admissionControl, INTERACTIVE, 1);
+			assertEquals(1, admissionControl.statistics(INTERACTIVE).running());
+			permit.release();
+			//has no effect
+			permit.release();
+			waiting.get().release();
+			AdmissionStatistics statistics = admissionControl.statistics(INTERACTIVE);
+			assertEquals(0, statistics.running());
+			assertEquals(0, statistics.queued());
+			assertEquals(2, statistics.admitted());
+			assertEquals(0, statistics.rejected());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void reject() {
+		//no queue, rejected right away
+		AdmissionControl admissionControl = new AdmissionControl(1, emptyMap(), emptyList(), 0, 60_000);
+		AdmissionControl.Permit permit = admissionControl.acquire(INTERACTIVE);
+		assertThrows(ServerBusyException.class, () -> admissionControl.acquire(INTERACTIVE));
+		permit.release();
+		admissionControl.acquire(INTERACTIVE).release();
+		assertEquals(1, admissionControl.statistics(INTERACTIVE).rejected());
+
+		//times out
+		AdmissionControl timingOut = new AdmissionControl(1, emptyMap(), emptyList(), 10, 10);
+		permit = timingOut.acquire(INTERACTIVE);
+		assertThrows(ServerBusyException.class, () -> timingOut.acquire(INTERACTIVE));
+		AdmissionStatistics statistics = timingOut.statistics(INTERACTIVE);
+		assertEquals(0, statistics.queued());
+		assertEquals(1, statistics.rejected());
+		permit.release();
+	}
+
+	@Test
+	void interrupted() {
+		AdmissionControl admissionControl = new AdmissionControl(1, emptyMap(), emptyList(), 10, 60_000);
+		AdmissionControl.Permit permit = admissionControl.acquire(INTERACTIVE);
+		Thread.currentThread().interrupt();
+		assertThrows(ServerBusyException.class, () -> admissionControl.acquire(INTERACTIVE));
+		//the interrupted status is restored
+		assertTrue(Thread.interrupted());
+		assertEquals(0, admissionControl.statistics(INTERACTIVE).queued());
+		permit.release();
+		admissionControl.acquire(INTERACTIVE).release();
+	}
+
+	@Test
+	void clientTypeLimit() {
+		Map<String, Integer> limits = singletonMap(BATCH, 1);
+		AdmissionControl admissionControl = new AdmissionControl(-1, limits, emptyList(), 10, 10);
+		AdmissionControl.Permit permit = admissionControl.acquire(BATCH);
+		assertThrows(ServerBusyException.class, () -> admissionControl.acquire(BATCH));
+		//one client type at its limit does not hold up another
+		List<AdmissionControl.Permit> permits = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			permits.add(admissionControl.acquire(INTERACTIVE));
+		}
+		assertEquals(5, admissionControl.statistics(INTERACTIVE).running());
+		assertEquals(1, admissionControl.statistics(BATCH).limit());
+		assertEquals(-1, admissionControl.statistics(INTERACTIVE).limit());
+		permits.forEach(AdmissionControl.Permit::release);
+		permit.release();
+		assertEquals(2, admissionControl.statistics().size());
+	}
+
+	@Test
+	void priority() throws Exception {
+		AdmissionControl admissionControl = new AdmissionControl(1, emptyMap(), singletonList(BATCH), 10, 60_000);
+		AdmissionControl.Permit permit = admissionControl.acquire(INTERACTIVE);
+		ExecutorService executor = newFixedThreadPool(2);
+		try {
+			Future<AdmissionControl.Permit> batch = executor.submit(() -> admissionControl.acquire(BATCH));
+			awaitQueued(admissionControl, BATCH, 1);
+			Future<AdmissionControl.Permit> interactive = executor.submit(() -> admissionControl.acquire(INTERACTIVE));
+			awaitQueued(admissionControl, INTERACTIVE, 1);
+			assertTrue(admissionControl.statistics(BATCH).batch());
+			permit.release();
+			//the interactive client arrived later, but is admitted first
+			AdmissionControl.Permit interactivePermit = interactive.get();
+			assertFalse(batch.isDone());
+			assertEquals(1, admissionControl.statistics(BATCH).queued());
+			interactivePermit.release();
+			batch.get().release();
+			assertEquals(0, admissionControl.statistics(BATCH).running());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void invalid() {
+		assertThrows(IllegalArgumentException.class, () -> new AdmissionControl(0, emptyMap(), emptyList(), 10, 10));
+		assertThrows(IllegalArgumentException.class, () -> new AdmissionControl(-1, singletonMap(BATCH, 0), emptyList(), 10, 10));
+		assertThrows(IllegalArgumentException.class, () -> new AdmissionControl(1, emptyMap(), emptyList(), -1, 10));
+		assertThrows(IllegalArgumentException.class, () -> new AdmissionControl(1, emptyMap(), emptyList(), 10, -1));
+	}
+
+	private static void awaitQueued(AdmissionControl admissionControl, String clientType, int queued) throws InterruptedException {
+		while (admissionControl.statistics(clientType) == null || admissionControl.statistics(clientType).queued() != queued) {
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.framework.db.EntityChanges;
+import is.codion.framework.db.EntityConnection.Update;
+import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.server.TestDomain.Department;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ChangeFeedTest {
+
+	private static final Entities ENTITIES = new TestDomain().entities();
+
+	private final UUID first = UUID.randomUUID();
+	private final UUID second = UUID.randomUUID();
+
+	@Test
+	void changes() throws Exception {
+		ChangeFeed feed = new ChangeFeed();
+		ChangeFeed.Recorder recorder = feed.recorder(first);
+		//a new subscriber receives the current position only
+		EntityChanges changes = feed.changes(second, -1, 0);
+		assertEquals(0, changes.position());
+		assertTrue(changes.empty());
+
+		recorder.record("insert", new Object[] {department(10)}, key(10), false);
+		recorder.record("delete", new Object[] {singletonList(key(20))}, null, false);
+		assertEquals(2, feed.position());
+
+		changes = feed.changes(second, 0, 0);
+		assertEquals(2, changes.position());
+		assertEquals(singletonList(key(10)), List.copyOf(changes.inserted()));
+		assertEquals(singletonList(key(20)), List.copyOf(changes.deleted()));
+		assertTrue(changes.updated().isEmpty());
+		//already received
+		assertTrue(feed.changes(second, 2, 0).empty());
+		//the source does not receive its own changes
+		changes = feed.changes(first, 0, 0);
+		assertTrue(changes.empty());
+		assertEquals(2, changes.position());
+		//a position from before a restart
+		changes = feed.changes(second, 42, 0);
+		assertTrue(changes.empty());
+		assertTrue(changes.reset());
+		assertEquals(2, changes.position());
+	}
+
+	@Test
+	void fallenBehind() throws Exception {
+		ChangeFeed feed = new ChangeFeed();
+		ChangeFeed.Recorder recorder = feed.recorder(first);
+		for (int i = 0; i < ChangeFeed.CAPACITY + 2; i++) {
+			recorder.record("insert", new Object[] {department(i)}, key(i), false);
+		}
+		//batches 1 and 2 are no longer retained
+		EntityChanges changes = feed.changes(second, 1, 0);
+		assertTrue(changes.reset());
+		assertTrue(changes.empty());
+		assertEquals(ChangeFeed.CAPACITY + 2, changes.position());
+		//batch 3 onwards is
+		changes = feed.changes(second, 2, 0);
+		assertFalse(changes.reset());
+		assertEquals(ChangeFeed.CAPACITY, changes.inserted().size());
+	}
+
+	@Test
+	void conditionBased() throws Exception {
+		ChangeFeed feed = new ChangeFeed();
+		ChangeFeed.Recorder recorder = feed.recorder(first);
+		recorder.record("insert", new Object[] {department(10)}, key(10), false);
+		recorder.record("update", new Object[] {Update.where(Department.ID.equalTo(10))
+						.set(Department.NAME, "Name")
+						.build()}, 1, false);
+		assertEquals(2, feed.position());
+		//the rows updated are not known
+		EntityChanges changes = feed.changes(second, 0, 0);
+		assertTrue(changes.reset());
+		assertTrue(changes.empty());
+		assertEquals(2, changes.position());
+		//nor are those deleted
+		recorder.record("delete", new Object[] {Department.ID.equalTo(10)}, 1, false);
+		assertTrue(feed.changes(second, 2, 0).reset());
+		//the source does not receive its own changes
+		assertFalse(feed.changes(first, 0, 0).reset());
+		//and the batches after are delivered by key
+		recorder.record("insert", new Object[] {department(20)}, key(20), false);
+		changes = feed.changes(second, 3, 0);
+		assertFalse(changes.reset());
+		assertEquals(singletonList(key(20)), List.copyOf(changes.inserted()));
+	}
+
+	@Test
+	void maximumTimeout() throws Exception {
+		ChangeFeed feed = new ChangeFeed(10);
+		long started = System.currentTimeMillis();
+		EntityChanges changes = feed.changes(second, 0, 60_000);
+		assertTrue(System.currentTimeMillis() - started < 60_000);
+		assertTrue(changes.empty());
+		assertFalse(changes.reset());
+	}
+
+	@Test
+	void transaction() throws Exception {
+		ChangeFeed feed = new ChangeFeed();
+		ChangeFeed.Recorder recorder = feed.recorder(first);
+		recorder.record("startTransaction", null, null, true);
+		recorder.record("insert", new Object[] {department(10)}, key(10), true);
+		assertEquals(0, feed.position());
+		recorder.record("rollbackTransaction", null, null, false);
+		assertEquals(0, feed.position());
+
+		recorder.record("startTransaction", null, null, true);
+		recorder.record("insert", new Object[] {department(10)}, key(10), true);
+		recorder.record("insertSelect", new Object[] {department(20)}, department(20), true);
+		recorder.record("commitTransaction", null, null, false);
+		assertEquals(1, feed.position());
+		assertEquals(asList(key(10), key(20)), List.copyOf(feed.changes(second, 0, 0).inserted()));
+	}
+
+	@Test
+	void coalesce() throws Exception {
+		ChangeFeed feed = new ChangeFeed();
+		ChangeFeed.Recorder recorder = feed.recorder(first);
+		//inserted, then updated
+		recorder.record("insert", new Object[] {department(10)}, key(10), false);
+		recorder.record("update", new Object[] {updated(10, 11)}, null, false);
+		//updated twice
+		recorder.record("updateSelect", new Object[] {singletonList(updated(20, 21))}, null, false);
+		recorder.record("update", new Object[] {updated(21, 22)}, null, false);
+		//updated, then deleted
+		recorder.record("update", new Object[] {updated(30, 31)}, null, false);
+		recorder.record("delete", new Object[] {key(31)}, null, false);
+		//inserted, then deleted
+		recorder.record("insert", new Object[] {department(40)}, key(40), false);
+		recorder.record("delete", new Object[] {key(40)}, null, false);
+		//deleted, then inserted
+		recorder.record("delete", new Object[] {key(50)}, null, false);
+		recorder.record("insert", new Object[] {department(50)}, key(50), false);
+
+		EntityChanges changes = feed.changes(second, 0, 0);
+		assertEquals(singletonList(key(11)), List.copyOf(changes.inserted()));
+		assertEquals(2, changes.updated().size());
+		assertEquals(key(22), changes.updated().get(key(20)));
+		assertEquals(key(50), changes.updated().get(key(50)));
+		assertEquals(singletonList(key(30)), List.copyOf(changes.deleted()));
+	}
+
+	@Test
+	void longPoll() throws Exception {
+		ChangeFeed feed = new ChangeFeed();
+		ChangeFeed.Recorder recorder = feed.recorder(first);
+		//times out
+		EntityChanges changes = feed.changes(second, 0, 10);
+		assertTrue(changes.empty());
+		assertEquals(0, changes.position());
+
+		ExecutorService executor = newSingleThreadExecutor();
+		try {
+			Future<EntityChanges> waiting = executor.submit(() -> feed.changes(second, 0, 60_000));
+			recorder.record("insert", new Object[] {department(10)}, key(10), false);
+			changes = waiting.get();
+			assertEquals(1, changes.position());
+			assertEquals(singletonList(key(10)), List.copyOf(changes.inserted()));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Entity.Key key(int id) {
+		return ENTITIES.primaryKey(Department.TYPE, id);
+	}
+
+	private static Entity department(int id) {
+		return ENTITIES.entity(Department.TYPE)
+						.with(Department.ID, id)
+						.with(Department.NAME, "Department " + id)
+						.build();
+	}
+
+	private static Entity updated(int id, int newId) {
+		Entity department = department(id);
+		department.set(Department.ID, newId);
+
+		return department;
+	}
+}
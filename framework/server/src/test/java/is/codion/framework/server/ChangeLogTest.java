@@ -0,0 +1,173 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.common.db.database.Database;
+import is.codion.common.utilities.user.User;
+import is.codion.framework.db.EntityChanges;
+import is.codion.framework.domain.DomainType;
+import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.server.TestDomain.Department;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ChangeLogTest {
+
+	private static final User UNIT_TEST_USER =
+					User.parse(System.getProperty("codion.test.user", "scott:tiger"));
+	private static final TestDomain DOMAIN = new TestDomain();
+	private static final Entities ENTITIES = DOMAIN.entities();
+	private static final String TABLE = "employees.change_log";
+
+	private final Database database = Database.instance();
+
+	@BeforeEach
+	void createTable() throws Exception {
+		try (Connection connection = database.createConnection(UNIT_TEST_USER);
+				 Statement statement = connection.createStatement()) {
+			statement.execute(database.changeLogDDL(TABLE));
+			connection.commit();
+		}
+	}
+
+	@AfterEach
+	void dropTable() throws Exception {
+		try (Connection connection = database.createConnection(UNIT_TEST_USER);
+				 Statement statement = connection.createStatement()) {
+			statement.execute("drop table " + TABLE);
+			connection.commit();
+		}
+	}
+
+	@Test
+	void poll() throws Exception {
+		ChangeFeed firstFeed = new ChangeFeed();
+		ChangeFeed secondFeed = new ChangeFeed();
+		ChangeLog first = changeLog(firstFeed);
+		ChangeLog second = changeLog(secondFeed);
+		try (Connection connection = database.createConnection(UNIT_TEST_USER)) {
+			connection.setAutoCommit(false);
+			first.append(connection, DOMAIN.type().name(), "insert", new Object[] {department(10)}, key(10));
+			first.append(connection, DOMAIN.type().name(), "delete", new Object[] {singletonList(key(20))}, null);
+			//not yet committed
+			second.poll();
+			assertEquals(0, secondFeed.position());
+			connection.commit();
+		}
+		second.poll();
+		assertEquals(1, secondFeed.position());
+		EntityChanges changes = secondFeed.changes(UUID.randomUUID(), 0, 0);
+		assertEquals(singletonList(key(10)), List.copyOf(changes.inserted()));
+		assertEquals(singletonList(key(20)), List.copyOf(changes.deleted()));
+		//picked up once
+		second.poll();
+		assertEquals(1, secondFeed.position());
+		//its own changes are already published
+		first.poll();
+		assertEquals(0, firstFeed.position());
+		first.close();
+		second.close();
+	}
+
+	@Test
+	void rollback() throws Exception {
+		ChangeFeed feed = new ChangeFeed();
+		ChangeLog first = changeLog(new ChangeFeed());
+		ChangeLog second = changeLog(feed);
+		try (Connection connection = database.createConnection(UNIT_TEST_USER)) {
+			connection.setAutoCommit(false);
+			first.append(connection, DOMAIN.type().name(), "insert", new Object[] {department(10)}, key(10));
+			connection.rollback();
+		}
+		second.poll();
+		assertEquals(0, feed.position());
+		first.close();
+		second.close();
+	}
+
+	@Test
+	void gap() throws Exception {
+		ChangeFeed feed = new ChangeFeed();
+		ChangeLog first = changeLog(new ChangeFeed());
+		ChangeLog second = changeLog(feed);
+		long watermark = second.watermark();
+		try (Connection earlier = database.createConnection(UNIT_TEST_USER);
+				 Connection later = database.createConnection(UNIT_TEST_USER)) {
+			earlier.setAutoCommit(false);
+			later.setAutoCommit(false);
+			first.append(earlier, DOMAIN.type().name(), "insert", new Object[] {department(10)}, key(10));
+			first.append(later, DOMAIN.type().name(), "insert", new Object[] {department(20)}, key(20));
+			later.commit();
+			second.poll();
+			assertEquals(1, feed.position());
+			//the earlier row is missing
+			assertEquals(watermark, second.watermark());
+			earlier.commit();
+		}
+		second.poll();
+		assertEquals(2, feed.position());
+		assertEquals(singletonList(key(10)), List.copyOf(feed.changes(UUID.randomUUID(), 1, 0).inserted()));
+		assertTrue(second.watermark() > watermark);
+		//picked up once
+		second.poll();
+		assertEquals(2, feed.position());
+		first.close();
+		second.close();
+	}
+
+	@Test
+	void encode() {
+		Entities entities = ENTITIES;
+		Entity.Key key = key(10);
+		assertEquals("10", ChangeLog.encode(key));
+		assertEquals(key, ChangeLog.decode(entities, entities.definition(Department.TYPE), "10"));
+		assertThrows(IllegalArgumentException.class, () -> ChangeLog.decode(entities, entities.definition(Department.TYPE), "10,20"));
+		assertThrows(IllegalArgumentException.class, () -> ChangeLog.decode(entities, entities.definition(Department.TYPE), "ten"));
+	}
+
+	private ChangeLog changeLog(ChangeFeed feed) {
+		Map<DomainType, ChangeFeed> feeds = singletonMap(DOMAIN.type(), feed);
+
+		return new ChangeLog(database, TABLE, UNIT_TEST_USER, feeds, singletonList(DOMAIN), 60_000, 3_600_000);
+	}
+
+	private static Entity department(int id) {
+		return ENTITIES.entity(Department.TYPE)
+						.with(Department.ID, id)
+						.with(Department.NAME, "Department " + id)
+						.build();
+	}
+
+	private static Entity.Key key(int id) {
+		return ENTITIES.primaryKey(Department.TYPE, id);
+	}
+}
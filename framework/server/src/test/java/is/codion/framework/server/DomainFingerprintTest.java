@@ -0,0 +1,114 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.framework.domain.DomainModel;
+import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.server.TestDomain.Department;
+import is.codion.framework.server.TestDomain.Employee;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class DomainFingerprintTest {
+
+	@Test
+	void fingerprint() {
+		Entities entities = new TestDomain().entities();
+		String fingerprint = DomainFingerprint.digest(entities);
+		assertEquals(64, fingerprint.length());
+		assertTrue(fingerprint.matches("[0-9a-f]+"));
+		// an independently built domain, bypassing the cache
+		assertEquals(fingerprint, DomainFingerprint.digest(new TestDomain().entities()));
+		assertEquals(fingerprint, DomainFingerprint.fingerprint(entities));
+	}
+
+	@Test
+	void sorted() {
+		List<String> entityLines = Stream.of(DomainFingerprint.describe(new TestDomain().entities()).split("\n"))
+						.filter(line -> line.startsWith("entity "))
+						.collect(toList());
+		assertEquals(entityLines.stream().sorted().collect(toList()), entityLines);
+	}
+
+	@Test
+	void definitionChanged() {
+		assertNotEquals(DomainFingerprint.digest(new TestDomain().entities()),
+						DomainFingerprint.digest(new ChangedDomain().entities()));
+	}
+
+	@Test
+	void behaviourClasses() {
+		String description = DomainFingerprint.describe(new LambdaDomain().entities());
+		//the lambda formatter is represented by the bytecode of the class declaring it
+		assertTrue(description.lines()
+						.anyMatch(line -> line.matches("class " + Pattern.quote(LambdaDomain.class.getName()) + " digest=[0-9a-f]{64}")));
+		//runtime classes are excluded
+		assertTrue(description.lines().noneMatch(line -> line.startsWith("class java.")));
+	}
+
+	private static final class LambdaDomain extends DomainModel {
+
+		private LambdaDomain() {
+			super(TestDomain.DOMAIN);
+			add(Department.TYPE.as()
+							.attributes(
+											Department.ID.as()
+															.primaryKey(),
+											Department.NAME.as()
+															.column())
+							.formatter(department -> department.get(Department.NAME) + "!")
+							.build());
+		}
+	}
+
+	private static final class ChangedDomain extends DomainModel {
+
+		private ChangedDomain() {
+			super(TestDomain.DOMAIN);
+			add(Department.TYPE.as()
+							.attributes(
+											Department.ID.as()
+															.primaryKey()
+															.caption(Department.ID.name())
+															.updatable(true).nullable(false),
+											Department.NAME.as()
+															.column()
+															.caption(Department.NAME.name())
+															.searchable(true)
+															.maximumLength(20)
+															.nullable(false),
+											Department.LOCATION.as()
+															.column()
+															.caption(Department.LOCATION.name())
+															.maximumLength(13))
+							.smallDataset(true)
+							.formatter(Department.NAME)
+							.caption("Department")
+							.build());
+			addEntities(new TestDomain(), Employee.TYPE);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.common.db.database.Database;
+import is.codion.common.rmi.client.Clients;
+import is.codion.common.rmi.client.ConnectionRequest;
+import is.codion.common.rmi.server.ServerConfiguration;
+import is.codion.common.utilities.user.User;
+import is.codion.framework.db.rmi.ServerEntityConnection;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+
+import static is.codion.framework.domain.entity.condition.Condition.all;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class MetricsServiceTest {
+
+	private static final User ADMIN_USER = User.parse("scott:tiger");
+	private static final int METRICS_PORT = 3946;
+
+	@Test
+	void test() throws Exception {
+		Clients.SERVER_HOSTNAME.set("localhost");
+		Clients.TRUSTSTORE.set("src/main/config/truststore.jks");
+		Clients.resolveTrustStore();
+		ServerConfiguration.RMI_SERVER_HOSTNAME.set("localhost");
+		ServerConfiguration.KEYSTORE.set("src/main/config/keystore.jks");
+		ServerConfiguration.KEYSTORE_PASSWORD.set("crappypass");
+		MetricsService.PORT.set(METRICS_PORT);
+
+		EntityServerConfiguration configuration = EntityServerConfiguration.builder()
+						.port(3944)
+						.registryPort(3942)
+						.database(Database.instance())
+						.domainClasses(singletonList("is.codion.framework.server.TestDomain"))
+						.connectionPoolUsers(singletonList(ADMIN_USER))
+						.auxiliaryServerFactory(singletonList(MetricsServiceFactory.class.getName()))
+						.objectInputFilterFactoryRequired(false)
+						.build();
+		EntityServer server = EntityServer.startServer(configuration);
+		try {
+			ConnectionRequest connectionRequest = ConnectionRequest.builder()
+							.user(ADMIN_USER)
+							.clientType("MetricsServiceTest")
+							.parameter(ServerEntityConnection.REMOTE_CLIENT_DOMAIN_TYPE, "TestDomain")
+							.build();
+			ServerEntityConnection connection = (ServerEntityConnection) server.connect(connectionRequest);
+			connection.select(all(TestDomain.Department.TYPE));
+
+			HttpURLConnection http = open("GET");
+			assertEquals(200, http.getResponseCode());
+			assertEquals(MetricsService.CONTENT_TYPE, http.getContentType());
+			String metrics;
+			try (InputStream input = http.getInputStream()) {
+				metrics = new String(input.readAllBytes(), UTF_8);
+			}
+			assertTrue(metrics.contains("# TYPE codion_server_requests counter\n"));
+			assertTrue(metrics.contains("\ncodion_server_connections 1\n"));
+			assertTrue(metrics.contains("\ncodion_operation_latency_seconds_bucket{operation=\"select\",le=\"+Inf\"} "));
+			assertTrue(metrics.contains("\ncodion_operation_latency_seconds_count{operation=\"select\"} "));
+			assertTrue(metrics.contains("\ncodion_connection_pool_size{username=\"scott\"} "));
+			assertTrue(metrics.contains("\ncodion_connection_pool_waiting{username=\"scott\"} "));
+			assertTrue(metrics.contains("\njvm_threads_current "));
+			assertTrue(metrics.endsWith("# EOF\n"));
+
+			assertEquals(405, open("POST").getResponseCode());
+
+			connection.close();
+		}
+		finally {
+			server.shutdown();
+			MetricsService.PORT.set(null);
+			ServerConfiguration.RMI_SERVER_HOSTNAME.set(null);
+		}
+	}
+
+	private static HttpURLConnection open(String method) throws Exception {
+		HttpURLConnection connection = (HttpURLConnection) URI.create("http://localhost:" + METRICS_PORT + MetricsService.PATH).toURL().openConnection();
+		connection.setRequestMethod(method);
+
+		return connection;
+	}
+}
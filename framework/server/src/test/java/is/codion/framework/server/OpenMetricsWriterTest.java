@@ -0,0 +1,85 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static is.codion.framework.server.OpenMetricsWriter.family;
+import static is.codion.framework.server.OpenMetricsWriter.series;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class OpenMetricsWriterTest {
+
+	@Test
+	void values() {
+		OpenMetricsWriter writer = new OpenMetricsWriter();
+		writer.write(family("test_requests", "counter", "The \"requests\""))
+						.write(series("test_requests_total")).value(0)
+						.write(series("test_requests_total", "operation", "select")).value(1234567890123L)
+						.write(series("test_requests_total", "operation", "a\"b\\c\nd")).value(-42)
+						.eof();
+		assertEquals("# TYPE test_requests counter\n" +
+						"# HELP test_requests The \\\"requests\\\"\n" +
+						"test_requests_total 0\n" +
+						"test_requests_total{operation=\"select\"} 1234567890123\n" +
+						"test_requests_total{operation=\"a\\\"b\\\\c\\nd\"} -42\n" +
+						"# EOF\n", writer.toString());
+		writer.reset();
+		assertEquals(0, writer.size());
+		writer.write(series("test", "a", "1", "b", "2")).value(Long.MAX_VALUE);
+		assertEquals("test{a=\"1\",b=\"2\"} " + Long.MAX_VALUE + "\n", writer.toString());
+	}
+
+	@Test
+	void seconds() {
+		assertEquals("0.0", seconds(0));
+		assertEquals("0.000000001", seconds(1));
+		assertEquals("0.001", seconds(1_000_000));
+		assertEquals("0.25", seconds(250_000_000));
+		assertEquals("1.0", seconds(1_000_000_000));
+		assertEquals("12.3456789", seconds(12_345_678_900L));
+		assertEquals("-1.5", seconds(-1_500_000_000));
+	}
+
+	@Test
+	void grow() throws Exception {
+		OpenMetricsWriter writer = new OpenMetricsWriter();
+		byte[] prefix = series("codion_test_series_with_a_fairly_long_name", "label", "value");
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 10_000; i++) {
+			writer.write(prefix).value(i);
+			expected.append("codion_test_series_with_a_fairly_long_name{label=\"value\"} ").append(i).append('\n');
+		}
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		writer.writeTo(output);
+		assertEquals(expected.toString(), output.toString(UTF_8));
+		assertEquals(output.size(), writer.size());
+	}
+
+	private static String seconds(long nanoseconds) {
+		OpenMetricsWriter writer = new OpenMetricsWriter();
+		writer.seconds(nanoseconds);
+		String string = writer.toString();
+
+		return string.substring(0, string.length() - 1);
+	}
+}
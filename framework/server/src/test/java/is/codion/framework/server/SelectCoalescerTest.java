@@ -0,0 +1,169 @@
+/*
+ * This file is part of Codion.
+ *
+ * Codion is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Codion is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Codion.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Copyright (c) 2026, Björn Darri Sigurðsson.
+ */
+package is.codion.framework.server;
+
+import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.domain.entity.Entities;
+import is.codion.framework.domain.entity.Entity;
+import is.codion.framework.server.TestDomain.Department;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class SelectCoalescerTest {
+
+	private static final Entities ENTITIES = new TestDomain().entities();
+
+	private final Entity department = ENTITIES.entity(Department.TYPE)
+					.with(Department.ID, 1)
+					.with(Department.NAME, "Accounting")
+					.build();
+
+	@Test
+	void coalesce() throws Exception {
+		SelectCoalescer coalescer = new SelectCoalescer(select -> true);
+		Select select = Select.all(Department.TYPE).build();
+		AtomicInteger queries = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = newFixedThreadPool(2);
+		try {
+			Future<List<Entity>> leader = executor.submit(() -> coalescer.select("scope", select, () -> {
+				queries.incrementAndGet();
+				started.countDown();
+				release.await();
+
+				return singletonList(department);
+			}));
+			started.await();
+			long coalesced = ServerMetrics.INSTANCE.coalescedSelects();
+			Future<List<Entity>> follower = executor.submit(() -> coalescer.select("scope", select, () -> {
+				queries.incrementAndGet();
+
+				return singletonList(department);
+			}));
+			awaitCoalesced(coalesced);
+			release.countDown();
+
+			assertSame(department, leader.get().get(0));
+			Entity copy = follower.get().get(0);
+			assertNotSame(department, copy);
+			assertTrue(copy.mutable());
+			assertEquals(department.primaryKey(), copy.primaryKey());
+			assertEquals(1, queries.get());
+
+			//the leader is done, so the next one runs anew
+			assertSame(department, coalescer.select("scope", select, () -> {
+				queries.incrementAndGet();
+
+				return singletonList(department);
+			}).get(0));
+			assertEquals(2, queries.get());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void scope() throws Exception {
+		SelectCoalescer coalescer = new SelectCoalescer(select -> true);
+		Select select = Select.all(Department.TYPE).build();
+		AtomicInteger queries = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = newFixedThreadPool(1);
+		try {
+			Future<List<Entity>> leader = executor.submit(() -> coalescer.select("scope", select, () -> {
+				queries.incrementAndGet();
+				started.countDown();
+				release.await();
+
+				return singletonList(department);
+			}));
+			started.await();
+			//another scope, does not wait for the one running
+			coalescer.select("another", select, () -> {
+				queries.incrementAndGet();
+
+				return singletonList(department);
+			});
+			assertEquals(2, queries.get());
+			release.countDown();
+			leader.get();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void exception() throws Exception {
+		SelectCoalescer coalescer = new SelectCoalescer(select -> true);
+		Select select = Select.all(Department.TYPE).build();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = newFixedThreadPool(2);
+		try {
+			Future<List<Entity>> leader = executor.submit(() -> coalescer.select("scope", select, () -> {
+				started.countDown();
+				release.await();
+
+				throw new IllegalStateException("failed");
+			}));
+			started.await();
+			long coalesced = ServerMetrics.INSTANCE.coalescedSelects();
+			Future<List<Entity>> follower = executor.submit(() -> coalescer.select("scope", select, () -> singletonList(department)));
+			awaitCoalesced(coalesced);
+			release.countDown();
+
+			ExecutionException leaderException = assertThrows(ExecutionException.class, leader::get);
+			ExecutionException followerException = assertThrows(ExecutionException.class, follower::get);
+			assertInstanceOf(IllegalStateException.class, leaderException.getCause());
+			assertSame(leaderException.getCause(), followerException.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void coalesces() {
+		SelectCoalescer coalescer = new SelectCoalescer(select -> select.where().entityType().equals(Department.TYPE));
+		assertTrue(coalescer.coalesces(Select.all(Department.TYPE).build()));
+		assertFalse(coalescer.coalesces(Select.all(Department.TYPE).forUpdate().build()));
+		assertFalse(coalescer.coalesces(Select.all(TestDomain.Employee.TYPE).build()));
+	}
+
+	private static void awaitCoalesced(long coalesced) throws InterruptedException {
+		while (ServerMetrics.INSTANCE.coalescedSelects() == coalesced) {
+			Thread.sleep(10);
+		}
+	}
+}
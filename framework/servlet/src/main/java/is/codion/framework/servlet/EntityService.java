@@ -19,6 +19,7 @@
 package is.codion.framework.servlet;
 
 import is.codion.common.db.exception.DatabaseException;
+import is.codion.common.db.exception.QueryCancelledException;
 import is.codion.common.db.exception.QueryTimeoutException;
 import is.codion.common.db.exception.ReferentialIntegrityException;
 import is.codion.common.db.exception.UniqueConstraintException;
@@ -36,15 +37,18 @@ import is.codion.common.rmi.server.exception.ServerException;
 import is.codion.common.utilities.property.PropertyValue;
 import is.codion.common.utilities.user.User;
 import is.codion.common.utilities.version.Version;
+import is.codion.framework.db.EntityChanges;
 import is.codion.framework.db.EntityConnection;
 import is.codion.framework.db.EntityConnection.Count;
 import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.EntityConnection.Update;
 import is.codion.framework.db.exception.DeleteEntityException;
 import is.codion.framework.db.exception.EntityModifiedException;
 import is.codion.framework.db.exception.EntityNotFoundException;
 import is.codion.framework.db.exception.InsertEntityException;
 import is.codion.framework.db.exception.MultipleEntitiesFoundException;
+import is.codion.framework.db.exception.ServerBusyException;
 import is.codion.framework.db.exception.UpdateEntityException;
 import is.codion.framework.db.rmi.ServerEntityConnection;
 import is.codion.framework.domain.DomainType;
@@ -82,6 +86,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
@@ -95,6 +100,8 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import static is.codion.common.db.operation.FunctionType.functionType;
 import static is.codion.common.db.operation.ProcedureType.procedureType;
@@ -102,6 +109,8 @@ import static is.codion.common.db.report.ReportType.reportType;
 import static is.codion.common.utilities.Configuration.*;
 import static is.codion.common.utilities.Serializer.serialize;
 import static is.codion.common.utilities.Text.nullOrEmpty;
+import static is.codion.framework.json.db.DatabaseObjectMapper.COUNT_LIST_REFERENCE;
+import static is.codion.framework.json.db.DatabaseObjectMapper.SELECT_LIST_REFERENCE;
 import static is.codion.framework.json.db.ErrorEnvelope.*;
 import static is.codion.framework.json.domain.EntityObjectMapper.ENTITY_LIST_REFERENCE;
 import static is.codion.framework.json.domain.EntityObjectMapper.KEY_LIST_REFERENCE;
@@ -202,6 +211,17 @@ public final class EntityService implements AuxiliaryServer {
 	 */
 	public static final PropertyValue<Boolean> JSON = booleanValue("codion.server.http.json", true);
 
+	/**
+	 * Specifies the maximum size in bytes of a gzip or deflate encoded request body once inflated,
+	 * a request exceeding it being rejected with 413 (Payload Too Large).
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 16777216 (16 MB)
+	 * </ul>
+	 */
+	public static final PropertyValue<Integer> MAXIMUM_INFLATED_REQUEST_SIZE =
+					integerValue("codion.server.http.maximumInflatedRequestSize", 16_777_216);
+
 	static final String DOMAIN_TYPE = "domainType";
 	static final String CLIENT_TYPE = "clientType";
 	static final String CONNECTION_ID = "connectionId";
@@ -210,6 +230,7 @@ public final class EntityService implements AuxiliaryServer {
 	private static final String AUTHORIZATION = "Authorization";
 	private static final String BASIC_PREFIX = "basic ";
 	private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+	private static final String CONTENT_ENCODING = "Content-Encoding";
 	private static final int BASIC_PREFIX_LENGTH = BASIC_PREFIX.length();
 
 	private static final String URL_SERIAL = "entities/serial/";
@@ -218,12 +239,14 @@ public final class EntityService implements AuxiliaryServer {
 	private static final String INTERNAL_ERROR = "Internal server error";
 
 	private final EntitiesHandler entitiesHandler = new EntitiesHandler();
+	private final FingerprintHandler fingerprintHandler = new FingerprintHandler();
 	private final CloseHandler closeHandler = new CloseHandler();
 	private final StartTransactionHandler startTransactionHandler = new StartTransactionHandler();
 	private final CommitTransactionHandler commitTransactionHandler = new CommitTransactionHandler();
 	private final RollbackTransactionHandler rollbackTransactionHandler = new RollbackTransactionHandler();
 	private final IsTransactionOpenHandler isTransactionOpenHandler = new IsTransactionOpenHandler();
 	private final SelectHandler selectHandler = new SelectHandler();
+	private final SelectsHandler selectsHandler = new SelectsHandler();
 	private final SelectByKeyHandler selectByKeyHandler = new SelectByKeyHandler();
 	private final InsertHandler insertHandler = new InsertHandler();
 	private final InsertSelectHandler insertSelectHandler = new InsertSelectHandler();
@@ -232,12 +255,16 @@ public final class EntityService implements AuxiliaryServer {
 	private final UpdateByConditionHandler updateByConditionHandler = new UpdateByConditionHandler();
 	private final DeleteHandler deleteHandler = new DeleteHandler();
 	private final DeleteByKeyHandler deleteByKeyHandler = new DeleteByKeyHandler();
+	private final FlushHandler flushHandler = new FlushHandler();
 	private final ValuesHandler valuesHandler = new ValuesHandler();
 	private final CountHandler countHandler = new CountHandler();
+	private final CountsHandler countsHandler = new CountsHandler();
 	private final DependenciesHandler dependenciesHandler = new DependenciesHandler();
 	private final ProcedureHandler procedureHandler = new ProcedureHandler();
 	private final FunctionHandler functionHandler = new FunctionHandler();
 	private final ReportHandler reportHandler = new ReportHandler();
+	private final ChangesHandler changesHandler = new ChangesHandler();
+	private final CancelHandler cancelHandler = new CancelHandler();
 
 	private final Server<ServerEntityConnection, ? extends ServerAdmin> server;
 	private final Javalin javalin;
@@ -245,6 +272,7 @@ public final class EntityService implements AuxiliaryServer {
 	private final int securePort;
 	private final boolean serialization = SERIALIZATION.getOrThrow();
 	private final boolean json = JSON.getOrThrow();
+	private final int maximumInflatedRequestSize = MAXIMUM_INFLATED_REQUEST_SIZE.getOrThrow();
 	private final boolean sslEnabled;
 	private final boolean useVirtualThreads;
 
@@ -296,6 +324,20 @@ public final class EntityService implements AuxiliaryServer {
 		}
 	}
 
+	private final class FingerprintHandler {
+
+		private void serial(Context context) {
+			try {
+				ServerEntityConnection connection = authenticate(context);
+				context.status(HttpStatus.OK_200)
+								.result(serialize(connection.fingerprint()));
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+	}
+
 	private final class CloseHandler {
 
 		private void handle(Context context) {
@@ -310,6 +352,22 @@ public final class EntityService implements AuxiliaryServer {
 		}
 	}
 
+	/**
+	 * Cancels the statement being executed on behalf of the client, without waiting for the request performing it.
+	 */
+	private final class CancelHandler {
+
+		private void handle(Context context) {
+			try {
+				authenticate(context).cancel();
+				context.status(HttpStatus.OK_200);
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+	}
+
 	private final class IsTransactionOpenHandler {
 
 		private void serial(Context context) {
@@ -400,7 +458,7 @@ public final class EntityService implements AuxiliaryServer {
 				ServerEntityConnection connection = authenticate(context);
 				DatabaseObjectMapper objectMapper = (DatabaseObjectMapper) objectMapper(connection.entities());
 
-				JsonNode requestNode = objectMapper.readTree(context.req().getInputStream());
+				JsonNode requestNode = objectMapper.readTree(inputStream(context.req()));
 				ProcedureType<EntityConnection, Object> procedureType = procedureType(requestNode.get("procedureType").asText());
 				Object parameter = null;
 				JsonNode parameterNode = requestNode.get(PARAMETER);
@@ -442,7 +500,7 @@ public final class EntityService implements AuxiliaryServer {
 				ServerEntityConnection connection = authenticate(context);
 				DatabaseObjectMapper objectMapper = (DatabaseObjectMapper) objectMapper(connection.entities());
 
-				JsonNode requestNode = objectMapper.readTree(context.req().getInputStream());
+				JsonNode requestNode = objectMapper.readTree(inputStream(context.req()));
 				FunctionType<EntityConnection, Object, Object> functionType = functionType(requestNode.get("functionType").asText());
 				Object parameter = null;
 				JsonNode parameterNode = requestNode.get(PARAMETER);
@@ -485,7 +543,7 @@ public final class EntityService implements AuxiliaryServer {
 				ServerEntityConnection connection = authenticate(context);
 				DatabaseObjectMapper objectMapper = (DatabaseObjectMapper) objectMapper(connection.entities());
 
-				JsonNode requestNode = objectMapper.readTree(context.req().getInputStream());
+				JsonNode requestNode = objectMapper.readTree(inputStream(context.req()));
 				ReportType<Object, Object> reportType = reportType(requestNode.get("reportType").asText());
 				Object parameter = null;
 				JsonNode parameterNode = requestNode.get(PARAMETER);
@@ -525,7 +583,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				List<Entity> entities = objectMapper.readValue(context.req().getInputStream(), ENTITY_LIST_REFERENCE);
+				List<Entity> entities = objectMapper.readValue(inputStream(context.req()), ENTITY_LIST_REFERENCE);
 				Map<EntityType, Collection<Entity>> dependencies = connection.dependencies(entities);
 				context.status(HttpStatus.OK_200)
 								.contentType(ContentType.APPLICATION_JSON)
@@ -556,7 +614,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				int rowCount = connection.count(objectMapper.readValue(context.req().getInputStream(), Count.class));
+				int rowCount = connection.count(objectMapper.readValue(inputStream(context.req()), Count.class));
 				context.status(HttpStatus.OK_200)
 								.contentType(ContentType.APPLICATION_JSON)
 								.result(objectMapper.writeValueAsString(rowCount));
@@ -567,6 +625,36 @@ public final class EntityService implements AuxiliaryServer {
 		}
 	}
 
+	private final class CountsHandler {
+
+		private void serial(Context context) {
+			try {
+				ServerEntityConnection connection = authenticate(context);
+				List<Integer> rowCounts = connection.counts((List<Count>) deserialize(context.req()));
+				context.status(HttpStatus.OK_200)
+								.contentType(ContentType.APPLICATION_OCTET_STREAM)
+								.result(serialize(rowCounts));
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+
+		private void json(Context context) {
+			try {
+				ServerEntityConnection connection = authenticate(context);
+				ObjectMapper objectMapper = objectMapper(connection.entities());
+				List<Integer> rowCounts = connection.counts(objectMapper.readValue(inputStream(context.req()), COUNT_LIST_REFERENCE));
+				context.status(HttpStatus.OK_200)
+								.contentType(ContentType.APPLICATION_JSON)
+								.result(objectMapper.writeValueAsString(rowCounts));
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+	}
+
 	private final class ValuesHandler {
 
 		private void serial(Context context) {
@@ -588,7 +676,7 @@ public final class EntityService implements AuxiliaryServer {
 				ServerEntityConnection connection = authenticate(context);
 				Entities entities = connection.entities();
 				ObjectMapper objectMapper = objectMapper(entities);
-				JsonNode jsonNode = objectMapper.readTree(context.req().getInputStream());
+				JsonNode jsonNode = objectMapper.readTree(inputStream(context.req()));
 				EntityType entityType = entities.domainType().entityType(jsonNode.get("entityType").asText());
 				Column<?> column = column(entities.definition(entityType).attributes().getOrThrow(jsonNode.get("column").textValue()));
 				Select select = null;
@@ -627,7 +715,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				List<Entity.Key> keys = objectMapper.readValue(context.req().getInputStream(), KEY_LIST_REFERENCE);
+				List<Entity.Key> keys = objectMapper.readValue(inputStream(context.req()), KEY_LIST_REFERENCE);
 				Collection<Entity> selected = connection.select(keys);
 				context.status(HttpStatus.OK_200)
 								.contentType(ContentType.APPLICATION_JSON)
@@ -659,7 +747,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				Select selectJson = objectMapper.readValue(context.req().getInputStream(), Select.class);
+				Select selectJson = objectMapper.readValue(inputStream(context.req()), Select.class);
 				List<Entity> selected = connection.select(selectJson);
 				context.status(HttpStatus.OK_200)
 								.contentType(ContentType.APPLICATION_JSON)
@@ -671,6 +759,38 @@ public final class EntityService implements AuxiliaryServer {
 		}
 	}
 
+	private final class SelectsHandler {
+
+		private void serial(Context context) {
+			try {
+				ServerEntityConnection connection = authenticate(context);
+				List<Select> selects = deserialize(context.req());
+				List<List<Entity>> selected = connection.selects(selects);
+				context.status(HttpStatus.OK_200)
+								.contentType(ContentType.APPLICATION_OCTET_STREAM)
+								.result(serialize(selected));
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+
+		private void json(Context context) {
+			try {
+				ServerEntityConnection connection = authenticate(context);
+				ObjectMapper objectMapper = objectMapper(connection.entities());
+				List<Select> selects = objectMapper.readValue(inputStream(context.req()), SELECT_LIST_REFERENCE);
+				List<List<Entity>> selected = connection.selects(selects);
+				context.status(HttpStatus.OK_200)
+								.contentType(ContentType.APPLICATION_JSON)
+								.result(objectMapper.writeValueAsString(selected));
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+	}
+
 	private final class InsertHandler {
 
 		private void serial(Context context) {
@@ -690,7 +810,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				Collection<Entity> entities = objectMapper.readValue(context.req().getInputStream(), ENTITY_LIST_REFERENCE);
+				Collection<Entity> entities = objectMapper.readValue(inputStream(context.req()), ENTITY_LIST_REFERENCE);
 				Collection<Entity.Key> keys = connection.insert(entities);
 				context.status(HttpStatus.OK_200)
 								.contentType(ContentType.APPLICATION_JSON)
@@ -721,7 +841,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				Collection<Entity> entities = objectMapper.readValue(context.req().getInputStream(), ENTITY_LIST_REFERENCE);
+				Collection<Entity> entities = objectMapper.readValue(inputStream(context.req()), ENTITY_LIST_REFERENCE);
 				Collection<Entity> inserted = connection.insertSelect(entities);
 				context.status(HttpStatus.OK_200)
 								.contentType(ContentType.APPLICATION_JSON)
@@ -750,7 +870,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				List<Entity> entities = objectMapper.readValue(context.req().getInputStream(), ENTITY_LIST_REFERENCE);
+				List<Entity> entities = objectMapper.readValue(inputStream(context.req()), ENTITY_LIST_REFERENCE);
 				connection.update(entities);
 				context.status(HttpStatus.OK_200);
 			}
@@ -779,7 +899,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				List<Entity> entities = objectMapper.readValue(context.req().getInputStream(), ENTITY_LIST_REFERENCE);
+				List<Entity> entities = objectMapper.readValue(inputStream(context.req()), ENTITY_LIST_REFERENCE);
 				Collection<Entity> updated = connection.updateSelect(entities);
 				context.status(HttpStatus.OK_200)
 								.contentType(ContentType.APPLICATION_JSON)
@@ -810,7 +930,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				Update update = objectMapper.readValue(context.req().getInputStream(), Update.class);
+				Update update = objectMapper.readValue(inputStream(context.req()), Update.class);
 				int updateCount = connection.update(update);
 				context.status(HttpStatus.OK_200)
 								.contentType(ContentType.APPLICATION_JSON)
@@ -842,7 +962,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				Condition deleteCondition = objectMapper.readValue(context.req().getInputStream(), Condition.class);
+				Condition deleteCondition = objectMapper.readValue(inputStream(context.req()), Condition.class);
 				int deleteCount = connection.delete(deleteCondition);
 				context.status(HttpStatus.OK_200)
 								.contentType(ContentType.APPLICATION_JSON)
@@ -872,7 +992,7 @@ public final class EntityService implements AuxiliaryServer {
 			try {
 				ServerEntityConnection connection = authenticate(context);
 				ObjectMapper objectMapper = objectMapper(connection.entities());
-				List<Entity.Key> keys = objectMapper.readValue(context.req().getInputStream(), KEY_LIST_REFERENCE);
+				List<Entity.Key> keys = objectMapper.readValue(inputStream(context.req()), KEY_LIST_REFERENCE);
 				connection.delete(keys);
 				context.status(HttpStatus.OK_200);
 			}
@@ -882,6 +1002,95 @@ public final class EntityService implements AuxiliaryServer {
 		}
 	}
 
+	private final class FlushHandler {
+
+		private void serial(Context context) {
+			try {
+				ServerEntityConnection connection = authenticate(context);
+				UnitOfWork unitOfWork = deserialize(context.req());
+				Collection<Entity.Key> keys = connection.flush(unitOfWork);
+				context.status(HttpStatus.OK_200)
+								.contentType(ContentType.APPLICATION_OCTET_STREAM)
+								.result(serialize(keys));
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+
+		private void json(Context context) {
+			try {
+				ServerEntityConnection connection = authenticate(context);
+				ObjectMapper objectMapper = objectMapper(connection.entities());
+				UnitOfWork unitOfWork = objectMapper.readValue(inputStream(context.req()), UnitOfWork.class);
+				Collection<Entity.Key> keys = connection.flush(unitOfWork);
+				context.status(HttpStatus.OK_200)
+								.contentType(ContentType.APPLICATION_JSON)
+								.result(objectMapper.writeValueAsString(keys));
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+	}
+
+	/**
+	 * Long-polls the change feed, holding the request until changes are available or the timeout elapses.
+	 */
+	private final class ChangesHandler {
+
+		private static final String POSITION = "position";
+		private static final String TIMEOUT = "timeout";
+
+		private void serial(Context context) {
+			try {
+				ServerEntityConnection connection = authenticate(context);
+				List<Object> parameters = deserialize(context.req());
+				EntityChanges changes = connection.changes((Long) parameters.get(0), (Integer) parameters.get(1));
+				context.status(HttpStatus.OK_200)
+								.contentType(ContentType.APPLICATION_OCTET_STREAM)
+								.result(serialize(changes));
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+
+		private void json(Context context) {
+			try {
+				ServerEntityConnection connection = authenticate(context);
+				ObjectMapper objectMapper = objectMapper(connection.entities());
+				JsonNode requestNode = objectMapper.readTree(inputStream(context.req()));
+				EntityChanges changes = connection.changes(requestNode.get(POSITION).asLong(), requestNode.get(TIMEOUT).asInt());
+				context.status(HttpStatus.OK_200)
+								.contentType(ContentType.APPLICATION_JSON)
+								.result(objectMapper.writeValueAsString(changes(changes, objectMapper)));
+			}
+			catch (Exception e) {
+				handleException(context, e);
+			}
+		}
+
+		/**
+		 * The updated keys as a list of original/current pairs, a json object only having string keys.
+		 */
+		private ObjectNode changes(EntityChanges changes, ObjectMapper objectMapper) {
+			ObjectNode node = objectMapper.createObjectNode();
+			node.put(POSITION, changes.position());
+			node.set("inserted", objectMapper.valueToTree(changes.inserted()));
+			ArrayNode updated = node.putArray("updated");
+			changes.updated().forEach((original, current) -> {
+				ObjectNode pair = updated.addObject();
+				pair.set("original", objectMapper.valueToTree(original));
+				pair.set("current", objectMapper.valueToTree(current));
+			});
+			node.set("deleted", objectMapper.valueToTree(changes.deleted()));
+			node.put("reset", changes.reset());
+
+			return node;
+		}
+	}
+
 	private ServerEntityConnection authenticate(Context context) throws RemoteException, ServerException {
 		if (server == null) {
 			throw new IllegalStateException("EntityServer has not been set for EntityService");
@@ -908,6 +1117,8 @@ public final class EntityService implements AuxiliaryServer {
 		@Override
 		public void accept(JavalinConfig config) {
 			config.concurrency.useVirtualThreads = useVirtualThreads;
+			//responses are gzipped for clients accepting it, which the codion http clients do
+			config.http.gzipOnlyCompression();
 			if (sslEnabled) {
 				config.registerPlugin(new SslPlugin(new SslPLuginConfigurer()));
 			}
@@ -921,6 +1132,7 @@ public final class EntityService implements AuxiliaryServer {
 
 		private void addSerializationHandlers(JavalinConfig config) {
 			config.routes.post(URL_SERIAL + "entities", entitiesHandler::serial);
+			config.routes.post(URL_SERIAL + "fingerprint", fingerprintHandler::serial);
 			config.routes.post(URL_SERIAL + "close", closeHandler::handle);
 			config.routes.post(URL_SERIAL + "isTransactionOpen", isTransactionOpenHandler::serial);
 			config.routes.post(URL_SERIAL + "startTransaction", startTransactionHandler::handle);
@@ -931,9 +1143,11 @@ public final class EntityService implements AuxiliaryServer {
 			config.routes.post(URL_SERIAL + "report", reportHandler::serial);
 			config.routes.post(URL_SERIAL + "dependencies", dependenciesHandler::serial);
 			config.routes.post(URL_SERIAL + "count", countHandler::serial);
+			config.routes.post(URL_SERIAL + "counts", countsHandler::serial);
 			config.routes.post(URL_SERIAL + "values", valuesHandler::serial);
 			config.routes.post(URL_SERIAL + "selectByKey", selectByKeyHandler::serial);
 			config.routes.post(URL_SERIAL + "select", selectHandler::serial);
+			config.routes.post(URL_SERIAL + "selects", selectsHandler::serial);
 			config.routes.post(URL_SERIAL + "insert", insertHandler::serial);
 			config.routes.post(URL_SERIAL + "insertSelect", insertSelectHandler::serial);
 			config.routes.post(URL_SERIAL + "update", updateHandler::serial);
@@ -941,13 +1155,17 @@ public final class EntityService implements AuxiliaryServer {
 			config.routes.post(URL_SERIAL + "updateByCondition", updateByConditionHandler::serial);
 			config.routes.post(URL_SERIAL + "delete", deleteHandler::serial);
 			config.routes.post(URL_SERIAL + "deleteByKey", deleteByKeyHandler::serial);
+			config.routes.post(URL_SERIAL + "flush", flushHandler::serial);
+			config.routes.post(URL_SERIAL + "changes", changesHandler::serial);
+			config.routes.post(URL_SERIAL + "cancel", cancelHandler::handle);
 		}
 
 		private void addJsonHandlers(JavalinConfig config) {
 			// Note: the entities route replies with a serialized Entities instance in both modes; a json client
 			// avoids the round trip altogether by injecting its domain, see HttpEntityConnection.Builder.domain().
-			// The close and transaction routes carry no payload in either direction, hence the single handler.
+			// The close, cancel and transaction routes carry no payload in either direction, hence the single handler.
 			config.routes.post(URL_JSON + "entities", entitiesHandler::serial);
+			config.routes.post(URL_JSON + "fingerprint", fingerprintHandler::serial);
 			config.routes.post(URL_JSON + "close", closeHandler::handle);
 			config.routes.post(URL_JSON + "isTransactionOpen", isTransactionOpenHandler::json);
 			config.routes.post(URL_JSON + "startTransaction", startTransactionHandler::handle);
@@ -958,9 +1176,11 @@ public final class EntityService implements AuxiliaryServer {
 			config.routes.post(URL_JSON + "report", reportHandler::json);
 			config.routes.post(URL_JSON + "dependencies", dependenciesHandler::json);
 			config.routes.post(URL_JSON + "count", countHandler::json);
+			config.routes.post(URL_JSON + "counts", countsHandler::json);
 			config.routes.post(URL_JSON + "values", valuesHandler::json);
 			config.routes.post(URL_JSON + "selectByKey", selectByKeyHandler::json);
 			config.routes.post(URL_JSON + "select", selectHandler::json);
+			config.routes.post(URL_JSON + "selects", selectsHandler::json);
 			config.routes.post(URL_JSON + "insert", insertHandler::json);
 			config.routes.post(URL_JSON + "insertSelect", insertSelectHandler::json);
 			config.routes.post(URL_JSON + "update", updateHandler::json);
@@ -968,6 +1188,9 @@ public final class EntityService implements AuxiliaryServer {
 			config.routes.post(URL_JSON + "updateByCondition", updateByConditionHandler::json);
 			config.routes.post(URL_JSON + "delete", deleteHandler::json);
 			config.routes.post(URL_JSON + "deleteByKey", deleteByKeyHandler::json);
+			config.routes.post(URL_JSON + "flush", flushHandler::json);
+			config.routes.post(URL_JSON + "changes", changesHandler::json);
+			config.routes.post(URL_JSON + "cancel", cancelHandler::handle);
 		}
 	}
 
@@ -1112,6 +1335,10 @@ public final class EntityService implements AuxiliaryServer {
 			context.contentType(ContentType.APPLICATION_JSON)
 							.result(envelope(kind, exception, correlationId));
 		}
+		else if (exception instanceof RequestBodyException) {
+			//a type private to the server, which a serial client could not deserialize
+			context.result(exceptionResult(new IOException(exception.getMessage())));
+		}
 		else {
 			context.result(exceptionResult(exception));
 		}
@@ -1131,6 +1358,9 @@ public final class EntityService implements AuxiliaryServer {
 		if (exception instanceof IllegalArgumentException || exception instanceof JsonProcessingException) {
 			return ErrorKind.BAD_REQUEST;
 		}
+		if (exception instanceof RequestBodyException) {
+			return ((RequestBodyException) exception).kind;
+		}
 		if (exception instanceof IllegalStateException) {
 			return ErrorKind.ILLEGAL_STATE;
 		}
@@ -1161,6 +1391,12 @@ public final class EntityService implements AuxiliaryServer {
 		if (exception instanceof QueryTimeoutException) {
 			return ErrorKind.QUERY_TIMEOUT;
 		}
+		if (exception instanceof QueryCancelledException) {
+			return ErrorKind.QUERY_CANCELLED;
+		}
+		if (exception instanceof ServerBusyException) {
+			return ErrorKind.SERVER_BUSY;
+		}
 		if (exception instanceof ReportException) {
 			return ErrorKind.REPORT;
 		}
@@ -1274,7 +1510,7 @@ public final class EntityService implements AuxiliaryServer {
 		}
 	}
 
-	private static <T> T deserialize(HttpServletRequest request) throws IOException, ClassNotFoundException {
+	private <T> T deserialize(HttpServletRequest request) throws IOException, ClassNotFoundException {
 		/*
 		 * SECURITY NOTE (CodeQL warning about deserialization of user-controlled data):
 		 *
@@ -1306,7 +1542,28 @@ public final class EntityService implements AuxiliaryServer {
 		 * protections as the EntityServer RMI interface, making deployment without proper
 		 * filtering configuration impossible (by default).
 		 */
-		return (T) new ObjectInputStream(request.getInputStream()).readObject();
+		return (T) new ObjectInputStream(inputStream(request)).readObject();
+	}
+
+	/**
+	 * Returns the request body, inflated in case it is gzip or deflate encoded, as sent by clients
+	 * configured with a compression threshold. The inflated stream is bounded by {@link #MAXIMUM_INFLATED_REQUEST_SIZE},
+	 * so that a small compressed body can not inflate without limit before any deserialization limits,
+	 * such as the maxbytes of the serialization filter, apply.
+	 */
+	private InputStream inputStream(HttpServletRequest request) throws IOException {
+		String contentEncoding = request.getHeader(CONTENT_ENCODING);
+		if (nullOrEmpty(contentEncoding) || contentEncoding.trim().equalsIgnoreCase("identity")) {
+			return request.getInputStream();
+		}
+		if (contentEncoding.trim().equalsIgnoreCase("gzip")) {
+			return new BoundedInputStream(new GZIPInputStream(request.getInputStream()), maximumInflatedRequestSize);
+		}
+		if (contentEncoding.trim().equalsIgnoreCase("deflate")) {
+			return new BoundedInputStream(new InflaterInputStream(request.getInputStream()), maximumInflatedRequestSize);
+		}
+
+		throw new RequestBodyException(ErrorKind.UNSUPPORTED_MEDIA_TYPE, "Unsupported request content encoding: " + contentEncoding);
 	}
 
 	private static synchronized void resolveClasspathKeyStore() {
@@ -1348,4 +1605,68 @@ public final class EntityService implements AuxiliaryServer {
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Rejects a request body exceeding the maximum size.
+	 */
+	private static final class BoundedInputStream extends FilterInputStream {
+
+		private final long maximumSize;
+
+		private long size = 0;
+
+		private BoundedInputStream(InputStream inputStream, long maximumSize) {
+			super(inputStream);
+			this.maximumSize = maximumSize;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int read = super.read();
+			if (read != -1) {
+				count(1);
+			}
+
+			return read;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			int read = super.read(bytes, offset, length);
+			if (read > 0) {
+				count(read);
+			}
+
+			return read;
+		}
+
+		@Override
+		public long skip(long length) throws IOException {
+			long skipped = super.skip(length);
+			count(skipped);
+
+			return skipped;
+		}
+
+		private void count(long read) throws RequestBodyException {
+			size += read;
+			if (size > maximumSize) {
+				throw new RequestBodyException(ErrorKind.PAYLOAD_TOO_LARGE,
+								"Request body exceeds the maximum size of " + maximumSize + " bytes once inflated");
+			}
+		}
+	}
+
+	/**
+	 * A request body the server refuses to read, carrying the kind determining the response status.
+	 */
+	private static final class RequestBodyException extends IOException {
+
+		private final ErrorKind kind;
+
+		private RequestBodyException(ErrorKind kind, String message) {
+			super(message);
+			this.kind = kind;
+		}
+	}
 }
@@ -27,6 +27,7 @@ import is.codion.common.utilities.user.User;
 import is.codion.common.utilities.version.Version;
 import is.codion.framework.db.EntityConnection.Count;
 import is.codion.framework.db.EntityConnection.Select;
+import is.codion.framework.db.EntityConnection.UnitOfWork;
 import is.codion.framework.db.EntityConnection.Update;
 import is.codion.framework.domain.entity.Entities;
 import is.codion.framework.domain.entity.Entity;
@@ -125,6 +126,18 @@ public class EntityServiceTest {
 		assertNotNull(entities);
 	}
 
+	@Test
+	void fingerprint() throws Exception {
+		HttpResponse<byte[]> response = HTTP_CLIENT.send(createRequest("fingerprint"), BodyHandlers.ofByteArray());
+		assertEquals(OK, response.statusCode());
+		String fingerprint = Serializer.deserialize(response.body());
+		assertNotNull(fingerprint);
+
+		response = HTTP_CLIENT.send(createJsonRequest("fingerprint"), BodyHandlers.ofByteArray());
+		assertEquals(OK, response.statusCode());
+		assertEquals(fingerprint, Serializer.deserialize(response.body()));
+	}
+
 	@Test
 	void close() throws Exception {
 		HttpResponse<byte[]> response = HTTP_CLIENT.send(createRequest("close"), BodyHandlers.ofByteArray());
@@ -256,6 +269,23 @@ public class EntityServiceTest {
 		assertEquals(1, count);
 	}
 
+	@Test
+	void counts() throws Exception {
+		List<Count> counts = asList(Count.where(Department.ID.equalTo(10)), Count.all(Department.TYPE));
+		HttpResponse<byte[]> response = HTTP_CLIENT.send(createRequest("counts",
+						BodyPublishers.ofByteArray(Serializer.serialize(counts))), BodyHandlers.ofByteArray());
+		assertEquals(OK, response.statusCode());
+		List<Integer> rowCounts = Serializer.deserialize(response.body());
+		assertEquals(1, rowCounts.get(0));
+
+		response = HTTP_CLIENT.send(createJsonRequest("counts",
+						BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(counts))), BodyHandlers.ofByteArray());
+		assertEquals(OK, response.statusCode());
+		rowCounts = OBJECT_MAPPER.readValue(new String(response.body(), UTF_8), DatabaseObjectMapper.COUNT_RESULTS_REFERENCE);
+		assertEquals(1, rowCounts.get(0));
+		assertEquals(2, rowCounts.size());
+	}
+
 	@Test
 	void values() throws Exception {
 		Select select = Select.where(Department.ID.equalTo(10)).build();
@@ -315,6 +345,26 @@ public class EntityServiceTest {
 		assertEquals(2, values.size());
 	}
 
+	@Test
+	void selects() throws Exception {
+		List<Select> selects = asList(Select.where(Department.ID.equalTo(10)).build(),
+						Select.where(Department.ID.in(10, 20)).build());
+
+		HttpResponse<byte[]> response = HTTP_CLIENT.send(createRequest("selects",
+						BodyPublishers.ofByteArray(Serializer.serialize(selects))), BodyHandlers.ofByteArray());
+		assertEquals(OK, response.statusCode());
+		List<List<Entity>> selected = Serializer.deserialize(response.body());
+		assertEquals(1, selected.get(0).size());
+		assertEquals(2, selected.get(1).size());
+
+		response = HTTP_CLIENT.send(createJsonRequest("selects",
+						BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(selects))), BodyHandlers.ofByteArray());
+		assertEquals(OK, response.statusCode());
+		selected = OBJECT_MAPPER.readValue(new String(response.body(), UTF_8), DatabaseObjectMapper.ENTITY_LISTS_REFERENCE);
+		assertEquals(1, selected.get(0).size());
+		assertEquals(2, selected.get(1).size());
+	}
+
 	@Test
 	void insert() throws Exception {
 		List<Entity> entities = new ArrayList<>();
@@ -343,6 +393,32 @@ public class EntityServiceTest {
 		assertEquals(2, values.size());
 	}
 
+	@Test
+	void flush() throws Exception {
+		Entity department = ENTITIES.entity(Department.TYPE)
+						.with(Department.ID, -30)
+						.with(Department.NAME, "Flushed")
+						.with(Department.LOCATION, "loc")
+						.build();
+		UnitOfWork unitOfWork = UnitOfWork.builder()
+						.insert(department)
+						.build();
+		HttpResponse<byte[]> response = HTTP_CLIENT.send(createRequest("flush",
+						BodyPublishers.ofByteArray(Serializer.serialize(unitOfWork))), BodyHandlers.ofByteArray());
+		assertEquals(OK, response.statusCode());
+		List<Entity.Key> keys = Serializer.deserialize(response.body());
+		assertEquals(department.primaryKey(), keys.get(0));
+
+		unitOfWork = UnitOfWork.builder()
+						.delete(department.primaryKey())
+						.build();
+		response = HTTP_CLIENT.send(createJsonRequest("flush",
+						BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(unitOfWork))), BodyHandlers.ofByteArray());
+		assertEquals(OK, response.statusCode());
+		keys = OBJECT_MAPPER.readValue(new String(response.body(), UTF_8), EntityObjectMapper.KEY_LIST_REFERENCE);
+		assertTrue(keys.isEmpty());
+	}
+
 	@Test
 	void update() throws Exception {
 		List<Entity> entities = new ArrayList<>();
@@ -29,13 +29,15 @@ import is.codion.common.reactive.value.Value;
 import org.jspecify.annotations.Nullable;
 
 import javax.swing.DefaultListSelectionModel;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.RandomAccess;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
@@ -57,6 +59,9 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 
 	private final IncludedItems<R> items;
 
+	// the selected indexes, computed on demand and discarded on each selection change
+	private int @Nullable [] selected;
+
 	DefaultListSelection(IncludedItems<R> items) {
 		this.items = requireNonNull(items);
 		bindEvents();
@@ -78,12 +83,7 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 
 	@Override
 	public int count() {
-		if (isSelectionEmpty()) {
-			return 0;
-		}
-
-		return (int) IntStream.rangeClosed(getMinSelectionIndex(), getMaxSelectionIndex())
-						.filter(this::isSelectedIndex).count();
+		return selected().length;
 	}
 
 	@Override
@@ -182,10 +182,12 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 
 	@Override
 	protected void fireValueChanged(int firstIndex, int lastIndex, boolean isAdjusting) {
+		selected = null;
 		super.fireValueChanged(firstIndex, lastIndex, isAdjusting);
 		if (!isAdjusting) {
-			empty.set(super.isSelectionEmpty());
-			single.set(count() == 1);
+			int count = count();
+			empty.set(count == 0);
+			single.set(count == 1);
 			selectedIndex.onChanged();
 			selectedItem.onChanged();
 			selectedIndexes.onChanged();
@@ -198,6 +200,54 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 						setSelectionMode(singleSelectionMode ? SINGLE_SELECTION : MULTIPLE_INTERVAL_SELECTION));
 	}
 
+	private int[] selected() {
+		int[] indexes = selected;
+		if (indexes == null) {
+			indexes = getSelectedIndices();
+			selected = indexes;
+		}
+
+		return indexes;
+	}
+
+	/**
+	 * Selects the given indexes, clearing and selecting intervals rather than single indexes.
+	 * @param indexes the indexes to select
+	 * @param add true if the indexes should be added to the selection, false if they should replace it
+	 */
+	private void select(BitSet indexes, boolean add) {
+		BitSet current = new BitSet();
+		for (int index : selected()) {
+			current.set(index);
+		}
+		BitSet toRemove = new BitSet();
+		if (!add) {
+			toRemove.or(current);
+			toRemove.andNot(indexes);
+		}
+		BitSet toAdd = (BitSet) indexes.clone();
+		toAdd.andNot(current);
+		if (toRemove.isEmpty() && toAdd.isEmpty()) {
+			return;
+		}
+
+		changing.run();
+		//save/restore so a caller already grouping (adjusting == true) is not terminated early
+		boolean wasAdjusting = getValueIsAdjusting();
+		setValueIsAdjusting(true);
+		for (int from = toRemove.nextSetBit(0); from >= 0; from = toRemove.nextSetBit(from)) {
+			int to = toRemove.nextClearBit(from);
+			super.removeSelectionInterval(from, to - 1);
+			from = to;
+		}
+		for (int from = toAdd.nextSetBit(0); from >= 0; from = toAdd.nextSetBit(from)) {
+			int to = toAdd.nextClearBit(from);
+			super.addSelectionInterval(from, to - 1);
+			from = to;
+		}
+		setValueIsAdjusting(wasAdjusting);
+	}
+
 	private static void checkIndex(int index, int size) {
 		if (index < 0 || index > size - 1) {
 			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
@@ -238,7 +288,7 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 
 	private final class SelectedIndexes extends AbstractValue<List<Integer>> implements Indexes {
 
-		private List<Integer> lastNotified = emptyList();
+		private int[] lastNotified = new int[0];
 
 		private SelectedIndexes() {
 			super(emptyList());
@@ -246,50 +296,25 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 
 		@Override
 		protected List<Integer> getValue() {
-			if (isSelectionEmpty()) {
+			int[] indexes = selected();
+			if (indexes.length == 0) {
 				return emptyList();
 			}
 
-			return unmodifiableList(IntStream.rangeClosed(getMinSelectionIndex(), getMaxSelectionIndex())
-							.filter(DefaultListSelection.this::isSelectedIndex)
-							.boxed()
-							.collect(toList()));
+			return new IndexList(indexes);
 		}
 
 		@Override
 		protected void setValue(List<Integer> indexes) {
 			checkIndexes(indexes);
-
-			Set<Integer> currentIndexes = new HashSet<>(getValue());
-			if (currentIndexes.isEmpty() && indexes.isEmpty()) {
-				return;
-			}
 			if (indexes.isEmpty()) {
-				clearSelection();
-				return;
-			}
-
-			Set<Integer> indexesToSelect = new HashSet<>(indexes);
-			Set<Integer> indexesToRemove = new HashSet<>(currentIndexes);
-			indexesToRemove.removeAll(indexesToSelect);
-
-			Set<Integer> indexesToAdd = new HashSet<>(indexesToSelect);
-			indexesToAdd.removeAll(currentIndexes);
-			if (indexesToRemove.isEmpty() && indexesToAdd.isEmpty()) {
+				if (!isSelectionEmpty()) {
+					clearSelection();
+				}
 				return;
 			}
 
-			changing.run();
-			//save/restore so a caller already grouping (adjusting == true) is not terminated early
-			boolean wasAdjusting = getValueIsAdjusting();
-			setValueIsAdjusting(true);
-			for (Integer index : indexesToRemove) {
-				DefaultListSelection.super.removeSelectionInterval(index, index);
-			}
-			for (Integer index : indexesToAdd) {
-				DefaultListSelection.super.addSelectionInterval(index, index);
-			}
-			setValueIsAdjusting(wasAdjusting);
+			select(bitSet(indexes), false);
 		}
 
 		@Override
@@ -318,12 +343,7 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 				return;
 			}
 			checkIndexes(indexes);
-			boolean wasAdjusting = getValueIsAdjusting();
-			setValueIsAdjusting(true);
-			for (Integer index : indexes) {
-				addSelectionInterval(index, index);
-			}
-			setValueIsAdjusting(wasAdjusting);
+			select(bitSet(indexes), true);
 		}
 
 		@Override
@@ -362,6 +382,16 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 			}
 		}
 
+		@Override
+		public IntStream stream() {
+			return Arrays.stream(selected());
+		}
+
+		@Override
+		public int[] array() {
+			return selected().clone();
+		}
+
 		@Override
 		public Optional<List<Integer>> optional() {
 			List<Integer> indexes = getOrThrow();
@@ -374,20 +404,65 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 
 		private void checkIndexes(Collection<Integer> indexes) {
 			int size = items.size();
+			if (indexes instanceof IndexList) {
+				//ascending
+				int[] indexArray = ((IndexList) indexes).indexes;
+				if (indexArray.length > 0) {
+					checkIndex(indexArray[0], size);
+					checkIndex(indexArray[indexArray.length - 1], size);
+				}
+				return;
+			}
 			for (Integer index : indexes) {
 				checkIndex(index, size);
 			}
 		}
 
+		private BitSet bitSet(Collection<Integer> indexes) {
+			BitSet bitSet = new BitSet();
+			if (indexes instanceof IndexList) {
+				for (int index : ((IndexList) indexes).indexes) {
+					bitSet.set(index);
+				}
+			}
+			else {
+				indexes.forEach(bitSet::set);
+			}
+
+			return bitSet;
+		}
+
 		void onChanged() {
-			List<Integer> current = getValue();
-			if (!lastNotified.equals(current)) {
+			int[] current = selected();
+			if (!Arrays.equals(lastNotified, current)) {
 				lastNotified = current;
 				notifyObserver();
 			}
 		}
 	}
 
+	/**
+	 * An unmodifiable list view of the selected indexes, boxing on access.
+	 */
+	private static final class IndexList extends AbstractList<Integer> implements RandomAccess {
+
+		private final int[] indexes;
+
+		private IndexList(int[] indexes) {
+			this.indexes = indexes;
+		}
+
+		@Override
+		public Integer get(int index) {
+			return indexes[index];
+		}
+
+		@Override
+		public int size() {
+			return indexes.length;
+		}
+	}
+
 	private final class DefaultItem extends AbstractValue<R> {
 
 		private @Nullable R lastNotified;
@@ -431,11 +506,19 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 
 		@Override
 		protected List<R> getValue() {
-			return unmodifiableList(selectedIndexes.getOrThrow().stream()
-							.mapToInt(Integer::intValue)
-							.filter(index -> index < items.size())
-							.mapToObj(items::get)
-							.collect(toList()));
+			int[] indexes = selected();
+			if (indexes.length == 0) {
+				return emptyList();
+			}
+			int size = items.size();
+			List<R> selectedItems = new ArrayList<>(indexes.length);
+			for (int index : indexes) {
+				if (index < size) {
+					selectedItems.add(items.get(index));
+				}
+			}
+
+			return unmodifiableList(selectedItems);
 		}
 
 		@Override
@@ -457,12 +540,13 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 
 		@Override
 		public void set(Predicate<R> predicate) {
-			selectedIndexes.set(indexesToSelect(requireNonNull(predicate)));
+			BitSet indexes = indexesToSelect(requireNonNull(predicate));
+			selectedIndexes.set(indexes.isEmpty() ? emptyList() : new IndexList(indexes.stream().toArray()));
 		}
 
 		@Override
 		public void add(Predicate<R> predicate) {
-			selectedIndexes.add(indexesToSelect(requireNonNull(predicate)));
+			select(indexesToSelect(requireNonNull(predicate)), true);
 		}
 
 		@Override
@@ -514,13 +598,13 @@ final class DefaultListSelection<R> extends DefaultListSelectionModel implements
 							.collect(toList()));
 		}
 
-		private List<Integer> indexesToSelect(Predicate<R> predicate) {
-			List<Integer> indexes = new ArrayList<>();
+		private BitSet indexesToSelect(Predicate<R> predicate) {
+			BitSet indexes = new BitSet();
 			List<R> includedItems = items.get();
 			for (int i = 0; i < includedItems.size(); i++) {
 				R item = includedItems.get(i);
 				if (predicate.test(item)) {
-					indexes.add(i);
+					indexes.set(i);
 				}
 			}
 
@@ -34,6 +34,7 @@ import javax.swing.table.AbstractTableModel;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -254,6 +255,12 @@ final class DefaultSwingFilterTableModel<R, C> extends AbstractTableModel implem
 			return this;
 		}
 
+		@Override
+		public Builder<R, C> equalValues(BiPredicate<R, R> equalValues) {
+			builder.equalValues(equalValues);
+			return this;
+		}
+
 		@Override
 		public Builder<R, C> onRefreshException(Consumer<Exception> onRefreshException) {
 			builder.onRefreshException(onRefreshException);
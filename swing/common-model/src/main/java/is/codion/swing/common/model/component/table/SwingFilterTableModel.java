@@ -28,6 +28,7 @@ import javax.swing.table.TableModel;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -122,6 +123,14 @@ public interface SwingFilterTableModel<R, C> extends FilterTableModel<R, C>, Tab
 		 */
 		Builder<R, C> validator(Predicate<R> validator);
 
+		/**
+		 * Specifies whether an item has changed, when merging refreshed items with the current ones.
+		 * @param equalValues returns true in case the values of the given items are equal
+		 * @return this builder instance
+		 * @see FilterTableModel.Builder#equalValues(BiPredicate)
+		 */
+		Builder<R, C> equalValues(BiPredicate<R, R> equalValues);
+
 		/**
 		 * By default, exceptions during refresh are rethrown,
 		 * use this method to handle async exceptions differently
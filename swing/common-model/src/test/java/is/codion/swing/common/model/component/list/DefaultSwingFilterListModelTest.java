@@ -18,14 +18,24 @@
  */
 package is.codion.swing.common.model.component.list;
 
+import is.codion.common.model.filter.FilterModel;
 import is.codion.common.utilities.Text;
 
 import org.junit.jupiter.api.Test;
 
+import javax.swing.SwingUtilities;
 import javax.swing.event.ListDataEvent;
 import javax.swing.event.ListDataListener;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -74,6 +84,60 @@ final class DefaultSwingFilterListModelTest {
 		assertFalse(model.items().refresher().async().is());
 	}
 
+	@Test
+	void parallelAsync() throws Exception {
+		List<Integer> values = IntStream.range(0, 10_000).boxed().collect(toList());
+		Collections.shuffle(values, new Random(42));
+		SwingFilterListModel<Integer> model;
+		FilterModel.PARALLEL_THRESHOLD.set(0);
+		FilterModel.PARALLEL_ASYNC.set(true);
+		try {
+			model = SwingFilterListModel.builder()
+							.items(values)
+							.comparator(Comparator.<Integer>naturalOrder())
+							.build();
+		}
+		finally {
+			FilterModel.PARALLEL_THRESHOLD.set(-1);
+			FilterModel.PARALLEL_ASYNC.set(false);
+		}
+		List<Integer> ascending = IntStream.range(0, 10_000).boxed().collect(toList());
+		List<Integer> descending = new ArrayList<>(ascending);
+		Collections.reverse(descending);
+		assertEquals(ascending, model.items().included().get());
+
+		// sorted off the EDT, the items replaced on the EDT once done, not before this task returns
+		CountDownLatch sorted = new CountDownLatch(1);
+		model.items().included().addListener(sorted::countDown);
+		SwingUtilities.invokeAndWait(() -> {
+			model.sort().descending();
+			assertEquals(ascending, model.items().included().get());
+		});
+		assertTrue(sorted.await(10, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> {
+			assertEquals(descending, model.items().included().get());
+			assertEquals(descending.size(), model.getSize());
+			assertEquals(descending.get(0), model.getElementAt(0));
+		});
+
+		// filtered off the EDT, retaining the sort order once done
+		CountDownLatch filtered = new CountDownLatch(1);
+		model.items().filtered().addListener(filtered::countDown);
+		SwingUtilities.invokeAndWait(() -> {
+			model.items().included().predicate().set(value -> value % 2 == 0);
+			assertEquals(descending, model.items().included().get());
+		});
+		assertTrue(filtered.await(10, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> {
+			List<Integer> even = descending.stream()
+							.filter(value -> value % 2 == 0)
+							.collect(toList());
+			assertEquals(even, model.items().included().get());
+			assertEquals(values.size() - even.size(), model.items().filtered().size());
+			assertEquals(even.size(), model.getSize());
+		});
+	}
+
 	@Test
 	void listDataEvents() {
 		List<String> items = new ArrayList<>(asList(ONE, TWO, THREE));
@@ -183,6 +183,28 @@ public class FilterListSelectionTest {
 		assertEquals(asList(0, 2), testModel.indexes().get());
 	}
 
+	@Test
+	void primitiveIndexes() {
+		assertEquals(0, testModel.indexes().array().length);
+		assertEquals(0, testModel.indexes().stream().count());
+		testModel.indexes().set(asList(2, 0));
+		assertArrayEquals(new int[] {0, 2}, testModel.indexes().array());
+		assertArrayEquals(new int[] {0, 2}, testModel.indexes().stream().toArray());
+		assertEquals(2, testModel.count());
+		testModel.indexes().array()[0] = 1;
+		assertEquals(asList(0, 2), testModel.indexes().get());
+		assertThrows(UnsupportedOperationException.class, () -> testModel.indexes().get().add(1));
+
+		AtomicInteger changes = new AtomicInteger();
+		testModel.indexes().addListener(changes::incrementAndGet);
+		// selected as a single interval, notified once
+		testModel.items().set(item -> true);
+		assertEquals(asList(0, 1, 2), testModel.indexes().get());
+		assertEquals(1, changes.get());
+		testModel.items().set(item -> true);
+		assertEquals(1, changes.get());
+	}
+
 	@Test
 	void incrementDecrement() {
 		// Test increment on empty selection
@@ -22,6 +22,7 @@ import is.codion.common.reactive.event.Event;
 import is.codion.common.reactive.observer.Observer;
 import is.codion.common.reactive.state.State;
 import is.codion.common.reactive.value.Value;
+import is.codion.common.utilities.dispatch.Dispatcher;
 import is.codion.swing.common.model.component.table.SwingFilterTableModel;
 
 import org.jspecify.annotations.Nullable;
@@ -30,21 +31,38 @@ import javax.swing.event.ChangeEvent;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.TableColumnModelEvent;
 import javax.swing.event.TableColumnModelListener;
+import javax.swing.event.TableModelEvent;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import static is.codion.common.reactive.value.Value.Notify.SET;
+import static java.util.Arrays.fill;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 
-final class DefaultFilterTableSearchModel<C> implements FilterTableSearchModel {
+final class DefaultFilterTableSearchModel<R, C> implements FilterTableSearchModel {
 
-	private final SwingFilterTableModel<?, C> tableModel;
+	// The number of rows searched in the background before the results found are added
+	private static final int BATCH_SIZE = 10_000;
+	// The number of cells formatted on the UI thread at a time, before yielding to other events
+	private static final int FORMAT_CHUNK_SIZE = 10_000;
+
+	private final SwingFilterTableModel<R, C> tableModel;
 	private final FilterTableColumnModel<C> columnModel;
 	private final DefaultResults results = new DefaultResults();
 	private final State caseSensitive = State.builder()
@@ -62,8 +80,12 @@ final class DefaultFilterTableSearchModel<C> implements FilterTableSearchModel {
 	private final State regularExpression = State.builder()
 					.listener(searchString::clear)
 					.build();
+	private final int backgroundThreshold = BACKGROUND_THRESHOLD.getOrThrow();
+	private final AtomicInteger generation = new AtomicInteger();
+
+	private @Nullable FormattedCells<C> formattedCells;
 
-	DefaultFilterTableSearchModel(SwingFilterTableModel<?, C> tableModel, FilterTableColumnModel<C> columnModel) {
+	DefaultFilterTableSearchModel(SwingFilterTableModel<R, C> tableModel, FilterTableColumnModel<C> columnModel) {
 		this.tableModel = requireNonNull(tableModel);
 		this.columnModel = requireNonNull(columnModel);
 		bindEvents();
@@ -95,27 +117,63 @@ final class DefaultFilterTableSearchModel<C> implements FilterTableSearchModel {
 	}
 
 	private void performSearch() {
+		int searchGeneration = generation.incrementAndGet();
 		results.clear();
 		if (predicate.isNull() || tableModel.items().included().size() == 0 || tableModel.getColumnCount() == 0) {
 			return;
 		}
-		Predicate<String> searchPredicate = predicate.getOrThrow();
-		List<FilterTableColumn<C>> visibleColumns = columnModel.visible().columns();
-		for (int row = 0; row < tableModel.items().included().size(); row++) {
-			for (int columnIndex = 0; columnIndex < visibleColumns.size(); columnIndex++) {
-				FilterTableColumn<C> column = visibleColumns.get(columnIndex);
-				if (searchPredicate.test(tableModel.values().formatted(row, column.identifier()))) {
-					results.add(new DefaultRowColumn(row, columnIndex));
-				}
-			}
+		Search search = new Search(searchGeneration, predicate.getOrThrow());
+		if (background(search) && Dispatcher.instance().bound()) {
+			search.formatAndPerform(Dispatcher.instance().executor(), 0);
+		}
+		else {
+			search.perform(search::found);
 		}
 	}
 
+	private boolean background(Search search) {
+		return backgroundThreshold >= 0 && (long) search.rows.size() * search.identifiers.size() > backgroundThreshold;
+	}
+
+	private FormattedCells<C> formattedCells(int rowCount) {
+		if (formattedCells == null || formattedCells.rowCount != rowCount) {
+			formattedCells = new FormattedCells<>(rowCount);
+		}
+
+		return formattedCells;
+	}
+
 	private void bindEvents() {
 		columnModel.addColumnModelListener(new ClearSearchListener());
+		tableModel.addTableModelListener(this::invalidate);
 		tableModel.items().included().addListener(this::performSearch);
 	}
 
+	/**
+	 * Discards the formatted cells of the rows affected by the given event, shifting the ones
+	 * following inserted or deleted rows, or all of them in case of a structure or data change.
+	 */
+	private void invalidate(TableModelEvent event) {
+		if (formattedCells == null) {
+			return;
+		}
+		if (event.getFirstRow() == TableModelEvent.HEADER_ROW || event.getLastRow() == Integer.MAX_VALUE || !invalidate(formattedCells, event)) {
+			formattedCells = null;
+		}
+	}
+
+	private boolean invalidate(FormattedCells<C> cells, TableModelEvent event) {
+		if (event.getType() == TableModelEvent.INSERT) {
+			return cells.inserted(event.getFirstRow(), event.getLastRow());
+		}
+		if (event.getType() == TableModelEvent.DELETE) {
+			return cells.deleted(event.getFirstRow(), event.getLastRow());
+		}
+
+		return cells.updated(event.getFirstRow(), event.getLastRow(), event.getColumn() == TableModelEvent.ALL_COLUMNS ?
+						null : tableModel.columns().identifiers().get(event.getColumn()));
+	}
+
 	private @Nullable Predicate<String> predicate(String searchText) {
 		if (searchText.isEmpty()) {
 			return null;
@@ -135,6 +193,7 @@ final class DefaultFilterTableSearchModel<C> implements FilterTableSearchModel {
 	private final class DefaultResults implements Results {
 
 		private final List<RowColumn> searchResults = new ArrayList<>();
+		private final Set<RowColumn> searchResultCells = new HashSet<>();
 		private final Event<List<RowColumn>> resultsChanged = Event.event();
 		private final DefaultCurrentResult current = new DefaultCurrentResult();
 		private final DefaultSelectResult select = new DefaultSelectResult();
@@ -187,8 +246,7 @@ final class DefaultFilterTableSearchModel<C> implements FilterTableSearchModel {
 
 		@Override
 		public boolean contains(int row, int column) {
-			return results.searchResults.stream()
-							.anyMatch(rowColumn -> rowColumn.is(row, column));
+			return searchResultCells.contains(new DefaultRowColumn(row, column));
 		}
 
 		private int incrementSearchResultIndex() {
@@ -201,13 +259,15 @@ final class DefaultFilterTableSearchModel<C> implements FilterTableSearchModel {
 
 		private void clear() {
 			searchResults.clear();
+			searchResultCells.clear();
 			searchResultIndex = -1;
 			current.result.clear();
 			resultsChanged.accept(emptyList());
 		}
 
-		private void add(DefaultRowColumn rowColumn) {
-			searchResults.add(rowColumn);
+		private void add(Collection<RowColumn> rowColumns) {
+			searchResults.addAll(rowColumns);
+			searchResultCells.addAll(rowColumns);
 			resultsChanged.accept(get());
 		}
 
@@ -278,6 +338,196 @@ final class DefaultFilterTableSearchModel<C> implements FilterTableSearchModel {
 		}
 	}
 
+	/**
+	 * Searches a snapshot of the included rows, formatting the cells via the
+	 * {@link FormattedCells} cache, which {@link #formatAndPerform(Executor, int)} populates
+	 * before the search runs off the UI thread.
+	 */
+	private final class Search {
+
+		private final int searchGeneration;
+		private final Predicate<String> predicate;
+		private final List<R> rows;
+		private final List<C> identifiers;
+		private final FormattedCells<C> cells;
+
+		private Search(int searchGeneration, Predicate<String> predicate) {
+			this.searchGeneration = searchGeneration;
+			this.predicate = predicate;
+			this.rows = new ArrayList<>(tableModel.items().included().get());
+			this.identifiers = columnModel.visible().columns().stream()
+							.map(FilterTableColumn::identifier)
+							.collect(toList());
+			this.cells = formattedCells(rows.size());
+		}
+
+		/**
+		 * Performs this search, stopping once superseded.
+		 * @param found receives the results, in batches, as they are found
+		 */
+		private void perform(Consumer<List<RowColumn>> found) {
+			perform(identifiers.stream()
+							.map(cells::column)
+							.collect(toList()), found);
+		}
+
+		private void perform(List<String[]> columns, Consumer<List<RowColumn>> found) {
+			List<RowColumn> batch = new ArrayList<>();
+			for (int row = 0; row < rows.size() && current(); row++) {
+				for (int columnIndex = 0; columnIndex < identifiers.size(); columnIndex++) {
+					if (predicate.test(formatted(columns.get(columnIndex), row, identifiers.get(columnIndex)))) {
+						batch.add(new DefaultRowColumn(row, columnIndex));
+					}
+				}
+				if (!batch.isEmpty() && (row + 1) % BATCH_SIZE == 0) {
+					found.accept(batch);
+					batch = new ArrayList<>();
+				}
+			}
+			if (!batch.isEmpty()) {
+				found.accept(batch);
+			}
+		}
+
+		/**
+		 * Formats the cells not already cached on the UI thread, since the column formats are not thread-safe,
+		 * a chunk of rows at a time, so that the UI remains responsive, and then performs the matching in the
+		 * background, on a copy of the formatted cells, stopping once superseded.
+		 * @param dispatch the UI thread executor
+		 * @param fromRow the first row to format
+		 */
+		private void formatAndPerform(Executor dispatch, int fromRow) {
+			if (!current()) {
+				return;
+			}
+			int toRow = Math.min(rows.size(), fromRow + Math.max(1, FORMAT_CHUNK_SIZE / identifiers.size()));
+			for (C identifier : identifiers) {
+				String[] column = cells.column(identifier);
+				for (int row = fromRow; row < toRow; row++) {
+					formatted(column, row, identifier);
+				}
+			}
+			if (toRow < rows.size()) {
+				dispatch.execute(() -> formatAndPerform(dispatch, toRow));
+			}
+			else {
+				performInBackground(dispatch);
+			}
+		}
+
+		private void performInBackground(Executor dispatch) {
+			//a copy, the cells of updated rows being discarded meanwhile
+			List<String[]> columns = identifiers.stream()
+							.map(identifier -> cells.column(identifier).clone())
+							.collect(toList());
+			CompletableFuture.runAsync(() -> perform(columns, found -> dispatch.execute(() -> found(found))))
+							.whenCompleteAsync((result, exception) -> {
+								//failed, rethrown by the synchronous attempt
+								if (exception != null && current()) {
+									results.clear();
+									perform(this::found);
+								}
+							}, dispatch);
+		}
+
+		private String formatted(String[] column, int row, C identifier) {
+			String formatted = column[row];
+			if (formatted == null) {
+				formatted = tableModel.columns().formatted(rows.get(row), identifier);
+				column[row] = formatted;
+			}
+
+			return formatted;
+		}
+
+		private void found(List<RowColumn> rowColumns) {
+			if (current()) {
+				results.add(rowColumns);
+			}
+		}
+
+		private boolean current() {
+			return searchGeneration == generation.get();
+		}
+	}
+
+	/**
+	 * A lazily populated cache of formatted cell values, by column, the cells of changed rows being discarded.
+	 * Only accessed on the UI thread, or the thread performing a synchronous search.
+	 * @param <C> the column identifier type
+	 */
+	private static final class FormattedCells<C> {
+
+		private final Map<C, String[]> columns = new HashMap<>();
+
+		private int rowCount;
+
+		private FormattedCells(int rowCount) {
+			this.rowCount = rowCount;
+		}
+
+		private String[] column(C identifier) {
+			return columns.computeIfAbsent(identifier, k -> new String[rowCount]);
+		}
+
+		/**
+		 * @return false in case the range is invalid, and the cache should be discarded
+		 */
+		private boolean updated(int firstRow, int lastRow, @Nullable C identifier) {
+			if (firstRow < 0 || lastRow >= rowCount || firstRow > lastRow) {
+				return false;
+			}
+			if (identifier == null) {
+				columns.values().forEach(column -> fill(column, firstRow, lastRow + 1, null));
+			}
+			else if (columns.containsKey(identifier)) {
+				fill(columns.get(identifier), firstRow, lastRow + 1, null);
+			}
+
+			return true;
+		}
+
+		/**
+		 * @return false in case the range is invalid, and the cache should be discarded
+		 */
+		private boolean inserted(int firstRow, int lastRow) {
+			if (firstRow < 0 || firstRow > rowCount || firstRow > lastRow) {
+				return false;
+			}
+			int inserted = lastRow - firstRow + 1;
+			columns.replaceAll((identifier, column) -> {
+				String[] shifted = new String[rowCount + inserted];
+				System.arraycopy(column, 0, shifted, 0, firstRow);
+				System.arraycopy(column, firstRow, shifted, lastRow + 1, rowCount - firstRow);
+
+				return shifted;
+			});
+			rowCount += inserted;
+
+			return true;
+		}
+
+		/**
+		 * @return false in case the range is invalid, and the cache should be discarded
+		 */
+		private boolean deleted(int firstRow, int lastRow) {
+			if (firstRow < 0 || lastRow >= rowCount || firstRow > lastRow) {
+				return false;
+			}
+			int deleted = lastRow - firstRow + 1;
+			columns.replaceAll((identifier, column) -> {
+				String[] shifted = new String[rowCount - deleted];
+				System.arraycopy(column, 0, shifted, 0, firstRow);
+				System.arraycopy(column, lastRow + 1, shifted, firstRow, rowCount - lastRow - 1);
+
+				return shifted;
+			});
+			rowCount -= deleted;
+
+			return true;
+		}
+	}
+
 	private final class ClearSearchListener implements TableColumnModelListener {
 
 		@Override
@@ -23,6 +23,7 @@ import is.codion.common.model.component.table.FilterTableModel.TableColumns;
 import is.codion.common.model.component.table.FilterTableSort.ColumnSortOrder;
 import is.codion.common.model.condition.ConditionModel;
 import is.codion.common.model.filter.SortOrder;
+import is.codion.common.model.summary.SummaryModel.Aggregate;
 import is.codion.common.model.summary.SummaryModel.SummaryValues;
 import is.codion.common.model.summary.TableSummaryModel;
 import is.codion.common.reactive.event.Event;
@@ -72,6 +73,8 @@ import javax.swing.JViewport;
 import javax.swing.KeyStroke;
 import javax.swing.ListSelectionModel;
 import javax.swing.UIManager;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.TableModelEvent;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableCellEditor;
 import javax.swing.table.TableColumn;
@@ -94,12 +97,14 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.text.Format;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiPredicate;
@@ -2177,11 +2182,22 @@ public final class FilterTable<R, C> extends JTable {
 		private final SwingFilterTableModel<?, C> tableModel;
 		private final Format format;
 		private final Event<?> valuesChanged = Event.event();
+		// The column values by row index, along with the aggregates, maintained
+		// from the table model and selection events once aggregated
+		private final List<@Nullable Number> rowValues = new ArrayList<>();
+		private final Aggregate included = Aggregate.aggregate();
+		private final Aggregate selected = Aggregate.aggregate();
+		private final BitSet selectedRows = new BitSet();
+
+		private boolean includedAggregated = false;
+		private boolean selectedAggregated = false;
 
 		private DefaultSummaryValues(C identifier, SwingFilterTableModel<?, C> tableModel, Format format) {
 			this.identifier = requireNonNull(identifier);
 			this.tableModel = requireNonNull(tableModel);
 			this.format = requireNonNull(format);
+			this.tableModel.addTableModelListener(this::tableChanged);
+			this.tableModel.selection().addListSelectionListener(this::selectionChanged);
 			this.tableModel.items().included().addListener(valuesChanged);
 			this.tableModel.selection().indexes().addListener(valuesChanged);
 		}
@@ -2208,6 +2224,128 @@ public final class FilterTable<R, C> extends JTable {
 			return selection.empty().not().is() &&
 							selection.count() != tableModel.items().included().size();
 		}
+
+		@Override
+		public Optional<Aggregate> aggregate() {
+			if (!includedAggregated || rowValues.size() != tableModel.getRowCount()) {
+				aggregateIncluded();
+			}
+			if (!subset()) {
+				return Optional.of(included);
+			}
+			if (!selectedAggregated) {
+				aggregateSelected();
+			}
+
+			return Optional.of(selected);
+		}
+
+		private void tableChanged(TableModelEvent event) {
+			if (includedAggregated) {
+				int firstRow = event.getFirstRow();
+				int lastRow = event.getLastRow();
+				switch (event.getType()) {
+					case TableModelEvent.INSERT:
+						rowsInserted(firstRow, lastRow);
+						break;
+					case TableModelEvent.DELETE:
+						rowsDeleted(firstRow, lastRow);
+						break;
+					default:
+						rowsUpdated(firstRow, lastRow);
+						break;
+				}
+			}
+			selectedAggregated = false;
+		}
+
+		private void rowsInserted(int firstRow, int lastRow) {
+			if (firstRow < 0 || firstRow > rowValues.size()) {
+				includedAggregated = false;
+				return;
+			}
+			for (int rowIndex = firstRow; rowIndex <= lastRow; rowIndex++) {
+				Number value = value(rowIndex);
+				rowValues.add(rowIndex, value);
+				included.add(value);
+			}
+		}
+
+		private void rowsDeleted(int firstRow, int lastRow) {
+			if (firstRow < 0 || lastRow >= rowValues.size()) {
+				includedAggregated = false;
+				return;
+			}
+			for (int rowIndex = lastRow; rowIndex >= firstRow; rowIndex--) {
+				included.remove(rowValues.remove(rowIndex));
+			}
+		}
+
+		private void rowsUpdated(int firstRow, int lastRow) {
+			if (firstRow < 0 || lastRow >= rowValues.size() || rowValues.size() != tableModel.getRowCount()) {
+				// header or data changed
+				includedAggregated = false;
+				return;
+			}
+			for (int rowIndex = firstRow; rowIndex <= lastRow; rowIndex++) {
+				Number value = value(rowIndex);
+				Number previous = rowValues.set(rowIndex, value);
+				if (!Objects.equals(previous, value)) {
+					included.remove(previous);
+					included.add(value);
+				}
+			}
+		}
+
+		private void selectionChanged(ListSelectionEvent event) {
+			if (!selectedAggregated || rowValues.size() != tableModel.getRowCount()) {
+				selectedAggregated = false;
+				return;
+			}
+			FilterListSelection<?> selection = tableModel.selection();
+			int lastIndex = Math.min(event.getLastIndex(), rowValues.size() - 1);
+			for (int index = Math.max(event.getFirstIndex(), 0); index <= lastIndex; index++) {
+				boolean isSelected = selection.isSelectedIndex(index);
+				if (isSelected != selectedRows.get(index)) {
+					selectedRows.set(index, isSelected);
+					if (isSelected) {
+						selected.add(rowValues.get(index));
+					}
+					else {
+						selected.remove(rowValues.get(index));
+					}
+				}
+			}
+		}
+
+		private void aggregateIncluded() {
+			rowValues.clear();
+			included.clear();
+			int rowCount = tableModel.getRowCount();
+			for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+				Number value = value(rowIndex);
+				rowValues.add(value);
+				included.add(value);
+			}
+			includedAggregated = true;
+			selectedAggregated = false;
+		}
+
+		private void aggregateSelected() {
+			selected.clear();
+			selectedRows.clear();
+			for (int index : tableModel.selection().getSelectedIndices()) {
+				if (index < rowValues.size()) {
+					selectedRows.set(index);
+					selected.add(rowValues.get(index));
+				}
+			}
+			selectedAggregated = true;
+		}
+
+		private @Nullable Number value(int rowIndex) {
+			return (Number) tableModel.values().value(rowIndex, identifier);
+		}
 	}
 
 	private class ResizeRowToFitEditor implements PropertyChangeListener {
@@ -21,16 +21,33 @@ package is.codion.swing.common.ui.component.table;
 import is.codion.common.reactive.observer.Observable;
 import is.codion.common.reactive.state.State;
 import is.codion.common.reactive.value.Value;
+import is.codion.common.utilities.property.PropertyValue;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import static is.codion.common.utilities.Configuration.integerValue;
+
 /**
  * Handles searching through a {@link FilterTable}
  */
 public interface FilterTableSearchModel {
 
+	/**
+	 * Specifies the number of cells, rows times visible columns, above which a search runs in the background.
+	 * A search runs in the background when the table has more cells than this and the search is triggered on
+	 * the UI thread, otherwise it runs on the calling thread. A background search adds its results as they are found.
+	 * <p>The cell values are always formatted on the UI thread, since column formats are not thread-safe,
+	 * and cached until the rows change, a background search only matching the cached values.
+	 * <ul>
+	 * <li>Value type: Integer
+	 * <li>Default value: 100000
+	 * </ul>
+	 * A negative value disables background searching.
+	 */
+	PropertyValue<Integer> BACKGROUND_THRESHOLD = integerValue(FilterTableSearchModel.class.getName() + ".backgroundThreshold", 100_000);
+
 	/**
 	 * @return the {@link State} controlling whether regular expressions should be used when searching
 	 */
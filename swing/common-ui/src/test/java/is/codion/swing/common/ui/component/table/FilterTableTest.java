@@ -21,12 +21,15 @@ package is.codion.swing.common.ui.component.table;
 import is.codion.common.model.component.table.FilterTableModel.TableColumns;
 import is.codion.common.model.component.table.FilterTableSort;
 import is.codion.common.model.filter.SortOrder;
+import is.codion.common.model.summary.SummaryModel.Aggregate;
+import is.codion.common.model.summary.SummaryModel.SummaryValues;
 import is.codion.common.reactive.observer.Observable;
 import is.codion.swing.common.model.component.list.FilterListSelection;
 import is.codion.swing.common.model.component.table.SwingFilterTableModel;
 import is.codion.swing.common.ui.ancestor.Ancestor;
 import is.codion.swing.common.ui.component.table.ConditionPanel.ConditionView;
 import is.codion.swing.common.ui.component.table.DefaultFilterTableSearchModel.DefaultRowColumn;
+import is.codion.swing.common.ui.component.table.FilterTableColumn.DefaultFilterTableColumnBuilder;
 import is.codion.swing.common.ui.component.table.FilterTableSearchModel.RowColumn;
 import is.codion.swing.common.ui.component.text.NumberField;
 
@@ -36,9 +39,11 @@ import javax.swing.JScrollPane;
 import javax.swing.JTextField;
 import javax.swing.JViewport;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import java.awt.Dimension;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.text.NumberFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -46,6 +51,8 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
@@ -349,6 +356,242 @@ public class FilterTableTest {
 		assertEquals(2, testModel.selection().count());
 	}
 
+	@Test
+	void searchModelFormattedCells() {
+		List<String> values = new ArrayList<>(asList("a", "b", "c"));
+		SwingFilterTableModel<String, Integer> tableModel = SwingFilterTableModel.builder()
+						.columns(new TableColumns<String, Integer>() {
+							@Override
+							public List<Integer> identifiers() {
+								return singletonList(0);
+							}
+
+							@Override
+							public Class<?> columnClass(Integer identifier) {
+								return String.class;
+							}
+
+							@Override
+							public Object value(String row, Integer identifier) {
+								return row;
+							}
+						})
+						.items(() -> values)
+						.build();
+		tableModel.items().refresh();
+		FilterTableSearchModel searchModel = new DefaultFilterTableSearchModel<>(tableModel,
+						new DefaultFilterTableColumnModel<>(singletonList(new DefaultFilterTableColumnBuilder<>(0, 0).build())));
+		searchModel.searchString().set("b");
+		assertEquals(singletonList(new DefaultRowColumn(1, 0)), searchModel.results().get());
+		assertTrue(searchModel.results().contains(1, 0));
+		assertFalse(searchModel.results().contains(0, 0));
+
+		// the formatted cells are discarded when the rows change
+		tableModel.items().replace("a", "bb");
+		assertEquals(asList(new DefaultRowColumn(0, 0), new DefaultRowColumn(1, 0)), searchModel.results().get());
+		assertTrue(searchModel.results().contains(0, 0));
+		searchModel.searchString().set("c");
+		assertEquals(singletonList(new DefaultRowColumn(2, 0)), searchModel.results().get());
+
+		// the results are added in batches
+		values.clear();
+		IntStream.range(0, 25_000).forEach(i -> values.add("x" + i));
+		tableModel.items().refresh();
+		AtomicInteger batches = new AtomicInteger();
+		searchModel.results().addConsumer(results -> {
+			if (!results.isEmpty()) {
+				batches.incrementAndGet();
+			}
+		});
+		searchModel.searchString().set("x");
+		assertEquals(25_000, searchModel.results().get().size());
+		assertEquals(3, batches.get());
+	}
+
+	@Test
+	void searchModelInvalidatesChangedRows() {
+		List<String> values = IntStream.range(0, 100).mapToObj(i -> "x" + i).collect(toList());
+		AtomicInteger formatted = new AtomicInteger();
+		SwingFilterTableModel<String, Integer> tableModel = SwingFilterTableModel.builder()
+						.columns(new TableColumns<String, Integer>() {
+							@Override
+							public List<Integer> identifiers() {
+								return singletonList(0);
+							}
+
+							@Override
+							public Class<?> columnClass(Integer identifier) {
+								return String.class;
+							}
+
+							@Override
+							public Object value(String row, Integer identifier) {
+								return row;
+							}
+
+							@Override
+							public String formatted(String row, Integer identifier) {
+								formatted.incrementAndGet();
+
+								return row;
+							}
+						})
+						.items(() -> values)
+						.build();
+		tableModel.items().refresh();
+		FilterTableSearchModel searchModel = new DefaultFilterTableSearchModel<>(tableModel,
+						new DefaultFilterTableColumnModel<>(singletonList(new DefaultFilterTableColumnBuilder<>(0, 0).build())));
+		searchModel.searchString().set("x");
+		assertEquals(100, formatted.get());
+		assertEquals(100, searchModel.results().get().size());
+
+		// only the updated row is formatted anew
+		tableModel.items().replace("x5", "y5");
+		assertEquals(101, formatted.get());
+		assertEquals(99, searchModel.results().get().size());
+		assertFalse(searchModel.results().contains(5, 0));
+
+		// as is an inserted row, the following ones being shifted
+		tableModel.items().included().add(0, "x");
+		assertEquals(102, formatted.get());
+		assertEquals(100, searchModel.results().get().size());
+		assertFalse(searchModel.results().contains(6, 0));
+
+		// and a deleted row requires no formatting
+		tableModel.items().included().remove(0);
+		assertEquals(102, formatted.get());
+		assertFalse(searchModel.results().contains(5, 0));
+
+		// a refresh discards the formatted cells
+		tableModel.items().refresh();
+		assertEquals(202, formatted.get());
+	}
+
+	@Test
+	void searchModelBackground() throws Exception {
+		List<Integer> values = IntStream.range(0, 25_000).boxed().collect(toList());
+		AtomicInteger formattedOffUIThread = new AtomicInteger();
+		NumberFormat format = NumberFormat.getIntegerInstance();
+		format.setGroupingUsed(false);
+		SwingFilterTableModel<Integer, Integer> tableModel = SwingFilterTableModel.builder()
+						.columns(new TableColumns<Integer, Integer>() {
+							@Override
+							public List<Integer> identifiers() {
+								return singletonList(0);
+							}
+
+							@Override
+							public Class<?> columnClass(Integer identifier) {
+								return Integer.class;
+							}
+
+							@Override
+							public Object value(Integer row, Integer identifier) {
+								return row;
+							}
+
+							@Override
+							public String formatted(Integer row, Integer identifier) {
+								// the shared format is not thread-safe
+								if (!SwingUtilities.isEventDispatchThread()) {
+									formattedOffUIThread.incrementAndGet();
+								}
+
+								return format.format(row);
+							}
+						})
+						.items(() -> values)
+						.build();
+		tableModel.items().refresh();
+		FilterTableSearchModel searchModel;
+		FilterTableSearchModel.BACKGROUND_THRESHOLD.set(0);
+		try {
+			searchModel = new DefaultFilterTableSearchModel<>(tableModel,
+							new DefaultFilterTableColumnModel<>(singletonList(new DefaultFilterTableColumnBuilder<>(0, 0).build())));
+		}
+		finally {
+			FilterTableSearchModel.BACKGROUND_THRESHOLD.set(100_000);
+		}
+		List<DefaultRowColumn> expected = values.stream()
+						.filter(value -> value.toString().contains("12"))
+						.map(value -> new DefaultRowColumn(value, 0))
+						.collect(toList());
+		CountDownLatch found = new CountDownLatch(1);
+		searchModel.results().addConsumer(results -> {
+			if (results.size() == expected.size()) {
+				found.countDown();
+			}
+		});
+		SwingUtilities.invokeAndWait(() -> {
+			searchModel.searchString().set("12");
+			// the cells are formatted on the UI thread, the matching performed in the background
+			assertTrue(searchModel.results().get().isEmpty());
+		});
+		assertTrue(found.await(10, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> assertEquals(expected, searchModel.results().get()));
+		assertEquals(0, formattedOffUIThread.get());
+	}
+
+	@Test
+	void summaryValuesAggregate() {
+		List<BigDecimal> values = new ArrayList<>(asList(new BigDecimal("0.1"), new BigDecimal("0.2"), new BigDecimal("0.3")));
+		SwingFilterTableModel<BigDecimal, Integer> tableModel = SwingFilterTableModel.builder()
+						.columns(new TableColumns<BigDecimal, Integer>() {
+							@Override
+							public List<Integer> identifiers() {
+								return singletonList(0);
+							}
+
+							@Override
+							public Class<?> columnClass(Integer identifier) {
+								return BigDecimal.class;
+							}
+
+							@Override
+							public Object value(BigDecimal row, Integer identifier) {
+								return row;
+							}
+						})
+						.items(() -> values)
+						.build();
+		tableModel.items().refresh();
+		SummaryValues<BigDecimal> summaryValues = FilterTable.summaryValues(0, tableModel, NumberFormat.getInstance());
+		Aggregate aggregate = summaryValues.aggregate().orElseThrow(IllegalStateException::new);
+		assertEquals(new BigDecimal("0.6"), aggregate.sum());
+		assertEquals(3, aggregate.count());
+
+		tableModel.items().add(new BigDecimal("1.5"));
+		assertAggregate(summaryValues, "2.1", "0.1", "1.5");
+		tableModel.items().remove(new BigDecimal("0.1"));
+		assertAggregate(summaryValues, "2.0", "0.2", "1.5");
+		tableModel.items().replace(new BigDecimal("1.5"), new BigDecimal("-1"));
+		assertAggregate(summaryValues, "-0.5", "-1", "0.3");
+
+		tableModel.selection().setSelectionInterval(0, 1);
+		assertTrue(summaryValues.subset());
+		assertAggregate(summaryValues, "0.5", "0.2", "0.3");
+		tableModel.selection().addSelectionInterval(2, 2);
+		assertAggregate(summaryValues, "-0.5", "-1", "0.3");
+		tableModel.selection().removeSelectionInterval(1, 1);
+		assertAggregate(summaryValues, "-0.8", "-1", "0.2");
+		tableModel.items().replace(new BigDecimal("0.2"), new BigDecimal("2"));
+		assertAggregate(summaryValues, "1", "-1", "2");
+
+		tableModel.items().included().predicate().set(value -> value.signum() > 0);
+		tableModel.selection().clear();
+		assertAggregate(summaryValues, "2.3", "0.3", "2");
+	}
+
+	private static void assertAggregate(SummaryValues<?> summaryValues, String sum, String minimum, String maximum) {
+		Aggregate aggregate = summaryValues.aggregate().orElseThrow(IllegalStateException::new);
+		Aggregate expected = Aggregate.aggregate(summaryValues.values());
+		assertEquals(expected.count(), aggregate.count());
+		assertEquals(0, new BigDecimal(sum).compareTo(aggregate.sum()));
+		assertEquals(0, expected.sum().compareTo(aggregate.sum()));
+		assertEquals(new BigDecimal(minimum), aggregate.minimum().orElse(null));
+		assertEquals(new BigDecimal(maximum), aggregate.maximum().orElse(null));
+	}
+
 	@Test
 	void sorting() {
 		FilterTable<TestRow, Integer> table = createTestTable();
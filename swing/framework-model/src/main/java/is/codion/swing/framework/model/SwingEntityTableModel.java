@@ -24,6 +24,7 @@ import is.codion.framework.db.EntityConnection;
 import is.codion.framework.domain.entity.Entity;
 import is.codion.framework.domain.entity.EntityType;
 import is.codion.framework.domain.entity.attribute.Attribute;
+import is.codion.framework.domain.entity.attribute.ForeignKey;
 import is.codion.framework.model.AbstractEntityTableModel;
 import is.codion.framework.model.EntityConditionModel;
 import is.codion.framework.model.EntityQueryModel;
@@ -231,9 +232,29 @@ public class SwingEntityTableModel extends AbstractEntityTableModel<SwingEntityE
 						.columns(tableColumns(editor.entityDefinition()))
 						.filters(filterConditions(editor.entityDefinition()))
 						.validator(itemValidator(editor.entityDefinition().type()))
+						.equalValues(SwingEntityTableModel::equalValues)
 						.rowEditor(tableModel -> new SwingEntityRowEditor(editor));
 	}
 
+	/**
+	 * Compares the values of the given entities, comparing the entities referenced via foreign keys by value as well,
+	 * since {@link Entity#equals(Object)} only compares primary keys, so that a row referencing a changed entity is replaced.
+	 */
+	private static boolean equalValues(Entity entity, Entity other) {
+		if (!entity.equalValues(other)) {
+			return false;
+		}
+		for (ForeignKey foreignKey : entity.definition().foreignKeys().get()) {
+			Entity referenced = entity.entity(foreignKey);
+			Entity otherReferenced = other.entity(foreignKey);
+			if (referenced != null && otherReferenced != null && !equalValues(referenced, otherReferenced)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private static EntityType entityType(Collection<Entity> entities) {
 		if (requireNonNull(entities).isEmpty()) {
 			throw new IllegalArgumentException("One or more entities is required to base a table model on");
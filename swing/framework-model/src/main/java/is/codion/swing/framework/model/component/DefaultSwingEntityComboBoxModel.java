@@ -29,6 +29,7 @@ import is.codion.framework.domain.entity.attribute.Attribute;
 import is.codion.framework.domain.entity.attribute.ForeignKey;
 import is.codion.framework.domain.entity.condition.Condition;
 import is.codion.framework.model.EntityComboBoxModel;
+import is.codion.framework.model.RefreshBatch;
 import is.codion.swing.common.model.component.combobox.SwingFilterComboBoxModel;
 
 import org.jspecify.annotations.Nullable;
@@ -71,6 +72,11 @@ final class DefaultSwingEntityComboBoxModel implements SwingEntityComboBoxModel
 		return model.entityDefinition();
 	}
 
+	@Override
+	public RefreshBatch.Prefetch prefetch() {
+		return model.prefetch();
+	}
+
 	@Override
 	public void select(Entity.Key primaryKey) {
 		model.select(primaryKey);
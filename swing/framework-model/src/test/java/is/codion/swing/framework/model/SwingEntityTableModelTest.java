@@ -18,8 +18,10 @@
  */
 package is.codion.swing.framework.model;
 
+import is.codion.common.model.filter.FilterModel.Items.RefreshStrategy;
 import is.codion.common.model.filter.SortOrder;
 import is.codion.framework.db.EntityConnection;
+import is.codion.framework.domain.entity.Entities;
 import is.codion.framework.domain.entity.Entity;
 import is.codion.framework.domain.entity.EntityType;
 import is.codion.framework.domain.entity.OrderBy;
@@ -27,12 +29,15 @@ import is.codion.framework.model.test.AbstractEntityTableModelTest;
 import is.codion.framework.model.test.TestDomain.Department;
 import is.codion.framework.model.test.TestDomain.Detail;
 import is.codion.framework.model.test.TestDomain.Employee;
+import is.codion.framework.model.test.TestDomain.Master;
 
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.*;
 
 public final class SwingEntityTableModelTest extends AbstractEntityTableModelTest<
@@ -73,6 +78,31 @@ public final class SwingEntityTableModelTest extends AbstractEntityTableModelTes
 	}
 
 
+	@Test
+	void mergeReferencedEntityChanged() {
+		SwingEntityTableModel tableModel = createTableModel(Detail.TYPE, connection());
+		Entities entities = tableModel.entities();
+		AtomicReference<String> masterName = new AtomicReference<>("master");
+		tableModel.query().dataSource().set(query -> singletonList(entities.entity(Detail.TYPE)
+						.with(Detail.ID, 1L)
+						.with(Detail.MASTER_FK, entities.entity(Master.TYPE)
+										.with(Master.ID, 1L)
+										.with(Master.NAME, masterName.get())
+										.build())
+						.build()));
+		tableModel.items().refreshStrategy().set(RefreshStrategy.MERGE);
+		tableModel.items().refresh();
+		Entity detail = tableModel.items().included().get(0);
+		tableModel.items().refresh();
+		//unchanged, kept in place
+		assertSame(detail, tableModel.items().included().get(0));
+		//only the referenced entity changed
+		masterName.set("renamed");
+		tableModel.items().refresh();
+		assertNotSame(detail, tableModel.items().included().get(0));
+		assertEquals("renamed", tableModel.items().included().get(0).entity(Detail.MASTER_FK).get(Master.NAME));
+	}
+
 	@Test
 	void getValueAt() {
 		testModel.items().refresh();
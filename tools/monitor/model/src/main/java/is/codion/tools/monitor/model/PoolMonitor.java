@@ -18,6 +18,7 @@
  */
 package is.codion.tools.monitor.model;
 
+import is.codion.common.db.pool.ConnectionPoolState;
 import is.codion.common.db.pool.ConnectionPoolStatistics;
 import is.codion.common.db.pool.ConnectionPoolWrapper;
 import is.codion.common.utilities.user.User;
@@ -199,6 +200,16 @@ public final class PoolMonitor {
 			}
 		}
 
+		@Override
+		public ConnectionPoolState state() {
+			try {
+				return server.connectionPoolState(user.username());
+			}
+			catch (RemoteException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
 		@Override
 		public ConnectionPoolStatistics statistics(long since) {
 			try {